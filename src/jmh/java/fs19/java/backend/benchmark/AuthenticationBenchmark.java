@@ -0,0 +1,130 @@
+package fs19.java.backend.benchmark;
+
+import fs19.java.backend.config.JwtAuthFilter;
+import fs19.java.backend.config.JwtValidator;
+import fs19.java.backend.domain.entity.User;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The token checks and JwtAuthFilter, which every request goes through. Logging keeps the levels of log4j2.xml, but
+ * events are discarded rather than written to the log files.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+@State(Scope.Benchmark)
+public class AuthenticationBenchmark {
+
+    // workspaces a user belongs to, as carried in the token's permission claim
+    private static final int WORKSPACES = 5;
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain filterChain = (request, response) -> {
+    };
+
+    private JwtValidator jwtValidator;
+    private JwtAuthFilter jwtAuthFilter;
+    private User user;
+    private UserDetails userDetails;
+    private List<UUID> workspaceIds;
+    private String workspaceId;
+    private String authorization;
+    private MockHttpServletRequest publicRequest;
+    private MockHttpServletRequest noWorkspaceRequest;
+    private MockHttpServletRequest workspaceRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        jwtValidator = new JwtValidator();
+        ReflectionTestUtils.setField(jwtValidator, "JWT_SECRET", Base64.getEncoder().encodeToString(secret));
+
+        user = BenchmarkData.user();
+        StubUserDetailsService userDetailsService = new StubUserDetailsService(user);
+        userDetails = userDetailsService.loadUserByUsername(user.getEmail());
+        jwtAuthFilter = new JwtAuthFilter(userDetailsService, jwtValidator);
+
+        workspaceIds = new ArrayList<>();
+        for (int index = 0; index < WORKSPACES; index++) {
+            workspaceIds.add(UUID.randomUUID());
+        }
+        workspaceId = workspaceIds.getLast().toString();
+        authorization = "Bearer " + jwtValidator.generateToken(user, workspaceIds);
+
+        publicRequest = new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+        noWorkspaceRequest = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        noWorkspaceRequest.addHeader("Authorization", authorization);
+        workspaceRequest = new MockHttpServletRequest("GET", "/api/v1/tasks/" + UUID.randomUUID());
+        workspaceRequest.addHeader("Authorization", authorization);
+        workspaceRequest.addHeader("workspaceId", workspaceId);
+        requireAuthenticated(noWorkspaceRequest);
+        requireAuthenticated(workspaceRequest);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtValidator.generateToken(user, workspaceIds);
+    }
+
+    @Benchmark
+    public String extractUserEmail() {
+        return jwtValidator.extractUserEmail(authorization);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtValidator.isTokenValid(authorization, userDetails, workspaceId);
+    }
+
+    @Benchmark
+    public boolean isTokenValidForNoWorkspace() {
+        return jwtValidator.isTokenValidForNoWorkspace(authorization, userDetails);
+    }
+
+    @Benchmark
+    public void filterPublicRoute() throws Exception {
+        filter(publicRequest);
+    }
+
+    @Benchmark
+    public void filterNoWorkspaceRoute() throws Exception {
+        filter(noWorkspaceRequest);
+    }
+
+    @Benchmark
+    public void filterWorkspaceRoute() throws Exception {
+        filter(workspaceRequest);
+    }
+
+    // a rejected token takes a shorter path, which would make the numbers look better than they are
+    private void requireAuthenticated(MockHttpServletRequest request) throws Exception {
+        jwtAuthFilter.doFilter(request, response, (filteredRequest, filteredResponse) -> {
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                throw new IllegalStateException("Not authenticated: " + request.getRequestURI());
+            }
+        });
+        SecurityContextHolder.clearContext();
+    }
+
+    private void filter(MockHttpServletRequest request) throws Exception {
+        jwtAuthFilter.doFilter(request, response, filterChain);
+        // each request starts unauthenticated, as SecurityContextHolderFilter leaves it
+        SecurityContextHolder.clearContext();
+    }
+}
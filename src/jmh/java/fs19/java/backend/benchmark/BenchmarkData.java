@@ -0,0 +1,93 @@
+package fs19.java.backend.benchmark;
+
+import fs19.java.backend.domain.entity.Company;
+import fs19.java.backend.domain.entity.Project;
+import fs19.java.backend.domain.entity.Role;
+import fs19.java.backend.domain.entity.Task;
+import fs19.java.backend.domain.entity.User;
+import fs19.java.backend.domain.entity.Workspace;
+import fs19.java.backend.domain.entity.enums.WorkspaceType;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Detached entities shaped like the rows of a real page: every association the mappers read is set
+ */
+final class BenchmarkData {
+
+    // rows of a default list page
+    static final int PAGE_SIZE = 50;
+
+    private BenchmarkData() {
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFirstName("Ada");
+        user.setLastName("Lovelace");
+        user.setEmail("ada.lovelace@example.com");
+        user.setPhone("+358401234567");
+        user.setCreatedDate(ZonedDateTime.now());
+        user.setProfileImage("https://example.com/images/ada.png");
+        return user;
+    }
+
+    static Company company(User createdBy) {
+        return new Company(UUID.randomUUID(), "Analytical Engines Ltd", ZonedDateTime.now(), createdBy);
+    }
+
+    static Workspace workspace(User createdBy, Company company) {
+        Workspace workspace = new Workspace();
+        workspace.setId(UUID.randomUUID());
+        workspace.setName("Engineering");
+        workspace.setDescription("Everything the engineering teams are working on");
+        workspace.setType(WorkspaceType.PUBLIC);
+        workspace.setCreatedDate(ZonedDateTime.now());
+        workspace.setCreatedBy(createdBy);
+        workspace.setCompanyId(company);
+        return workspace;
+    }
+
+    static Project project(User createdBy, Workspace workspace) {
+        return Project.builder()
+                .id(UUID.randomUUID())
+                .name("Difference Engine")
+                .description("Build the second difference engine")
+                .createdDate(ZonedDateTime.now())
+                .startDate(ZonedDateTime.now().plusDays(1))
+                .endDate(ZonedDateTime.now().plusDays(90))
+                .createdByUser(createdBy)
+                .workspace(workspace)
+                .status(false)
+                .version(3L)
+                .build();
+    }
+
+    static List<Task> tasks(int count, Project project, User user) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            ZonedDateTime created = ZonedDateTime.now().minusDays(index);
+            tasks.add(new Task(UUID.randomUUID(), "Task " + index, "Description of task " + index + " with a few more words",
+                    created, null, created.plusDays(14), index % 2 == 0 ? "TODO" : "IN_DEVELOPMENT", project, user, user,
+                    index % 3 == 0 ? "HIGH_PRIORITY" : "LOW_PRIORITY", 1L, null, index % 5, created.plusHours(3)));
+        }
+        return tasks;
+    }
+
+    static List<Role> roles(int count, Company company) {
+        List<Role> roles = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            Role role = new Role();
+            role.setId(UUID.randomUUID());
+            role.setName("ROLE_" + index);
+            role.setCreatedDate(ZonedDateTime.now());
+            role.setCompany(company);
+            roles.add(role);
+        }
+        return roles;
+    }
+}
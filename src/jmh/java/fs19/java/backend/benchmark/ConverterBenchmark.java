@@ -0,0 +1,60 @@
+package fs19.java.backend.benchmark;
+
+import fs19.java.backend.application.InvitationServiceImpl;
+import fs19.java.backend.config.StringListConverter;
+import fs19.java.backend.config.URLParameterExtractor;
+import fs19.java.backend.presentation.shared.response.ErrorItem;
+import fs19.java.backend.presentation.shared.response.ResponseHandler;
+import fs19.java.backend.presentation.shared.status.ResponseStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converters and helpers called on every row read or written, or on every failed request
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    private final StringListConverter stringListConverter = new StringListConverter();
+
+    private List<String> attachments;
+    private String attachmentColumn;
+    private String invitationUrl;
+
+    @Setup
+    public void setUp() {
+        attachments = List.of("https://files.example.com/spec.pdf", "https://files.example.com/diagram.png",
+                "https://files.example.com/notes.txt", "https://files.example.com/budget.xlsx");
+        attachmentColumn = stringListConverter.convertToDatabaseColumn(attachments);
+        invitationUrl = String.format(InvitationServiceImpl.urlBody, "invitee%2Bteam@example.com", UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    @Benchmark
+    public String stringListToColumn() {
+        return stringListConverter.convertToDatabaseColumn(attachments);
+    }
+
+    @Benchmark
+    public List<String> columnToStringList() {
+        return stringListConverter.convertToEntityAttribute(attachmentColumn);
+    }
+
+    @Benchmark
+    public Map<String, String> extractInvitationParameters() {
+        return URLParameterExtractor.extractParameters(invitationUrl);
+    }
+
+    @Benchmark
+    public List<ErrorItem> statusToError() {
+        return ResponseHandler.convertResponseStatusToError(ResponseStatus.TASK_ID_NOT_FOUND);
+    }
+}
@@ -0,0 +1,106 @@
+package fs19.java.backend.benchmark;
+
+import fs19.java.backend.application.dto.comment.CommentResponseDTO;
+import fs19.java.backend.application.dto.company.CompanyResponseDTO;
+import fs19.java.backend.application.dto.project.ProjectReadDTO;
+import fs19.java.backend.application.dto.role.RoleResponseDTO;
+import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.dto.user.UserReadDTO;
+import fs19.java.backend.application.dto.workspace.WorkspaceResponseDTO;
+import fs19.java.backend.application.mapper.CommentMapper;
+import fs19.java.backend.application.mapper.CompanyMapper;
+import fs19.java.backend.application.mapper.ProjectMapper;
+import fs19.java.backend.application.mapper.RoleMapper;
+import fs19.java.backend.application.mapper.TaskMapper;
+import fs19.java.backend.application.mapper.UserMapper;
+import fs19.java.backend.application.mapper.WorkspaceMapper;
+import fs19.java.backend.domain.entity.Comment;
+import fs19.java.backend.domain.entity.Company;
+import fs19.java.backend.domain.entity.Project;
+import fs19.java.backend.domain.entity.Role;
+import fs19.java.backend.domain.entity.Task;
+import fs19.java.backend.domain.entity.User;
+import fs19.java.backend.domain.entity.Workspace;
+import fs19.java.backend.presentation.shared.status.ResponseStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping, run once per row of every list response
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final CommentMapper commentMapper = new CommentMapper();
+    private final WorkspaceMapper workspaceMapper = new WorkspaceMapper();
+
+    private User user;
+    private Company company;
+    private Workspace workspace;
+    private Project project;
+    private Task task;
+    private List<Task> tasks;
+    private List<Role> roles;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkData.user();
+        company = BenchmarkData.company(user);
+        workspace = BenchmarkData.workspace(user, company);
+        project = BenchmarkData.project(user, workspace);
+        tasks = BenchmarkData.tasks(BenchmarkData.PAGE_SIZE, project, user);
+        task = tasks.getFirst();
+        roles = BenchmarkData.roles(BenchmarkData.PAGE_SIZE, company);
+        comment = new Comment(UUID.randomUUID(), task, "Looks good, merging after the review", ZonedDateTime.now(), user);
+    }
+
+    @Benchmark
+    public TaskResponseDTO taskToDTO() {
+        return TaskMapper.toTaskResponseDTO(task, ResponseStatus.SUCCESSFULLY_FOUND);
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> taskPageToDTOs() {
+        return TaskMapper.toTaskResponseDTOs(tasks, ResponseStatus.SUCCESSFULLY_FOUND);
+    }
+
+    @Benchmark
+    public List<RoleResponseDTO> rolePageToDTOs() {
+        return RoleMapper.toRoleResponseDTOs(roles, ResponseStatus.SUCCESSFULLY_FOUND);
+    }
+
+    @Benchmark
+    public ProjectReadDTO projectToDTO() {
+        return ProjectMapper.toReadDTO(project);
+    }
+
+    @Benchmark
+    public UserReadDTO userToDTO() {
+        return UserMapper.toReadDTO(user);
+    }
+
+    @Benchmark
+    public CompanyResponseDTO companyToDTO() {
+        return CompanyMapper.toResponseDTO(company);
+    }
+
+    @Benchmark
+    public WorkspaceResponseDTO workspaceToDTO() {
+        return workspaceMapper.toDTO(workspace);
+    }
+
+    @Benchmark
+    public CommentResponseDTO commentToDTO() {
+        return commentMapper.toDTO(comment);
+    }
+}
@@ -0,0 +1,56 @@
+package fs19.java.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.mapper.TaskMapper;
+import fs19.java.backend.domain.entity.Project;
+import fs19.java.backend.domain.entity.User;
+import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.status.ResponseStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a task page in the response envelope, as the controllers return it
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    // the ObjectMapper Spring Boot builds for the application
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private GlobalResponse<TaskResponseDTO> task;
+    private GlobalResponse<List<TaskResponseDTO>> taskPage;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkData.user();
+        Project project = BenchmarkData.project(user, BenchmarkData.workspace(user, BenchmarkData.company(user)));
+        List<TaskResponseDTO> tasks = TaskMapper.toTaskResponseDTOs(BenchmarkData.tasks(BenchmarkData.PAGE_SIZE, project, user),
+                ResponseStatus.SUCCESSFULLY_FOUND);
+        task = new GlobalResponse<>(HttpStatus.OK.value(), tasks.getFirst());
+        taskPage = new GlobalResponse<>(HttpStatus.OK.value(), tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeTask() throws Exception {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPage() throws Exception {
+        return objectMapper.writeValueAsBytes(taskPage);
+    }
+}
@@ -0,0 +1,45 @@
+package fs19.java.backend.benchmark;
+
+import fs19.java.backend.application.UserDetailsServiceImpl;
+import fs19.java.backend.domain.entity.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Answers every lookup with the same user, so the auth benchmarks measure the token and filter work without a database
+ */
+class StubUserDetailsService extends UserDetailsServiceImpl {
+
+    private final User user;
+    private final UserDetails userDetails;
+
+    StubUserDetailsService(User user) {
+        super(null, null);
+        this.user = user;
+        this.userDetails = org.springframework.security.core.userdetails.User.builder()
+                .username(user.getEmail())
+                .password("{noop}password")
+                .authorities(List.of(new SimpleGrantedAuthority("GET_/api/v1/tasks/{id}"),
+                        new SimpleGrantedAuthority("POST_/api/v1/tasks"),
+                        new SimpleGrantedAuthority("GET_/api/v1/users/me")))
+                .build();
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        return userDetails;
+    }
+
+    @Override
+    public UserDetails loadUserByUserNameAndWorkspaceId(String username, UUID workspaceId) {
+        return userDetails;
+    }
+
+    @Override
+    public User findUserByUserName(String email) {
+        return user;
+    }
+}
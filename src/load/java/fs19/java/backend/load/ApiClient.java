@@ -0,0 +1,104 @@
+package fs19.java.backend.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * Calls the API over one shared HttpClient and records every request in the report
+ */
+final class ApiClient {
+
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final LoadReport report;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    ApiClient(URI baseUrl, Duration timeout, LoadReport report) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.report = report;
+        // the application serves HTTP/1.1; connections are pooled and kept alive between requests
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Log in and read the user id and access token
+     *
+     * @return the data of the response, or null when the login failed
+     */
+    JsonNode login(String email, String password) {
+        return send(Endpoint.LOGIN, "POST", "/api/v1/auth/login", Map.of("email", email, "password", password), null, null);
+    }
+
+    JsonNode get(Endpoint endpoint, String path, String token, UUID workspaceId) {
+        return send(endpoint, "GET", path, null, token, workspaceId);
+    }
+
+    JsonNode post(Endpoint endpoint, String path, Object body, String token, UUID workspaceId) {
+        return send(endpoint, "POST", path, body, token, workspaceId);
+    }
+
+    JsonNode patch(Endpoint endpoint, String path, Object body, String token, UUID workspaceId) {
+        return send(endpoint, "PATCH", path, body, token, workspaceId);
+    }
+
+    /**
+     * Send a request and time it until the whole body is read
+     *
+     * @return the data field of the GlobalResponse, or null when the request failed
+     */
+    private JsonNode send(Endpoint endpoint, String method, String path, Object body, String token, UUID workspaceId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(timeout)
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (workspaceId != null) {
+            request.header("workspaceId", workspaceId.toString());
+        }
+        try {
+            if (body == null) {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            } else {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            }
+            long started = System.nanoTime();
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - started;
+            boolean failed = response.statusCode() >= 400;
+            report.record(endpoint, latency, failed);
+            return failed || response.body().length == 0 ? null : data(response.body());
+        } catch (IOException e) {
+            report.recordFailure(endpoint);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private JsonNode data(byte[] body) {
+        try {
+            return objectMapper.readTree(body).path("data");
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package fs19.java.backend.load;
+
+/**
+ * The routes the load test calls, each with the 99th percentile latency it should stay under
+ */
+enum Endpoint {
+    LOGIN("POST /api/v1/auth/login", 500),
+    MY_WORKSPACES("GET /api/v1/workspace-users/my-workspaces", 200),
+    WORKSPACE_PROJECTS("GET /api/v1/projects/workspace/{workspaceId}", 200),
+    BOARD_SUMMARY("GET /api/v1/tasks/project/{projectId}/board-summary", 100),
+    TASK_SEARCH("GET /api/v1/tasks/search", 250),
+    TASK_CREATE("POST /api/v1/tasks", 300),
+    TASK_MOVE("PATCH /api/v1/tasks/{taskId}", 300),
+    COMMENT_LIST("GET /api/v1/comments/tasks/{taskId}/comments", 150),
+    COMMENT_CREATE("POST /api/v1/comments", 300),
+    NOTIFICATION_POLL("GET /api/v1/notifications", 100),
+    ACTIVITY_HISTORY("GET /api/v1/activity-logs/{entityId}/history", 250);
+
+    // share of failed requests an endpoint may have and still meet its objective
+    static final double ERROR_BUDGET = 0.001;
+
+    private final String route;
+    private final long p99ObjectiveMillis;
+
+    Endpoint(String route, long p99ObjectiveMillis) {
+        this.route = route;
+        this.p99ObjectiveMillis = p99ObjectiveMillis;
+    }
+
+    String route() {
+        return route;
+    }
+
+    long p99ObjectiveMillis() {
+        return p99ObjectiveMillis;
+    }
+}
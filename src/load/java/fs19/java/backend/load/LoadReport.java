@@ -0,0 +1,182 @@
+package fs19.java.backend.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, throughput and errors per endpoint. Latencies go to an HdrHistogram recorder, so percentiles are exact to
+ * three significant digits whatever the request count, and recording does not block the virtual threads.
+ */
+final class LoadReport {
+
+    // differences below these are noise on a local run and never reported as regressions
+    private static final double NOISE_FLOOR_MILLIS = 5;
+    private static final double ERROR_RATE_SLACK = 0.005;
+    // a percentile is only compared when this many requests of both runs lie above it; p99 of 30 requests is their max
+    private static final int TAIL_SAMPLES = 10;
+
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    private final LongAdder dropped = new LongAdder();
+    private volatile long startedNanos = System.nanoTime();
+    private volatile long stoppedNanos;
+
+    LoadReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+    }
+
+    /**
+     * Record a request that got a response
+     *
+     * @param endpoint      what was called
+     * @param latencyNanos  from sending the request until the response body was read
+     * @param failed        whether the status was 4xx or 5xx
+     */
+    void record(Endpoint endpoint, long latencyNanos, boolean failed) {
+        Stats endpointStats = stats.get(endpoint);
+        endpointStats.latencies.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        endpointStats.requests.increment();
+        if (failed) {
+            endpointStats.errors.increment();
+        }
+    }
+
+    /**
+     * Record a request that got no response: refused, reset or timed out
+     */
+    void recordFailure(Endpoint endpoint) {
+        stats.get(endpoint).requests.increment();
+        stats.get(endpoint).errors.increment();
+    }
+
+    /**
+     * Record an operation that was due but not started, as max-in-flight operations were already running
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Forget everything recorded so far; called at the end of the warmup
+     */
+    void reset() {
+        stats.values().forEach(endpointStats -> {
+            endpointStats.latencies.reset();
+            endpointStats.requests.reset();
+            endpointStats.errors.reset();
+        });
+        dropped.reset();
+        startedNanos = System.nanoTime();
+    }
+
+    /**
+     * Mark the end of the measurement; requests still running are recorded, but throughput is over the measured time
+     */
+    void stop() {
+        stoppedNanos = System.nanoTime();
+    }
+
+    /**
+     * @param settings the arguments of the run, stored with the results so a baseline tells how it was recorded
+     */
+    Summary summarize(Map<String, String> settings) {
+        double seconds = ((stoppedNanos == 0 ? System.nanoTime() : stoppedNanos) - startedNanos) / 1e9;
+        Map<Endpoint, EndpointSummary> endpoints = new EnumMap<>(Endpoint.class);
+        stats.forEach((endpoint, endpointStats) -> {
+            long requests = endpointStats.requests.sum();
+            if (requests == 0) {
+                return;
+            }
+            long errors = endpointStats.errors.sum();
+            Histogram latencies = endpointStats.latencies.getIntervalHistogram();
+            double errorRate = (double) errors / requests;
+            double p99 = millis(latencies, 99);
+            endpoints.put(endpoint, new EndpointSummary(requests, errors, errorRate, (requests - errors) / seconds,
+                    millis(latencies, 50), millis(latencies, 90), p99, millis(latencies, 99.9),
+                    latencies.getMaxValue() / 1000.0, endpoint.p99ObjectiveMillis(),
+                    p99 <= endpoint.p99ObjectiveMillis() && errorRate <= Endpoint.ERROR_BUDGET));
+        });
+        return new Summary(new TreeMap<>(settings), seconds, dropped.sum(), endpoints);
+    }
+
+    /**
+     * Compare a run with a stored one. An endpoint regressed when its median, 90th or 99th percentile grew by more
+     * than the tolerance, or when its error rate rose. Percentiles backed by too few requests are skipped.
+     *
+     * @param current   this run
+     * @param baseline  the stored run
+     * @param tolerance allowed relative growth of a percentile, 0.2 for 20%
+     * @return one line per regression, empty when there is none
+     */
+    static List<String> regressions(Summary current, Summary baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        current.endpoints().forEach((endpoint, now) -> {
+            EndpointSummary before = baseline.endpoints().get(endpoint);
+            if (before == null) {
+                return;
+            }
+            long requests = Math.min(now.requests(), before.requests());
+            checkLatency(regressions, endpoint, requests, 50, now.p50Millis(), before.p50Millis(), tolerance);
+            checkLatency(regressions, endpoint, requests, 90, now.p90Millis(), before.p90Millis(), tolerance);
+            checkLatency(regressions, endpoint, requests, 99, now.p99Millis(), before.p99Millis(), tolerance);
+            if (now.errorRate() > before.errorRate() + ERROR_RATE_SLACK) {
+                regressions.add(String.format("%s: error rate %.2f%%, baseline %.2f%%", endpoint.route(),
+                        now.errorRate() * 100, before.errorRate() * 100));
+            }
+        });
+        return regressions;
+    }
+
+    static void print(Summary summary, PrintStream out) {
+        out.printf("%-52s %9s %7s %8s %8s %8s %8s %8s %8s %9s%n", "endpoint", "requests", "errors", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "p99 SLO");
+        summary.endpoints().forEach((endpoint, result) -> out.printf("%-52s %9d %6.2f%% %8.1f %8.1f %8.1f %8.1f %8.1f %8.1f %5d %s%n",
+                endpoint.route(), result.requests(), result.errorRate() * 100, result.throughput(), result.p50Millis(),
+                result.p90Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis(), result.p99ObjectiveMillis(),
+                result.objectiveMet() ? "ok" : "MISSED"));
+        long requests = summary.endpoints().values().stream().mapToLong(EndpointSummary::requests).sum();
+        out.printf("%d requests in %.0f s (%.1f req/s), %d operations dropped%n", requests, summary.durationSeconds(),
+                requests / summary.durationSeconds(), summary.dropped());
+    }
+
+    private static void checkLatency(List<String> regressions, Endpoint endpoint, long requests, int percentile,
+                                     double now, double before, double tolerance) {
+        if (requests * (100 - percentile) / 100 < TAIL_SAMPLES) {
+            return;
+        }
+        if (now > before * (1 + tolerance) && now - before > NOISE_FLOOR_MILLIS) {
+            regressions.add(String.format("%s: p%d %.1f ms, baseline %.1f ms", endpoint.route(), percentile, now, before));
+        }
+    }
+
+    private static double millis(Histogram latencies, double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static final class Stats {
+        private final Recorder latencies = new Recorder(3);
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * A finished run, as written to the report file and read back as a baseline
+     */
+    record Summary(Map<String, String> settings, double durationSeconds, long dropped, Map<Endpoint, EndpointSummary> endpoints) {
+    }
+
+    record EndpointSummary(long requests, long errors, double errorRate, double throughput, double p50Millis,
+                           double p90Millis, double p99Millis, double p999Millis, double maxMillis,
+                           long p99ObjectiveMillis, boolean objectiveMet) {
+    }
+}
@@ -0,0 +1,159 @@
+package fs19.java.backend.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load test of a running instance, seeded with the dataset profile.
+ * Operations arrive at a fixed average rate with exponential gaps, each on its own virtual thread, whether or not the
+ * earlier ones have finished. A slow server therefore shows up as higher latencies rather than as fewer requests,
+ * which a fixed pool of looping users would hide. Prints the latency percentiles, throughput and error rate per
+ * endpoint, writes them as JSON, and compares them with a stored baseline.
+ * <p>
+ * Arguments are --name=value; see DEFAULTS. The exit code is 1 when a result regressed against the baseline.
+ */
+public final class LoadTest {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("base-url", "http://localhost:8080"),
+            // signs in as the first users of the dataset, who administer every workspace of their company
+            Map.entry("email-pattern", "dataset42.user%d@example.com"),
+            Map.entry("accounts", "10"),
+            Map.entry("password", "123456789"),
+            // operations started per second; each is one to three requests
+            Map.entry("rate", "5"),
+            Map.entry("warmup-seconds", "30"),
+            Map.entry("duration-seconds", "120"),
+            Map.entry("max-in-flight", "1000"),
+            Map.entry("timeout-seconds", "10"),
+            Map.entry("seed", "1"),
+            Map.entry("report", "target/load/report.json"),
+            Map.entry("baseline", "src/load/results/baseline.json"),
+            // relative growth of a percentile over the baseline that counts as a regression
+            Map.entry("tolerance", "0.25"),
+            Map.entry("save-baseline", "false"));
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        LoadReport report = new LoadReport();
+        ApiClient apiClient = new ApiClient(URI.create(options.get("base-url")),
+                Duration.ofSeconds(Long.parseLong(options.get("timeout-seconds"))), report);
+        Scenario scenario = new Scenario(apiClient);
+
+        List<String> emails = new ArrayList<>();
+        for (int account = 0; account < Integer.parseInt(options.get("accounts")); account++) {
+            emails.add(String.format(options.get("email-pattern"), account));
+        }
+        int signedIn = scenario.signIn(emails, options.get("password"));
+        if (signedIn == 0) {
+            System.err.println("No account could sign in and find a project at " + options.get("base-url")
+                    + "; load the dataset profile first");
+            System.exit(2);
+        }
+        System.out.printf("%d accounts signed in, warming up for %s s%n", signedIn, options.get("warmup-seconds"));
+
+        double rate = Double.parseDouble(options.get("rate"));
+        Semaphore inFlight = new Semaphore(Integer.parseInt(options.get("max-in-flight")));
+        SplittableRandom random = new SplittableRandom(Long.parseLong(options.get("seed")));
+        drive(scenario, report, random, inFlight, rate, Long.parseLong(options.get("warmup-seconds")));
+        report.reset();
+        System.out.printf("Measuring for %s s at %.1f operations/s%n", options.get("duration-seconds"), rate);
+        drive(scenario, report, random, inFlight, rate, Long.parseLong(options.get("duration-seconds")));
+        report.stop();
+        // let the operations still running finish, so their requests are counted
+        inFlight.acquire(Integer.parseInt(options.get("max-in-flight")));
+        LoadReport.Summary summary = report.summarize(Map.of("rate", options.get("rate"), "accounts", options.get("accounts"),
+                "email-pattern", options.get("email-pattern"), "duration-seconds", options.get("duration-seconds")));
+        LoadReport.print(summary, System.out);
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        write(objectMapper, summary, Path.of(options.get("report")));
+        Path baseline = Path.of(options.get("baseline"));
+        if (Boolean.parseBoolean(options.get("save-baseline"))) {
+            write(objectMapper, summary, baseline);
+            System.out.println("Baseline saved to " + baseline);
+        } else if (Files.exists(baseline)) {
+            LoadReport.Summary stored = objectMapper.readValue(baseline.toFile(), LoadReport.Summary.class);
+            if (!summary.settings().equals(stored.settings())) {
+                System.out.println("The baseline was recorded with " + stored.settings() + "; latencies are only comparable under the same load");
+            }
+            List<String> regressions = LoadReport.regressions(summary, stored, Double.parseDouble(options.get("tolerance")));
+            if (!regressions.isEmpty()) {
+                System.out.println("Regressions against " + baseline + ":");
+                regressions.forEach(regression -> System.out.println("  " + regression));
+                System.exit(1);
+            }
+            System.out.println("No regression against " + baseline);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Start operations with exponential gaps of mean 1 / rate, measured from when each was due rather than from
+     * when the previous one started, so the average rate holds even when the loop wakes up late
+     */
+    private static void drive(Scenario scenario, LoadReport report, SplittableRandom random, Semaphore inFlight,
+                              double rate, long seconds) {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long due = System.nanoTime();
+        while (true) {
+            due += (long) (-Math.log(1 - random.nextDouble()) / rate * 1e9);
+            if (due >= end) {
+                return;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                report.recordDropped();
+                continue;
+            }
+            SplittableRandom operationRandom = random.split();
+            Thread.startVirtualThread(() -> {
+                try {
+                    scenario.run(operationRandom);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            String name = arg.startsWith("--") && equals > 2 ? arg.substring(2, equals) : null;
+            if (name == null || !DEFAULTS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown argument " + arg + "; expected --name=value with a name of " + DEFAULTS.keySet());
+            }
+            options.put(name, arg.substring(equals + 1));
+        }
+        return options;
+    }
+
+    private static void write(ObjectMapper objectMapper, LoadReport.Summary summary, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.writeValue(file.toFile(), summary);
+    }
+}
@@ -0,0 +1,205 @@
+package fs19.java.backend.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The traffic of people working on their boards. Each operation is one user action, made of the requests the
+ * frontend sends for it: opening a board, creating and moving tasks, reading and writing comments, polling
+ * notifications, reading the history of a task, and now and then signing in again.
+ */
+final class Scenario {
+
+    private static final String[] STATUSES = {"TODO", "IN_DEVELOPMENT", "COMPLETE", "RELEASED"};
+    private static final String[] PRIORITIES = {"LOW_PRIORITY", "MEDIUM_PRIORITY", "HIGH_PRIORITY"};
+    private static final int BOARD_PAGE_SIZE = 50;
+    private static final int COMMENT_PAGE_SIZE = 20;
+    private static final int NOTIFICATION_PAGE_SIZE = 20;
+
+    private final ApiClient apiClient;
+    private final List<Account> accounts = new ArrayList<>();
+    // task ids of the last board page read per project; actions on a task pick one of them
+    private final Map<UUID, List<UUID>> boardTasks = new ConcurrentHashMap<>();
+    // cumulative shares of the actions, in declaration order
+    private final double[] mix = new double[Action.values().length];
+
+    Scenario(ApiClient apiClient) {
+        this.apiClient = apiClient;
+        double total = 0;
+        for (Action action : Action.values()) {
+            total += action.weight;
+        }
+        double sum = 0;
+        for (Action action : Action.values()) {
+            sum += action.weight / total;
+            mix[action.ordinal()] = sum;
+        }
+    }
+
+    /**
+     * Sign every account in and read its workspaces and their projects
+     *
+     * @return the number of accounts with at least one project
+     */
+    int signIn(List<String> emails, String password) {
+        for (String email : emails) {
+            Account account = new Account(email, password);
+            if (account.signIn(apiClient, null) && !account.projects.isEmpty()) {
+                accounts.add(account);
+            }
+        }
+        return accounts.size();
+    }
+
+    /**
+     * Run one user action
+     *
+     * @param random decides the action, the account and what it works on
+     */
+    void run(SplittableRandom random) {
+        Account account = accounts.get(random.nextInt(accounts.size()));
+        // people spend most of their time in a few projects: a log-uniform rank favours the first ones listed
+        List<ProjectRef> projects = account.projects;
+        ProjectRef project = projects.get((int) Math.pow(projects.size(), random.nextDouble()) - 1);
+        List<UUID> tasks = boardTasks.getOrDefault(project.id(), List.of());
+        double draw = random.nextDouble();
+        int index = 0;
+        while (index < mix.length - 1 && draw >= mix[index]) {
+            index++;
+        }
+        Action action = Action.values()[index];
+        // actions on a task start with opening the board when no task of the project is known yet
+        if (action.onTask && tasks.isEmpty()) {
+            action = Action.OPEN_BOARD;
+        }
+        UUID task = tasks.isEmpty() ? null : tasks.get(random.nextInt(tasks.size()));
+        switch (action) {
+            case OPEN_BOARD -> openBoard(account, project, random);
+            case CREATE_TASK -> createTask(account, project, random);
+            case MOVE_TASK -> apiClient.patch(Endpoint.TASK_MOVE, "/api/v1/tasks/" + task,
+                    Map.of("taskStatus", STATUSES[random.nextInt(STATUSES.length)]), account.token, project.workspaceId());
+            case READ_COMMENTS -> apiClient.get(Endpoint.COMMENT_LIST, "/api/v1/comments/tasks/" + task + "/comments?size=" + COMMENT_PAGE_SIZE
+                    + "&direction=DESC", account.token, project.workspaceId());
+            case ADD_COMMENT -> apiClient.post(Endpoint.COMMENT_CREATE, "/api/v1/comments", Map.of("taskId", task,
+                    "content", "Load test comment " + random.nextInt(1_000_000), "createdBy", account.userId), account.token, project.workspaceId());
+            case POLL_NOTIFICATIONS -> apiClient.get(Endpoint.NOTIFICATION_POLL, "/api/v1/notifications?size=" + NOTIFICATION_PAGE_SIZE,
+                    account.token, project.workspaceId());
+            case READ_HISTORY -> apiClient.get(Endpoint.ACTIVITY_HISTORY, "/api/v1/activity-logs/" + task + "/history",
+                    account.token, project.workspaceId());
+            case SIGN_IN -> account.signIn(apiClient, random);
+        }
+    }
+
+    // the summary counts and the first page of the board, newest tasks first
+    private void openBoard(Account account, ProjectRef project, SplittableRandom random) {
+        apiClient.get(Endpoint.BOARD_SUMMARY, "/api/v1/tasks/project/" + project.id() + "/board-summary",
+                account.token, project.workspaceId());
+        String status = random.nextInt(4) == 0 ? "" : "&taskStatus=" + STATUSES[random.nextInt(2)];
+        JsonNode page = apiClient.get(Endpoint.TASK_SEARCH, "/api/v1/tasks/search?projectId=" + project.id() + status
+                + "&size=" + BOARD_PAGE_SIZE, account.token, project.workspaceId());
+        if (page != null && page.path("items").size() > 0) {
+            List<UUID> ids = new ArrayList<>();
+            page.path("items").forEach(item -> ids.add(UUID.fromString(item.path("id").asText())));
+            boardTasks.put(project.id(), ids);
+        }
+    }
+
+    private void createTask(Account account, ProjectRef project, SplittableRandom random) {
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("name", "Load test task " + random.nextInt(1_000_000));
+        task.put("description", "Created by the load test");
+        task.put("dueDate", LocalDate.now().plusDays(1 + random.nextInt(30)).toString());
+        task.put("taskStatus", STATUSES[0]);
+        task.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        task.put("projectId", project.id());
+        task.put("createdUserId", account.userId);
+        task.put("assignedUserId", account.userId);
+        apiClient.post(Endpoint.TASK_CREATE, "/api/v1/tasks", task, account.token, project.workspaceId());
+    }
+
+    // relative frequencies of the actions
+    private enum Action {
+        OPEN_BOARD(30, false),
+        CREATE_TASK(6, false),
+        MOVE_TASK(12, true),
+        READ_COMMENTS(14, true),
+        ADD_COMMENT(5, true),
+        POLL_NOTIFICATIONS(20, false),
+        READ_HISTORY(10, true),
+        SIGN_IN(3, false);
+
+        private final double weight;
+        private final boolean onTask;
+
+        Action(double weight, boolean onTask) {
+            this.weight = weight;
+            this.onTask = onTask;
+        }
+    }
+
+    private record ProjectRef(UUID id, UUID workspaceId) {
+    }
+
+    /**
+     * A signed-in user with the projects of the workspaces they belong to
+     */
+    private static final class Account {
+
+        private final String email;
+        private final String password;
+        private volatile String token;
+        private volatile UUID userId;
+        private volatile List<ProjectRef> projects = List.of();
+
+        private Account(String email, String password) {
+            this.email = email;
+            this.password = password;
+        }
+
+        /**
+         * Log in and list the workspaces, as the frontend does on sign-in
+         *
+         * @param random picks the workspace the user opens, whose projects are listed; null lists the projects of every
+         *               workspace, which the scenario does once to learn what each account can work on
+         */
+        private boolean signIn(ApiClient apiClient, SplittableRandom random) {
+            JsonNode login = apiClient.login(email, password);
+            if (login == null || login.path("accessToken").isMissingNode()) {
+                return false;
+            }
+            String newToken = login.path("accessToken").asText();
+            userId = UUID.fromString(login.path("id").asText());
+            JsonNode workspaces = apiClient.get(Endpoint.MY_WORKSPACES, "/api/v1/workspace-users/my-workspaces", newToken, null);
+            token = newToken;
+            if (workspaces == null || workspaces.isEmpty()) {
+                return false;
+            }
+            List<JsonNode> opened = new ArrayList<>();
+            workspaces.forEach(opened::add);
+            if (random != null) {
+                opened = List.of(opened.get(random.nextInt(opened.size())));
+            }
+            List<ProjectRef> found = new ArrayList<>();
+            for (JsonNode workspace : opened) {
+                UUID workspaceId = UUID.fromString(workspace.path("workspaceId").asText());
+                JsonNode workspaceProjects = apiClient.get(Endpoint.WORKSPACE_PROJECTS, "/api/v1/projects/workspace/" + workspaceId,
+                        newToken, null);
+                if (workspaceProjects != null) {
+                    workspaceProjects.forEach(project -> found.add(new ProjectRef(UUID.fromString(project.path("id").asText()), workspaceId)));
+                }
+            }
+            if (projects.isEmpty()) {
+                projects = List.copyOf(found);
+            }
+            return true;
+        }
+    }
+}
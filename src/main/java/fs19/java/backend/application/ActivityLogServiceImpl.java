@@ -7,15 +7,20 @@ import fs19.java.backend.domain.entity.ActivityLog;
 import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.infrastructure.JpaRepositories.ActivityLogJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import fs19.java.backend.infrastructure.ReferenceResolver;
 import fs19.java.backend.presentation.shared.exception.ActivityLogNotFoundException;
 import fs19.java.backend.presentation.shared.exception.UserNotFoundException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,10 +34,12 @@ public class ActivityLogServiceImpl implements ActivityLogService {
 
     private final ActivityLogJpaRepo activityLogRepository;
     private final UserJpaRepo userRepository;
+    private final ReferenceResolver referenceResolver;
 
-    public ActivityLogServiceImpl(ActivityLogJpaRepo activityLogRepository, UserJpaRepo userRepository) {
+    public ActivityLogServiceImpl(ActivityLogJpaRepo activityLogRepository, UserJpaRepo userRepository, ReferenceResolver referenceResolver) {
         this.activityLogRepository = activityLogRepository;
         this.userRepository = userRepository;
+        this.referenceResolver = referenceResolver;
     }
 
     @Override
@@ -44,18 +51,49 @@ public class ActivityLogServiceImpl implements ActivityLogService {
             logger.info("Activity log Not created: Created User Not Found: {}", activityLogDTO);
             return new ActivityLogDTO();
         }
-        Optional<User> user = userRepository.findById(activityLogDTO.getUserId());
-        if (user.isPresent()) {
-            ActivityLog activityLog = ActivityLogMapper.toEntity(activityLogDTO, user.get());
+        // the acting user was usually checked by the write being logged already, then this costs no query
+        if (referenceResolver.resolve(Map.of(User.class, Collections.singletonList(activityLogDTO.getUserId()))).exists(User.class, activityLogDTO.getUserId())) {
+            ActivityLog activityLog = ActivityLogMapper.toEntity(activityLogDTO, referenceResolver.getReference(User.class, activityLogDTO.getUserId()));
             activityLog.setCreatedDate(ZonedDateTime.now());
             ActivityLog savedActivityLog = activityLogRepository.save(activityLog);
-            logger.info("Activity log created successfully: {}", savedActivityLog);
+            logger.info("Activity log created successfully: {}", savedActivityLog.getId());
             return ActivityLogMapper.toDTO(savedActivityLog);
         }
         logger.info("Activity log Not created: Created User Not Found: {}", activityLogDTO);
         return new ActivityLogDTO();
     }
 
+    /**
+     * Insert many activity logs with saveAll; entries whose user does not exist are skipped.
+     * The logs are flushed with the caller's transaction, as JDBC batches of hibernate.jdbc.batch_size INSERTs
+     *
+     * @param activityLogDTOs logs to create
+     * @return number of logs written
+     */
+    @Override
+    public int createActivityLogs(List<ActivityLogDTO> activityLogDTOs) {
+        List<ActivityLogDTO> withUser = activityLogDTOs.stream().filter(dto -> dto.getUserId() != null).toList();
+        if (withUser.isEmpty()) {
+            return 0;
+        }
+        Set<UUID> existingUserIds = userRepository.findExistingIds(withUser.stream().map(ActivityLogDTO::getUserId).collect(Collectors.toSet()));
+        ZonedDateTime now = ZonedDateTime.now();
+        List<ActivityLog> activityLogs = new ArrayList<>(withUser.size());
+        for (ActivityLogDTO dto : withUser) {
+            if (!existingUserIds.contains(dto.getUserId())) {
+                continue;
+            }
+            ActivityLog activityLog = ActivityLogMapper.toEntity(dto, userRepository.getReferenceById(dto.getUserId()));
+            // the id is generated on persist; a preset one would make saveAll merge, with a SELECT per log
+            activityLog.setId(null);
+            activityLog.setCreatedDate(dto.getCreatedDate() != null ? dto.getCreatedDate() : now);
+            activityLogs.add(activityLog);
+        }
+        activityLogRepository.saveAll(activityLogs);
+        logger.info("Activity logs created in batch: {}", activityLogs.size());
+        return activityLogs.size();
+    }
+
     @Override
     public ActivityLogDTO updateActivityLog(UUID id, ActivityLogDTO activityLogDTO) {
         logger.info("Updating activity log with ID: {} and DTO: {}", id, activityLogDTO);
@@ -95,6 +133,7 @@ public class ActivityLogServiceImpl implements ActivityLogService {
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public ActivityLogDTO getActivityLogById(UUID id) {
         logger.info("Retrieving activity log with ID: {}", id);
         ActivityLog activityLog = activityLogRepository.findById(id)
@@ -104,6 +143,7 @@ public class ActivityLogServiceImpl implements ActivityLogService {
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<ActivityLogDTO> getAllActivityLogs() {
         logger.info("Retrieving all activity logs");
         List<ActivityLogDTO> activityLogs = activityLogRepository.findAll().stream()
@@ -127,6 +167,7 @@ public class ActivityLogServiceImpl implements ActivityLogService {
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<ActivityLogDTO> getActivityLogsByEntity(UUID entityId) {
         String entityType = determineEntityType(entityId);
         List<ActivityLog> logs = activityLogRepository.findLogsByEntity(entityId, entityType);
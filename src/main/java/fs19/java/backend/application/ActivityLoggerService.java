@@ -7,6 +7,8 @@ import fs19.java.backend.application.service.ActivityLogService;
 import org.springframework.stereotype.Service;
 
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -28,4 +30,25 @@ public class ActivityLoggerService {
 
         activityLogService.createActivityLog(activityLogDTO);
     }
+
+    /**
+     * Log the same action for many entities in one batch
+     *
+     * @param entityType       entity type
+     * @param action           action
+     * @param userIdByEntityId acting user per entity id
+     */
+    public void logActivities(EntityType entityType, ActionType action, Map<UUID, UUID> userIdByEntityId) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<ActivityLogDTO> activityLogDTOs = userIdByEntityId.entrySet().stream().map(entry -> {
+            ActivityLogDTO activityLogDTO = new ActivityLogDTO();
+            activityLogDTO.setEntityType(entityType);
+            activityLogDTO.setEntityId(entry.getKey());
+            activityLogDTO.setAction(action);
+            activityLogDTO.setUserId(entry.getValue());
+            activityLogDTO.setCreatedDate(now);
+            return activityLogDTO;
+        }).toList();
+        activityLogService.createActivityLogs(activityLogDTOs);
+    }
 }
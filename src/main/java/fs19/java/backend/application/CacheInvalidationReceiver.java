@@ -0,0 +1,27 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.application.dto.cache.CacheInvalidationDTO;
+import fs19.java.backend.application.service.CacheService;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CacheInvalidationReceiver {
+
+    private final CacheInvalidationSender cacheInvalidationSender;
+    private final CacheService cacheService;
+
+    public CacheInvalidationReceiver(CacheInvalidationSender cacheInvalidationSender, CacheService cacheService) {
+        this.cacheInvalidationSender = cacheInvalidationSender;
+        this.cacheService = cacheService;
+    }
+
+    // every instance has its own queue on the fanout exchange, so each one receives every message
+    @RabbitListener(queues = "#{cacheInvalidationQueue.name}")
+    public void receiveInvalidation(CacheInvalidationDTO invalidation) {
+        if (cacheInvalidationSender.getOrigin().equals(invalidation.getOrigin())) {
+            return;
+        }
+        cacheService.evict(invalidation.getEntityName(), invalidation.getId());
+    }
+}
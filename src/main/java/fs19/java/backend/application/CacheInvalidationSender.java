@@ -0,0 +1,74 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.application.dto.cache.CacheInvalidationDTO;
+import fs19.java.backend.application.service.CacheService;
+import fs19.java.backend.config.RabbitMQConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Keeps the second-level caches of every instance in line with writes Hibernate does not see, such as the JDBC
+ * tombstones and deletion chunks, and tells the other instances about the writes it does see.
+ */
+@Service
+public class CacheInvalidationSender {
+
+    private static final Logger logger = LogManager.getLogger(CacheInvalidationSender.class);
+
+    private final UUID origin = UUID.randomUUID();
+    private final RabbitTemplate rabbitTemplate;
+    private final CacheService cacheService;
+
+    public CacheInvalidationSender(RabbitTemplate rabbitTemplate, CacheService cacheService) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.cacheService = cacheService;
+    }
+
+    public UUID getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Evict an entity changed outside Hibernate on this instance, and on the others once the transaction commits.
+     * The entry is evicted again after the commit, as a concurrent reader may have cached the old row in between.
+     *
+     * @param entityType cached entity class
+     * @param id         id of the entity, or null for all of them
+     */
+    public void evict(Class<?> entityType, UUID id) {
+        cacheService.evict(entityType.getName(), id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheService.evict(entityType.getName(), id);
+                    publish(entityType.getName(), id);
+                }
+            });
+        } else {
+            publish(entityType.getName(), id);
+        }
+    }
+
+    /**
+     * Tell the other instances to evict an entity; this one is left as it is
+     *
+     * @param entityName class name of the entity
+     * @param id         id of the entity, or null for all of them
+     */
+    public void publish(String entityName, UUID id) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.CACHE_INVALIDATION_EXCHANGE, "", new CacheInvalidationDTO(origin, entityName, id));
+        } catch (AmqpException e) {
+            // the other instances hold the entry until it expires
+            logger.warn("Could not publish the cache eviction of {} {}", entityName, id, e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.application.dto.cache.CacheRegionStatsDTO;
+import fs19.java.backend.application.service.CacheService;
+import fs19.java.backend.domain.entity.Company;
+import fs19.java.backend.domain.entity.Permission;
+import fs19.java.backend.domain.entity.Role;
+import fs19.java.backend.domain.entity.Workspace;
+import jakarta.persistence.EntityManagerFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reports and evicts the second-level cache of the reference data
+ */
+@Service
+public class CacheServiceImpl implements CacheService {
+
+    private static final Logger logger = LogManager.getLogger(CacheServiceImpl.class);
+
+    public static final Set<String> CACHED_ENTITIES = Set.of(Role.class.getName(), Permission.class.getName(),
+            Company.class.getName(), Workspace.class.getName());
+
+    private final SessionFactory sessionFactory;
+
+    public CacheServiceImpl(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public List<CacheRegionStatsDTO> getRegionStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toDTO(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Drop a cached entity, or every cached entity of the type when the id is null, together with the lookups by
+     * name that may point at it. Names of other types are ignored.
+     *
+     * @param entityName class name of the entity
+     * @param id         id of the entity, or null
+     */
+    @Override
+    public void evict(String entityName, UUID id) {
+        if (!CACHED_ENTITIES.contains(entityName)) {
+            logger.warn("Ignoring cache eviction of {}, which is not cached", entityName);
+            return;
+        }
+        Cache cache = sessionFactory.getCache();
+        if (id == null) {
+            cache.evictEntityData(entityName);
+        } else {
+            cache.evictEntityData(entityName, id);
+        }
+        if (entityName.equals(Role.class.getName())) {
+            cache.evictQueryRegion(Role.BY_NAME_REGION);
+        } else if (entityName.equals(Permission.class.getName())) {
+            cache.evictNaturalIdData(Permission.class);
+        }
+        logger.debug("Evicted {} {} from the second-level cache", entityName, id == null ? "(all)" : id);
+    }
+
+    private static CacheRegionStatsDTO toDTO(String region, CacheRegionStatistics statistics) {
+        if (statistics == null) {
+            return null;
+        }
+        long lookups = statistics.getHitCount() + statistics.getMissCount();
+        return CacheRegionStatsDTO.builder()
+                .region(region)
+                .hitCount(statistics.getHitCount())
+                .missCount(statistics.getMissCount())
+                .putCount(statistics.getPutCount())
+                .hitRatio(lookups == 0 ? 0 : (double) statistics.getHitCount() / lookups)
+                .build();
+    }
+}
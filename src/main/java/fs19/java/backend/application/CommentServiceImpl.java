@@ -3,16 +3,24 @@ package fs19.java.backend.application;
 import fs19.java.backend.application.dto.comment.CommentRequestDTO;
 import fs19.java.backend.application.dto.comment.CommentResponseDTO;
 import fs19.java.backend.application.dto.comment.CommentUpdateDTO;
+import fs19.java.backend.application.dto.comment.DeletedCommentDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
+import fs19.java.backend.application.dto.page.KeysetCursor;
 import fs19.java.backend.application.events.GenericEvent;
 import fs19.java.backend.application.mapper.CommentMapper;
 import fs19.java.backend.application.service.CommentService;
+import fs19.java.backend.config.SecurityConfig;
 import fs19.java.backend.domain.entity.Comment;
 import fs19.java.backend.domain.entity.Task;
 import fs19.java.backend.domain.entity.User;
+import fs19.java.backend.domain.entity.enums.ActionType;
 import fs19.java.backend.domain.entity.enums.EntityType;
 import fs19.java.backend.infrastructure.JpaRepositories.CommentJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.TaskJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.infrastructure.KeysetPager.Listing;
+import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
 import fs19.java.backend.presentation.shared.exception.CommentNotFoundException;
 import fs19.java.backend.presentation.shared.exception.TaskLevelException;
 import fs19.java.backend.presentation.shared.exception.UserNotFoundException;
@@ -20,38 +28,65 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class CommentServiceImpl implements CommentService {
 
     private static final Logger logger = LogManager.getLogger(CommentServiceImpl.class);
+    private static final Listing<Comment> COMMENTS = Listing.of(Comment.class);
 
     private static final String COMMENT_NOT_FOUND_MESSAGE = "Comment with ID %s not found";
     private static final String TASK_NOT_FOUND_MESSAGE = "Task with ID %s not found";
     private static final String USER_NOT_FOUND_MESSAGE = "User with ID %s not found";
+    // threads are always read in created order, in either direction
+    private static final String SORT_CREATED_DATE = "createdDate";
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
 
     private final CommentJpaRepo commentRepository;
     private final TaskJpaRepo taskRepository;
     private final UserJpaRepo userRepository;
     private final CommentMapper commentMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPager keysetPager;
+    private final ActivityLoggerService activityLoggerService;
 
-    public CommentServiceImpl(CommentJpaRepo commentRepository, TaskJpaRepo taskRepository, UserJpaRepo userRepository, CommentMapper commentMapper, ApplicationEventPublisher eventPublisher) {
+    public CommentServiceImpl(CommentJpaRepo commentRepository, TaskJpaRepo taskRepository, UserJpaRepo userRepository, CommentMapper commentMapper, ApplicationEventPublisher eventPublisher,
+                              ActivityLoggerService activityLoggerService, KeysetPager keysetPager) {
         this.commentRepository = commentRepository;
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.commentMapper = commentMapper;
         this.eventPublisher = eventPublisher;
+        this.activityLoggerService = activityLoggerService;
+        this.keysetPager = keysetPager;
     }
 
+    /**
+     * Create a comment and, in the same transaction, add it to the comment count and last activity of its task
+     *
+     * @param commentRequestDTO CommentRequestDTO
+     * @return CommentResponseDTO
+     */
     @Override
+    @Transactional
     public CommentResponseDTO createComment(CommentRequestDTO commentRequestDTO) {
         logger.info("Creating comment: {}", commentRequestDTO);
         if (commentRequestDTO == null) {
@@ -66,6 +101,7 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = commentMapper.toEntity(commentRequestDTO, task, createdBy);
         Comment savedComment = commentRepository.save(comment);
         logger.info("Comment created successfully: {}", savedComment);
+        taskRepository.addCommentActivity(task.getId(), 1, savedComment.getCreatedDate());
         eventPublisher.publishEvent(new GenericEvent<>(this, savedComment, EntityType.COMMENT, "Created"));
         return commentMapper.toDTO(savedComment);
     }
@@ -84,6 +120,7 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public CommentResponseDTO getCommentById(UUID id) {
         logger.info("Retrieving comment with ID: {}", id);
         Comment comment = commentRepository.findById(id)
@@ -94,16 +131,21 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    public List<CommentResponseDTO> getAllComments() {
-        logger.info("Retrieving all comments");
-        List<CommentResponseDTO> comments = commentRepository.findAll().stream()
-                .map(commentMapper::toDTO)
-                .collect(Collectors.toList());
-        logger.info("All comments retrieved successfully");
-        return comments;
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public CursorPageDTO<CommentResponseDTO> getAllComments(String cursor, int size) {
+        logger.info("Retrieving a page of comments after cursor {}", cursor);
+        return keysetPager.page(COMMENTS, cursor, size, commentMapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportComments(Consumer<CommentResponseDTO> sink) {
+        logger.info("Exporting all comments");
+        keysetPager.export(COMMENTS, commentMapper::toDTO, sink);
     }
 
     @Override
+    @Transactional
     public void deleteComment(UUID id) {
         logger.info("Deleting comment with ID: {}", id);
         Comment comment = commentRepository.findById(id)
@@ -113,40 +155,109 @@ public class CommentServiceImpl implements CommentService {
                 });
 
         commentRepository.deleteById(id);
+        taskRepository.addCommentActivity(comment.getTaskId().getId(), -1, DateAndTime.getDateAndTime());
         logger.info("Comment with ID: {} deleted successfully", id);
         eventPublisher.publishEvent(new GenericEvent<>(this, comment, EntityType.COMMENT, "Deleted"));
         //User createdBy = SecurityUtils.getCurrentUser();
         //activityLoggerService.logActivity(EntityType.COMPANY, id, ActionType.DELETED, createdBy.getId());
     }
 
-    // New method to fetch all comments for a task
+    /**
+     * Read one page of a task thread after the given cursor, ordered by (createdDate, id).
+     * Pages seek through idx_comments_task_created, so a deep page costs the same as the first one, and the total,
+     * when asked for, is read from task.comment_count instead of a COUNT over the thread.
+     */
     @Override
-    public Page<CommentResponseDTO> getAllCommentsForTask(UUID taskId, Pageable pageable) {
-        logger.info("Retrieving paginated comments for task with ID: {}", taskId);
-        Page<Comment> comments = commentRepository.findAllByTaskId(taskId, pageable);
-        Page<CommentResponseDTO> commentDTOs = comments.map(commentMapper::toDTO);
-        logger.info("Paginated comments for task retrieved successfully");
-        return commentDTOs;
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public CursorPageDTO<CommentResponseDTO> getCommentsForTask(UUID taskId, String cursor, int size, boolean ascending, boolean withCount) {
+        logger.info("Retrieving comments for task with ID: {} after cursor {}", taskId, cursor);
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor, SORT_CREATED_DATE, ascending);
+        Pageable limit = PageRequest.ofSize(pageSize);
+        Slice<CommentResponseDTO> slice;
+        if (after == null) {
+            slice = ascending ? commentRepository.findSliceByTaskId(taskId, limit) : commentRepository.findSliceByTaskIdDesc(taskId, limit);
+        } else {
+            slice = ascending
+                    ? commentRepository.findSliceByTaskIdAfter(taskId, after.getValueAsDateTime(), after.getId(), limit)
+                    : commentRepository.findSliceByTaskIdBefore(taskId, after.getValueAsDateTime(), after.getId(), limit);
+        }
+        List<CommentResponseDTO> items = slice.getContent();
+        String nextCursor = slice.hasNext() ? KeysetCursor.encode(items.getLast().getCreatedDate(), items.getLast().getId(), SORT_CREATED_DATE, ascending) : null;
+        Long totalCount = null;
+        if (withCount) {
+            totalCount = taskRepository.findCommentCountById(taskId).map(Long::valueOf).orElse(0L);
+        }
+        return new CursorPageDTO<>(items, nextCursor, slice.hasNext(), items.size(), totalCount);
     }
 
 
-    // New method to bulk delete comments by task ID
+    /**
+     * Delete every comment of a task with one DELETE statement
+     *
+     * @param taskId task id
+     * @return number of deleted comments
+     */
     @Override
     @Transactional
-    public void deleteCommentsByTaskId(UUID taskId) {
+    public int deleteCommentsByTaskId(UUID taskId) {
         logger.info("Deleting all comments for task with ID: {}", taskId);
-        List<Comment> comments = commentRepository.findAllByTaskId(taskId);
-        if (!comments.isEmpty()) {
-            commentRepository.deleteAllInBatchByTaskId(taskId); // Optimized bulk deletion
-            logger.info("All comments for task deleted successfully");
-            //eventPublisher.publishEvent(new GenericEvent<>(this, comments, EntityType.COMMENT, "Deleted"));
-        } else {
-            logger.warn("No comments found for task ID: {}", taskId);
+        commentRepository.flush();
+        int deletedCount = afterBulkDelete(commentRepository.deleteByTaskIdReturning(taskId));
+        logger.info("Deleted {} comments of task with ID: {}", deletedCount, taskId);
+        return deletedCount;
+    }
+
+    @Override
+    @Transactional
+    public int deleteComments(Collection<UUID> ids) {
+        logger.info("Deleting {} comments by ID", ids.size());
+        commentRepository.flush();
+        int deletedCount = afterBulkDelete(commentRepository.deleteByIdInReturning(new HashSet<>(ids)));
+        logger.info("Deleted {} of {} requested comments", deletedCount, ids.size());
+        return deletedCount;
+    }
+
+    @Override
+    @Transactional
+    public int deleteCommentsByUserId(UUID userId) {
+        logger.info("Deleting all comments of user with ID: {}", userId);
+        commentRepository.flush();
+        int deletedCount = afterBulkDelete(commentRepository.deleteByCreatedByReturning(userId));
+        logger.info("Deleted {} comments of user with ID: {}", deletedCount, userId);
+        return deletedCount;
+    }
+
+    /**
+     * Log, count and publish the rows removed by a set-based delete.
+     * Task comment counts are adjusted with one batched UPDATE, activity logs go out as one batch, and one event
+     * carries the whole set so listeners see a single change.
+     */
+    private int afterBulkDelete(List<DeletedCommentDTO> deletedComments) {
+        if (deletedComments.isEmpty()) {
+            return 0;
+        }
+        UUID currentUserId = SecurityConfig.getCurrentUser().getId();
+        Map<UUID, UUID> userIdByCommentId = new LinkedHashMap<>();
+        Map<UUID, Integer> deltaByTaskId = new HashMap<>();
+        List<Comment> comments = new ArrayList<>(deletedComments.size());
+        for (DeletedCommentDTO deletedComment : deletedComments) {
+            // requests without a signed-in user are logged against the author of the comment
+            userIdByCommentId.put(deletedComment.getId(), currentUserId != null ? currentUserId : deletedComment.getCreatedBy());
+            deltaByTaskId.merge(deletedComment.getTaskId(), -1, Integer::sum);
+            Comment comment = new Comment();
+            comment.setId(deletedComment.getId());
+            comments.add(comment);
         }
+        taskRepository.addCommentActivities(deltaByTaskId, DateAndTime.getDateAndTime());
+        activityLoggerService.logActivities(EntityType.COMMENT, ActionType.DELETED, userIdByCommentId);
+        eventPublisher.publishEvent(new GenericEvent<>(this, comments, EntityType.COMMENT, "Deleted"));
+        return deletedComments.size();
     }
 
     // New method to support pagination and filtering
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public Page<CommentResponseDTO> getAllComments(Pageable pageable) {
         logger.info("Retrieving all comments with pagination and filtering");
         Page<Comment> comments = commentRepository.findAll(pageable);
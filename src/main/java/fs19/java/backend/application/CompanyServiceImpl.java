@@ -3,29 +3,37 @@ package fs19.java.backend.application;
 import fs19.java.backend.application.dto.company.CompanyRequestDTO;
 import fs19.java.backend.application.dto.company.CompanyResponseDTO;
 import fs19.java.backend.application.dto.company.CompanyUpdateDTO;
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.mapper.CompanyMapper;
 import fs19.java.backend.application.service.CompanyService;
+import fs19.java.backend.application.service.DeletionJobService;
 import fs19.java.backend.domain.entity.Company;
 import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.domain.entity.enums.ActionType;
 import fs19.java.backend.domain.entity.enums.EntityType;
 import fs19.java.backend.infrastructure.JpaRepositories.CompanyJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.infrastructure.KeysetPager.Listing;
 import fs19.java.backend.presentation.shared.exception.CompanyNotFoundException;
 import fs19.java.backend.presentation.shared.exception.UserNotFoundException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class CompanyServiceImpl implements CompanyService {
 
     private static final Logger logger = LogManager.getLogger(CompanyServiceImpl.class);
+    private static final Listing<Company> COMPANIES = Listing.of(Company.class);
     private static final String COMPANY_NOT_FOUND_MESSAGE = "Company with ID %s not found";
     private static final String USER_NOT_FOUND_MESSAGE = "User not found with ID %s";
 
@@ -34,12 +42,17 @@ public class CompanyServiceImpl implements CompanyService {
     private final UserJpaRepo userRepository;
     private final ActivityLoggerService activityLoggerService;
     private final NotificationSender notificationSender;
+    private final DeletionJobService deletionJobService;
+    private final KeysetPager keysetPager;
 
-    public CompanyServiceImpl(CompanyJpaRepo companyRepository, UserJpaRepo userRepository, ActivityLoggerService activityLoggerService, NotificationSender notificationSender) {
+    public CompanyServiceImpl(CompanyJpaRepo companyRepository, UserJpaRepo userRepository, ActivityLoggerService activityLoggerService, NotificationSender notificationSender,
+                              DeletionJobService deletionJobService, KeysetPager keysetPager) {
         this.companyRepository = companyRepository;
         this.userRepository = userRepository;
         this.activityLoggerService = activityLoggerService;
         this.notificationSender = notificationSender;
+        this.deletionJobService = deletionJobService;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -91,6 +104,7 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public CompanyResponseDTO getCompanyById(UUID id) {
         logger.info("Retrieving company with ID: {}", id);
 
@@ -102,33 +116,33 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     @Override
-    public List<CompanyResponseDTO> getAllCompanies() {
-        logger.info("Retrieving all companies");
-
-        List<CompanyResponseDTO> companies = companyRepository.findAll().stream()
-                .map(CompanyMapper::toResponseDTO)
-                .collect(Collectors.toList());
-        logger.info("All companies retrieved: {}", companies);
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public CursorPageDTO<CompanyResponseDTO> getAllCompanies(String cursor, int size) {
+        logger.info("Retrieving a page of companies after cursor {}", cursor);
+        return keysetPager.page(COMPANIES, cursor, size, CompanyMapper::toResponseDTO);
+    }
 
-        return companies;
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCompanies(Consumer<CompanyResponseDTO> sink) {
+        logger.info("Exporting all companies");
+        keysetPager.export(COMPANIES, CompanyMapper::toResponseDTO, sink);
     }
 
     @Override
-    public void deleteCompany(UUID id) {
+    public DeletionJobDTO deleteCompany(UUID id) {
         logger.info("Deleting company with ID: {}", id);
-
-        if (!companyRepository.existsById(id)) {
-            logger.error("Company with ID: {} not found for deletion", id);
-            throw new CompanyNotFoundException(String.format(COMPANY_NOT_FOUND_MESSAGE, id));
-        }
-
-        companyRepository.deleteById(id);
-        logger.info("Company with ID: {} deleted", id);
-        //User createdBy = SecurityUtils.getCurrentUser();
-        //activityLoggerService.logActivity(EntityType.COMPANY, id, ActionType.DELETED, createdBy.getId());
+        DeletionJobDTO deletionJob = deletionJobService.requestDeletion(EntityType.COMPANY, id)
+                .orElseThrow(() -> {
+                    logger.error("Company with ID: {} not found for deletion", id);
+                    return new CompanyNotFoundException(String.format(COMPANY_NOT_FOUND_MESSAGE, id));
+                });
+        logger.info("Company with ID: {} queued for deletion by job {}", id, deletionJob.getId());
+        return deletionJob;
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<CompanyResponseDTO> getCompaniesOwnedByLoggedInUser(UUID userId) {
         logger.info("Retrieving companies owned by user with ID: {}", userId);
 
@@ -0,0 +1,101 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.domain.entity.DeletionJob;
+import fs19.java.backend.domain.entity.Role;
+import fs19.java.backend.domain.entity.enums.EntityType;
+import fs19.java.backend.infrastructure.JpaRepositories.DeletionJobJpaRepo;
+import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Works through queued deletion jobs. Every chunk is deleted in its own transaction together with the progress of
+ * the job, so a crash loses nothing but the chunk in flight, and the job is resumed from its recorded step by
+ * whichever runner finds its heartbeat older than the lease. A failing job is retried on later polls and marked
+ * FAILED after MAX_ATTEMPTS, keeping its tombstones.
+ */
+@Component
+public class DeletionJobRunner {
+
+    private static final Logger logger = LogManager.getLogger(DeletionJobRunner.class);
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final DeletionJobJpaRepo deletionJobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long leaseMillis;
+    private final CacheInvalidationSender cacheInvalidationSender;
+
+    public DeletionJobRunner(DeletionJobJpaRepo deletionJobRepository, PlatformTransactionManager transactionManager,
+                             @Value("${deletion.chunk-size:1000}") int chunkSize,
+                             @Value("${deletion.lease-ms:60000}") long leaseMillis,
+                             CacheInvalidationSender cacheInvalidationSender) {
+        this.deletionJobRepository = deletionJobRepository;
+        this.cacheInvalidationSender = cacheInvalidationSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @Scheduled(initialDelayString = "${deletion.poll-interval-ms:2000}", fixedDelayString = "${deletion.poll-interval-ms:2000}")
+    public void runPendingJobs() {
+        Optional<UUID> jobId;
+        while ((jobId = claimNext()).isPresent()) {
+            // a job put back after a failure waits for the next poll instead of being retried at once
+            if (!run(jobId.get())) {
+                return;
+            }
+        }
+    }
+
+    private Optional<UUID> claimNext() {
+        return transactionTemplate.execute(status -> deletionJobRepository.claimNext(DateAndTime.getDateAndTime(),
+                DateAndTime.getDateAndTime().minusNanos(leaseMillis * 1_000_000)));
+    }
+
+    private boolean run(UUID jobId) {
+        DeletionJob job = transactionTemplate.execute(status -> deletionJobRepository.findById(jobId).orElseThrow());
+        logger.info("Running deletion job {} for {} {} from step {}", jobId, job.getEntityType(), job.getRootId(), job.getStep());
+        try {
+            int stepCount = deletionJobRepository.stepCount(job.getEntityType());
+            long deletedRows = job.getDeletedRows();
+            for (int step = job.getStep(); step < stepCount; ) {
+                int currentStep = step;
+                int deleted = transactionTemplate.execute(status -> {
+                    int rows = deletionJobRepository.deleteChunk(job.getEntityType(), job.getRootId(), currentStep, chunkSize);
+                    deletionJobRepository.recordProgress(jobId, rows < chunkSize ? currentStep + 1 : currentStep, rows, DateAndTime.getDateAndTime());
+                    return rows;
+                });
+                deletedRows += deleted;
+                if (deleted < chunkSize) {
+                    step++;
+                    logger.debug("Deletion job {} finished step {} of {}, {} rows so far", jobId, step, stepCount, deletedRows);
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> deletionJobRepository.recordCompleted(jobId, DateAndTime.getDateAndTime()));
+            if (job.getEntityType() == EntityType.COMPANY) {
+                // roles are not tombstoned, so they leave the cache only once their rows are gone
+                cacheInvalidationSender.evict(Role.class, null);
+            }
+            logger.info("Deletion job {} completed, {} rows deleted", jobId, deletedRows);
+            return true;
+        } catch (Exception e) {
+            logger.error("Deletion job {} failed", jobId, e);
+            String error = String.valueOf(e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> deletionJobRepository.recordFailure(jobId,
+                    error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error, MAX_ATTEMPTS));
+            return false;
+        }
+    }
+}
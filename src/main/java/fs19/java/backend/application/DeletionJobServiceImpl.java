@@ -0,0 +1,108 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.events.GenericEvent;
+import fs19.java.backend.application.mapper.DeletionJobMapper;
+import fs19.java.backend.application.service.DeletionJobService;
+import fs19.java.backend.config.SecurityConfig;
+import fs19.java.backend.domain.entity.Company;
+import fs19.java.backend.domain.entity.DeletionJob;
+import fs19.java.backend.domain.entity.Project;
+import fs19.java.backend.domain.entity.Workspace;
+import fs19.java.backend.domain.entity.enums.ActionType;
+import fs19.java.backend.domain.entity.enums.DeletionJobStatus;
+import fs19.java.backend.domain.entity.enums.EntityType;
+import fs19.java.backend.infrastructure.JpaRepositories.DeletionJobJpaRepo;
+import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
+import fs19.java.backend.presentation.shared.exception.DeletionJobNotFoundException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Accepts deletions of companies, workspaces and projects. The request only tombstones the tree and records a job;
+ * DeletionJobRunner removes the rows in the background.
+ */
+@Service
+public class DeletionJobServiceImpl implements DeletionJobService {
+
+    private static final Logger logger = LogManager.getLogger(DeletionJobServiceImpl.class);
+
+    private static final String DELETION_JOB_NOT_FOUND_MESSAGE = "Deletion job with ID %s not found";
+
+    private final DeletionJobJpaRepo deletionJobRepository;
+    private final ActivityLoggerService activityLoggerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheInvalidationSender cacheInvalidationSender;
+
+    public DeletionJobServiceImpl(DeletionJobJpaRepo deletionJobRepository, ActivityLoggerService activityLoggerService,
+                                  ApplicationEventPublisher eventPublisher, CacheInvalidationSender cacheInvalidationSender) {
+        this.deletionJobRepository = deletionJobRepository;
+        this.activityLoggerService = activityLoggerService;
+        this.eventPublisher = eventPublisher;
+        this.cacheInvalidationSender = cacheInvalidationSender;
+    }
+
+    /**
+     * Tombstone a company, workspace or project with everything below it and queue its deletion.
+     * The tombstone is the existence check as well, so two concurrent requests cannot both queue a job.
+     *
+     * @param entityType COMPANY, WORKSPACE or PROJECT
+     * @param rootId     id of the root
+     * @return the queued job, empty if the root does not exist or is already being deleted
+     */
+    @Override
+    @Transactional
+    public Optional<DeletionJobDTO> requestDeletion(EntityType entityType, UUID rootId) {
+        logger.info("Requesting deletion of {} {}", entityType, rootId);
+        // the tombstone is written with JDBC, so rows created earlier in this transaction must reach the database first
+        deletionJobRepository.flush();
+        List<UUID> projectIds = deletionJobRepository.findProjectIdsUnder(entityType, rootId);
+        ZonedDateTime now = DateAndTime.getDateAndTime();
+        if (deletionJobRepository.tombstone(entityType, rootId, now) == 0) {
+            logger.warn("{} {} not found or already being deleted", entityType, rootId);
+            return Optional.empty();
+        }
+        // cached entries do not see the tombstone, so the tombstoned company or workspace is dropped from the cache
+        if (entityType == EntityType.WORKSPACE) {
+            cacheInvalidationSender.evict(Workspace.class, rootId);
+        } else if (entityType == EntityType.COMPANY) {
+            cacheInvalidationSender.evict(Company.class, rootId);
+            cacheInvalidationSender.evict(Workspace.class, null);
+        }
+        UUID userId = SecurityConfig.getCurrentUser().getId();
+        DeletionJob deletionJob = new DeletionJob();
+        deletionJob.setEntityType(entityType);
+        deletionJob.setRootId(rootId);
+        deletionJob.setStatus(DeletionJobStatus.PENDING);
+        deletionJob.setStepCount(deletionJobRepository.stepCount(entityType));
+        deletionJob.setRequestedBy(userId);
+        deletionJob.setCreatedDate(now);
+        DeletionJob savedJob = deletionJobRepository.save(deletionJob);
+        logger.info("Queued deletion job {} for {} {} covering {} projects", savedJob.getId(), entityType, rootId, projectIds.size());
+
+        if (userId != null) {
+            activityLoggerService.logActivities(entityType, ActionType.DELETED, Map.of(rootId, userId));
+        }
+        // the projects are gone for readers now, so listeners drop them straight away instead of after the job
+        List<Project> projects = projectIds.stream().map(projectId -> Project.builder().id(projectId).build()).toList();
+        eventPublisher.publishEvent(new GenericEvent<>(this, projects, EntityType.PROJECT, "Deleted"));
+        return Optional.of(DeletionJobMapper.toDTO(savedJob));
+    }
+
+    @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public DeletionJobDTO getJob(UUID jobId) {
+        return deletionJobRepository.findById(jobId)
+                .map(DeletionJobMapper::toDTO)
+                .orElseThrow(() -> new DeletionJobNotFoundException(String.format(DELETION_JOB_NOT_FOUND_MESSAGE, jobId)));
+    }
+}
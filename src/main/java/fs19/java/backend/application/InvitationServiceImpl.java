@@ -20,6 +20,7 @@ import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -147,6 +148,7 @@ public class InvitationServiceImpl implements InvitationService {
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<InvitationResponseDTO> findAll() {
         return InvitationMapper.toInvitationResponseDTOs(this.invitationRepo.findAll(), ResponseStatus.SUCCESSFULLY_FOUND);
     }
@@ -1,6 +1,7 @@
 package fs19.java.backend.application;
 
 import fs19.java.backend.application.dto.notification.NotificationDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.mapper.NotificationMapper;
 import fs19.java.backend.application.service.NotificationService;
 import fs19.java.backend.domain.entity.Notification;
@@ -9,6 +10,9 @@ import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.infrastructure.JpaRepositories.NotificationJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.infrastructure.KeysetPager.Listing;
+import fs19.java.backend.infrastructure.ReferenceResolver;
 import fs19.java.backend.presentation.shared.exception.NotificationNotFoundException;
 import fs19.java.backend.presentation.shared.exception.ProjectNotFoundException;
 import fs19.java.backend.presentation.shared.exception.UserNotFoundException;
@@ -16,16 +20,22 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
     private static final Logger logger = LogManager.getLogger(NotificationServiceImpl.class);
+    private static final Listing<Notification> NOTIFICATIONS = Listing.of(Notification.class);
 
     private static final String NOTIFICATION_NOT_FOUND_MESSAGE = "Notification with ID %s not found";
     private static final String USER_NOT_FOUND_MESSAGE = "User with ID %s not found";
@@ -34,14 +44,18 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationJpaRepo notificationRepository;
     private final UserJpaRepo userRepository;
     private final ProjectJpaRepo projectRepository;
+    private final KeysetPager keysetPager;
 
     @Autowired
     private NotificationSender notificationSender;
+    @Autowired
+    private ReferenceResolver referenceResolver;
 
-    public NotificationServiceImpl(NotificationJpaRepo notificationRepository, UserJpaRepo userRepository, ProjectJpaRepo projectRepository) {
+    public NotificationServiceImpl(NotificationJpaRepo notificationRepository, UserJpaRepo userRepository, ProjectJpaRepo projectRepository, KeysetPager keysetPager) {
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -51,18 +65,28 @@ public class NotificationServiceImpl implements NotificationService {
             throw new IllegalArgumentException("NotificationDTO cannot be null.");
         }
 
-        User mentionedBy = userRepository.findById(notificationDTO.getMentionedBy())
-                .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND_MESSAGE, notificationDTO.getMentionedBy())));
-        User mentionedTo = userRepository.findById(notificationDTO.getMentionedTo())
-                .orElseThrow(() -> new UserNotFoundException(String.format(USER_NOT_FOUND_MESSAGE, notificationDTO.getMentionedTo())));
-        Project project = projectRepository.findById(notificationDTO.getProjectId())
-                .orElseThrow(() -> new ProjectNotFoundException(String.format(PROJECT_NOT_FOUND_MESSAGE, notificationDTO.getProjectId())));
+        // both users and the project are checked with one query and attached without being loaded
+        ReferenceResolver.References references = referenceResolver.resolve(Map.of(
+                User.class, Arrays.asList(notificationDTO.getMentionedBy(), notificationDTO.getMentionedTo()),
+                Project.class, Collections.singletonList(notificationDTO.getProjectId())));
+        if (!references.exists(User.class, notificationDTO.getMentionedBy())) {
+            throw new UserNotFoundException(String.format(USER_NOT_FOUND_MESSAGE, notificationDTO.getMentionedBy()));
+        }
+        if (!references.exists(User.class, notificationDTO.getMentionedTo())) {
+            throw new UserNotFoundException(String.format(USER_NOT_FOUND_MESSAGE, notificationDTO.getMentionedTo()));
+        }
+        if (!references.exists(Project.class, notificationDTO.getProjectId())) {
+            throw new ProjectNotFoundException(String.format(PROJECT_NOT_FOUND_MESSAGE, notificationDTO.getProjectId()));
+        }
 
-        Notification notification = NotificationMapper.toEntity(notificationDTO, project, mentionedBy, mentionedTo);
+        Notification notification = NotificationMapper.toEntity(notificationDTO,
+                referenceResolver.getReference(Project.class, notificationDTO.getProjectId()),
+                referenceResolver.getReference(User.class, notificationDTO.getMentionedBy()),
+                referenceResolver.getReference(User.class, notificationDTO.getMentionedTo()));
         notification.setCreatedDate(ZonedDateTime.now());
 
         Notification savedNotification = notificationRepository.save(notification);
-        logger.info("Notification created successfully: {}", savedNotification);
+        logger.info("Notification created successfully: {}", savedNotification.getId());
 
         // Send notification via RabbitMQ
         notificationSender.sendNotification(savedNotification.getContent());
@@ -122,7 +146,7 @@ public class NotificationServiceImpl implements NotificationService {
         existingNotification.setRead(notificationDTO.isRead());
 
         Notification savedNotification = notificationRepository.save(existingNotification);
-        logger.info("Notification updated successfully: {}", savedNotification);
+        logger.info("Notification updated successfully: {}", savedNotification.getId());
 
         // Send notification via RabbitMQ (optional if update also requires sending)
         notificationSender.sendNotification(savedNotification.getContent());
@@ -131,6 +155,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public NotificationDTO getNotificationById(UUID id) {
         logger.info("Retrieving notification with ID: {}", id);
         Notification notification = notificationRepository.findById(id)
@@ -140,13 +165,17 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
-    public List<NotificationDTO> getAllNotifications() {
-        logger.info("Retrieving all notifications");
-        List<NotificationDTO> notifications = notificationRepository.findAll().stream()
-                .map(NotificationMapper::toDTO)
-                .collect(Collectors.toList());
-        logger.info("All notifications retrieved successfully");
-        return notifications;
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public CursorPageDTO<NotificationDTO> getAllNotifications(String cursor, int size) {
+        logger.info("Retrieving a page of notifications after cursor {}", cursor);
+        return keysetPager.page(NOTIFICATIONS, cursor, size, NotificationMapper::toDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportNotifications(Consumer<NotificationDTO> sink) {
+        logger.info("Exporting all notifications");
+        keysetPager.export(NOTIFICATIONS, NotificationMapper::toDTO, sink);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package fs19.java.backend.application;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.permission.PermissionRequestDTO;
 import fs19.java.backend.application.dto.permission.PermissionResponseDTO;
 import fs19.java.backend.application.mapper.PermissionMapper;
@@ -9,6 +10,8 @@ import fs19.java.backend.domain.entity.Permission;
 import fs19.java.backend.domain.entity.enums.ActionType;
 import fs19.java.backend.domain.entity.enums.EntityType;
 import fs19.java.backend.infrastructure.InvitationRepoImpl;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.infrastructure.KeysetPager.Listing;
 import fs19.java.backend.infrastructure.PermissionRepoImpl;
 import fs19.java.backend.presentation.controller.ActivityLogController;
 import fs19.java.backend.presentation.shared.status.ResponseStatus;
@@ -16,9 +19,11 @@ import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Permission entity service layer
@@ -27,18 +32,21 @@ import java.util.UUID;
 public class PermissionServiceImpl implements PermissionService {
 
     private static final Logger logger = LogManager.getLogger(PermissionServiceImpl.class);
+    private static final Listing<Permission> PERMISSIONS = Listing.of(Permission.class);
 
     private final PermissionRepoImpl permissionRepo;
     private final UserServiceImpl userService;
     private final ActivityLoggerService activityLoggerService;
+    private final KeysetPager keysetPager;
 
 
     public PermissionServiceImpl(PermissionRepoImpl PermissionRepoImpl,
                                  InvitationRepoImpl invitationRepo,
-                                 UserServiceImpl userService, ActivityLoggerService activityLoggerService) {
+                                 UserServiceImpl userService, ActivityLoggerService activityLoggerService, KeysetPager keysetPager) {
         this.permissionRepo = PermissionRepoImpl;
         this.userService = userService;
         this.activityLoggerService = activityLoggerService;
+        this.keysetPager = keysetPager;
     }
 
     /**
@@ -119,13 +127,24 @@ public class PermissionServiceImpl implements PermissionService {
     }
 
     /**
-     * load all permissions
+     * load one page of permissions, ordered by id
      *
-     * @return List<PermissionResponseDTO>
+     * @param cursor nextCursor of the previous page
+     * @param size   page size
+     * @return CursorPageDTO<PermissionResponseDTO>
      */
     @Override
-    public List<PermissionResponseDTO> getAll() {
-        return PermissionMapper.toRoleResponseDTOs(this.permissionRepo.findAll(), ResponseStatus.SUCCESSFULLY_FOUND);
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public CursorPageDTO<PermissionResponseDTO> getAll(String cursor, int size) {
+        logger.info("Retrieving a page of permissions after cursor {}", cursor);
+        return keysetPager.page(PERMISSIONS, cursor, size, permission -> PermissionMapper.toPermissionResponseDTO(permission, ResponseStatus.SUCCESSFULLY_FOUND));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPermissions(Consumer<PermissionResponseDTO> sink) {
+        logger.info("Exporting all permissions");
+        keysetPager.export(PERMISSIONS, permission -> PermissionMapper.toPermissionResponseDTO(permission, ResponseStatus.SUCCESSFULLY_FOUND), sink);
     }
 
     /**
@@ -135,6 +154,7 @@ public class PermissionServiceImpl implements PermissionService {
      * @return
      */
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public PermissionResponseDTO findById(UUID permissionId) {
         if (permissionId == null) {
             logger.info("Permission Id is null, cannot proceed with search.");
@@ -154,6 +174,7 @@ public class PermissionServiceImpl implements PermissionService {
      * @return
      */
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public PermissionResponseDTO findByName(String name) {
         if (name.isEmpty()) {
             logger.info("Permission Name is null, cannot proceed with search.");
@@ -0,0 +1,54 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.application.service.ProjectBoardSummaryService;
+import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically rebuilds every project board summary, one project per transaction, to repair drift.
+ * Overdue counters move with the flags set by TaskDueDateScheduler and need no refresh here.
+ */
+@Component
+public class ProjectBoardSummaryReconciler {
+
+    private static final Logger logger = LogManager.getLogger(ProjectBoardSummaryReconciler.class);
+    private static final int PROJECT_BATCH_SIZE = 500;
+
+    private final ProjectJpaRepo projectRepository;
+    private final ProjectBoardSummaryService boardSummaryService;
+
+    public ProjectBoardSummaryReconciler(ProjectJpaRepo projectRepository, ProjectBoardSummaryService boardSummaryService) {
+        this.projectRepository = projectRepository;
+        this.boardSummaryService = boardSummaryService;
+    }
+
+    @Scheduled(initialDelayString = "${board-summary.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${board-summary.reconcile-interval-ms:900000}")
+    public void reconcileAll() {
+        UUID afterId = new UUID(0L, 0L);
+        int reconciled = 0;
+        List<UUID> projectIds;
+        do {
+            projectIds = projectRepository.findIdsAfter(afterId, PageRequest.ofSize(PROJECT_BATCH_SIZE));
+            for (UUID projectId : projectIds) {
+                try {
+                    boardSummaryService.reconcile(projectId);
+                    reconciled++;
+                } catch (Exception e) {
+                    logger.error("Board summary reconciliation failed for project {}", projectId, e);
+                }
+            }
+            if (!projectIds.isEmpty()) {
+                afterId = projectIds.getLast();
+            }
+        } while (projectIds.size() == PROJECT_BATCH_SIZE);
+        logger.info("Board summary reconciled for {} projects", reconciled);
+    }
+}
@@ -0,0 +1,197 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.application.dto.task.ProjectBoardSummaryDTO;
+import fs19.java.backend.application.service.ProjectBoardSummaryService;
+import fs19.java.backend.domain.entity.ProjectBoardSummary;
+import fs19.java.backend.domain.entity.Task;
+import fs19.java.backend.domain.entity.enums.Priority;
+import fs19.java.backend.domain.entity.enums.TaskStatus;
+import fs19.java.backend.infrastructure.JpaRepositories.ProjectBoardSummaryJpaRepo;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the per-project task counters in project_board_summary up to date.
+ * Task writes apply +1/-1 deltas through an upsert, so reading a board summary
+ * is a primary-key lookup of a handful of rows whatever the size of the project.
+ * Deltas hold a per-project advisory lock in shared mode and a reconcile holds it exclusively, both until
+ * their transaction ends, so a rebuild neither loses a delta nor counts a task twice.
+ */
+@Service
+public class ProjectBoardSummaryServiceImpl implements ProjectBoardSummaryService {
+
+    private static final Logger logger = LogManager.getLogger(ProjectBoardSummaryServiceImpl.class);
+
+    private static final List<String> CLOSED_STATUSES = List.of(TaskStatus.COMPLETE.name(), TaskStatus.RELEASED.name());
+
+    private final ProjectBoardSummaryJpaRepo summaryRepository;
+
+    public ProjectBoardSummaryServiceImpl(ProjectBoardSummaryJpaRepo summaryRepository) {
+        this.summaryRepository = summaryRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectBoardSummaryDTO getBoardSummary(UUID projectId) {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        for (TaskStatus taskStatus : TaskStatus.values()) {
+            statusCounts.put(taskStatus.name(), 0L);
+        }
+        Map<String, Long> priorityCounts = new LinkedHashMap<>();
+        for (Priority priority : Priority.values()) {
+            priorityCounts.put(priority.name(), 0L);
+        }
+        long overdueCount = 0;
+        long totalCount = 0;
+        for (ProjectBoardSummary summary : summaryRepository.findAllByProjectId(projectId)) {
+            String bucket = summary.getId().getBucket();
+            if (bucket.startsWith(ProjectBoardSummary.STATUS_PREFIX)) {
+                statusCounts.put(bucket.substring(ProjectBoardSummary.STATUS_PREFIX.length()), summary.getTaskCount());
+                totalCount += summary.getTaskCount();
+            } else if (bucket.startsWith(ProjectBoardSummary.PRIORITY_PREFIX)) {
+                priorityCounts.put(bucket.substring(ProjectBoardSummary.PRIORITY_PREFIX.length()), summary.getTaskCount());
+            } else if (ProjectBoardSummary.OVERDUE.equals(bucket)) {
+                overdueCount = summary.getTaskCount();
+            }
+        }
+        return new ProjectBoardSummaryDTO(projectId, totalCount, statusCounts, priorityCounts, overdueCount);
+    }
+
+    /**
+     * Return the counter buckets a task currently contributes to
+     *
+     * @param task Task
+     * @return List<String>
+     */
+    @Override
+    public List<String> bucketsOf(Task task) {
+        return bucketsOf(task.getTaskStatus(), task.getPriority(), task.getOverdueDate());
+    }
+
+    /**
+     * Return the counter buckets of a task with the given column values. A task counts as overdue once
+     * TaskDueDateScheduler has flagged it, and for as long as it stays open
+     */
+    @Override
+    public List<String> bucketsOf(String taskStatus, String priority, ZonedDateTime overdueDate) {
+        List<String> buckets = new ArrayList<>(3);
+        if (taskStatus != null) {
+            buckets.add(ProjectBoardSummary.STATUS_PREFIX + taskStatus.toUpperCase());
+        }
+        if (priority != null) {
+            buckets.add(ProjectBoardSummary.PRIORITY_PREFIX + priority.toUpperCase());
+        }
+        if (isOverdue(taskStatus, overdueDate)) {
+            buckets.add(ProjectBoardSummary.OVERDUE);
+        }
+        return buckets;
+    }
+
+    /**
+     * Apply pre-aggregated deltas, one upsert per (project, bucket) whatever the number of tasks behind it
+     *
+     * @param deltasByProject delta per bucket, per project
+     */
+    @Override
+    @Transactional
+    public void applyDeltas(Map<UUID, Map<String, Long>> deltasByProject) {
+        deltasByProject.forEach((projectId, deltas) -> {
+            summaryRepository.lockShared(projectId);
+            deltas.forEach((bucket, delta) -> {
+                if (delta != 0) {
+                    summaryRepository.increment(projectId, bucket, delta);
+                }
+            });
+        });
+    }
+
+    @Override
+    @Transactional
+    public void onTaskCreated(Task task) {
+        UUID projectId = task.getProject().getId();
+        summaryRepository.lockShared(projectId);
+        applyDelta(projectId, bucketsOf(task), 1);
+    }
+
+    @Override
+    @Transactional
+    public void onTaskUpdated(UUID previousProjectId, List<String> previousBuckets, Task task) {
+        UUID projectId = task.getProject().getId();
+        List<String> buckets = bucketsOf(task);
+        if (projectId.equals(previousProjectId)) {
+            List<String> removed = previousBuckets.stream().filter(bucket -> !buckets.contains(bucket)).toList();
+            List<String> added = buckets.stream().filter(bucket -> !previousBuckets.contains(bucket)).toList();
+            if (removed.isEmpty() && added.isEmpty()) {
+                return;
+            }
+            summaryRepository.lockShared(projectId);
+            applyDelta(projectId, removed, -1);
+            applyDelta(projectId, added, 1);
+        } else {
+            summaryRepository.lockShared(previousProjectId);
+            summaryRepository.lockShared(projectId);
+            applyDelta(previousProjectId, previousBuckets, -1);
+            applyDelta(projectId, buckets, 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onTaskDeleted(Task task) {
+        UUID projectId = task.getProject().getId();
+        summaryRepository.lockShared(projectId);
+        applyDelta(projectId, bucketsOf(task), -1);
+    }
+
+    /**
+     * Rebuild the counters of a project from the task table. The board lock is taken before counting, so the
+     * transactions that applied deltas have committed and the ones still to apply theirs wait for the rewrite.
+     *
+     * @param projectId UUID
+     */
+    @Override
+    @Transactional
+    public void reconcile(UUID projectId) {
+        summaryRepository.lockExclusive(projectId);
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : summaryRepository.countTasksByStatus(projectId)) {
+            counts.put(ProjectBoardSummary.STATUS_PREFIX + row[0], (Long) row[1]);
+        }
+        for (Object[] row : summaryRepository.countTasksByPriority(projectId)) {
+            counts.put(ProjectBoardSummary.PRIORITY_PREFIX + row[0], (Long) row[1]);
+        }
+        counts.put(ProjectBoardSummary.OVERDUE, summaryRepository.countOverdueTasks(projectId, CLOSED_STATUSES));
+        summaryRepository.deleteAllByProjectId(projectId);
+        applyDeltas(Map.of(projectId, counts));
+        logger.debug("Board summary reconciled for project {}", projectId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteBoardSummary(UUID projectId) {
+        summaryRepository.lockExclusive(projectId);
+        summaryRepository.deleteAllByProjectId(projectId);
+    }
+
+    private void applyDelta(UUID projectId, List<String> buckets, long delta) {
+        for (String bucket : buckets) {
+            summaryRepository.increment(projectId, bucket, delta);
+        }
+    }
+
+    private boolean isOverdue(String taskStatus, ZonedDateTime overdueDate) {
+        if (overdueDate == null || taskStatus == null) {
+            return false;
+        }
+        return !CLOSED_STATUSES.contains(taskStatus.toUpperCase());
+    }
+}
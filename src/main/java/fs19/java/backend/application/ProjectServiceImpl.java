@@ -1,10 +1,14 @@
 package fs19.java.backend.application;
 
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.project.ProjectCreateDTO;
+import fs19.java.backend.application.dto.project.ProjectPatchDTO;
 import fs19.java.backend.application.dto.project.ProjectReadDTO;
 import fs19.java.backend.application.dto.project.ProjectUpdateDTO;
 import fs19.java.backend.application.events.GenericEvent;
 import fs19.java.backend.application.mapper.ProjectMapper;
+import fs19.java.backend.application.service.DeletionJobService;
 import fs19.java.backend.application.service.ProjectService;
 import fs19.java.backend.domain.entity.Project;
 import fs19.java.backend.domain.entity.User;
@@ -14,26 +18,32 @@ import fs19.java.backend.domain.entity.enums.EntityType;
 import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceJpaRepo;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.infrastructure.KeysetPager.Listing;
 import fs19.java.backend.presentation.shared.exception.ProjectNotFoundException;
 import fs19.java.backend.presentation.shared.exception.ProjectValidationException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class ProjectServiceImpl implements ProjectService {
 
     private static final Logger logger = LogManager.getLogger(ProjectServiceImpl.class);
+    private static final Listing<Project> PROJECTS = Listing.of(Project.class).fetching(Project.WITH_CREATED_BY_USER);
     private static final String ERROR_MESSAGE = "Project not found with Id ";
 
     @Autowired
@@ -46,18 +56,23 @@ public class ProjectServiceImpl implements ProjectService {
     private final UserJpaRepo userRepository;
     private final ActivityLoggerService activityLoggerService;
     private final ApplicationEventPublisher eventPublisher;
+    private final KeysetPager keysetPager;
+    private final DeletionJobService deletionJobService;
 
     public ProjectServiceImpl(
             ProjectJpaRepo projectRepository,
             UserJpaRepo userRepository,
             WorkspaceJpaRepo workspaceRepository,
-            ActivityLoggerService activityLoggerService, ApplicationEventPublisher eventPublisher) {
+            ActivityLoggerService activityLoggerService, ApplicationEventPublisher eventPublisher,
+            DeletionJobService deletionJobService, KeysetPager keysetPager) {
 
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.workspaceRepository = workspaceRepository;
         this.activityLoggerService = activityLoggerService;
         this.eventPublisher = eventPublisher;
+        this.deletionJobService = deletionJobService;
+        this.keysetPager = keysetPager;
     }
     @Override
     public ProjectReadDTO createProject(ProjectCreateDTO projectDTO) {
@@ -127,12 +142,18 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public ProjectReadDTO updateProject(UUID projectId, ProjectUpdateDTO projectDTO) {
+        return updateProject(projectId, projectDTO, null);
+    }
+
+    @Override
+    public ProjectReadDTO updateProject(UUID projectId, ProjectUpdateDTO projectDTO, Long expectedVersion) {
         logger.info("Updating project with ID: {} and DTO: {}", projectId, projectDTO);
         Optional<Project> existingProject = projectRepository.findById(projectId);
 
         if (existingProject.isPresent()) {
             logger.info("Existing project found: {}", existingProject);
             Project updatedProject = existingProject.get();
+            checkVersion(updatedProject, expectedVersion);
             updatedProject.setDescription(projectDTO.getDescription());
             // Convert LocalDate to ZonedDateTime
             ZonedDateTime startDateTime = projectDTO.getStartDate().atStartOfDay(ZoneId.systemDefault());
@@ -155,6 +176,52 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    public ProjectReadDTO patchProject(UUID projectId, ProjectPatchDTO projectDTO, Long expectedVersion) {
+        logger.info("Patching project with ID: {} and DTO: {}", projectId, projectDTO);
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new ProjectNotFoundException(ERROR_MESSAGE + projectId));
+        checkVersion(project, expectedVersion);
+
+        if (projectDTO.getName() != null) {
+            project.setName(projectDTO.getName());
+        }
+        if (projectDTO.getDescription() != null) {
+            project.setDescription(projectDTO.getDescription());
+        }
+        if (projectDTO.getStartDate() != null) {
+            project.setStartDate(projectDTO.getStartDate().atStartOfDay(ZoneId.systemDefault()));
+        }
+        if (projectDTO.getEndDate() != null) {
+            project.setEndDate(projectDTO.getEndDate().atTime(23, 59, 59).atZone(ZoneId.systemDefault()));
+        }
+        if (projectDTO.getStatus() != null) {
+            project.setStatus(projectDTO.getStatus());
+        }
+        if (project.getEndDate() != null && project.getEndDate().isBefore(project.getStartDate())) {
+            throw new ProjectValidationException("End date cannot be before start date");
+        }
+
+        // only the changed columns are written, guarded by the version column
+        project = projectRepository.save(project);
+        logger.info("Project patched and saved: {}", project);
+
+        activityLoggerService.logActivity(EntityType.PROJECT, project.getId(), ActionType.UPDATED, project.getCreatedByUser().getId());
+        eventPublisher.publishEvent(new GenericEvent<>(this, project, EntityType.PROJECT, "Updated"));
+        return ProjectMapper.toReadDTO(project);
+    }
+
+    /**
+     * Reject the write when the client sent If-Match for a version the project is no longer at
+     */
+    private void checkVersion(Project project, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            logger.info("Project {} is at version {}, the request expected version {}", project.getId(), project.getVersion(), expectedVersion);
+            throw new ObjectOptimisticLockingFailureException(Project.class, project.getId());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public ProjectReadDTO findProjectById(UUID projectId) {
         logger.info("Retrieving project with ID: {}", projectId);
 
@@ -166,30 +233,30 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public List<ProjectReadDTO> findAllProjects() {
-        List<Project> projects = projectRepository.findAll();
-        return projects.stream()
-            .map(ProjectMapper::toReadDTO)
-            .toList();
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public CursorPageDTO<ProjectReadDTO> findAllProjects(String cursor, int size) {
+        logger.info("Retrieving a page of projects after cursor {}", cursor);
+        return keysetPager.page(PROJECTS, cursor, size, ProjectMapper::toReadDTO);
     }
 
     @Override
-    public Boolean deleteProject(UUID projectId) {
-        logger.info("Deleting project with ID: {}", projectId);
-
-        Optional<Project> project = projectRepository.findById(projectId);
-        if (project.isPresent()) {
-            logger.info("Project found: {}", project);
-            projectRepository.delete(project.get());
+    @Transactional(readOnly = true)
+    public void exportProjects(Consumer<ProjectReadDTO> sink) {
+        logger.info("Exporting all projects");
+        keysetPager.export(PROJECTS, ProjectMapper::toReadDTO, sink);
+    }
 
-            logger.info("Project deleted successfully");
-            eventPublisher.publishEvent(new GenericEvent<>(this, project, EntityType.PROJECT, "Deleted"));
-            return true;
-        }
-        return false;
+    @Override
+    public DeletionJobDTO deleteProject(UUID projectId) {
+        logger.info("Deleting project with ID: {}", projectId);
+        DeletionJobDTO deletionJob = deletionJobService.requestDeletion(EntityType.PROJECT, projectId)
+                .orElseThrow(() -> new ProjectNotFoundException(ERROR_MESSAGE + projectId));
+        logger.info("Project with ID: {} queued for deletion by job {}", projectId, deletionJob.getId());
+        return deletionJob;
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<ProjectReadDTO> findProjectsByWorkspaceId(UUID workspaceId) {
         logger.info("Retrieving projects for workspace ID: {}", workspaceId);
 
@@ -15,6 +15,7 @@ import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -56,7 +57,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
         RolePermission resultIfExist = rolePermissionRepo.existsById(rolePermissionRequestDTO.getRoleId(), rolePermissionRequestDTO.getPermissionId());
         if (resultIfExist == null) {
             RolePermissionResponseDTO responseDTO = rolePermissionRepo.save(rolePermissionRequestDTO);
-            activityLoggerService.logActivity(EntityType.ROLE_PERMISSION, responseDTO.getId(), ActionType.CREATED, userJpaRepo.findById(rolePermissionRequestDTO.getCreated_user()).get().getId());
+            activityLoggerService.logActivity(EntityType.ROLE_PERMISSION, responseDTO.getId(), ActionType.CREATED, rolePermissionRequestDTO.getCreated_user());
             return responseDTO;
         }
         logger.info("Record Already created,Please use the existing information (Role permission id :{}) {}", resultIfExist.getId(), rolePermissionRepo);
@@ -89,6 +90,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
      * @return
      */
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<RolePermissionResponseDTO> findAll() {
         return rolePermissionRepo.findAll();
     }
@@ -100,6 +102,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
      * @return
      */
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public RolePermissionResponseDTO findByPermissionId(UUID rolePermissionId) {
         return rolePermissionRepo.findById(rolePermissionId);
     }
@@ -111,6 +114,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
      * @return
      */
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<RolePermissionResponseDTO> findByRoleId(UUID roleId) {
         if (roleId == null) {
             logger.info(" Role ID is null, cannot proceed with search.");
@@ -142,6 +146,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
      * @return
      */
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<RolePermissionResponseDTO> findById(UUID permissionId) {
         if (permissionId == null) {
             logger.info(" Permission ID is null, cannot proceed with search.");
@@ -158,6 +163,7 @@ public class RolePermissionServiceImpl implements RolePermissionService {
      * @return
      */
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public RolePermissionResponseDTO findByRoleIdAndPermissionId(UUID roleId, UUID permissionId) {
         if (roleId == null) {
             logger.info("Role Id is null, cannot proceed with search.");
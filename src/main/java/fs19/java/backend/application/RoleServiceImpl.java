@@ -1,5 +1,6 @@
 package fs19.java.backend.application;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.role.RoleRequestDTO;
 import fs19.java.backend.application.dto.role.RoleResponseDTO;
 import fs19.java.backend.application.mapper.RoleMapper;
@@ -10,16 +11,20 @@ import fs19.java.backend.domain.entity.Role;
 import fs19.java.backend.domain.entity.enums.ActionType;
 import fs19.java.backend.domain.entity.enums.EntityType;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.infrastructure.KeysetPager.Listing;
 import fs19.java.backend.infrastructure.RoleRepoImpl;
 import fs19.java.backend.presentation.shared.status.ResponseStatus;
 import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Role entity service layer
@@ -28,14 +33,17 @@ import java.util.UUID;
 public class RoleServiceImpl implements RoleService {
 
     private static final Logger logger = LogManager.getLogger(RoleServiceImpl.class);
+    private static final Listing<Role> ROLES = Listing.of(Role.class);
     private final RoleRepoImpl roleRepo;
     private final UserJpaRepo userJpaRepo;
     private final ActivityLoggerService activityLoggerService;
+    private final KeysetPager keysetPager;
 
-    public RoleServiceImpl(RoleRepoImpl roleRepo, UserJpaRepo userJpaRepo, ActivityLoggerService activityLoggerService) {
+    public RoleServiceImpl(RoleRepoImpl roleRepo, UserJpaRepo userJpaRepo, ActivityLoggerService activityLoggerService, KeysetPager keysetPager) {
         this.roleRepo = roleRepo;
         this.userJpaRepo = userJpaRepo;
         this.activityLoggerService = activityLoggerService;
+        this.keysetPager = keysetPager;
     }
 
     /**
@@ -123,13 +131,24 @@ public class RoleServiceImpl implements RoleService {
     }
 
     /**
-     * Return all roles
+     * Return one page of roles, ordered by id
      *
-     * @return
+     * @param cursor nextCursor of the previous page
+     * @param size   page size
+     * @return CursorPageDTO
      */
     @Override
-    public List<RoleResponseDTO> findAll() {
-        return RoleMapper.toRoleResponseDTOs(this.roleRepo.findAll(), ResponseStatus.SUCCESSFULLY_FOUND);
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public CursorPageDTO<RoleResponseDTO> findAll(String cursor, int size) {
+        logger.info("Retrieving a page of roles after cursor {}", cursor);
+        return keysetPager.page(ROLES, cursor, size, role -> RoleMapper.toRoleResponseDTO(role, ResponseStatus.SUCCESSFULLY_FOUND));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportRoles(Consumer<RoleResponseDTO> sink) {
+        logger.info("Exporting all roles");
+        keysetPager.export(ROLES, role -> RoleMapper.toRoleResponseDTO(role, ResponseStatus.SUCCESSFULLY_FOUND), sink);
     }
 
     /**
@@ -139,6 +158,7 @@ public class RoleServiceImpl implements RoleService {
      * @return
      */
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public RoleResponseDTO findById(UUID roleId) {
         if (roleId == null) {
             logger.info("Role ID is null, cannot proceed with search.");
@@ -158,6 +178,7 @@ public class RoleServiceImpl implements RoleService {
      * @return
      */
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public RoleResponseDTO findByName(String name) {
         if (name.isEmpty()) {
             logger.info("Role Name is null, cannot proceed with search.");
@@ -0,0 +1,362 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.application.dto.page.CursorPageDTO;
+import fs19.java.backend.application.dto.page.OffsetCursor;
+import fs19.java.backend.application.dto.search.SearchDocumentDTO;
+import fs19.java.backend.application.dto.search.SearchHitDTO;
+import fs19.java.backend.application.service.SearchService;
+import fs19.java.backend.config.SecurityConfig;
+import fs19.java.backend.infrastructure.InvertedIndex;
+import fs19.java.backend.infrastructure.JpaRepositories.CommentJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.TaskJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.TaskBatchRepoImpl;
+import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceUserJpaRepo;
+import fs19.java.backend.presentation.shared.exception.AuthenticationNotFoundException;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over task names, task descriptions and comments, with one InvertedIndex per workspace.
+ * The index is kept current by SearchIndexListener and written to local disk, per workspace that changed, on a
+ * schedule and at shutdown. On startup the snapshots are read back and only tasks whose version changed, and
+ * comments added or removed since, are read from the database; without snapshots the index is rebuilt.
+ * Matches are read back from the database to be displayed, which also drops any entry the index still holds for
+ * a row deleted without an event.
+ */
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final Logger logger = LogManager.getLogger(SearchServiceImpl.class);
+
+    public static final String TYPE_TASK = "TASK";
+    public static final String TYPE_COMMENT = "COMMENT";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final int TASK = 0;
+    private static final int COMMENT = 1;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final int SNIPPET_LENGTH = 160;
+    private static final String SNAPSHOT_SUFFIX = ".idx";
+
+    private final TaskJpaRepo taskJpaRepo;
+    private final CommentJpaRepo commentJpaRepo;
+    private final WorkspaceUserJpaRepo workspaceUserJpaRepo;
+    private final Path snapshotDir;
+    private final Map<UUID, InvertedIndex> partitions = new ConcurrentHashMap<>();
+    private final Set<UUID> changedWorkspaces = ConcurrentHashMap.newKeySet();
+
+    public SearchServiceImpl(TaskJpaRepo taskJpaRepo, CommentJpaRepo commentJpaRepo, WorkspaceUserJpaRepo workspaceUserJpaRepo,
+                             @Value("${search.index-dir:${java.io.tmpdir}/project-management-search}") String snapshotDir) {
+        this.taskJpaRepo = taskJpaRepo;
+        this.commentJpaRepo = commentJpaRepo;
+        this.workspaceUserJpaRepo = workspaceUserJpaRepo;
+        this.snapshotDir = Path.of(snapshotDir);
+    }
+
+    @Override
+    public CursorPageDTO<SearchHitDTO> search(UUID workspaceId, String query, String type, String cursor, int size) {
+        // the path names the workspace, so only its members may read its index
+        String userEmail = SecurityConfig.getCurrentUserLogin();
+        if (userEmail == null || !workspaceUserJpaRepo.existsByUserEmailAndWorkspaceId(userEmail, workspaceId)) {
+            throw new AuthenticationNotFoundException("User is not a member of workspace " + workspaceId);
+        }
+        Integer typeCode = typeCode(type);
+        int offset = OffsetCursor.decode(cursor);
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        InvertedIndex partition = partitions.get(workspaceId);
+        if (partition == null || query == null || query.isBlank()) {
+            return new CursorPageDTO<>(List.of(), null, false, 0, 0L);
+        }
+        InvertedIndex.Result result = partition.search(query, typeCode, offset, pageSize);
+
+        // read the matches back in two queries, one per type
+        List<UUID> taskIds = new ArrayList<>();
+        List<UUID> commentIds = new ArrayList<>();
+        result.hits().forEach(hit -> (hit.type() == TASK ? taskIds : commentIds).add(hit.id()));
+        Map<UUID, SearchDocumentDTO> documents = new HashMap<>();
+        if (!taskIds.isEmpty()) {
+            taskJpaRepo.findSearchDocumentsByIdIn(taskIds).forEach(document -> documents.put(document.getId(), document));
+        }
+        if (!commentIds.isEmpty()) {
+            commentJpaRepo.findSearchDocumentsByIdIn(commentIds).forEach(document -> documents.put(document.getId(), document));
+        }
+        List<SearchHitDTO> hits = new ArrayList<>(result.hits().size());
+        for (InvertedIndex.Hit hit : result.hits()) {
+            SearchDocumentDTO document = documents.get(hit.id());
+            if (document == null) {
+                logger.warn("Dropping {} {} from the search index, it no longer exists", hit.type() == TASK ? TYPE_TASK : TYPE_COMMENT, hit.id());
+                partition.remove(hit.id());
+                continue;
+            }
+            hits.add(SearchHitDTO.builder()
+                    .type(hit.type() == TASK ? TYPE_TASK : TYPE_COMMENT)
+                    .id(hit.id())
+                    .taskId(document.getTaskId())
+                    .projectId(document.getProjectId())
+                    .title(document.getTitle())
+                    .snippet(snippet(document.getBody()))
+                    .score(hit.score())
+                    .build());
+        }
+        // continue after the hits read from the index, including any dropped above
+        int nextOffset = offset + result.hits().size();
+        boolean hasNext = nextOffset < result.total();
+        return new CursorPageDTO<>(hits, hasNext ? OffsetCursor.encode(nextOffset) : null, hasNext, hits.size(), (long) result.total());
+    }
+
+    @Override
+    public void indexTasks(Collection<UUID> taskIds) {
+        List<UUID> movedTaskIds = new ArrayList<>();
+        findInChunks(taskIds, chunk -> taskJpaRepo.findSearchDocumentsByIdIn(chunk)).forEach(document -> {
+            if (put(document, TASK)) {
+                movedTaskIds.add(document.getId());
+            }
+        });
+        // comments follow their task into the partition of its new workspace
+        findInChunks(movedTaskIds, commentJpaRepo::findSearchDocumentsByTaskIdIn).forEach(document -> put(document, COMMENT));
+    }
+
+    @Override
+    public void indexComments(Collection<UUID> commentIds) {
+        findInChunks(commentIds, chunk -> commentJpaRepo.findSearchDocumentsByIdIn(chunk)).forEach(document -> put(document, COMMENT));
+    }
+
+    @Override
+    public void removeTask(UUID taskId) {
+        removeTasks(Set.of(taskId));
+    }
+
+    @Override
+    public void removeComment(UUID commentId) {
+        partitions.forEach((workspaceId, partition) -> {
+            if (partition.remove(commentId)) {
+                changedWorkspaces.add(workspaceId);
+            }
+        });
+    }
+
+    @Override
+    public void removeProject(UUID projectId) {
+        partitions.forEach((workspaceId, partition) -> {
+            if (partition.removeByGroup(projectId) > 0) {
+                changedWorkspaces.add(workspaceId);
+            }
+        });
+    }
+
+    /**
+     * Read the snapshots and bring them up to date, or build the index from the database when there are none
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        readSnapshots();
+        if (partitions.isEmpty()) {
+            rebuild();
+        } else {
+            catchUp();
+        }
+        writeSnapshots();
+        int documents = partitions.values().stream().mapToInt(InvertedIndex::size).sum();
+        logger.info("Search index ready: {} documents in {} workspaces, loaded in {} ms", documents, partitions.size(), System.currentTimeMillis() - started);
+    }
+
+    @PreDestroy
+    @Scheduled(initialDelayString = "${search.snapshot-interval-ms:300000}", fixedDelayString = "${search.snapshot-interval-ms:300000}")
+    public void writeSnapshots() {
+        for (UUID workspaceId : List.copyOf(changedWorkspaces)) {
+            // clear first, so a change made while writing marks the workspace again
+            changedWorkspaces.remove(workspaceId);
+            InvertedIndex partition = partitions.get(workspaceId);
+            Path file = snapshotDir.resolve(workspaceId + SNAPSHOT_SUFFIX);
+            try {
+                Files.createDirectories(snapshotDir);
+                if (partition == null || partition.size() == 0) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                Path temporary = Files.createTempFile(snapshotDir, workspaceId.toString(), ".tmp");
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                    partition.writeTo(out);
+                }
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.error("Writing the search index snapshot of workspace {} failed", workspaceId, e);
+                changedWorkspaces.add(workspaceId);
+            }
+        }
+    }
+
+    private void readSnapshots() {
+        if (!Files.isDirectory(snapshotDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(snapshotDir, "*" + SNAPSHOT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                UUID workspaceId = UUID.fromString(name.substring(0, name.length() - SNAPSHOT_SUFFIX.length()));
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                    partitions.put(workspaceId, InvertedIndex.readFrom(in));
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Search index snapshots in {} are unreadable, rebuilding the index", snapshotDir, e);
+            partitions.clear();
+        }
+    }
+
+    private void rebuild() {
+        UUID afterId = FIRST_ID;
+        List<SearchDocumentDTO> page;
+        do {
+            page = taskJpaRepo.findSearchDocumentsAfter(afterId, PageRequest.ofSize(TaskBatchRepoImpl.BATCH_SIZE));
+            page.forEach(document -> put(document, TASK));
+            afterId = page.isEmpty() ? afterId : page.getLast().getId();
+        } while (page.size() == TaskBatchRepoImpl.BATCH_SIZE);
+        afterId = FIRST_ID;
+        do {
+            page = commentJpaRepo.findSearchDocumentsAfter(afterId, PageRequest.ofSize(TaskBatchRepoImpl.BATCH_SIZE));
+            page.forEach(document -> put(document, COMMENT));
+            afterId = page.isEmpty() ? afterId : page.getLast().getId();
+        } while (page.size() == TaskBatchRepoImpl.BATCH_SIZE);
+    }
+
+    /**
+     * Compare the snapshots with the database by id and task version, and index only the difference.
+     * Comments have no version, so an edit made after the last snapshot of a crashed instance is only picked up
+     * with the next change of that comment.
+     */
+    private void catchUp() {
+        Map<UUID, Long> indexedTasks = new HashMap<>();
+        Set<UUID> indexedComments = new HashSet<>();
+        partitions.values().forEach(partition -> {
+            indexedTasks.putAll(partition.versions(TASK));
+            indexedComments.addAll(partition.versions(COMMENT).keySet());
+        });
+
+        List<UUID> changedTaskIds = new ArrayList<>();
+        UUID afterId = FIRST_ID;
+        List<Object[]> versions;
+        do {
+            versions = taskJpaRepo.findVersionsAfter(afterId, PageRequest.ofSize(TaskBatchRepoImpl.BATCH_SIZE));
+            for (Object[] row : versions) {
+                UUID taskId = (UUID) row[0];
+                Long indexedVersion = indexedTasks.remove(taskId);
+                if (indexedVersion == null || !indexedVersion.equals(row[1])) {
+                    changedTaskIds.add(taskId);
+                }
+            }
+            afterId = versions.isEmpty() ? afterId : (UUID) versions.getLast()[0];
+        } while (versions.size() == TaskBatchRepoImpl.BATCH_SIZE);
+
+        List<UUID> addedCommentIds = new ArrayList<>();
+        afterId = FIRST_ID;
+        List<UUID> commentIds;
+        do {
+            commentIds = commentJpaRepo.findIdsAfter(afterId, PageRequest.ofSize(TaskBatchRepoImpl.BATCH_SIZE));
+            for (UUID commentId : commentIds) {
+                if (!indexedComments.remove(commentId)) {
+                    addedCommentIds.add(commentId);
+                }
+            }
+            afterId = commentIds.isEmpty() ? afterId : commentIds.getLast();
+        } while (commentIds.size() == TaskBatchRepoImpl.BATCH_SIZE);
+
+        // what is left was deleted while the index was not listening
+        if (!indexedTasks.isEmpty()) {
+            removeTasks(indexedTasks.keySet());
+        }
+        indexedComments.forEach(this::removeComment);
+        indexTasks(changedTaskIds);
+        indexComments(addedCommentIds);
+        logger.info("Search index caught up: {} tasks and {} comments indexed, {} tasks and {} comments removed",
+                changedTaskIds.size(), addedCommentIds.size(), indexedTasks.size(), indexedComments.size());
+    }
+
+    private void removeTasks(Set<UUID> taskIds) {
+        // a task is filed as the parent of itself and of its comments
+        partitions.forEach((workspaceId, partition) -> {
+            if (partition.removeByParents(taskIds) > 0) {
+                changedWorkspaces.add(workspaceId);
+            }
+        });
+    }
+
+    /**
+     * Index a document in the partition of its workspace, removing it from any other one
+     *
+     * @return true when the document was found in another workspace
+     */
+    private boolean put(SearchDocumentDTO document, int type) {
+        boolean moved = false;
+        for (Map.Entry<UUID, InvertedIndex> entry : partitions.entrySet()) {
+            if (!entry.getKey().equals(document.getWorkspaceId()) && entry.getValue().remove(document.getId())) {
+                changedWorkspaces.add(entry.getKey());
+                moved = true;
+            }
+        }
+        // a comment is indexed by its content only, the task name is read back for display
+        String title = type == TASK ? document.getTitle() : null;
+        long version = document.getVersion() == null ? 0L : document.getVersion();
+        partitions.computeIfAbsent(document.getWorkspaceId(), workspaceId -> new InvertedIndex())
+                .put(document.getId(), type, document.getTaskId(), document.getProjectId(), version, title, document.getBody());
+        changedWorkspaces.add(document.getWorkspaceId());
+        return moved;
+    }
+
+    private static List<SearchDocumentDTO> findInChunks(Collection<UUID> ids, Function<List<UUID>, List<SearchDocumentDTO>> query) {
+        List<UUID> distinctIds = ids.stream().distinct().collect(Collectors.toList());
+        List<SearchDocumentDTO> documents = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += TaskBatchRepoImpl.BATCH_SIZE) {
+            documents.addAll(query.apply(distinctIds.subList(from, Math.min(from + TaskBatchRepoImpl.BATCH_SIZE, distinctIds.size()))));
+        }
+        return documents;
+    }
+
+    private static Integer typeCode(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        return switch (type.toUpperCase()) {
+            case TYPE_TASK -> TASK;
+            case TYPE_COMMENT -> COMMENT;
+            default -> throw new IllegalArgumentException("Unknown search type: " + type);
+        };
+    }
+
+    private static String snippet(String text) {
+        if (text == null || text.length() <= SNIPPET_LENGTH) {
+            return text;
+        }
+        return text.substring(0, SNIPPET_LENGTH) + "...";
+    }
+}
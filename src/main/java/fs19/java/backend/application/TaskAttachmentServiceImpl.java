@@ -0,0 +1,195 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.application.dto.task.TaskAttachmentDTO;
+import fs19.java.backend.application.dto.task.TaskRequestDTO;
+import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.service.TaskAttachmentService;
+import fs19.java.backend.domain.entity.TaskAttachment;
+import fs19.java.backend.infrastructure.JpaRepositories.TaskAttachmentJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.TaskJpaRepo;
+import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reads and writes task attachments as rows of task_attachment.
+ * Writes are deltas: only added, changed or removed files touch the table.
+ * Reads load the attachments of many tasks with one query per chunk of task ids.
+ */
+@Service
+public class TaskAttachmentServiceImpl implements TaskAttachmentService {
+
+    private static final Logger logger = LogManager.getLogger(TaskAttachmentServiceImpl.class);
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final TaskAttachmentJpaRepo attachmentRepository;
+    private final TaskJpaRepo taskRepository;
+
+    public TaskAttachmentServiceImpl(TaskAttachmentJpaRepo attachmentRepository, TaskJpaRepo taskRepository) {
+        this.attachmentRepository = attachmentRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    @Transactional
+    public void createAttachments(Map<UUID, List<TaskAttachmentDTO>> attachmentsByTaskId) {
+        ZonedDateTime now = DateAndTime.getDateAndTime();
+        List<TaskAttachment> attachments = new ArrayList<>();
+        attachmentsByTaskId.forEach((taskId, attachmentDTOs) -> byFileName(attachmentDTOs).values()
+                .forEach(attachmentDTO -> attachments.add(toEntity(taskId, attachmentDTO, now))));
+        upsert(attachments);
+    }
+
+    /**
+     * Apply the attachment changes of updated tasks.
+     * attachments, when present, is the full desired list; addedAttachments are added or replaced by file name
+     * and removedAttachments are deleted by file name. Files which did not change are not written.
+     *
+     * @param requestsByTaskId TaskRequestDTO per task id
+     */
+    @Override
+    @Transactional
+    public void updateAttachments(Map<UUID, TaskRequestDTO> requestsByTaskId) {
+        Map<UUID, TaskRequestDTO> changedRequests = new LinkedHashMap<>();
+        requestsByTaskId.forEach((taskId, request) -> {
+            if (request.getAttachments() != null || request.getAddedAttachments() != null || request.getRemovedAttachments() != null) {
+                changedRequests.put(taskId, request);
+            }
+        });
+        if (changedRequests.isEmpty()) {
+            return;
+        }
+        Map<UUID, Map<String, TaskAttachment>> existingByTaskId = new HashMap<>();
+        for (TaskAttachment attachment : findAll(changedRequests.keySet())) {
+            existingByTaskId.computeIfAbsent(attachment.getTask().getId(), id -> new HashMap<>()).put(attachment.getFileName(), attachment);
+        }
+
+        ZonedDateTime now = DateAndTime.getDateAndTime();
+        List<UUID> removedIds = new ArrayList<>();
+        List<TaskAttachment> upserts = new ArrayList<>();
+        changedRequests.forEach((taskId, request) -> {
+            Map<String, TaskAttachment> existing = existingByTaskId.getOrDefault(taskId, Map.of());
+            Map<String, TaskAttachmentDTO> desired = new LinkedHashMap<>();
+            Set<String> removed = new HashSet<>();
+            if (request.getAttachments() != null) {
+                desired.putAll(byFileName(request.getAttachments()));
+                existing.keySet().stream().filter(fileName -> !desired.containsKey(fileName)).forEach(removed::add);
+            }
+            desired.putAll(byFileName(request.getAddedAttachments()));
+            if (request.getRemovedAttachments() != null) {
+                removed.addAll(request.getRemovedAttachments());
+                desired.keySet().removeAll(removed);
+            }
+            removed.stream().map(existing::get).filter(Objects::nonNull).forEach(attachment -> removedIds.add(attachment.getId()));
+            desired.values().stream()
+                    .filter(attachmentDTO -> isChanged(existing.get(attachmentDTO.getFileName()), attachmentDTO))
+                    .forEach(attachmentDTO -> upserts.add(toEntity(taskId, attachmentDTO, now)));
+        });
+        if (!removedIds.isEmpty()) {
+            attachmentRepository.deleteAllByIdInBatch(removedIds);
+        }
+        upsert(upserts);
+        logger.debug("Task attachments updated: {} removed, {} written", removedIds.size(), upserts.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, List<TaskAttachmentDTO>> findByTaskIds(Collection<UUID> taskIds) {
+        Map<UUID, List<TaskAttachmentDTO>> attachmentsByTaskId = new HashMap<>();
+        for (TaskAttachment attachment : findAll(taskIds)) {
+            attachmentsByTaskId.computeIfAbsent(attachment.getTask().getId(), id -> new ArrayList<>()).add(toDTO(attachment));
+        }
+        return attachmentsByTaskId;
+    }
+
+    @Override
+    public TaskResponseDTO fillAttachments(TaskResponseDTO task) {
+        fillAttachments(List.of(task));
+        return task;
+    }
+
+    @Override
+    public List<TaskResponseDTO> fillAttachments(List<TaskResponseDTO> tasks) {
+        Set<UUID> taskIds = new HashSet<>();
+        tasks.forEach(task -> {
+            if (task.getId() != null) {
+                taskIds.add(task.getId());
+            }
+        });
+        Map<UUID, List<TaskAttachmentDTO>> attachmentsByTaskId = findByTaskIds(taskIds);
+        tasks.forEach(task -> {
+            if (task.getId() != null) {
+                task.setAttachments(attachmentsByTaskId.getOrDefault(task.getId(), List.of()));
+            }
+        });
+        return tasks;
+    }
+
+    private List<TaskAttachment> findAll(Collection<UUID> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = new ArrayList<>(taskIds);
+        List<TaskAttachment> attachments = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+            attachments.addAll(attachmentRepository.findAllByTaskIds(ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()))));
+        }
+        return attachments;
+    }
+
+    private void upsert(List<TaskAttachment> attachments) {
+        if (attachments.isEmpty()) {
+            return;
+        }
+        // the JDBC batch bypasses the persistence context, so pending task inserts must reach the database first
+        attachmentRepository.flush();
+        attachmentRepository.batchUpsert(attachments);
+    }
+
+    private static Map<String, TaskAttachmentDTO> byFileName(List<TaskAttachmentDTO> attachmentDTOs) {
+        Map<String, TaskAttachmentDTO> attachmentsByFileName = new LinkedHashMap<>();
+        if (attachmentDTOs != null) {
+            for (TaskAttachmentDTO attachmentDTO : attachmentDTOs) {
+                if (attachmentDTO != null && attachmentDTO.getFileName() != null && !attachmentDTO.getFileName().isBlank()) {
+                    attachmentsByFileName.put(attachmentDTO.getFileName(), attachmentDTO);
+                }
+            }
+        }
+        return attachmentsByFileName;
+    }
+
+    /**
+     * A file needs writing when it is new or when a metadata field it carries differs from the stored one
+     */
+    private static boolean isChanged(TaskAttachment existing, TaskAttachmentDTO attachmentDTO) {
+        if (existing == null) {
+            return true;
+        }
+        return (attachmentDTO.getSizeBytes() != null && !attachmentDTO.getSizeBytes().equals(existing.getSizeBytes()))
+                || (attachmentDTO.getContentType() != null && !attachmentDTO.getContentType().equals(existing.getContentType()))
+                || (attachmentDTO.getChecksum() != null && !attachmentDTO.getChecksum().equals(existing.getChecksum()));
+    }
+
+    private TaskAttachment toEntity(UUID taskId, TaskAttachmentDTO attachmentDTO, ZonedDateTime createdDate) {
+        return new TaskAttachment(UUID.randomUUID(), taskRepository.getReferenceById(taskId), attachmentDTO.getFileName(),
+                attachmentDTO.getSizeBytes(), attachmentDTO.getContentType(), attachmentDTO.getChecksum(), createdDate);
+    }
+
+    private static TaskAttachmentDTO toDTO(TaskAttachment attachment) {
+        return new TaskAttachmentDTO(attachment.getFileName(), attachment.getSizeBytes(), attachment.getContentType(), attachment.getChecksum());
+    }
+}
@@ -0,0 +1,187 @@
+package fs19.java.backend.application;
+
+import fs19.java.backend.application.dto.task.TaskSnapshotDTO;
+import fs19.java.backend.application.events.GenericEvent;
+import fs19.java.backend.application.service.ProjectBoardSummaryService;
+import fs19.java.backend.domain.entity.ProjectBoardSummary;
+import fs19.java.backend.domain.entity.Task;
+import fs19.java.backend.domain.entity.enums.EntityType;
+import fs19.java.backend.domain.entity.enums.TaskStatus;
+import fs19.java.backend.infrastructure.JpaRepositories.TaskBatchRepoImpl;
+import fs19.java.backend.infrastructure.JpaRepositories.TaskJpaRepo;
+import fs19.java.backend.infrastructure.TimerWheel;
+import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Flags tasks overdue when their due date passes, without scanning the task table.
+ * Open, unflagged tasks due within the horizon are held in a TimerWheel keyed by task id; the task write paths
+ * keep it in sync, and a refill extends the window from where the last load stopped. Each tick expires only the
+ * tasks whose due date has passed; they are flagged, counted on the board and announced with one
+ * GenericEvent per batch.
+ */
+@Component
+public class TaskDueDateScheduler {
+
+    private static final Logger logger = LogManager.getLogger(TaskDueDateScheduler.class);
+
+    private static final List<String> CLOSED_STATUSES = List.of(TaskStatus.COMPLETE.name(), TaskStatus.RELEASED.name());
+    private static final ZonedDateTime EARLIEST_DUE_DATE = Instant.EPOCH.atZone(ZoneId.systemDefault());
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final TaskJpaRepo taskJpaRepo;
+    private final ProjectBoardSummaryService boardSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration horizon;
+    private final TimerWheel<UUID> wheel;
+
+    // tasks due before this instant are held in the wheel; null until the startup load begins
+    private volatile ZonedDateTime windowEnd;
+
+    public TaskDueDateScheduler(TaskJpaRepo taskJpaRepo, ProjectBoardSummaryService boardSummaryService,
+                                ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+                                @Value("${task-due.horizon-hours:24}") long horizonHours,
+                                @Value("${task-due.tick-ms:1000}") long tickMillis) {
+        this.taskJpaRepo = taskJpaRepo;
+        this.boardSummaryService = boardSummaryService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.horizon = Duration.ofHours(horizonHours);
+        this.wheel = new TimerWheel<>(tickMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * Load every open, unflagged task due before the horizon, including those which passed their due date
+     * while the application was down, so they are flagged on the first tick
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        extendWindow(EARLIEST_DUE_DATE, DateAndTime.getDateAndTime().plus(horizon));
+    }
+
+    /**
+     * Move the end of the window forward, loading only the tasks due between the old and the new end
+     */
+    @Scheduled(initialDelayString = "${task-due.refill-interval-ms:3600000}", fixedDelayString = "${task-due.refill-interval-ms:3600000}")
+    public void refill() {
+        ZonedDateTime from = windowEnd;
+        if (from != null) {
+            extendWindow(from, DateAndTime.getDateAndTime().plus(horizon));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task-due.tick-ms:1000}")
+    public void tick() {
+        if (windowEnd == null) {
+            return;
+        }
+        List<UUID> expired = wheel.advance(System.currentTimeMillis());
+        for (int from = 0; from < expired.size(); from += TaskBatchRepoImpl.BATCH_SIZE) {
+            List<UUID> batch = expired.subList(from, Math.min(from + TaskBatchRepoImpl.BATCH_SIZE, expired.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> markOverdue(batch));
+            } catch (Exception e) {
+                logger.error("Flagging {} overdue tasks failed, retrying in {}", batch.size(), RETRY_DELAY, e);
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+                batch.forEach(taskId -> wheel.schedule(taskId, retryAt));
+            }
+        }
+    }
+
+    /**
+     * Keep the wheel in line with a task that was just written
+     *
+     * @param task Task
+     */
+    public void track(Task task) {
+        track(task.getId(), task.getTaskStatus(), task.getDueDate(), task.getOverdueDate());
+    }
+
+    /**
+     * Keep the wheel in line with tasks written in bulk, given by the column values they now have
+     *
+     * @param snapshots List<TaskSnapshotDTO>
+     */
+    public void trackAll(Collection<TaskSnapshotDTO> snapshots) {
+        snapshots.forEach(snapshot -> track(snapshot.getId(), snapshot.getTaskStatus(), snapshot.getDueDate(), snapshot.getOverdueDate()));
+    }
+
+    public void untrack(UUID taskId) {
+        wheel.cancel(taskId);
+    }
+
+    private void track(UUID taskId, String taskStatus, ZonedDateTime dueDate, ZonedDateTime overdueDate) {
+        ZonedDateTime end = windowEnd;
+        if (end == null) {
+            // the startup load will pick the task up
+            return;
+        }
+        if (dueDate == null || overdueDate != null || isClosed(taskStatus) || !dueDate.isBefore(end)) {
+            wheel.cancel(taskId);
+        } else {
+            wheel.schedule(taskId, dueDate.toInstant().toEpochMilli());
+        }
+    }
+
+    private void extendWindow(ZonedDateTime from, ZonedDateTime until) {
+        // widen first, so tasks written while the window loads are tracked by the write paths
+        windowEnd = until;
+        ZonedDateTime afterDue = from;
+        UUID afterId = FIRST_ID;
+        int loaded = 0;
+        List<TaskSnapshotDTO> page;
+        do {
+            page = taskJpaRepo.findUpcomingDueDates(afterDue, afterId, until, CLOSED_STATUSES, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            for (TaskSnapshotDTO snapshot : page) {
+                wheel.schedule(snapshot.getId(), snapshot.getDueDate().toInstant().toEpochMilli());
+            }
+            loaded += page.size();
+            if (!page.isEmpty()) {
+                afterDue = page.getLast().getDueDate();
+                afterId = page.getLast().getId();
+            }
+        } while (page.size() == LOAD_BATCH_SIZE);
+        logger.info("Loaded {} due dates until {}, {} tasks scheduled", loaded, until, wheel.size());
+    }
+
+    private void markOverdue(List<UUID> taskIds) {
+        List<UUID> flaggedIds = taskJpaRepo.markOverdue(taskIds, DateAndTime.getDateAndTime(), CLOSED_STATUSES);
+        if (flaggedIds.isEmpty()) {
+            return;
+        }
+        List<Task> tasks = taskJpaRepo.findAllById(flaggedIds);
+        Map<UUID, Map<String, Long>> deltas = new HashMap<>();
+        tasks.forEach(task -> deltas.computeIfAbsent(task.getProject().getId(), projectId -> new HashMap<>())
+                .merge(ProjectBoardSummary.OVERDUE, 1L, Long::sum));
+        boardSummaryService.applyDeltas(deltas);
+        eventPublisher.publishEvent(new GenericEvent<>(this, tasks, EntityType.TASK, "Overdue"));
+        logger.info("Flagged {} tasks overdue", tasks.size());
+    }
+
+    private static boolean isClosed(String taskStatus) {
+        return taskStatus != null && CLOSED_STATUSES.contains(taskStatus.toUpperCase());
+    }
+}
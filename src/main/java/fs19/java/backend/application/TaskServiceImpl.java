@@ -1,9 +1,24 @@
 package fs19.java.backend.application;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
+import fs19.java.backend.application.dto.page.KeysetCursor;
+import fs19.java.backend.application.dto.task.ProjectBoardSummaryDTO;
+import fs19.java.backend.application.dto.task.TaskAttachmentDTO;
+import fs19.java.backend.application.dto.task.TaskBulkItemDTO;
+import fs19.java.backend.application.dto.task.TaskBulkItemResultDTO;
+import fs19.java.backend.application.dto.task.TaskBulkOperation;
+import fs19.java.backend.application.dto.task.TaskBulkRequestDTO;
+import fs19.java.backend.application.dto.task.TaskBulkResponseDTO;
+import fs19.java.backend.application.dto.task.TaskPatchDTO;
 import fs19.java.backend.application.dto.task.TaskRequestDTO;
 import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.dto.task.TaskSearchCriteriaDTO;
+import fs19.java.backend.application.dto.task.TaskSnapshotDTO;
 import fs19.java.backend.application.events.GenericEvent;
 import fs19.java.backend.application.mapper.TaskMapper;
+import fs19.java.backend.application.service.CommentService;
+import fs19.java.backend.application.service.ProjectBoardSummaryService;
+import fs19.java.backend.application.service.TaskAttachmentService;
 import fs19.java.backend.application.service.TaskService;
 import fs19.java.backend.config.SecurityConfig;
 import fs19.java.backend.domain.entity.Project;
@@ -11,79 +26,123 @@ import fs19.java.backend.domain.entity.Task;
 import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.domain.entity.enums.ActionType;
 import fs19.java.backend.domain.entity.enums.EntityType;
+import fs19.java.backend.domain.entity.enums.Priority;
+import fs19.java.backend.domain.entity.enums.TaskStatus;
+import fs19.java.backend.infrastructure.ReferenceResolver;
 import fs19.java.backend.infrastructure.TaskRepoImpl;
+import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
+import fs19.java.backend.presentation.shared.response.ResponseHandler;
 import fs19.java.backend.presentation.shared.status.ResponseStatus;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class TaskServiceImpl implements TaskService {
 
     private static final Logger logger = LogManager.getLogger(TaskServiceImpl.class);
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+    public static final int MAX_BULK_ITEMS = 10_000;
     private final TaskRepoImpl taskRepo;
     private final ActivityLoggerService activityLoggerService;
     private final ApplicationEventPublisher eventPublisher;
+    private final ProjectBoardSummaryService boardSummaryService;
+    private final TaskAttachmentService attachmentService;
+    private final ReferenceResolver referenceResolver;
+    private final TaskDueDateScheduler dueDateScheduler;
+    private final CommentService commentService;
 
-
-    public TaskServiceImpl(TaskRepoImpl taskRepo, ActivityLoggerService activityLoggerService, ApplicationEventPublisher eventPublisher) {
+    public TaskServiceImpl(TaskRepoImpl taskRepo, ActivityLoggerService activityLoggerService, ApplicationEventPublisher eventPublisher,
+                           ProjectBoardSummaryService boardSummaryService, TaskAttachmentService attachmentService,
+                           ReferenceResolver referenceResolver, TaskDueDateScheduler dueDateScheduler, CommentService commentService) {
         this.taskRepo = taskRepo;
         this.activityLoggerService = activityLoggerService;
         this.eventPublisher = eventPublisher;
+        this.boardSummaryService = boardSummaryService;
+        this.attachmentService = attachmentService;
+        this.referenceResolver = referenceResolver;
+        this.dueDateScheduler = dueDateScheduler;
+        this.commentService = commentService;
     }
 
+    /**
+     * Create a task. The users and the project are checked with one query and attached as references, not loaded.
+     * The task, its attachments, the board counters and the activity log are written in one transaction
+     *
+     * @param taskRequestDTO TaskRequestDTO
+     * @return TaskResponseDTO
+     */
     @Override
+    @Transactional
     public TaskResponseDTO create(TaskRequestDTO taskRequestDTO) {
         if (taskRequestDTO.getName().isEmpty()) {
             logger.info("Task Name is null, cannot proceed with Task creation. {}", taskRequestDTO);
             return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_NAME_NOT_FOUND);
         }
-        Optional<User> createdUserById = taskRepo.findTaskUserByUserId(taskRequestDTO.getCreatedUserId());
-        if (createdUserById.isPresent()) {
-            User assignedUser = null;
-            if (taskRequestDTO.getAssignedUserId() != null) {
-                Optional<User> assignedUserById = taskRepo.findTaskUserByUserId(taskRequestDTO.getAssignedUserId());
-                if (assignedUserById.isEmpty()) {
-                    logger.info("Assigned-User information not found {}", taskRequestDTO);
-                    return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_LEVEL_ASSIGNED_USER_NOT_FOUND);
-                }
-                assignedUser = assignedUserById.get();
-            }
-            Optional<Project> projectById = taskRepo.findProjectById(taskRequestDTO.getProjectId());
-            if (projectById.isPresent()) {
-                Task task = TaskMapper.toTask(taskRequestDTO, createdUserById.get(), assignedUser, projectById.get());
+        ResponseStatus referenceStatus = checkReferences(taskRequestDTO);
+        if (referenceStatus != null) {
+            logger.info("Task references not found {}: {}", referenceStatus, taskRequestDTO);
+            return TaskMapper.toTaskResponseDTO(new Task(), referenceStatus);
+        }
+        Task task = TaskMapper.toTask(taskRequestDTO, referenceResolver.getReference(User.class, taskRequestDTO.getCreatedUserId()),
+                referenceResolver.getReference(User.class, taskRequestDTO.getAssignedUserId()),
+                referenceResolver.getReference(Project.class, taskRequestDTO.getProjectId()));
+        // the id is generated on persist; with a preset id and no version yet the task would look detached
+        task.setId(null);
 
-                // Convert LocalDate to ZonedDateTime
-                if (taskRequestDTO.getResolvedDate() != null) {
-                    task.setResolvedDate(taskRequestDTO.getResolvedDate().atStartOfDay(ZoneId.systemDefault()));
-                }
-                if (taskRequestDTO.getDueDate() != null) {
-                    task.setDueDate(taskRequestDTO.getDueDate().atTime(23, 59, 59).atZone(ZoneId.systemDefault()));
-                }
+        // Convert LocalDate to ZonedDateTime
+        if (taskRequestDTO.getResolvedDate() != null) {
+            task.setResolvedDate(taskRequestDTO.getResolvedDate().atStartOfDay(ZoneId.systemDefault()));
+        }
+        if (taskRequestDTO.getDueDate() != null) {
+            task.setDueDate(taskRequestDTO.getDueDate().atTime(23, 59, 59).atZone(ZoneId.systemDefault()));
+        }
 
-                Task saveTask = taskRepo.save(task);
-                activityLoggerService.logActivity(EntityType.TASK, saveTask.getId(), ActionType.CREATED, saveTask.getCreatedUser().getId());
-                eventPublisher.publishEvent(new GenericEvent<>(this, saveTask, EntityType.TASK, "Created"));
-                return TaskMapper.toTaskResponseDTO(saveTask, ResponseStatus.SUCCESSFULLY_CREATED);
-            } else {
-                logger.info("Project information Found {}", taskRequestDTO);
-                return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.PROJECT_ID_NOT_FOUND);
-            }
-        } else {
-            logger.info("Created User information not Found {}", taskRequestDTO);
-            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_LEVEL_CREATED_USER_NOT_FOUND);
+        Task saveTask = taskRepo.save(task);
+        if (taskRequestDTO.getAttachments() != null) {
+            attachmentService.createAttachments(Map.of(saveTask.getId(), taskRequestDTO.getAttachments()));
         }
+        boardSummaryService.onTaskCreated(saveTask);
+        dueDateScheduler.track(saveTask);
+        activityLoggerService.logActivity(EntityType.TASK, saveTask.getId(), ActionType.CREATED, saveTask.getCreatedUser().getId());
+        eventPublisher.publishEvent(new GenericEvent<>(this, saveTask, EntityType.TASK, "Created"));
+        return attachmentService.fillAttachments(TaskMapper.toTaskResponseDTO(saveTask, ResponseStatus.SUCCESSFULLY_CREATED));
     }
 
 
     @Override
     public TaskResponseDTO update(UUID taskId, TaskRequestDTO taskRequestDTO) {
+        return update(taskId, taskRequestDTO, null);
+    }
+
+    /**
+     * Replace a task. When expectedVersion is given, a task changed since that version is not written
+     *
+     * @param taskId          UUID
+     * @param taskRequestDTO  TaskRequestDTO
+     * @param expectedVersion Long, null to skip the check
+     * @return TaskResponseDTO
+     */
+    @Override
+    @Transactional
+    public TaskResponseDTO update(UUID taskId, TaskRequestDTO taskRequestDTO, Long expectedVersion) {
         if (taskId == null) {
             logger.info("Task Id is null, cannot proceed with Task update. {}", taskRequestDTO);
             return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_ID_NOT_FOUND);
@@ -92,63 +151,163 @@ public class TaskServiceImpl implements TaskService {
             logger.info("Task Name from DTO is null, cannot proceed with Task creation. {}", taskRequestDTO);
             return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_NAME_NOT_FOUND);
         }
-        Optional<User> createdUserById = taskRepo.findTaskUserByUserId(taskRequestDTO.getCreatedUserId());
-        if (createdUserById.isPresent()) {
-            User assignedUser = null;
-            if (taskRequestDTO.getAssignedUserId() != null) {
-                Optional<User> assignedUserById = taskRepo.findTaskUserByUserId(taskRequestDTO.getAssignedUserId());
-                if (assignedUserById.isEmpty()) {
-                    logger.info("Assigned User-Not Found  {}", taskRequestDTO);
-                    return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_LEVEL_ASSIGNED_USER_NOT_FOUND);
-                }
-                assignedUser = assignedUserById.get();
-            }
-            Optional<Project> projectById = taskRepo.findProjectById(taskRequestDTO.getProjectId());
-            if (projectById.isPresent()) {
-                Task task = taskRepo.update(taskId, taskRequestDTO, assignedUser, projectById.get());
+        ResponseStatus referenceStatus = checkReferences(taskRequestDTO);
+        if (referenceStatus != null) {
+            logger.info("Task references not found {}: {}", referenceStatus, taskRequestDTO);
+            return TaskMapper.toTaskResponseDTO(new Task(), referenceStatus);
+        }
+        Task existingTask = taskRepo.findById(taskId);
+        if (existingTask == null) {
+            logger.info("Task-Not Found {}", taskId);
+            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.INVALID_INFORMATION_TASK_DETAILS_NOT_FOUND);
+        }
+        if (isStale(existingTask, expectedVersion)) {
+            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_VERSION_MISMATCH);
+        }
+        // snapshot the board counters before the entity is modified in place
+        UUID previousProjectId = existingTask.getProject().getId();
+        List<String> previousBuckets = boardSummaryService.bucketsOf(existingTask);
+        Task task = taskRepo.update(taskId, taskRequestDTO, referenceResolver.getReference(User.class, taskRequestDTO.getAssignedUserId()),
+                referenceResolver.getReference(Project.class, taskRequestDTO.getProjectId()));
 
-                // Convert LocalDate to ZonedDateTime
-                if (taskRequestDTO.getResolvedDate() != null) {
-                    task.setResolvedDate(taskRequestDTO.getResolvedDate().atStartOfDay(ZoneId.systemDefault()));
-                }
-                if (taskRequestDTO.getDueDate() != null) {
-                    task.setDueDate(taskRequestDTO.getDueDate().atTime(23, 59, 59).atZone(ZoneId.systemDefault()));
-                }
+        // Convert LocalDate to ZonedDateTime
+        if (taskRequestDTO.getResolvedDate() != null) {
+            task.setResolvedDate(taskRequestDTO.getResolvedDate().atStartOfDay(ZoneId.systemDefault()));
+        }
+        if (taskRequestDTO.getDueDate() != null) {
+            task.setDueDate(taskRequestDTO.getDueDate().atTime(23, 59, 59).atZone(ZoneId.systemDefault()));
+        }
+
+        attachmentService.updateAttachments(Map.of(task.getId(), taskRequestDTO));
+        boardSummaryService.onTaskUpdated(previousProjectId, previousBuckets, task);
+        dueDateScheduler.track(task);
+        activityLoggerService.logActivity(EntityType.TASK, task.getId(), ActionType.UPDATED, task.getCreatedUser().getId());
+        eventPublisher.publishEvent(new GenericEvent<>(this, task, EntityType.TASK, "Updated"));
+        return attachmentService.fillAttachments(TaskMapper.toTaskResponseDTO(task, ResponseStatus.SUCCESSFULLY_UPDATED));
+    }
+
+    /**
+     * Apply the non-null fields of the patch. Only the changed columns are written, and the UPDATE is
+     * guarded by the version column, so a concurrent write fails instead of being overwritten.
+     *
+     * @param taskId          UUID
+     * @param taskPatchDTO    TaskPatchDTO
+     * @param expectedVersion Long, null to skip the check
+     * @return TaskResponseDTO
+     */
+    @Override
+    @Transactional
+    public TaskResponseDTO patch(UUID taskId, TaskPatchDTO taskPatchDTO, Long expectedVersion) {
+        if (taskId == null) {
+            logger.info("Task Id is null, cannot proceed with Task patch. {}", taskPatchDTO);
+            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_ID_NOT_FOUND);
+        }
+        if (taskPatchDTO.getTaskStatus() != null && !TaskStatus.isValidName(taskPatchDTO.getTaskStatus())) {
+            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_STATUS_NOT_VALID);
+        }
+        if (taskPatchDTO.getPriority() != null && !Priority.isValidName(taskPatchDTO.getPriority())) {
+            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_PRIORITY_NOT_VALID);
+        }
+        Task task = taskRepo.findById(taskId);
+        if (task == null) {
+            logger.info("Task-Not Found {}", taskId);
+            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.INVALID_INFORMATION_TASK_DETAILS_NOT_FOUND);
+        }
+        if (isStale(task, expectedVersion)) {
+            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_VERSION_MISMATCH);
+        }
+        ReferenceResolver.References references = referenceResolver.resolve(Map.of(
+                User.class, Collections.singletonList(taskPatchDTO.getAssignedUserId()),
+                Project.class, Collections.singletonList(taskPatchDTO.getProjectId())));
+        if (taskPatchDTO.getAssignedUserId() != null && !references.exists(User.class, taskPatchDTO.getAssignedUserId())) {
+            logger.info("Assigned User-Not Found  {}", taskPatchDTO);
+            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_LEVEL_ASSIGNED_USER_NOT_FOUND);
+        }
+        if (taskPatchDTO.getProjectId() != null && !references.exists(Project.class, taskPatchDTO.getProjectId())) {
+            logger.info("Project-Not Found {}", taskPatchDTO);
+            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.PROJECT_ID_NOT_FOUND);
+        }
+        // snapshot the board counters before the entity is modified in place
+        UUID previousProjectId = task.getProject().getId();
+        List<String> previousBuckets = boardSummaryService.bucketsOf(task);
 
-                activityLoggerService.logActivity(EntityType.TASK, task.getId(), ActionType.UPDATED, task.getCreatedUser().getId());
-                eventPublisher.publishEvent(new GenericEvent<>(this, task, EntityType.TASK, "Updated"));
-                return TaskMapper.toTaskResponseDTO(task, ResponseStatus.SUCCESSFULLY_UPDATED);
-            } else {
-                logger.info("Project-Not Found {}", taskRequestDTO);
-                return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.PROJECT_ID_NOT_FOUND);
+        if (taskPatchDTO.getName() != null) {
+            task.setName(taskPatchDTO.getName());
+        }
+        if (taskPatchDTO.getDescription() != null) {
+            task.setDescription(taskPatchDTO.getDescription());
+        }
+        if (taskPatchDTO.getResolvedDate() != null) {
+            task.setResolvedDate(taskPatchDTO.getResolvedDate().atStartOfDay(ZoneId.systemDefault()));
+        }
+        if (taskPatchDTO.getDueDate() != null) {
+            ZonedDateTime dueDate = taskPatchDTO.getDueDate().atTime(23, 59, 59).atZone(ZoneId.systemDefault());
+            if (!DateAndTime.isSameInstant(dueDate, task.getDueDate())) {
+                task.setOverdueDate(null);
             }
-        } else {
-            logger.info("Created User-Not Found  {}", taskRequestDTO);
-            return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_LEVEL_CREATED_USER_NOT_FOUND);
+            task.setDueDate(dueDate);
+        }
+        if (taskPatchDTO.getTaskStatus() != null) {
+            task.setTaskStatus(TaskStatus.fromName(taskPatchDTO.getTaskStatus()).name());
         }
+        if (taskPatchDTO.getPriority() != null) {
+            task.setPriority(Priority.fromName(taskPatchDTO.getPriority()).name());
+        }
+        if (taskPatchDTO.getAssignedUserId() != null) {
+            task.setAssignedUser(referenceResolver.getReference(User.class, taskPatchDTO.getAssignedUserId()));
+        }
+        if (taskPatchDTO.getProjectId() != null) {
+            task.setProject(referenceResolver.getReference(Project.class, taskPatchDTO.getProjectId()));
+        }
+        task = taskRepo.update(task);
+
+        if (taskPatchDTO.getAddedAttachments() != null || taskPatchDTO.getRemovedAttachments() != null) {
+            attachmentService.updateAttachments(Map.of(task.getId(), TaskRequestDTO.builder()
+                    .addedAttachments(taskPatchDTO.getAddedAttachments())
+                    .removedAttachments(taskPatchDTO.getRemovedAttachments())
+                    .build()));
+        }
+        boardSummaryService.onTaskUpdated(previousProjectId, previousBuckets, task);
+        dueDateScheduler.track(task);
+        activityLoggerService.logActivity(EntityType.TASK, task.getId(), ActionType.UPDATED, task.getCreatedUser().getId());
+        eventPublisher.publishEvent(new GenericEvent<>(this, task, EntityType.TASK, "Updated"));
+        return attachmentService.fillAttachments(TaskMapper.toTaskResponseDTO(task, ResponseStatus.SUCCESSFULLY_UPDATED));
     }
 
+    /**
+     * Delete a task together with its comments. The comments go first with one set-based DELETE, in the
+     * same transaction, so a task with a long thread costs two statements instead of one per comment
+     *
+     * @param taskId task id
+     * @return TaskResponseDTO
+     */
     @Override
+    @Transactional
     public TaskResponseDTO delete(UUID taskId) {
         if (taskId == null) {
             logger.info("Task ID is null, cannot proceed with delete.");
             return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.TASK_ID_NOT_FOUND);
         }
+        commentService.deleteCommentsByTaskId(taskId);
         Task myTask = this.taskRepo.delete(taskId);
         if (myTask == null) {
             return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.INVALID_INFORMATION_TASK_DETAILS_NOT_FOUND);
         }
+        boardSummaryService.onTaskDeleted(myTask);
+        dueDateScheduler.untrack(myTask.getId());
         activityLoggerService.logActivity(EntityType.TASK, myTask.getId(), ActionType.DELETED, SecurityConfig.getCurrentUser().getId());
         eventPublisher.publishEvent(new GenericEvent<>(this, myTask, EntityType.TASK, "Deleted"));
         return TaskMapper.toTaskResponseDTO(myTask, ResponseStatus.SUCCESSFULLY_DELETED);
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<TaskResponseDTO> findAll() {
-        return TaskMapper.toTaskResponseDTOs(taskRepo.findAll(), ResponseStatus.SUCCESSFULLY_FOUND);
+        return attachmentService.fillAttachments(TaskMapper.toTaskResponseDTOs(taskRepo.findAll(), ResponseStatus.SUCCESSFULLY_FOUND));
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public TaskResponseDTO getById(UUID taskId) {
         if (taskId == null) {
             logger.info("Task ID is null, cannot proceed with search.");
@@ -158,23 +317,295 @@ public class TaskServiceImpl implements TaskService {
         if (myTask == null) {
             return TaskMapper.toTaskResponseDTO(new Task(), ResponseStatus.INVALID_INFORMATION_TASK_DETAILS_NOT_FOUND);
         }
-        return TaskMapper.toTaskResponseDTO(myTask, ResponseStatus.SUCCESSFULLY_FOUND);
+        return attachmentService.fillAttachments(TaskMapper.toTaskResponseDTO(myTask, ResponseStatus.SUCCESSFULLY_FOUND));
     }
 
     @Override
-    public List<TaskResponseDTO> getByAssignedId(UUID userId) {
-        return TaskMapper.toTaskResponseDTOs(taskRepo.findByAssignedUserId(userId), ResponseStatus.SUCCESSFULLY_FOUND);
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public List<TaskResponseDTO> getByAssignedId(UUID userId, int page, int size) {
+        return attachmentService.fillAttachments(taskRepo.findByAssignedUserId(userId, toPageRequest(page, size)));
     }
 
     @Override
-    public List<TaskResponseDTO> getByCreatedUserId(UUID createdUserId) {
-        return TaskMapper.toTaskResponseDTOs(taskRepo.findByCreatedUserId(createdUserId), ResponseStatus.SUCCESSFULLY_FOUND);
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public List<TaskResponseDTO> getByCreatedUserId(UUID createdUserId, int page, int size) {
+        return attachmentService.fillAttachments(taskRepo.findByCreatedUserId(createdUserId, toPageRequest(page, size)));
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public List<TaskResponseDTO> findTasksByProjectId(UUID projectId) {
         List<Task> tasks = taskRepo.findTasksByProjectId(projectId);
-        return TaskMapper.toTaskResponseDTOs(tasks, ResponseStatus.SUCCESSFULLY_FOUND);
+        return attachmentService.fillAttachments(TaskMapper.toTaskResponseDTOs(tasks, ResponseStatus.SUCCESSFULLY_FOUND));
+    }
+
+    @Override
+    public ProjectBoardSummaryDTO getBoardSummary(UUID projectId) {
+        return boardSummaryService.getBoardSummary(projectId);
+    }
+
+    @Override
+    public CursorPageDTO<TaskResponseDTO> search(TaskSearchCriteriaDTO criteria) {
+        if (criteria.getSortBy() == null) {
+            criteria.setSortBy(TaskSearchCriteriaDTO.SORT_CREATED_DATE);
+        } else if (!TaskSearchCriteriaDTO.SORT_CREATED_DATE.equals(criteria.getSortBy())
+                && !TaskSearchCriteriaDTO.SORT_DUE_DATE.equals(criteria.getSortBy())) {
+            throw new IllegalArgumentException("Unsupported sort field: " + criteria.getSortBy());
+        }
+        if (criteria.getTaskStatus() != null) {
+            criteria.setTaskStatus(TaskStatus.fromName(criteria.getTaskStatus()).name());
+        }
+        if (criteria.getPriority() != null) {
+            criteria.setPriority(Priority.fromName(criteria.getPriority()).name());
+        }
+        int size = criteria.getSize() <= 0 ? DEFAULT_SEARCH_PAGE_SIZE : Math.min(criteria.getSize(), MAX_SEARCH_PAGE_SIZE);
+
+        // read one extra row to know whether another page exists without a COUNT query
+        List<Task> tasks = taskRepo.search(criteria, KeysetCursor.decode(criteria.getCursor(), criteria.getSortBy(), criteria.isAscending()), size + 1);
+        boolean hasNext = tasks.size() > size;
+        if (hasNext) {
+            tasks = tasks.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = tasks.getLast();
+            nextCursor = KeysetCursor.encode(criteria.isSortByDueDate() ? last.getDueDate() : last.getCreatedDate(), last.getId(),
+                    criteria.getSortBy(), criteria.isAscending());
+        }
+        List<TaskResponseDTO> items = attachmentService.fillAttachments(TaskMapper.toTaskResponseDTOs(tasks, ResponseStatus.SUCCESSFULLY_FOUND));
+        return new CursorPageDTO<>(items, nextCursor, hasNext, items.size());
+    }
+
+    /**
+     * Apply create, update and move operations in one transaction.
+     * Referenced users, projects and tasks are checked with one IN query each, accepted items are written
+     * with JDBC batches, and rejected items are reported by index without failing the rest of the request.
+     * The tasks are locked when read, so their board deltas hold, and written back guarded by the version they
+     * were read with; an item whose version is given and no longer matches fails with TASK_VERSION_MISMATCH.
+     *
+     * @param bulkRequestDTO TaskBulkRequestDTO
+     * @return TaskBulkResponseDTO
+     */
+    @Override
+    @Transactional
+    public TaskBulkResponseDTO bulk(TaskBulkRequestDTO bulkRequestDTO) {
+        List<TaskBulkItemDTO> items = bulkRequestDTO.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Bulk request must contain at least one item");
+        }
+        if (items.size() > MAX_BULK_ITEMS) {
+            throw new IllegalArgumentException("Bulk request cannot contain more than " + MAX_BULK_ITEMS + " items");
+        }
+        Set<UUID> userIds = new HashSet<>();
+        Set<UUID> projectIds = new HashSet<>();
+        Set<UUID> taskIds = new HashSet<>();
+        for (TaskBulkItemDTO item : items) {
+            if (item == null) {
+                continue;
+            }
+            addIfPresent(taskIds, item.getTaskId());
+            if (item.getTask() != null) {
+                addIfPresent(userIds, item.getTask().getCreatedUserId());
+                addIfPresent(userIds, item.getTask().getAssignedUserId());
+                addIfPresent(projectIds, item.getTask().getProjectId());
+            }
+        }
+        ReferenceResolver.References references = referenceResolver.resolve(Map.of(User.class, userIds, Project.class, projectIds));
+        Set<UUID> existingUserIds = references.existingIds(User.class);
+        Set<UUID> existingProjectIds = references.existingIds(Project.class);
+        Map<UUID, TaskSnapshotDTO> snapshots = new HashMap<>();
+        taskRepo.findSnapshotsByIdsForUpdate(taskIds).forEach(snapshot -> snapshots.put(snapshot.getId(), snapshot));
+
+        List<Task> createdTasks = new ArrayList<>();
+        List<Task> updatedTasks = new ArrayList<>();
+        List<Task> movedTasks = new ArrayList<>();
+        Map<UUID, UUID> createdUserByTaskId = new LinkedHashMap<>();
+        Map<UUID, UUID> updatedUserByTaskId = new LinkedHashMap<>();
+        Map<UUID, List<TaskAttachmentDTO>> createdAttachments = new HashMap<>();
+        Map<UUID, TaskRequestDTO> updatedAttachments = new HashMap<>();
+        Map<UUID, Map<String, Long>> boardDeltas = new HashMap<>();
+        List<TaskSnapshotDTO> writtenSnapshots = new ArrayList<>();
+        Set<UUID> writtenTaskIds = new HashSet<>();
+        List<TaskBulkItemResultDTO> results = new ArrayList<>(items.size());
+
+        for (int index = 0; index < items.size(); index++) {
+            TaskBulkItemDTO item = items.get(index);
+            ResponseStatus status = validateBulkItem(item, existingUserIds, existingProjectIds, snapshots, writtenTaskIds);
+            if (status != null) {
+                results.add(new TaskBulkItemResultDTO(index, item == null ? null : item.getTaskId(), status, ResponseHandler.convertResponseStatusToError(status)));
+                continue;
+            }
+            TaskRequestDTO taskRequestDTO = item.getTask();
+            TaskSnapshotDTO snapshot = snapshots.get(item.getTaskId());
+            switch (item.getOperation()) {
+                case CREATE -> {
+                    Task task = TaskMapper.toTask(taskRequestDTO, referenceResolver.getReference(User.class, taskRequestDTO.getCreatedUserId()),
+                            referenceResolver.getReference(User.class, taskRequestDTO.getAssignedUserId()), referenceResolver.getReference(Project.class, taskRequestDTO.getProjectId()));
+                    createdTasks.add(task);
+                    addBoardDeltas(boardDeltas, taskRequestDTO.getProjectId(), boardSummaryService.bucketsOf(task), 1);
+                    writtenSnapshots.add(toSnapshot(task, task.getDueDate(), null));
+                    createdUserByTaskId.put(task.getId(), taskRequestDTO.getCreatedUserId());
+                    if (taskRequestDTO.getAttachments() != null) {
+                        createdAttachments.put(task.getId(), taskRequestDTO.getAttachments());
+                    }
+                    results.add(new TaskBulkItemResultDTO(index, task.getId(), ResponseStatus.SUCCESSFULLY_CREATED, null));
+                }
+                case UPDATE -> {
+                    Task task = TaskMapper.toTask(taskRequestDTO, referenceResolver.getReference(User.class, snapshot.getCreatedUserId()),
+                            referenceResolver.getReference(User.class, taskRequestDTO.getAssignedUserId()), referenceResolver.getReference(Project.class, taskRequestDTO.getProjectId()));
+                    task.setId(snapshot.getId());
+                    task.setVersion(snapshot.getVersion());
+                    updatedTasks.add(task);
+                    // a missing due date keeps the stored one, and moving it clears the overdue flag, as the UPDATE does
+                    ZonedDateTime dueDate = task.getDueDate() != null ? task.getDueDate() : snapshot.getDueDate();
+                    ZonedDateTime overdueDate = DateAndTime.isSameInstant(dueDate, snapshot.getDueDate()) ? snapshot.getOverdueDate() : null;
+                    addBoardDeltas(boardDeltas, snapshot.getProjectId(), boardSummaryService.bucketsOf(snapshot.getTaskStatus(), snapshot.getPriority(), snapshot.getOverdueDate()), -1);
+                    addBoardDeltas(boardDeltas, taskRequestDTO.getProjectId(), boardSummaryService.bucketsOf(task.getTaskStatus(), task.getPriority(), overdueDate), 1);
+                    writtenSnapshots.add(toSnapshot(task, dueDate, overdueDate));
+                    updatedUserByTaskId.put(task.getId(), snapshot.getCreatedUserId());
+                    updatedAttachments.put(task.getId(), taskRequestDTO);
+                    results.add(new TaskBulkItemResultDTO(index, task.getId(), ResponseStatus.SUCCESSFULLY_UPDATED, null));
+                }
+                case MOVE -> {
+                    UUID projectId = taskRequestDTO.getProjectId() != null ? taskRequestDTO.getProjectId() : snapshot.getProjectId();
+                    Task task = new Task();
+                    task.setId(snapshot.getId());
+                    task.setVersion(snapshot.getVersion());
+                    task.setTaskStatus(taskRequestDTO.getTaskStatus());
+                    task.setPriority(snapshot.getPriority());
+                    task.setDueDate(snapshot.getDueDate());
+                    task.setOverdueDate(snapshot.getOverdueDate());
+                    task.setProject(referenceResolver.getReference(Project.class, projectId));
+                    task.setCreatedUser(referenceResolver.getReference(User.class, snapshot.getCreatedUserId()));
+                    movedTasks.add(task);
+                    addBoardDeltas(boardDeltas, snapshot.getProjectId(), boardSummaryService.bucketsOf(snapshot.getTaskStatus(), snapshot.getPriority(), snapshot.getOverdueDate()), -1);
+                    addBoardDeltas(boardDeltas, projectId, boardSummaryService.bucketsOf(task), 1);
+                    writtenSnapshots.add(toSnapshot(task, task.getDueDate(), task.getOverdueDate()));
+                    updatedUserByTaskId.put(task.getId(), snapshot.getCreatedUserId());
+                    results.add(new TaskBulkItemResultDTO(index, task.getId(), ResponseStatus.SUCCESSFULLY_UPDATED, null));
+                }
+            }
+        }
+
+        taskRepo.insertAll(createdTasks);
+        taskRepo.updateAll(updatedTasks);
+        taskRepo.moveAll(movedTasks);
+        attachmentService.createAttachments(createdAttachments);
+        attachmentService.updateAttachments(updatedAttachments);
+        boardSummaryService.applyDeltas(boardDeltas);
+        dueDateScheduler.trackAll(writtenSnapshots);
+        if (!createdTasks.isEmpty()) {
+            activityLoggerService.logActivities(EntityType.TASK, ActionType.CREATED, createdUserByTaskId);
+            eventPublisher.publishEvent(new GenericEvent<>(this, createdTasks, EntityType.TASK, "Created"));
+        }
+        if (!updatedUserByTaskId.isEmpty()) {
+            List<Task> changedTasks = new ArrayList<>(updatedTasks);
+            changedTasks.addAll(movedTasks);
+            activityLoggerService.logActivities(EntityType.TASK, ActionType.UPDATED, updatedUserByTaskId);
+            eventPublisher.publishEvent(new GenericEvent<>(this, changedTasks, EntityType.TASK, "Updated"));
+        }
+        int succeeded = createdTasks.size() + updatedTasks.size() + movedTasks.size();
+        logger.info("Bulk task request applied: {} succeeded, {} failed", succeeded, items.size() - succeeded);
+        return new TaskBulkResponseDTO(succeeded, items.size() - succeeded, results);
+    }
+
+    private static TaskSnapshotDTO toSnapshot(Task task, ZonedDateTime dueDate, ZonedDateTime overdueDate) {
+        return new TaskSnapshotDTO(task.getId(), task.getProject().getId(), task.getCreatedUser().getId(),
+                task.getTaskStatus(), task.getPriority(), dueDate, overdueDate, task.getVersion());
+    }
+
+    /**
+     * Check a bulk item against the pre-loaded ids, return null when it can be written
+     */
+    private ResponseStatus validateBulkItem(TaskBulkItemDTO item, Set<UUID> existingUserIds, Set<UUID> existingProjectIds,
+                                            Map<UUID, TaskSnapshotDTO> snapshots, Set<UUID> writtenTaskIds) {
+        if (item == null || item.getOperation() == null) {
+            return ResponseStatus.TASK_BULK_OPERATION_NOT_FOUND;
+        }
+        boolean isCreate = item.getOperation() == TaskBulkOperation.CREATE;
+        if (!isCreate) {
+            if (item.getTaskId() == null) {
+                return ResponseStatus.TASK_ID_NOT_FOUND;
+            }
+            if (!snapshots.containsKey(item.getTaskId())) {
+                return ResponseStatus.INVALID_INFORMATION_TASK_DETAILS_NOT_FOUND;
+            }
+            if (item.getVersion() != null && !item.getVersion().equals(snapshots.get(item.getTaskId()).getVersion())) {
+                return ResponseStatus.TASK_VERSION_MISMATCH;
+            }
+        }
+        TaskRequestDTO taskRequestDTO = item.getTask();
+        if (taskRequestDTO == null || !TaskStatus.isValidName(taskRequestDTO.getTaskStatus())) {
+            return ResponseStatus.TASK_STATUS_NOT_VALID;
+        }
+        if (item.getOperation() == TaskBulkOperation.MOVE) {
+            if (taskRequestDTO.getProjectId() != null && !existingProjectIds.contains(taskRequestDTO.getProjectId())) {
+                return ResponseStatus.PROJECT_ID_NOT_FOUND;
+            }
+        } else {
+            if (taskRequestDTO.getName() == null || taskRequestDTO.getName().isEmpty()) {
+                return ResponseStatus.TASK_NAME_NOT_FOUND;
+            }
+            if (taskRequestDTO.getCreatedUserId() == null || !existingUserIds.contains(taskRequestDTO.getCreatedUserId())) {
+                return ResponseStatus.TASK_LEVEL_CREATED_USER_NOT_FOUND;
+            }
+            if (taskRequestDTO.getAssignedUserId() == null || !existingUserIds.contains(taskRequestDTO.getAssignedUserId())) {
+                return ResponseStatus.TASK_LEVEL_ASSIGNED_USER_NOT_FOUND;
+            }
+            if (taskRequestDTO.getProjectId() == null || !existingProjectIds.contains(taskRequestDTO.getProjectId())) {
+                return ResponseStatus.PROJECT_ID_NOT_FOUND;
+            }
+            if (!Priority.isValidName(taskRequestDTO.getPriority())) {
+                return ResponseStatus.TASK_PRIORITY_NOT_VALID;
+            }
+        }
+        // batches are applied per operation, so the same task cannot be written twice in one request
+        if (!isCreate && !writtenTaskIds.add(item.getTaskId())) {
+            return ResponseStatus.TASK_BULK_DUPLICATE_TASK_ID;
+        }
+        return null;
+    }
+
+    /**
+     * Check the created user, assigned user and project of a request with one query, return null when all exist
+     */
+    private ResponseStatus checkReferences(TaskRequestDTO taskRequestDTO) {
+        ReferenceResolver.References references = referenceResolver.resolve(Map.of(
+                User.class, Arrays.asList(taskRequestDTO.getCreatedUserId(), taskRequestDTO.getAssignedUserId()),
+                Project.class, Collections.singletonList(taskRequestDTO.getProjectId())));
+        if (!references.exists(User.class, taskRequestDTO.getCreatedUserId())) {
+            return ResponseStatus.TASK_LEVEL_CREATED_USER_NOT_FOUND;
+        }
+        if (taskRequestDTO.getAssignedUserId() != null && !references.exists(User.class, taskRequestDTO.getAssignedUserId())) {
+            return ResponseStatus.TASK_LEVEL_ASSIGNED_USER_NOT_FOUND;
+        }
+        if (!references.exists(Project.class, taskRequestDTO.getProjectId())) {
+            return ResponseStatus.PROJECT_ID_NOT_FOUND;
+        }
+        return null;
+    }
+
+    private static boolean isStale(Task task, Long expectedVersion) {
+        if (expectedVersion == null || expectedVersion.equals(task.getVersion())) {
+            return false;
+        }
+        logger.info("Task {} is at version {}, the request expected version {}", task.getId(), task.getVersion(), expectedVersion);
+        return true;
+    }
+
+    private static PageRequest toPageRequest(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), size <= 0 ? DEFAULT_SEARCH_PAGE_SIZE : Math.min(size, MAX_SEARCH_PAGE_SIZE));
+    }
+
+    private static void addIfPresent(Set<UUID> ids, UUID id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    private static void addBoardDeltas(Map<UUID, Map<String, Long>> boardDeltas, UUID projectId, List<String> buckets, long delta) {
+        Map<String, Long> projectDeltas = boardDeltas.computeIfAbsent(projectId, id -> new HashMap<>());
+        buckets.forEach(bucket -> projectDeltas.merge(bucket, delta, Long::sum));
     }
 
 }
@@ -1,5 +1,6 @@
 package fs19.java.backend.application;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.user.UserCreateDTO;
 import fs19.java.backend.application.dto.user.UserReadDTO;
 import fs19.java.backend.application.mapper.UserMapper;
@@ -8,12 +9,15 @@ import fs19.java.backend.application.service.UserService;
 import fs19.java.backend.config.URLParameterExtractor;
 import fs19.java.backend.domain.abstraction.UserRepository;
 import fs19.java.backend.domain.entity.*;
+import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.domain.entity.enums.ActionType;
 import fs19.java.backend.domain.entity.enums.EntityType;
 import fs19.java.backend.infrastructure.JpaRepositories.InvitationJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.RoleJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceUserJpaRepo;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.infrastructure.KeysetPager.Listing;
 import fs19.java.backend.presentation.shared.exception.InvalidInvitationFoundException;
 import fs19.java.backend.presentation.shared.exception.UserNotFoundException;
 import fs19.java.backend.presentation.shared.exception.UserValidationException;
@@ -29,12 +33,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @Slf4j
 public class UserServiceImpl implements UserService {
 
     private static final Logger logger = LogManager.getLogger(UserServiceImpl.class);
+    private static final Listing<User> USERS = Listing.of(User.class);
     private static final String ERROR_MESSAGE = "User not found with ID ";
 
     private final UserRepository userRepository;
@@ -45,8 +51,9 @@ public class UserServiceImpl implements UserService {
     private final ActivityLoggerService activityLoggerService;
 
     private final PasswordEncoder passwordEncoder;
+    private final KeysetPager keysetPager;
 
-    public UserServiceImpl(UserRepository userRepository, InvitationJpaRepo invitationJpaRepo, WorkspaceJpaRepo workspaceJpaRepo, RoleJpaRepo roleJpaRepo, WorkspaceUserJpaRepo workspaceUserJpaRepo, ActivityLoggerService activityLoggerService, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, InvitationJpaRepo invitationJpaRepo, WorkspaceJpaRepo workspaceJpaRepo, RoleJpaRepo roleJpaRepo, WorkspaceUserJpaRepo workspaceUserJpaRepo, ActivityLoggerService activityLoggerService, PasswordEncoder passwordEncoder, KeysetPager keysetPager) {
         this.userRepository = userRepository;
         this.invitationJpaRepo = invitationJpaRepo;
         this.workspaceJpaRepo = workspaceJpaRepo;
@@ -54,6 +61,7 @@ public class UserServiceImpl implements UserService {
         this.workspaceUserJpaRepo = workspaceUserJpaRepo;
         this.activityLoggerService = activityLoggerService;
         this.passwordEncoder = passwordEncoder;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -143,6 +151,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public UserReadDTO findUserById(UUID id) {
         logger.info("Finding user by ID: {}", id);
 
@@ -155,16 +164,17 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserReadDTO> findAllUsers() {
-        logger.info("Finding all users");
-
-        List<User> users = userRepository.findAllUsers();
-        List<UserReadDTO> userReadDTOs = users.stream()
-                .map(UserMapper::toReadDTO)
-                .toList();
-        logger.info("Users found: {}", userReadDTOs);
-        return userReadDTOs;
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public CursorPageDTO<UserReadDTO> findAllUsers(String cursor, int size) {
+        logger.info("Retrieving a page of users after cursor {}", cursor);
+        return keysetPager.page(USERS, cursor, size, UserMapper::toReadDTO);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<UserReadDTO> sink) {
+        logger.info("Exporting all users");
+        keysetPager.export(USERS, UserMapper::toReadDTO, sink);
     }
 
     @Override
@@ -1,9 +1,12 @@
 package fs19.java.backend.application;
 
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.workspace.WorkspaceRequestDTO;
 import fs19.java.backend.application.dto.workspace.WorkspaceResponseDTO;
 import fs19.java.backend.application.dto.workspace.WorkspaceUpdateDTO;
 import fs19.java.backend.application.mapper.WorkspaceMapper;
+import fs19.java.backend.application.service.DeletionJobService;
 import fs19.java.backend.application.service.WorkspaceService;
 import fs19.java.backend.config.DataLoader;
 import fs19.java.backend.domain.entity.Company;
@@ -13,6 +16,8 @@ import fs19.java.backend.domain.entity.WorkspaceUser;
 import fs19.java.backend.domain.entity.enums.ActionType;
 import fs19.java.backend.domain.entity.enums.EntityType;
 import fs19.java.backend.infrastructure.JpaRepositories.*;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.infrastructure.KeysetPager.Listing;
 import fs19.java.backend.presentation.shared.exception.CompanyNotFoundException;
 import fs19.java.backend.presentation.shared.exception.InvalidWorkspaceException;
 import fs19.java.backend.presentation.shared.exception.UserNotFoundException;
@@ -20,16 +25,19 @@ import fs19.java.backend.presentation.shared.exception.WorkspaceNotFoundExceptio
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class WorkspaceServiceImpl implements WorkspaceService {
 
     private static final Logger logger = LogManager.getLogger(WorkspaceServiceImpl.class);
+    private static final Listing<Workspace> WORKSPACES = Listing.of(Workspace.class).fetching(Workspace.WITH_COMPANY_AND_CREATOR);
 
     private static final String WORKSPACE_NOT_FOUND_MESSAGE = "Workspace with ID %s not found";
     private static final String COMPANY_NOT_FOUND_MESSAGE = "Company with ID %s not found";
@@ -42,8 +50,11 @@ public class WorkspaceServiceImpl implements WorkspaceService {
     private final ActivityLoggerService activityLoggerService;
     private final WorkspaceUserJpaRepo workspaceUserJpaRepo;
     private final RoleJpaRepo roleJpaRepo;
+    private final KeysetPager keysetPager;
+    private final DeletionJobService deletionJobService;
 
-    public WorkspaceServiceImpl(WorkspaceJpaRepo workspaceRepository, WorkspaceMapper workspaceMapper, UserJpaRepo userRepository, CompanyJpaRepo companyRepository, ActivityLoggerService activityLoggerService, WorkspaceUserJpaRepo workspaceUserJpaRepo, RoleJpaRepo roleJpaRepo) {
+    public WorkspaceServiceImpl(WorkspaceJpaRepo workspaceRepository, WorkspaceMapper workspaceMapper, UserJpaRepo userRepository, CompanyJpaRepo companyRepository, ActivityLoggerService activityLoggerService, WorkspaceUserJpaRepo workspaceUserJpaRepo, RoleJpaRepo roleJpaRepo,
+                                DeletionJobService deletionJobService, KeysetPager keysetPager) {
         this.workspaceRepository = workspaceRepository;
         this.workspaceMapper = workspaceMapper;
         this.userRepository = userRepository;
@@ -51,6 +62,8 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         this.activityLoggerService = activityLoggerService;
         this.workspaceUserJpaRepo = workspaceUserJpaRepo;
         this.roleJpaRepo = roleJpaRepo;
+        this.deletionJobService = deletionJobService;
+        this.keysetPager = keysetPager;
     }
 
     @Override
@@ -122,6 +135,7 @@ public class WorkspaceServiceImpl implements WorkspaceService {
     }
 
     @Override
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
     public WorkspaceResponseDTO getWorkspaceById(UUID id) {
         logger.info("Retrieving workspace with ID: {}", id);
         Workspace workspace = workspaceRepository.findById(id)
@@ -131,26 +145,29 @@ public class WorkspaceServiceImpl implements WorkspaceService {
     }
 
     @Override
-    public List<WorkspaceResponseDTO> getAllWorkspaces() {
-        logger.info("Retrieving all workspaces");
-        List<WorkspaceResponseDTO> workspaces = workspaceRepository.findAll().stream()
-                .map(workspaceMapper::toDTO)
-                .collect(Collectors.toList());
-        logger.info("All workspaces retrieved successfully");
-        return workspaces;
+    @Transactional(readOnly = true, noRollbackFor = Exception.class)
+    public CursorPageDTO<WorkspaceResponseDTO> getAllWorkspaces(String cursor, int size) {
+        logger.info("Retrieving a page of workspaces after cursor {}", cursor);
+        return keysetPager.page(WORKSPACES, cursor, size, workspaceMapper::toDTO);
     }
 
     @Override
-    public void deleteWorkspace(UUID id) {
+    @Transactional(readOnly = true)
+    public void exportWorkspaces(Consumer<WorkspaceResponseDTO> sink) {
+        logger.info("Exporting all workspaces");
+        keysetPager.export(WORKSPACES, workspaceMapper::toDTO, sink);
+    }
+
+    @Override
+    public DeletionJobDTO deleteWorkspace(UUID id) {
         logger.info("Deleting workspace with ID: {}", id);
-        if (!workspaceRepository.existsById(id)) {
-            logger.error("Workspace with ID: {} not found for deletion", id);
-            throw new WorkspaceNotFoundException(String.format(WORKSPACE_NOT_FOUND_MESSAGE, id));
-        }
-        workspaceRepository.deleteById(id);
-        logger.info("Workspace with ID: {} deleted successfully", id);
-        //User createdBy = SecurityUtils.getCurrentUser();
-        //activityLoggerService.logActivity(EntityType.COMPANY, id, ActionType.DELETED, createdBy.getId());
+        DeletionJobDTO deletionJob = deletionJobService.requestDeletion(EntityType.WORKSPACE, id)
+                .orElseThrow(() -> {
+                    logger.error("Workspace with ID: {} not found for deletion", id);
+                    return new WorkspaceNotFoundException(String.format(WORKSPACE_NOT_FOUND_MESSAGE, id));
+                });
+        logger.info("Workspace with ID: {} queued for deletion by job {}", id, deletionJob.getId());
+        return deletionJob;
     }
 
     /**
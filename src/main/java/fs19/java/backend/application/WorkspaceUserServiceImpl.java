@@ -1,5 +1,6 @@
 package fs19.java.backend.application;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.workspace_user.WorkspaceUserRequestDTO;
 import fs19.java.backend.application.dto.workspace_user.WorkspaceUserResponseDTO;
 import fs19.java.backend.application.mapper.WorkspaceUserMapper;
@@ -9,51 +10,75 @@ import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.domain.entity.Workspace;
 import fs19.java.backend.domain.entity.WorkspaceUser;
 
+import fs19.java.backend.infrastructure.ReferenceResolver;
 import fs19.java.backend.infrastructure.JpaRepositories.RoleJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceUserJpaRepo;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.infrastructure.KeysetPager.Listing;
 import fs19.java.backend.presentation.shared.exception.WorkspaceUserNotFoundException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 public class WorkspaceUserServiceImpl implements WorkspaceUserService {
 
   private static final Logger logger = LogManager.getLogger(WorkspaceUserServiceImpl.class);
+  private static final Listing<WorkspaceUser> WORKSPACE_USERS = Listing.of(WorkspaceUser.class)
+    .where("e.workspace.deletedAt IS NULL")
+    .fetching(WorkspaceUser.WITH_WORKSPACE_AND_COMPANY);
   private static final String ERROR_MESSAGE = "Workspace User not found with ID ";
 
   private final WorkspaceUserJpaRepo workspaceUserRepository;
+  private final KeysetPager keysetPager;
   @Autowired
   private UserJpaRepo userRepository;
   @Autowired
   private RoleJpaRepo roleRepository;
   @Autowired
   private WorkspaceJpaRepo workspaceRepository;
+  @Autowired
+  private ReferenceResolver referenceResolver;
 
 
   public WorkspaceUserServiceImpl(WorkspaceUserJpaRepo workspaceUsersRepository,
-      UserJpaRepo userRepository, RoleJpaRepo roleRepository, WorkspaceJpaRepo workspaceRepository) {
+      UserJpaRepo userRepository, RoleJpaRepo roleRepository, WorkspaceJpaRepo workspaceRepository, KeysetPager keysetPager) {
     this.workspaceUserRepository = workspaceUsersRepository;
     this.userRepository = userRepository;
     this.roleRepository = roleRepository;
     this.workspaceRepository = workspaceRepository;
+    this.keysetPager = keysetPager;
   }
 
   @Override
   public WorkspaceUserResponseDTO createWorkspaceUser(WorkspaceUserRequestDTO workspaceUsersDTO) {
     logger.info("Creating workspace user with DTO: {}", workspaceUsersDTO);
 
-    User user = findUserById(workspaceUsersDTO.getUserId());
-    Role role = findRoleById(workspaceUsersDTO.getRoleId());
-    Workspace workspace = findWorkspaceById(workspaceUsersDTO.getWorkspaceId());
-    WorkspaceUser workspaceUser = WorkspaceUserMapper.toEntity(user, role, workspace);
+    // user and role are only foreign keys here, the workspace and its company are needed for the response
+    ReferenceResolver.References references = referenceResolver.resolve(Map.of(
+        User.class, Collections.singletonList(workspaceUsersDTO.getUserId()), Role.class, Collections.singletonList(workspaceUsersDTO.getRoleId())));
+    if (!references.exists(User.class, workspaceUsersDTO.getUserId())) {
+      throw new IllegalArgumentException("User not found with ID: " + workspaceUsersDTO.getUserId());
+    }
+    if (!references.exists(Role.class, workspaceUsersDTO.getRoleId())) {
+      throw new IllegalArgumentException("Role not found with ID: " + workspaceUsersDTO.getRoleId());
+    }
+    Workspace workspace = workspaceRepository.findByIdWithCompany(workspaceUsersDTO.getWorkspaceId())
+        .orElseThrow(() -> new IllegalArgumentException("Workspace not found with ID: " + workspaceUsersDTO.getWorkspaceId()));
+    WorkspaceUser workspaceUser = WorkspaceUserMapper.toEntity(
+        referenceResolver.getReference(User.class, workspaceUsersDTO.getUserId()),
+        referenceResolver.getReference(Role.class, workspaceUsersDTO.getRoleId()), workspace);
     workspaceUser = workspaceUserRepository.save(workspaceUser);
     logger.info("Workspace user created and saved: {}", workspaceUser);
     return WorkspaceUserMapper.toDTO(workspaceUser);
@@ -78,6 +103,7 @@ public class WorkspaceUserServiceImpl implements WorkspaceUserService {
   }
 
   @Override
+  @Transactional(readOnly = true, noRollbackFor = Exception.class)
   public WorkspaceUserResponseDTO getWorkspaceUserById(UUID id) {
     logger.info("Getting workspace user with ID: {}", id);
     Optional<WorkspaceUser> workspaceUser = workspaceUserRepository.findById(id);
@@ -87,11 +113,17 @@ public class WorkspaceUserServiceImpl implements WorkspaceUserService {
   }
 
   @Override
-  public List<WorkspaceUserResponseDTO> getAllWorkspacesUsers() {
-    logger.info("Getting all workspace users");
-    return workspaceUserRepository.findAll().stream()
-        .map(WorkspaceUserMapper::toDTO)
-        .toList();
+  @Transactional(readOnly = true, noRollbackFor = Exception.class)
+  public CursorPageDTO<WorkspaceUserResponseDTO> getAllWorkspacesUsers(String cursor, int size) {
+    logger.info("Retrieving a page of workspace users after cursor {}", cursor);
+    return keysetPager.page(WORKSPACE_USERS, cursor, size, WorkspaceUserMapper::toDTO);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportWorkspaceUsers(Consumer<WorkspaceUserResponseDTO> sink) {
+    logger.info("Exporting all workspace users");
+    keysetPager.export(WORKSPACE_USERS, WorkspaceUserMapper::toDTO, sink);
   }
 
   @Override
@@ -105,6 +137,7 @@ public class WorkspaceUserServiceImpl implements WorkspaceUserService {
   }
 
   @Override
+  @Transactional(readOnly = true, noRollbackFor = Exception.class)
   public List<WorkspaceUserResponseDTO> getAllWorkspacesByUserId(UUID userId) {
     logger.info("Getting all workspaces for user ID: {}", userId);
 
@@ -152,7 +185,8 @@ public class WorkspaceUserServiceImpl implements WorkspaceUserService {
   }
 
   private Workspace findWorkspaceById(UUID workspaceId) {
-    return workspaceRepository.findById(workspaceId)
+    // the response names the company of the workspace
+    return workspaceRepository.findByIdWithCompany(workspaceId)
         .orElseThrow(() -> new IllegalArgumentException("Workspace not found with ID: " + workspaceId));
   }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package fs19.java.backend.application.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Tells the other instances to drop a cached entity, or every cached entity of the type when the id is null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationDTO {
+    // instance that sent the message, which skips it when it comes back
+    private UUID origin;
+    private String entityName;
+    private UUID id;
+}
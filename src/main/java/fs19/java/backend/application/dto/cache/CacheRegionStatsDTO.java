@@ -0,0 +1,25 @@
+package fs19.java.backend.application.dto.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsDTO {
+
+    @Schema(type = "string", description = "Name of the second-level cache region", example = "role")
+    private String region;
+    @Schema(type = "integer", format = "int64", description = "Lookups answered by the region since startup")
+    private long hitCount;
+    @Schema(type = "integer", format = "int64", description = "Lookups that went to the database since startup")
+    private long missCount;
+    @Schema(type = "integer", format = "int64", description = "Entries put into the region since startup")
+    private long putCount;
+    @Schema(type = "number", format = "double", description = "Hits out of all lookups, 0 before the first lookup")
+    private double hitRatio;
+}
@@ -0,0 +1,17 @@
+package fs19.java.backend.application.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CommentDeleteResponseDTO {
+
+    @Schema(type = "integer", format = "int32", description = "Number of comments deleted")
+    private int deletedCount;
+}
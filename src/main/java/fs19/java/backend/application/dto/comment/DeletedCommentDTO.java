@@ -0,0 +1,19 @@
+package fs19.java.backend.application.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Row returned by a set-based comment DELETE, enough to log the deletion and update the task and search state
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletedCommentDTO {
+    private UUID id;
+    private UUID taskId;
+    private UUID createdBy;
+}
@@ -0,0 +1,49 @@
+package fs19.java.backend.application.dto.deletion;
+
+import fs19.java.backend.domain.entity.enums.DeletionJobStatus;
+import fs19.java.backend.domain.entity.enums.EntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class DeletionJobDTO {
+
+    @Schema(type = "uuid", format = "uuid", description = "Unique identifier of the deletion job")
+    private UUID id;
+
+    @Schema(type = "string", format = "string", description = "Type of the deleted root: COMPANY, WORKSPACE or PROJECT")
+    private EntityType entityType;
+
+    @Schema(type = "uuid", format = "uuid", description = "Id of the deleted company, workspace or project")
+    private UUID rootId;
+
+    @Schema(type = "string", format = "string", description = "PENDING, RUNNING, COMPLETED or FAILED")
+    private DeletionJobStatus status;
+
+    @Schema(type = "integer", format = "int32", description = "Steps of the deletion plan finished so far")
+    private int completedSteps;
+
+    @Schema(type = "integer", format = "int32", description = "Steps of the deletion plan")
+    private int stepCount;
+
+    @Schema(type = "integer", format = "int64", description = "Rows deleted so far")
+    private long deletedRows;
+
+    @Schema(type = "string", format = "date-time", description = "When the deletion was requested")
+    private ZonedDateTime createdDate;
+
+    @Schema(type = "string", format = "date-time", description = "When the last row was deleted")
+    private ZonedDateTime completedDate;
+
+    @Schema(type = "string", format = "string", description = "Last error, kept while the job is retried")
+    private String error;
+}
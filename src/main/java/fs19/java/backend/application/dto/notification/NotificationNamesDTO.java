@@ -0,0 +1,17 @@
+package fs19.java.backend.application.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Project name and acting user's name used in notification texts, read without loading either entity
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationNamesDTO {
+    private String projectName;
+    private String firstName;
+    private String lastName;
+}
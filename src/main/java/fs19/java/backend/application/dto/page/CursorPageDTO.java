@@ -0,0 +1,37 @@
+package fs19.java.backend.application.dto.page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (cursor) paginated result.
+ * Pass nextCursor back as the cursor parameter to read the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Records of the current page")
+    private List<T> items;
+    @Schema(type = "string", format = "string", description = "Cursor of the next page, null when this is the last page")
+    private String nextCursor;
+    @Schema(type = "boolean", description = "True when more records are available")
+    private boolean hasNext;
+    @Schema(type = "integer", description = "Number of records in the current page")
+    private int size;
+    @Schema(type = "integer", description = "Total number of records, only present when it was requested")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalCount;
+
+    public CursorPageDTO(List<T> items, String nextCursor, boolean hasNext, int size) {
+        this(items, nextCursor, hasNext, size, null);
+    }
+}
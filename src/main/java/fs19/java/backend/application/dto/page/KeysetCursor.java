@@ -0,0 +1,104 @@
+package fs19.java.backend.application.dto.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Opaque keyset cursor holding the sort value and the id of the last returned row, and the order it was read in.
+ * Encoded as URL-safe base64 of "instant|uuid|sortBy:ASC" so clients treat it as a plain token. A cursor is only
+ * accepted for the order it was issued for, as its value means nothing against another sort field or direction.
+ * Listings ordered by id alone use the id-only form, base64 of the uuid.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final Instant value;
+    private final UUID id;
+    private final String order;
+
+    public ZonedDateTime getValueAsDateTime() {
+        return value.atZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * Build the cursor which points after the given row of a listing sorted by the given field and direction
+     *
+     * @param value     ZonedDateTime
+     * @param id        UUID
+     * @param sortBy    String
+     * @param ascending boolean
+     * @return String
+     */
+    public static String encode(ZonedDateTime value, UUID id, String sortBy, boolean ascending) {
+        String raw = value.toInstant() + SEPARATOR + id + SEPARATOR + order(sortBy, ascending);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read a cursor that was produced by encode for the same sort field and direction
+     *
+     * @param cursor    String
+     * @param sortBy    String
+     * @param ascending boolean
+     * @return KeysetCursor, or null when no cursor is given
+     */
+    public static KeysetCursor decode(String cursor, String sortBy, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        KeysetCursor keysetCursor;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(Pattern.quote(SEPARATOR), -1);
+            keysetCursor = new KeysetCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]), parts[2]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        String expected = order(sortBy, ascending);
+        if (!expected.equals(keysetCursor.getOrder())) {
+            throw new IllegalArgumentException("Cursor was issued for order " + keysetCursor.getOrder() + ", not " + expected);
+        }
+        return keysetCursor;
+    }
+
+    private static String order(String sortBy, boolean ascending) {
+        return sortBy + (ascending ? ":ASC" : ":DESC");
+    }
+
+    /**
+     * Build the cursor which points after the row with the given id, for listings ordered by id
+     *
+     * @param id UUID
+     * @return String
+     */
+    public static String encode(UUID id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read a cursor that was produced by encode(UUID)
+     *
+     * @param cursor String
+     * @return UUID, or null when no cursor is given
+     */
+    public static UUID decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
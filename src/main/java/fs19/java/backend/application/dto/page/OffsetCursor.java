@@ -0,0 +1,45 @@
+package fs19.java.backend.application.dto.page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor holding the position of the next row, for results ranked by score, which have no stable key to
+ * continue after. Encoded as URL-safe base64 like KeysetCursor, so clients handle both the same way.
+ */
+public final class OffsetCursor {
+
+    private OffsetCursor() {
+    }
+
+    /**
+     * Build the cursor which points at the given position
+     *
+     * @param offset int
+     * @return String
+     */
+    public static String encode(int offset) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Integer.toString(offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read a cursor that was produced by encode
+     *
+     * @param cursor String
+     * @return int, 0 when no cursor is given
+     */
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            int offset = Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (offset < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return offset;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package fs19.java.backend.application.dto.project;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Partial project update. Only non-null fields are applied, and only the changed columns are written
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectPatchDTO {
+
+  @Schema(type = "string", format = "string", description = "New name of the project", example = "Test Project")
+  @Size(min = 3, max = 45, message = "Project name must be between 3 and 50 characters")
+  private String name;
+
+  @Schema(type = "string", format = "string", description = "New description of the project", example = "Test Description")
+  @Size(max = 100, message = "Project description must be less than 100 characters")
+  private String description;
+
+  @Schema(type = "string", format = "date", description = "Start date of the project in YYYY-MM-DD format")
+  @FutureOrPresent(message = "Start date must be in the present or future")
+  private LocalDate startDate;
+
+  @Schema(type = "string", format = "date", description = "End date of the project in YYYY-MM-DD format")
+  @FutureOrPresent(message = "End date must be in the present or future")
+  private LocalDate endDate;
+
+  @Schema(type = "boolean", description = "New status of the project")
+  private Boolean status;
+}
@@ -22,4 +22,5 @@ public class ProjectReadDTO {
     private String lastName;
     private UUID workspaceId;
     private Boolean status;
+    private Long version;
 }
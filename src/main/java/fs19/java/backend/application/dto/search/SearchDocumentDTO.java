@@ -0,0 +1,24 @@
+package fs19.java.backend.application.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Searchable text of a task or comment with the ids it is filed under, read as a projection.
+ * For a task, id and taskId are the same and body is the description; for a comment, title is the name of its task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocumentDTO {
+    private UUID id;
+    private UUID taskId;
+    private UUID projectId;
+    private UUID workspaceId;
+    private String title;
+    private String body;
+    private Long version;
+}
@@ -0,0 +1,31 @@
+package fs19.java.backend.application.dto.search;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+
+    @Schema(type = "string", description = "Type of the match", example = "TASK", allowableValues = {"TASK", "COMMENT"})
+    private String type;
+    @Schema(type = "string", format = "uuid", description = "Id of the matching task or comment")
+    private UUID id;
+    @Schema(type = "string", format = "uuid", description = "Task the match belongs to")
+    private UUID taskId;
+    @Schema(type = "string", format = "uuid", description = "Project of the task")
+    private UUID projectId;
+    @Schema(type = "string", description = "Name of the task")
+    private String title;
+    @Schema(type = "string", description = "Start of the task description or of the comment")
+    private String snippet;
+    @Schema(type = "number", format = "float", description = "Relevance, higher is better")
+    private float score;
+}
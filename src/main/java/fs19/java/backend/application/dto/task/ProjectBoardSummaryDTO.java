@@ -0,0 +1,28 @@
+package fs19.java.backend.application.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectBoardSummaryDTO {
+
+    @Schema(type = "uuid", format = "uuid", description = "Unique project id")
+    private UUID projectId;
+    @Schema(type = "integer", description = "Total number of tasks in the project")
+    private long totalCount;
+    @Schema(description = "Number of tasks per TaskStatus")
+    private Map<String, Long> statusCounts;
+    @Schema(description = "Number of tasks per Priority")
+    private Map<String, Long> priorityCounts;
+    @Schema(type = "integer", description = "Number of open tasks whose due date has passed")
+    private long overdueCount;
+}
@@ -0,0 +1,35 @@
+package fs19.java.backend.application.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAttachmentDTO {
+
+    @Schema(type = "string", format = "string", description = "File name, unique within a task")
+    private String fileName;
+    @Schema(type = "integer", format = "int64", description = "File size in bytes")
+    private Long sizeBytes;
+    @Schema(type = "string", format = "string", description = "MIME content type")
+    private String contentType;
+    @Schema(type = "string", format = "string", description = "Hex encoded checksum of the file content")
+    private String checksum;
+
+    /**
+     * Accept a bare file name, as sent by clients written against the former list of names
+     *
+     * @param fileName String
+     * @return TaskAttachmentDTO
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static TaskAttachmentDTO ofFileName(String fileName) {
+        return new TaskAttachmentDTO(fileName, null, null, null);
+    }
+}
@@ -0,0 +1,29 @@
+package fs19.java.backend.application.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkItemDTO {
+
+    @Schema(type = "Enum", format = "Enum", description = "CREATE, UPDATE or MOVE")
+    private TaskBulkOperation operation;
+    @Schema(type = "uuid", format = "uuid", description = "Existing task id, required for UPDATE and MOVE")
+    private UUID taskId;
+    @Schema(description = "Task details. MOVE reads only taskStatus and projectId")
+    private TaskRequestDTO task;
+    @Schema(type = "integer", format = "int64", description = "Version from the task's ETag. UPDATE and MOVE fail with TASK_VERSION_MISMATCH when the task changed since")
+    private Long version;
+
+    public TaskBulkItemDTO(TaskBulkOperation operation, UUID taskId, TaskRequestDTO task) {
+        this(operation, taskId, task, null);
+    }
+}
@@ -0,0 +1,28 @@
+package fs19.java.backend.application.dto.task;
+
+import fs19.java.backend.presentation.shared.response.ErrorItem;
+import fs19.java.backend.presentation.shared.status.ResponseStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkItemResultDTO {
+
+    @Schema(type = "integer", description = "Position of the item in the request")
+    private int index;
+    @Schema(type = "uuid", format = "uuid", description = "Id of the created or modified task")
+    private UUID taskId;
+    @Schema(type = "String", format = "ResponseStatus", description = "Result of the item")
+    private ResponseStatus status;
+    @Schema(description = "Reasons the item was rejected")
+    private List<ErrorItem> errors;
+}
@@ -0,0 +1,11 @@
+package fs19.java.backend.application.dto.task;
+
+/**
+ * Operations supported by the bulk task endpoint.
+ * MOVE only changes the status and, optionally, the project of an existing task.
+ */
+public enum TaskBulkOperation {
+    CREATE,
+    UPDATE,
+    MOVE
+}
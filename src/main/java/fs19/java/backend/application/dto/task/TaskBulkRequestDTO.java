@@ -0,0 +1,21 @@
+package fs19.java.backend.application.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkRequestDTO {
+
+    @Schema(description = "Task operations, applied in one transaction")
+    @NotEmpty(message = "Bulk request must contain at least one item")
+    private List<TaskBulkItemDTO> items;
+}
@@ -0,0 +1,23 @@
+package fs19.java.backend.application.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResponseDTO {
+
+    @Schema(type = "integer", description = "Number of items written")
+    private int succeeded;
+    @Schema(type = "integer", description = "Number of items rejected")
+    private int failed;
+    @Schema(description = "Result per request item, in request order")
+    private List<TaskBulkItemResultDTO> results;
+}
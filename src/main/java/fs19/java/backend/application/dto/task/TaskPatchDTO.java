@@ -0,0 +1,45 @@
+package fs19.java.backend.application.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Partial task update. Only non-null fields are applied, and only the changed columns are written
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPatchDTO {
+
+    @Schema(type = "string", format = "string", description = "New task name")
+    @Size(min = 1, max = 45, message = "Task name must be between 1 and 45 characters")
+    private String name;
+    @Schema(type = "string", format = "string", description = "New task description")
+    @Size(max = 500, message = "Task description cannot exceed 500 characters")
+    private String description;
+    @Schema(type = "date", format = "date", description = "New task resolved date")
+    private LocalDate resolvedDate;
+    @Schema(type = "date", format = "date", description = "New task due date")
+    private LocalDate dueDate;
+    @Schema(type = "Enum", format = "Enum", description = "New task status")
+    private String taskStatus;
+    @Schema(type = "Enum", format = "Enum", description = "New task priority")
+    private String priority;
+    @Schema(type = "uuid", format = "uuid", description = "Project to move the task to")
+    private UUID projectId;
+    @Schema(type = "uuid", format = "uuid", description = "User to assign the task to")
+    private UUID assignedUserId;
+    @Schema(description = "Attachments to add or replace by file name, leaving the other files untouched")
+    private List<TaskAttachmentDTO> addedAttachments;
+    @Schema(description = "File names of attachments to remove")
+    private List<String> removedAttachments;
+}
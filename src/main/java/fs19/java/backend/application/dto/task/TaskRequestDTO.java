@@ -33,8 +33,12 @@ public class TaskRequestDTO {
     private LocalDate resolvedDate;
     @Schema(type = "date", format = "date", description = "Task due date define here")
     private LocalDate dueDate;
-    @Schema(type = "Attachment", format = "Object", description = "Task attachments can add here")
-    private List<String> attachments;
+    @Schema(description = "Full list of task attachments. On update, files missing from the list are removed and only new or changed files are written")
+    private List<TaskAttachmentDTO> attachments;
+    @Schema(description = "Attachments to add or replace by file name on update, leaving the other files untouched")
+    private List<TaskAttachmentDTO> addedAttachments;
+    @Schema(description = "File names of attachments to remove on update")
+    private List<String> removedAttachments;
     @Schema(type = "Enum", format = "Enum", description = "TaskStatus define here")
     private String taskStatus;
     @Schema(type = "uuid", format = "uuid", description = "Unique project id define here")
@@ -37,8 +37,8 @@ public class TaskResponseDTO {
     private ZonedDateTime resolvedDate;
     @Schema(type = "date", format = "date", description = "Task due date define here")
     private ZonedDateTime dueDate;
-    @Schema(type = "Attachment", format = "Object", description = "Task attachments can add here")
-    private List<String> attachments;
+    @Schema(description = "Task attachments with their metadata")
+    private List<TaskAttachmentDTO> attachments;
     @Schema(type = "Enum", format = "Enum", description = "TaskStatus define here")
     private String taskStatus;
     @Schema(type = "uuid", format = "uuid", description = "Unique project id define here")
@@ -50,7 +50,31 @@ public class TaskResponseDTO {
     private UUID assignedUserId;
     @Schema(type = "Enum", format = "Enum", description = "Task priority define here")
     private String priority;
+    @Schema(type = "long", format = "int64", description = "Row version, also sent as the ETag header")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+    @Schema(type = "date", format = "date", description = "When the task was flagged overdue, null while it is not")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private ZonedDateTime overdueDate;
+    @Schema(type = "integer", format = "int32", description = "Number of comments on the task")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer commentCount;
+    @Schema(type = "date", format = "date", description = "When a comment was last added or removed, null if never")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private ZonedDateTime lastActivityAt;
     @Schema(type = "String", format = "ResponseStatus", description = "Unique system status")
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private ResponseStatus status;
+
+    /**
+     * Constructor used by JPQL projections, which select rows straight into the response without loading Task entities.
+     * Attachments live in their own table and are filled in afterwards.
+     */
+    public TaskResponseDTO(UUID id, String name, String description, ZonedDateTime createdDate, ZonedDateTime resolvedDate,
+                           ZonedDateTime dueDate, String taskStatus, UUID projectId,
+                           UUID createdUserId, UUID assignedUserId, String priority, Long version, ZonedDateTime overdueDate,
+                           Integer commentCount, ZonedDateTime lastActivityAt) {
+        this(id, name, description, createdDate, resolvedDate, dueDate, null, taskStatus, projectId,
+                createdUserId, assignedUserId, priority, version, overdueDate, commentCount, lastActivityAt, ResponseStatus.SUCCESSFULLY_FOUND);
+    }
 }
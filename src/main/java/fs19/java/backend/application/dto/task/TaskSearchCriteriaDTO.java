@@ -0,0 +1,50 @@
+package fs19.java.backend.application.dto.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Filters, sort order and cursor of a task search request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchCriteriaDTO {
+
+    public static final String SORT_CREATED_DATE = "createdDate";
+    public static final String SORT_DUE_DATE = "dueDate";
+
+    @Schema(type = "uuid", format = "uuid", description = "Filter by project id")
+    private UUID projectId;
+    @Schema(type = "uuid", format = "uuid", description = "Filter by workspace id")
+    private UUID workspaceId;
+    @Schema(type = "Enum", format = "Enum", description = "Filter by task status")
+    private String taskStatus;
+    @Schema(type = "Enum", format = "Enum", description = "Filter by task priority")
+    private String priority;
+    @Schema(type = "uuid", format = "uuid", description = "Filter by assigned user id")
+    private UUID assignedUserId;
+    @Schema(type = "date", format = "date", description = "Due date range start (inclusive)")
+    private LocalDate dueFrom;
+    @Schema(type = "date", format = "date", description = "Due date range end (inclusive)")
+    private LocalDate dueTo;
+    @Schema(type = "string", format = "string", description = "Sort field, createdDate or dueDate")
+    private String sortBy;
+    @Schema(type = "boolean", description = "Sort in ascending order")
+    private boolean ascending;
+    @Schema(type = "string", format = "string", description = "Cursor returned by the previous page")
+    private String cursor;
+    @Schema(type = "integer", description = "Page size")
+    private int size;
+
+    public boolean isSortByDueDate() {
+        return SORT_DUE_DATE.equals(sortBy);
+    }
+}
@@ -0,0 +1,25 @@
+package fs19.java.backend.application.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Column-level view of an existing task, read without hydrating the entity or its associations
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSnapshotDTO {
+    private UUID id;
+    private UUID projectId;
+    private UUID createdUserId;
+    private String taskStatus;
+    private String priority;
+    private ZonedDateTime dueDate;
+    private ZonedDateTime overdueDate;
+    private Long version;
+}
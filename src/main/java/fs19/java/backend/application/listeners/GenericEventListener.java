@@ -1,6 +1,7 @@
 package fs19.java.backend.application.listeners;
 
 import fs19.java.backend.application.dto.notification.NotificationDTO;
+import fs19.java.backend.application.dto.notification.NotificationNamesDTO;
 import fs19.java.backend.application.service.NotificationService;
 import fs19.java.backend.domain.entity.Comment;
 import fs19.java.backend.domain.entity.Project;
@@ -12,13 +13,20 @@ import fs19.java.backend.application.events.GenericEvent;
 import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.TaskJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class GenericEventListener {
@@ -28,26 +36,49 @@ public class GenericEventListener {
     private final TaskJpaRepo taskRepository;
     private final UserJpaRepo userRepository;
     private final ProjectJpaRepo projectRepository;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
-    public GenericEventListener(NotificationService notificationService, RabbitTemplate rabbitTemplate, TaskJpaRepo taskRepository, UserJpaRepo userRepository, ProjectJpaRepo projectRepository) {
+    public GenericEventListener(NotificationService notificationService, RabbitTemplate rabbitTemplate, TaskJpaRepo taskRepository, UserJpaRepo userRepository, ProjectJpaRepo projectRepository,
+                                MeterRegistry meterRegistry) {
         this.notificationService = notificationService;
         this.rabbitTemplate = rabbitTemplate;
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
+        this.meterRegistry = meterRegistry;
     }
 
+    // runs inside the publishing request, so its time is added to the latency of every write
     @EventListener
     public void handleGenericEvent(GenericEvent<?> event) {
+        Timer.builder("generic.event.processing")
+                .description("Time to turn a GenericEvent into a notification")
+                .tag("entity", String.valueOf(event.getEntityType()))
+                .tag("action", String.valueOf(event.getActionType()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(() -> processEvent(event));
+    }
+
+    private void processEvent(GenericEvent<?> event) {
         Object entity = event.getEntity();
         EntityType entityType = event.getEntityType();
         String actionType = event.getActionType();
 
-        NotificationDTO notificationDTO = new NotificationDTO();
-        notificationDTO.setNotifyType(NotificationType.valueOf(entityType.name() + "_" + actionType.toUpperCase()));
-        notificationDTO.setCreatedDate(ZonedDateTime.now());
-        notificationDTO.setRead(false);
+        // bulk writes publish one event for the whole batch; notify once per project instead of once per task
+        if (entity instanceof List<?> entities) {
+            Map<UUID, List<Task>> tasksByProject = new LinkedHashMap<>();
+            for (Object item : entities) {
+                if (item instanceof Task task) {
+                    tasksByProject.computeIfAbsent(task.getProject().getId(), id -> new ArrayList<>()).add(task);
+                }
+            }
+            tasksByProject.forEach((projectId, tasks) -> publish(buildTaskBatchNotification(entityType, actionType, projectId, tasks)));
+            return;
+        }
+
+        NotificationDTO notificationDTO = newNotification(entityType, actionType);
 
         // Handle different entity types
         if (entity instanceof Comment comment) {
@@ -78,21 +109,52 @@ public class GenericEventListener {
             notificationDTO.setMentionedBy(createdBy.getId());
             notificationDTO.setMentionedTo(createdBy.getId());
         } else if (entity instanceof Task task) {
-            Project project = projectRepository.findById(task.getProject().getId()).orElseThrow();
-            User createdBy = userRepository.findById(task.getCreatedUser().getId()).orElseThrow();
+            // the task holds project and user as references, only their names are read here
+            NotificationNamesDTO names = projectRepository.findNotificationNames(task.getProject().getId(), task.getCreatedUser().getId()).orElseThrow();
             String content = String.format(
                     "**New Task Created** \n\n**Task Name:** %s\n**Created By:** %s %s\n**Project:** %s",
                     task.getName(),
-                    createdBy.getFirstName(),
-                    createdBy.getLastName(),
-                    project.getName()
+                    names.getFirstName(),
+                    names.getLastName(),
+                    names.getProjectName()
             );
             notificationDTO.setContent(content);
-            notificationDTO.setProjectId(project.getId());
-            notificationDTO.setMentionedBy(createdBy.getId());
+            notificationDTO.setProjectId(task.getProject().getId());
+            notificationDTO.setMentionedBy(task.getCreatedUser().getId());
             notificationDTO.setMentionedTo(task.getAssignedUser().getId());
         }
 
+        publish(notificationDTO);
+    }
+
+    private NotificationDTO buildTaskBatchNotification(EntityType entityType, String actionType, UUID projectId, List<Task> tasks) {
+        UUID createdUserId = tasks.getFirst().getCreatedUser().getId();
+        NotificationNamesDTO names = projectRepository.findNotificationNames(projectId, createdUserId).orElseThrow();
+        NotificationDTO notificationDTO = newNotification(entityType, actionType);
+        String content = String.format(
+                "**%d Tasks %s** \n\n**Project:** %s\n**By:** %s %s",
+                tasks.size(),
+                actionType,
+                names.getProjectName(),
+                names.getFirstName(),
+                names.getLastName()
+        );
+        notificationDTO.setContent(content);
+        notificationDTO.setProjectId(projectId);
+        notificationDTO.setMentionedBy(createdUserId);
+        notificationDTO.setMentionedTo(createdUserId);
+        return notificationDTO;
+    }
+
+    private NotificationDTO newNotification(EntityType entityType, String actionType) {
+        NotificationDTO notificationDTO = new NotificationDTO();
+        notificationDTO.setNotifyType(NotificationType.valueOf(entityType.name() + "_" + actionType.toUpperCase()));
+        notificationDTO.setCreatedDate(ZonedDateTime.now());
+        notificationDTO.setRead(false);
+        return notificationDTO;
+    }
+
+    private void publish(NotificationDTO notificationDTO) {
         // Publish notification to RabbitMQ
         rabbitTemplate.convertAndSend("generalExchange", "generalRoutingKey", notificationDTO);
         notificationService.createNotification(notificationDTO);
@@ -0,0 +1,79 @@
+package fs19.java.backend.application.listeners;
+
+import fs19.java.backend.application.CacheInvalidationSender;
+import fs19.java.backend.application.CacheServiceImpl;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Tells the other instances about committed writes of cached reference data.
+ * Hibernate already updates the cache of this instance; the others evict the entry and read it again when needed.
+ * Inserts are sent as well, as another instance may have cached an empty lookup by name.
+ */
+@Component
+public class ReferenceDataCacheListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationSender cacheInvalidationSender;
+
+    public ReferenceDataCacheListener(EntityManagerFactory entityManagerFactory, CacheInvalidationSender cacheInvalidationSender) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheInvalidationSender = cacheInvalidationSender;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return CacheServiceImpl.CACHED_ENTITIES.contains(persister.getEntityName());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        cacheInvalidationSender.publish(event.getPersister().getEntityName(), (UUID) event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        cacheInvalidationSender.publish(event.getPersister().getEntityName(), (UUID) event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        cacheInvalidationSender.publish(event.getPersister().getEntityName(), (UUID) event.getId());
+    }
+
+    // nothing was written, so there is nothing to tell
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+}
@@ -0,0 +1,84 @@
+package fs19.java.backend.application.listeners;
+
+import fs19.java.backend.application.events.GenericEvent;
+import fs19.java.backend.application.service.SearchService;
+import fs19.java.backend.domain.entity.Comment;
+import fs19.java.backend.domain.entity.Project;
+import fs19.java.backend.domain.entity.Task;
+import fs19.java.backend.domain.entity.enums.EntityType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keeps the search index in line with the GenericEvent flow.
+ * Events are handled once the write has committed, or straight away when it ran without a transaction, so the
+ * index never holds text that was rolled back. Created and updated rows are read again by id, which also covers
+ * bulk events and entities holding only references.
+ */
+@Component
+public class SearchIndexListener {
+
+    private static final Logger logger = LogManager.getLogger(SearchIndexListener.class);
+
+    private static final String DELETED = "Deleted";
+    // the overdue flag is not searchable text
+    private static final String OVERDUE = "Overdue";
+
+    private final SearchService searchService;
+
+    public SearchIndexListener(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleGenericEvent(GenericEvent<?> event) {
+        try {
+            EntityType entityType = event.getEntityType();
+            boolean deleted = DELETED.equals(event.getActionType());
+            if (entityType == EntityType.TASK) {
+                List<UUID> taskIds = idsOf(event.getEntity(), Task.class, Task::getId);
+                if (deleted) {
+                    taskIds.forEach(searchService::removeTask);
+                } else if (!OVERDUE.equals(event.getActionType())) {
+                    searchService.indexTasks(taskIds);
+                }
+            } else if (entityType == EntityType.COMMENT) {
+                List<UUID> commentIds = idsOf(event.getEntity(), Comment.class, Comment::getId);
+                if (deleted) {
+                    commentIds.forEach(searchService::removeComment);
+                } else {
+                    searchService.indexComments(commentIds);
+                }
+            } else if (entityType == EntityType.PROJECT && deleted) {
+                idsOf(event.getEntity(), Project.class, Project::getId).forEach(searchService::removeProject);
+            }
+        } catch (Exception e) {
+            // the write has already committed; the entry is repaired by the next change or the next startup
+            logger.error("Updating the search index for {} {} failed", event.getEntityType(), event.getActionType(), e);
+        }
+    }
+
+    /**
+     * Collect the ids of an event entity, which is a single entity, a list of them or an Optional of one
+     */
+    private static <T> List<UUID> idsOf(Object entity, Class<T> type, Function<T, UUID> id) {
+        List<UUID> ids = new ArrayList<>();
+        if (entity instanceof Optional<?> optional) {
+            entity = optional.orElse(null);
+        }
+        if (entity instanceof List<?> entities) {
+            entities.stream().filter(type::isInstance).map(type::cast).map(id).forEach(ids::add);
+        } else if (type.isInstance(entity)) {
+            ids.add(id.apply(type.cast(entity)));
+        }
+        return ids;
+    }
+}
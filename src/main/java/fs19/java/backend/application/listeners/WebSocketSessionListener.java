@@ -0,0 +1,44 @@
+package fs19.java.backend.application.listeners;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the open STOMP sessions of the notification WebSocket as the websocket.sessions gauge.
+ * Sessions are kept by id, as a session can report its disconnect more than once.
+ */
+@Component
+public class WebSocketSessionListener {
+
+    private final Set<String> openSessions = ConcurrentHashMap.newKeySet();
+
+    public WebSocketSessionListener(MeterRegistry meterRegistry) {
+        Gauge.builder("websocket.sessions", openSessions, Set::size)
+                .description("Open STOMP sessions of the notification WebSocket")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void handleConnected(SessionConnectedEvent event) {
+        String sessionId = sessionId(event.getMessage().getHeaders().get("simpSessionId"));
+        if (sessionId != null) {
+            openSessions.add(sessionId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        openSessions.remove(event.getSessionId());
+    }
+
+    private static String sessionId(Object header) {
+        return header == null ? null : header.toString();
+    }
+}
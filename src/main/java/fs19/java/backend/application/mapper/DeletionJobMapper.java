@@ -0,0 +1,22 @@
+package fs19.java.backend.application.mapper;
+
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.domain.entity.DeletionJob;
+
+public class DeletionJobMapper {
+
+    public static DeletionJobDTO toDTO(DeletionJob deletionJob) {
+        return new DeletionJobDTO(
+                deletionJob.getId(),
+                deletionJob.getEntityType(),
+                deletionJob.getRootId(),
+                deletionJob.getStatus(),
+                deletionJob.getStep(),
+                deletionJob.getStepCount(),
+                deletionJob.getDeletedRows(),
+                deletionJob.getCreatedDate(),
+                deletionJob.getCompletedDate(),
+                deletionJob.getError()
+        );
+    }
+}
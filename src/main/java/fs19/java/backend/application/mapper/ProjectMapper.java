@@ -21,6 +21,7 @@ public class ProjectMapper {
         .lastName(project.getCreatedByUser().getLastName())
         .workspaceId(project.getWorkspace().getId())
         .status(project.getStatus())
+        .version(project.getVersion())
         .build();
   }
 
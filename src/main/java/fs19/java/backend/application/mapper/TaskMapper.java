@@ -17,7 +17,7 @@ public class TaskMapper {
 
 
     /**
-     * Convert task into task response dto
+     * Convert task into task response dto. Attachments are not part of the task row and are left empty
      *
      * @param task   Task
      * @param status ResponseStatus
@@ -26,10 +26,10 @@ public class TaskMapper {
     public static TaskResponseDTO toTaskResponseDTO(Task task, ResponseStatus status) {
         return new TaskResponseDTO(task.getId(), task.getName(), task.getDescription(),
                 task.getCreatedDate(), task.getResolvedDate(), task.getDueDate(),
-                task.getAttachments(), task.getTaskStatus(), task.getProject() == null ? null : task.getProject().getId(),
+                null, task.getTaskStatus(), task.getProject() == null ? null : task.getProject().getId(),
                 task.getCreatedUser() == null ? null : task.getCreatedUser().getId(),
                 task.getAssignedUser() == null ? null : task.getAssignedUser().getId(),
-                task.getPriority(), status);
+                task.getPriority(), task.getVersion(), task.getOverdueDate(), task.getCommentCount(), task.getLastActivityAt(), status);
     }
 
     /**
@@ -69,12 +69,15 @@ public class TaskMapper {
                 taskRequestDTO.getDueDate() != null
                         ? taskRequestDTO.getDueDate().atTime(23, 59, 59).atZone(ZoneId.systemDefault())
                         : null,
-                taskRequestDTO.getAttachments(),
                 taskRequestDTO.getTaskStatus(),
                 project,
                 createUser,
                 assignedUser,
-                taskRequestDTO.getPriority()
+                taskRequestDTO.getPriority(),
+                null,
+                null,
+                0,
+                null
         );
     }
 
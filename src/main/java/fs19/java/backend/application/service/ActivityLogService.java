@@ -9,6 +9,7 @@ import java.util.UUID;
 
 public interface ActivityLogService {
     ActivityLogDTO createActivityLog(ActivityLogDTO activityLogDTO);
+    int createActivityLogs(List<ActivityLogDTO> activityLogDTOs);
     ActivityLogDTO updateActivityLog(UUID id, ActivityLogDTO activityLogDTO);
     ActivityLogDTO getActivityLogById(UUID id);
     List<ActivityLogDTO> getAllActivityLogs();
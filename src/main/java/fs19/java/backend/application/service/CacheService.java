@@ -0,0 +1,11 @@
+package fs19.java.backend.application.service;
+
+import fs19.java.backend.application.dto.cache.CacheRegionStatsDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface CacheService {
+    List<CacheRegionStatsDTO> getRegionStatistics();
+    void evict(String entityName, UUID id);
+}
@@ -3,19 +3,25 @@ package fs19.java.backend.application.service;
 import fs19.java.backend.application.dto.comment.CommentRequestDTO;
 import fs19.java.backend.application.dto.comment.CommentResponseDTO;
 import fs19.java.backend.application.dto.comment.CommentUpdateDTO; // Import CommentUpdateDTO
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CommentService {
     CommentResponseDTO createComment(CommentRequestDTO commentRequestDTO);
     CommentResponseDTO updateComment(UUID id, CommentUpdateDTO commentUpdateDTO); // Change method signature
     CommentResponseDTO getCommentById(UUID id);
-    List<CommentResponseDTO> getAllComments();
+    CursorPageDTO<CommentResponseDTO> getAllComments(String cursor, int size);
+    void exportComments(Consumer<CommentResponseDTO> sink);
     void deleteComment(UUID id);
-    void deleteCommentsByTaskId(UUID taskId);
+    int deleteCommentsByTaskId(UUID taskId);
+    int deleteComments(Collection<UUID> ids);
+    int deleteCommentsByUserId(UUID userId);
     Page<CommentResponseDTO> getAllComments(Pageable pageable);
-    Page<CommentResponseDTO> getAllCommentsForTask(UUID taskId, Pageable pageable);
+    CursorPageDTO<CommentResponseDTO> getCommentsForTask(UUID taskId, String cursor, int size, boolean ascending, boolean withCount);
 }
\ No newline at end of file
@@ -3,15 +3,19 @@ package fs19.java.backend.application.service;
 import fs19.java.backend.application.dto.company.CompanyRequestDTO;
 import fs19.java.backend.application.dto.company.CompanyResponseDTO;
 import fs19.java.backend.application.dto.company.CompanyUpdateDTO;
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CompanyService {
     CompanyResponseDTO createCompany(CompanyRequestDTO companyDTO);
     CompanyResponseDTO updateCompany(UUID id, CompanyUpdateDTO companyDTO);
     CompanyResponseDTO getCompanyById(UUID id);
-    List<CompanyResponseDTO> getAllCompanies();
-    void deleteCompany(UUID id);
+    CursorPageDTO<CompanyResponseDTO> getAllCompanies(String cursor, int size);
+    void exportCompanies(Consumer<CompanyResponseDTO> sink);
+    DeletionJobDTO deleteCompany(UUID id);
     List<CompanyResponseDTO> getCompaniesOwnedByLoggedInUser(UUID userId);
 
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package fs19.java.backend.application.service;
+
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.domain.entity.enums.EntityType;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DeletionJobService {
+    Optional<DeletionJobDTO> requestDeletion(EntityType entityType, UUID rootId);
+    DeletionJobDTO getJob(UUID jobId);
+}
@@ -1,14 +1,17 @@
 package fs19.java.backend.application.service;
 
 import fs19.java.backend.application.dto.notification.NotificationDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface NotificationService {
     NotificationDTO createNotification(NotificationDTO notificationDTO);
     NotificationDTO updateNotification(UUID id, NotificationDTO notificationDTO);
     NotificationDTO getNotificationById(UUID id);
-    List<NotificationDTO> getAllNotifications();
+    CursorPageDTO<NotificationDTO> getAllNotifications(String cursor, int size);
+    void exportNotifications(Consumer<NotificationDTO> sink);
     void deleteNotification(UUID id);
     void updateNotificationReadStatus(UUID notificationId, boolean isRead);
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package fs19.java.backend.application.service;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.permission.PermissionRequestDTO;
 import fs19.java.backend.application.dto.permission.PermissionResponseDTO;
 import jakarta.validation.Valid;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Permission service interface
@@ -15,7 +17,8 @@ public interface PermissionService {
     PermissionResponseDTO save(@Valid PermissionRequestDTO permissionRequestDTO);
     PermissionResponseDTO update(UUID permissionId, @Valid PermissionRequestDTO permissionRequestDTO);
     PermissionResponseDTO delete(UUID permissionId);
-    List<PermissionResponseDTO> getAll();
+    CursorPageDTO<PermissionResponseDTO> getAll(String cursor, int size);
+    void exportPermissions(Consumer<PermissionResponseDTO> sink);
     PermissionResponseDTO findById(UUID permissionId);
     PermissionResponseDTO findByName(String name);
     boolean existsById(UUID permissionId);
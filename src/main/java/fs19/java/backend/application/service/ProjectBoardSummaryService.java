@@ -0,0 +1,21 @@
+package fs19.java.backend.application.service;
+
+import fs19.java.backend.application.dto.task.ProjectBoardSummaryDTO;
+import fs19.java.backend.domain.entity.Task;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProjectBoardSummaryService {
+    ProjectBoardSummaryDTO getBoardSummary(UUID projectId);
+    List<String> bucketsOf(Task task);
+    List<String> bucketsOf(String taskStatus, String priority, ZonedDateTime overdueDate);
+    void applyDeltas(Map<UUID, Map<String, Long>> deltasByProject);
+    void onTaskCreated(Task task);
+    void onTaskUpdated(UUID previousProjectId, List<String> previousBuckets, Task task);
+    void onTaskDeleted(Task task);
+    void reconcile(UUID projectId);
+    void deleteBoardSummary(UUID projectId);
+}
@@ -1,18 +1,25 @@
 package fs19.java.backend.application.service;
 
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.project.ProjectCreateDTO;
+import fs19.java.backend.application.dto.project.ProjectPatchDTO;
 import fs19.java.backend.application.dto.project.ProjectReadDTO;
 import fs19.java.backend.application.dto.project.ProjectUpdateDTO;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ProjectService {
     ProjectReadDTO createProject(ProjectCreateDTO projectDTO);
     ProjectReadDTO updateProject(UUID projectId, ProjectUpdateDTO projectDTO);
-    Boolean deleteProject(UUID projectId);
+    ProjectReadDTO updateProject(UUID projectId, ProjectUpdateDTO projectDTO, Long expectedVersion);
+    ProjectReadDTO patchProject(UUID projectId, ProjectPatchDTO projectDTO, Long expectedVersion);
+    DeletionJobDTO deleteProject(UUID projectId);
     ProjectReadDTO findProjectById(UUID projectId);
-    List<ProjectReadDTO> findAllProjects();
+    CursorPageDTO<ProjectReadDTO> findAllProjects(String cursor, int size);
+    void exportProjects(Consumer<ProjectReadDTO> sink);
     List<ProjectReadDTO> findProjectsByWorkspaceId(UUID workspaceId);
 
 }
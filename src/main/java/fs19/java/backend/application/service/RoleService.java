@@ -1,11 +1,13 @@
 package fs19.java.backend.application.service;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.role.RoleRequestDTO;
 import fs19.java.backend.application.dto.role.RoleResponseDTO;
 import jakarta.validation.Valid;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Role service implementation
@@ -16,6 +18,7 @@ public interface RoleService {
     RoleResponseDTO update(UUID roleId, @Valid RoleRequestDTO roleMDDTO);
     RoleResponseDTO delete(UUID roleId);
     RoleResponseDTO findById(UUID roleId);
-    List<RoleResponseDTO> findAll();
+    CursorPageDTO<RoleResponseDTO> findAll(String cursor, int size);
+    void exportRoles(Consumer<RoleResponseDTO> sink);
     RoleResponseDTO findByName(String name);
 }
@@ -0,0 +1,16 @@
+package fs19.java.backend.application.service;
+
+import fs19.java.backend.application.dto.page.CursorPageDTO;
+import fs19.java.backend.application.dto.search.SearchHitDTO;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface SearchService {
+    CursorPageDTO<SearchHitDTO> search(UUID workspaceId, String query, String type, String cursor, int size);
+    void indexTasks(Collection<UUID> taskIds);
+    void indexComments(Collection<UUID> commentIds);
+    void removeTask(UUID taskId);
+    void removeComment(UUID commentId);
+    void removeProject(UUID projectId);
+}
@@ -0,0 +1,18 @@
+package fs19.java.backend.application.service;
+
+import fs19.java.backend.application.dto.task.TaskAttachmentDTO;
+import fs19.java.backend.application.dto.task.TaskRequestDTO;
+import fs19.java.backend.application.dto.task.TaskResponseDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface TaskAttachmentService {
+    void createAttachments(Map<UUID, List<TaskAttachmentDTO>> attachmentsByTaskId);
+    void updateAttachments(Map<UUID, TaskRequestDTO> requestsByTaskId);
+    Map<UUID, List<TaskAttachmentDTO>> findByTaskIds(Collection<UUID> taskIds);
+    TaskResponseDTO fillAttachments(TaskResponseDTO task);
+    List<TaskResponseDTO> fillAttachments(List<TaskResponseDTO> tasks);
+}
@@ -1,7 +1,13 @@
 package fs19.java.backend.application.service;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
+import fs19.java.backend.application.dto.task.ProjectBoardSummaryDTO;
+import fs19.java.backend.application.dto.task.TaskBulkRequestDTO;
+import fs19.java.backend.application.dto.task.TaskBulkResponseDTO;
+import fs19.java.backend.application.dto.task.TaskPatchDTO;
 import fs19.java.backend.application.dto.task.TaskRequestDTO;
 import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.dto.task.TaskSearchCriteriaDTO;
 import jakarta.validation.Valid;
 
 import java.util.List;
@@ -10,12 +16,17 @@ import java.util.UUID;
 public interface TaskService {
     TaskResponseDTO create(@Valid TaskRequestDTO taskRequestDTO);
     TaskResponseDTO update(UUID taskId, @Valid TaskRequestDTO taskRequestDTO);
+    TaskResponseDTO update(UUID taskId, @Valid TaskRequestDTO taskRequestDTO, Long expectedVersion);
+    TaskResponseDTO patch(UUID taskId, @Valid TaskPatchDTO taskPatchDTO, Long expectedVersion);
     TaskResponseDTO delete(UUID taskId);
     List<TaskResponseDTO> findAll();
     TaskResponseDTO getById(UUID taskId);
-    List<TaskResponseDTO> getByAssignedId(UUID userId);
-    List<TaskResponseDTO> getByCreatedUserId(UUID createdUserId);
+    List<TaskResponseDTO> getByAssignedId(UUID userId, int page, int size);
+    List<TaskResponseDTO> getByCreatedUserId(UUID createdUserId, int page, int size);
     List<TaskResponseDTO> findTasksByProjectId(UUID projectId);
+    CursorPageDTO<TaskResponseDTO> search(TaskSearchCriteriaDTO criteria);
+    ProjectBoardSummaryDTO getBoardSummary(UUID projectId);
+    TaskBulkResponseDTO bulk(TaskBulkRequestDTO bulkRequestDTO);
 }
 
 
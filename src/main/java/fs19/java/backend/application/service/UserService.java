@@ -1,14 +1,17 @@
 package fs19.java.backend.application.service;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.user.UserCreateDTO;
 import fs19.java.backend.application.dto.user.UserReadDTO;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface UserService {
 
  UserReadDTO createUser(UserCreateDTO userDTO);
-  List<UserReadDTO> findAllUsers();
+  CursorPageDTO<UserReadDTO> findAllUsers(String cursor, int size);
+  void exportUsers(Consumer<UserReadDTO> sink);
   UserReadDTO findUserById(UUID id);
   UserReadDTO updateUser(UUID id, UserReadDTO userDTO);
   boolean deleteUser(UUID id);
@@ -1,16 +1,20 @@
 package fs19.java.backend.application.service;
 
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.workspace.WorkspaceRequestDTO;
 import fs19.java.backend.application.dto.workspace.WorkspaceResponseDTO;
 import fs19.java.backend.application.dto.workspace.WorkspaceUpdateDTO;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface WorkspaceService {
     WorkspaceResponseDTO createWorkspace(WorkspaceRequestDTO workspaceRequestDTO);
     WorkspaceResponseDTO updateWorkspace(UUID id, WorkspaceUpdateDTO workspaceUpdateDTO);
     WorkspaceResponseDTO getWorkspaceById(UUID id);
-    List<WorkspaceResponseDTO> getAllWorkspaces();
-    void deleteWorkspace(UUID id);
+    CursorPageDTO<WorkspaceResponseDTO> getAllWorkspaces(String cursor, int size);
+    void exportWorkspaces(Consumer<WorkspaceResponseDTO> sink);
+    DeletionJobDTO deleteWorkspace(UUID id);
 }
\ No newline at end of file
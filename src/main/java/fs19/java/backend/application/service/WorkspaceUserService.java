@@ -1,15 +1,18 @@
 package fs19.java.backend.application.service;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.workspace_user.WorkspaceUserRequestDTO;
 import fs19.java.backend.application.dto.workspace_user.WorkspaceUserResponseDTO;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface WorkspaceUserService {
   WorkspaceUserResponseDTO createWorkspaceUser(WorkspaceUserRequestDTO workspaceUsersDTO);
   WorkspaceUserResponseDTO updateWorkspaceUser(UUID id, WorkspaceUserRequestDTO workspaceUsersDTO);
   WorkspaceUserResponseDTO getWorkspaceUserById(UUID id);
   List<WorkspaceUserResponseDTO> getAllWorkspacesByUserId(UUID userId);
-  List<WorkspaceUserResponseDTO> getAllWorkspacesUsers();
+  CursorPageDTO<WorkspaceUserResponseDTO> getAllWorkspacesUsers(String cursor, int size);
+  void exportWorkspaceUsers(Consumer<WorkspaceUserResponseDTO> sink);
   void deleteWorkspace(UUID id);
 }
@@ -1,20 +1,27 @@
 package fs19.java.backend.config;
 
 import fs19.java.backend.application.InvitationServiceImpl;
+import fs19.java.backend.domain.abstraction.RolePermissionRepository;
 import fs19.java.backend.domain.entity.*;
 import fs19.java.backend.domain.entity.enums.*;
 import fs19.java.backend.infrastructure.JpaRepositories.*;
 import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+// runs first, so the dataset generator finds the permissions it grants
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class DataLoader implements CommandLineRunner {
 
     public static String ADMIN_USER_NAME = "ADMIN";
@@ -31,7 +38,8 @@ public class DataLoader implements CommandLineRunner {
     private final InvitationJpaRepo invitationJpaRepo;
     private final NotificationJpaRepo notificationJpaRepo;
     private final ActivityLogJpaRepo activityLogJpaRepo;
-    private final RolePermissionJpaRepo rolePermissionJpaRepo;
+    private final RolePermissionRepository rolePermissionRepository;
+    private final TaskAttachmentJpaRepo taskAttachmentJpaRepo;
 
 
     @Autowired
@@ -44,7 +52,7 @@ public class DataLoader implements CommandLineRunner {
             UserJpaRepo userJpaRepo,
             ProjectJpaRepo projectJpaRepo,
             WorkspaceJpaRepo workspaceJpaRepo,
-            WorkspaceUserJpaRepo workspaceUserJpaRepo, TaskJpaRepo taskJpaRepo, CommentJpaRepo commentJpaRepo, InvitationJpaRepo invitationJpaRepo, NotificationJpaRepo notificationJpaRepo, ActivityLogJpaRepo activityLogJpaRepo, RolePermissionJpaRepo rolePermissionJpaRepo) {
+            WorkspaceUserJpaRepo workspaceUserJpaRepo, TaskJpaRepo taskJpaRepo, CommentJpaRepo commentJpaRepo, InvitationJpaRepo invitationJpaRepo, NotificationJpaRepo notificationJpaRepo, ActivityLogJpaRepo activityLogJpaRepo, RolePermissionRepository rolePermissionRepository, TaskAttachmentJpaRepo taskAttachmentJpaRepo) {
 
         this.companyJpaRepo = companyJpaRepo;
         this.roleJpaRepo = roleJpaRepo;
@@ -58,7 +66,8 @@ public class DataLoader implements CommandLineRunner {
         this.invitationJpaRepo = invitationJpaRepo;
         this.notificationJpaRepo = notificationJpaRepo;
         this.activityLogJpaRepo = activityLogJpaRepo;
-        this.rolePermissionJpaRepo = rolePermissionJpaRepo;
+        this.rolePermissionRepository = rolePermissionRepository;
+        this.taskAttachmentJpaRepo = taskAttachmentJpaRepo;
     }
 
     @Override
@@ -147,15 +156,19 @@ public class DataLoader implements CommandLineRunner {
 
             // Step 6: Create CRUD permissions for all entities
             String[] entities = {
-                    "activity-log", "comments", "companies", "invitations",
+                    "activity-log", "comments", "companies", "deletion-jobs", "invitations",
                     "notifications", "permissions", "projects", "roles",
                     "rolePermissions", "tasks", "users", "workspaces", "workspace-users"
             };
 
+            List<RolePermission> rolePermissions = new ArrayList<>();
             for (String entity : entities) {
                 String baseUrl = "/api/v1/" + entity + "/**"; // E.g., "/api/v1/users"
-                assignCrudPermissionsForEntity(entity, baseUrl, saveAdminRole);
+                rolePermissions.addAll(crudPermissionsForEntity(entity, baseUrl, saveAdminRole));
             }
+            // the permissions, then their grants, are each written in one transaction of batched INSERTs
+            permissionJpaRepo.saveAll(rolePermissions.stream().map(RolePermission::getPermission).toList());
+            rolePermissionRepository.saveAll(rolePermissions);
 
             // Step 7: Additional setup for Projects, Tasks, etc.
             Project project = new Project();
@@ -172,12 +185,17 @@ public class DataLoader implements CommandLineRunner {
             task.setDescription("Initial setup task");
             task.setCreatedDate(DateAndTime.getDateAndTime());
             task.setTaskStatus("TODO");
-            task.setAttachments(Arrays.asList("doc1.pdf", "image1.png"));
             task.setProject(saveProject);
             task.setCreatedUser(user);
             task.setAssignedUser(user);
             task.setPriority("LOW_PRIORITY");
+            // the seeded comment below is saved straight through the repository
+            task.setCommentCount(1);
+            task.setLastActivityAt(DateAndTime.getDateAndTime());
             Task saveTask = taskJpaRepo.save(task);
+            for (String fileName : Arrays.asList("doc1.pdf", "image1.png")) {
+                taskAttachmentJpaRepo.save(new TaskAttachment(null, saveTask, fileName, null, null, null, DateAndTime.getDateAndTime()));
+            }
 
 
             Comment comment = new Comment();
@@ -210,21 +228,22 @@ public class DataLoader implements CommandLineRunner {
         }
     }
 
-    // Utility method to create CRUD permissions for an entity
-    private void assignCrudPermissionsForEntity(String entity, String baseUrl, Role role) {
+    // Utility method to build the CRUD permissions of an entity, granted to the role
+    private List<RolePermission> crudPermissionsForEntity(String entity, String baseUrl, Role role) {
+        List<RolePermission> rolePermissions = new ArrayList<>();
         for (PermissionType type : PermissionType.values()) {
             String action = type.name(); // GET, POST, DELETE, PUT
             Permission permission = new Permission();
             permission.setName(entity + "_" + action);
             permission.setUrl(baseUrl);
             permission.setPermissionType(type);
-            Permission savedPermission = permissionJpaRepo.save(permission);
 
             RolePermission rolePermission = new RolePermission();
             rolePermission.setRole(role);
-            rolePermission.setPermission(savedPermission);
-            rolePermissionJpaRepo.save(rolePermission);
+            rolePermission.setPermission(permission);
+            rolePermissions.add(rolePermission);
         }
+        return rolePermissions;
     }
 
     private void createActivityLog(EntityType entityType, UUID entityId, ActionType action, String description, User user) {
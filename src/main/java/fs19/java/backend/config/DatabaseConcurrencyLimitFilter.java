@@ -0,0 +1,82 @@
+package fs19.java.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fs19.java.backend.presentation.shared.response.ErrorItem;
+import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.NotNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the requests handled at once when requests run on virtual threads.
+ * Tomcat's pool of 200 platform threads used to be the cap; virtual threads have none, so without this filter every
+ * waiting client would queue on the connection pool until its timeout. The cap is the pool size times
+ * concurrency.requests-per-connection, and a request that cannot start within concurrency.acquire-timeout-ms
+ * is answered 503 before it touches the database. Runs ahead of the security filters, which read the user too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DatabaseConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LogManager.getLogger(DatabaseConcurrencyLimitFilter.class);
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final ObjectMapper objectMapper;
+
+    public DatabaseConcurrencyLimitFilter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                          @Value("${concurrency.requests-per-connection:2}") int requestsPerConnection,
+                                          @Value("${concurrency.acquire-timeout-ms:2000}") long acquireTimeoutMillis,
+                                          ObjectMapper objectMapper) {
+        this.permits = new Semaphore(poolSize * requestsPerConnection, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.objectMapper = objectMapper;
+        logger.info("Handling at most {} requests at once", poolSize * requestsPerConnection);
+    }
+
+    @Override
+    protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
+                                    @NotNull FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            logger.warn("Rejecting {} {}, too many requests in progress", request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new GlobalResponse<Void>(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    List.of(new ErrorItem("Too many requests in progress, retry later"))));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,659 @@
+package fs19.java.backend.config;
+
+import fs19.java.backend.domain.entity.ProjectBoardSummary;
+import fs19.java.backend.domain.entity.enums.ActionType;
+import fs19.java.backend.domain.entity.enums.EntityType;
+import fs19.java.backend.domain.entity.enums.NotificationType;
+import fs19.java.backend.domain.entity.enums.PermissionType;
+import fs19.java.backend.domain.entity.enums.Priority;
+import fs19.java.backend.domain.entity.enums.TaskStatus;
+import fs19.java.backend.domain.entity.enums.WorkspaceType;
+import fs19.java.backend.infrastructure.CopyLoader;
+import fs19.java.backend.infrastructure.CopyRowWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a large synthetic tenant for benchmarks and load tests, with the dataset profile only:
+ * companies with their roles and workspaces, workspace members, projects, and millions of tasks, comments,
+ * notifications and activity logs. Sizes are skewed like real data: a few projects hold most of the tasks,
+ * a few members create and get most of the work, and a few hot tasks collect most of the comments.
+ * Every value is derived from dataset.seed and the index of its row, so the same settings give the same rows
+ * whatever the number of threads. Rows are bulk loaded with COPY, one slice per connection, in parallel.
+ */
+@Component
+@Profile("dataset")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class DatasetGenerator implements CommandLineRunner {
+
+    private static final Logger logger = LogManager.getLogger(DatasetGenerator.class);
+
+    // tags separating the ids and random streams of each table
+    private static final int USER = 1;
+    private static final int COMPANY = 2;
+    private static final int ROLE = 3;
+    private static final int ROLE_PERMISSION = 4;
+    private static final int WORKSPACE = 5;
+    private static final int WORKSPACE_USER = 6;
+    private static final int PROJECT = 7;
+    private static final int TASK = 8;
+    private static final int COMMENT = 9;
+    private static final int NOTIFICATION = 10;
+    private static final int ACTIVITY_LOG = 11;
+
+    // rows per COPY, so the largest tables are split over all threads
+    private static final int SLICE_ROWS = 50_000;
+    private static final int MAX_COMMENTS_PER_TASK = 1000;
+    // comment ids are numbered per task, with room for MAX_COMMENTS_PER_TASK
+    private static final int COMMENT_ID_BITS = 10;
+    private static final double HOT_TASK_SHARE = 0.01;
+    private static final double HOT_TASK_FACTOR = 25;
+    private static final double ADMIN_MEMBER_SHARE = 0.1;
+    private static final long DAY_MILLIS = 86_400_000L;
+    private static final long YEAR_MILLIS = 365 * DAY_MILLIS;
+
+    private static final String[] FIRST_NAMES = {"Aino", "Ben", "Chen", "Dalia", "Eero", "Fatima", "Goran", "Hanna",
+            "Ines", "Jonas", "Kaito", "Leila", "Mikael", "Nora", "Omar", "Priya", "Rasmus", "Sara", "Tomas", "Veera"};
+    private static final String[] LAST_NAMES = {"Virtanen", "Smith", "Wang", "Garcia", "Korhonen", "Khan", "Novak",
+            "Nieminen", "Silva", "Berg", "Tanaka", "Haddad", "Laine", "Olsen", "Ali", "Patel", "Jensen", "Lind"};
+    private static final String[] VERBS = {"Fix", "Add", "Refactor", "Review", "Document", "Migrate", "Test",
+            "Design", "Remove", "Update", "Profile", "Deploy"};
+    private static final String[] NOUNS = {"login flow", "billing export", "search page", "task board", "API limits",
+            "audit log", "invoice PDF", "email digest", "mobile menu", "cache layer", "user import", "dashboard"};
+    private static final String[] WORDS = {"the", "a", "we", "should", "check", "again", "after", "release", "this",
+            "fails", "when", "users", "open", "board", "customer", "reported", "slow", "query", "works", "now",
+            "please", "review", "merged", "branch", "staging", "numbers", "look", "fine", "blocked", "by", "design",
+            "deadline", "moved", "estimate", "updated", "screenshot", "attached", "retest", "tomorrow", "done"};
+    private static final TaskStatus[] STATUSES = {TaskStatus.TODO, TaskStatus.IN_DEVELOPMENT, TaskStatus.COMPLETE, TaskStatus.RELEASED};
+    // most tasks older than STALE_TASK_DAYS are closed, so the open backlog is mostly recent work
+    private static final double[] STATUS_SHARES = {0.4, 0.3, 0.2, 0.1};
+    private static final double[] STALE_STATUS_SHARES = {0.08, 0.04, 0.38, 0.5};
+    private static final int STALE_TASK_DAYS = 90;
+    private static final Priority[] PRIORITIES = {Priority.LOW_PRIORITY, Priority.MEDIUM_PRIORITY, Priority.HIGH_PRIORITY};
+    private static final double[] PRIORITY_SHARES = {0.5, 0.35, 0.15};
+    private static final NotificationType[] NOTIFICATION_TYPES = {NotificationType.TASK_CREATED, NotificationType.TASK_UPDATED,
+            NotificationType.COMMENT_CREATED, NotificationType.TASK_OVERDUE, NotificationType.PROJECT_UPDATED};
+    private static final double[] NOTIFICATION_SHARES = {0.3, 0.3, 0.25, 0.1, 0.05};
+    private static final ActionType[] ACTIONS = {ActionType.CREATED, ActionType.UPDATED, ActionType.VIEWED, ActionType.MENTIONED};
+    private static final double[] ACTION_SHARES = {0.3, 0.45, 0.2, 0.05};
+
+    @Value("${dataset.seed:42}")
+    private long seed;
+    @Value("${dataset.companies:10}")
+    private int companies;
+    @Value("${dataset.workspaces-per-company:10}")
+    private int workspacesPerCompany;
+    @Value("${dataset.users:20000}")
+    private int users;
+    @Value("${dataset.members-per-workspace:100}")
+    private int membersPerWorkspace;
+    @Value("${dataset.projects-per-workspace:25}")
+    private int projectsPerWorkspace;
+    @Value("${dataset.tasks:2000000}")
+    private long tasks;
+    @Value("${dataset.comments-per-task:2}")
+    private double commentsPerTask;
+    @Value("${dataset.notifications:2000000}")
+    private long notifications;
+    @Value("${dataset.activity-logs:4000000}")
+    private long activityLogs;
+    // Zipf exponent of the project sizes and of the work done per member
+    @Value("${dataset.skew:1.1}")
+    private double skew;
+    @Value("${dataset.threads:8}")
+    private int threads;
+    // the end of the generated history; today (UTC) when empty
+    @Value("${dataset.anchor:}")
+    private String anchorDate;
+    @Value("${dataset.password:123456789}")
+    private String password;
+    @Value("${dataset.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    private final CopyLoader copyLoader;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext applicationContext;
+
+    public DatasetGenerator(CopyLoader copyLoader, JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                            ConfigurableApplicationContext applicationContext) {
+        this.copyLoader = copyLoader;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        generate();
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    /**
+     * Load the dataset of dataset.seed, unless its first user already exists
+     */
+    public void generate() throws InterruptedException {
+        if (exists("SELECT count(*) FROM users WHERE email = ?", email(0))) {
+            logger.info("Dataset {} is already loaded", seed);
+            return;
+        }
+        long started = System.currentTimeMillis();
+        Plan plan = new Plan();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            load(executor, users(plan));
+            load(executor, companies(plan));
+            load(executor, roles(plan), workspaces(plan));
+            load(executor, rolePermissions(plan), workspaceUsers(plan), projects(plan));
+            load(executor, tasks(plan), notifications(plan), activityLogs(plan));
+            load(executor, comments(plan));
+        } finally {
+            executor.shutdownNow();
+        }
+        loadBoardSummaries(plan);
+        for (String table : List.of("users", "company", "role", "role_permission", "workspace", "workspace_user", "project",
+                "task", "comments", "notification", "activity_log", "project_board_summary")) {
+            jdbcTemplate.execute("ANALYZE " + table);
+        }
+        logger.info("Dataset {} loaded in {} s; users log in as {} with password {}", seed,
+                (System.currentTimeMillis() - started) / 1000, email(0), password);
+    }
+
+    /**
+     * Email of the user with the given index; the first user of every company administers all its workspaces
+     */
+    public String email(int userIndex) {
+        return "dataset" + seed + ".user" + userIndex + "@example.com";
+    }
+
+    private Table users(Plan plan) {
+        String passwordHash = passwordEncoder.encode(password);
+        return new Table("users", List.of("id", "created_date", "email", "first_name", "last_name", "password", "phone"),
+                users, (index, out) -> {
+            SplittableRandom random = random(USER, index);
+            out.value(id(USER, index))
+                    .value(plan.instant(plan.anchor - YEAR_MILLIS - (long) (random.nextDouble() * YEAR_MILLIS)))
+                    .value(email((int) index))
+                    .value(pick(random, FIRST_NAMES))
+                    .value(pick(random, LAST_NAMES))
+                    .value(passwordHash)
+                    .value("+35840" + (1_000_000 + random.nextInt(9_000_000)))
+                    .endRow();
+        });
+    }
+
+    private Table companies(Plan plan) {
+        return new Table("company", List.of("id", "created_date", "name", "created_by"), companies, (index, out) ->
+                out.value(id(COMPANY, index))
+                        .value(plan.instant(plan.anchor - YEAR_MILLIS))
+                        .value("Dataset " + seed + " Company " + index)
+                        .value(id(USER, plan.poolUser((int) index, 0)))
+                        .endRow());
+    }
+
+    // an ADMIN role with every permission and a MEMBER role with the GET permissions, per company
+    private Table roles(Plan plan) {
+        return new Table("role", List.of("id", "created_date", "name", "company_id"), 2L * companies, (index, out) ->
+                out.value(id(ROLE, index))
+                        .value(plan.instant(plan.anchor - YEAR_MILLIS))
+                        .value(index % 2 == 0 ? DataLoader.ADMIN_USER_NAME : "MEMBER")
+                        .value(id(COMPANY, index / 2))
+                        .endRow());
+    }
+
+    private Table rolePermissions(Plan plan) {
+        List<Map<String, Object>> permissions = jdbcTemplate.queryForList("SELECT id, permission_type FROM permission ORDER BY name");
+        return new Table("role_permission", List.of("id", "permission_id", "role_id"), 2L * companies, (roleIndex, out) -> {
+            for (int index = 0; index < permissions.size(); index++) {
+                Map<String, Object> permission = permissions.get(index);
+                boolean admin = roleIndex % 2 == 0;
+                if (admin || ((Number) permission.get("permission_type")).intValue() == PermissionType.GET.ordinal()) {
+                    out.value(id(ROLE_PERMISSION, (roleIndex << 16) + index))
+                            .value(permission.get("id"))
+                            .value(id(ROLE, roleIndex))
+                            .endRow();
+                }
+            }
+        });
+    }
+
+    private Table workspaces(Plan plan) {
+        return new Table("workspace", List.of("id", "created_date", "description", "name", "type", "company_id", "created_by"),
+                plan.workspaces, (index, out) -> {
+            SplittableRandom random = random(WORKSPACE, index);
+            int company = (int) index / workspacesPerCompany;
+            out.value(id(WORKSPACE, index))
+                    .value(plan.instant(plan.anchor - YEAR_MILLIS + (long) (random.nextDouble() * 30 * DAY_MILLIS)))
+                    .value("Work of team " + index % workspacesPerCompany + " of company " + company)
+                    .value("Workspace " + index % workspacesPerCompany)
+                    .value((random.nextDouble() < 0.8 ? WorkspaceType.PUBLIC : WorkspaceType.PRIVATE).name())
+                    .value(id(COMPANY, company))
+                    .value(id(USER, plan.poolUser(company, 0)))
+                    .endRow();
+        });
+    }
+
+    private Table workspaceUsers(Plan plan) {
+        return new Table("workspace_user", List.of("id", "role_id", "user_id", "workspace_id"), plan.workspaces, (workspace, out) -> {
+            SplittableRandom random = random(WORKSPACE_USER, workspace);
+            int[] members = plan.members[(int) workspace];
+            int company = (int) workspace / workspacesPerCompany;
+            for (int member = 0; member < members.length; member++) {
+                boolean admin = member == 0 || random.nextDouble() < ADMIN_MEMBER_SHARE;
+                out.value(id(WORKSPACE_USER, workspace * membersPerWorkspace + member))
+                        .value(id(ROLE, 2L * company + (admin ? 0 : 1)))
+                        .value(id(USER, members[member]))
+                        .value(id(WORKSPACE, workspace))
+                        .endRow();
+            }
+        });
+    }
+
+    private Table projects(Plan plan) {
+        return new Table("project", List.of("id", "created_date", "description", "end_date", "name", "start_date", "status",
+                "version", "created_by_user_id", "workspace_id"), plan.projects, (index, out) -> {
+            SplittableRandom random = random(PROJECT, index);
+            int workspace = (int) index / projectsPerWorkspace;
+            long created = plan.anchor - YEAR_MILLIS + (long) (random.nextDouble() * 60 * DAY_MILLIS);
+            out.value(id(PROJECT, index))
+                    .value(plan.instant(created))
+                    .value("Roadmap item " + index % projectsPerWorkspace + " of workspace " + workspace)
+                    .value(plan.instant(plan.anchor + (30 + random.nextInt(335)) * DAY_MILLIS))
+                    .value(pick(random, NOUNS) + " " + index % projectsPerWorkspace)
+                    .value(plan.instant(created + DAY_MILLIS))
+                    .value(random.nextDouble() < 0.8)
+                    .value(0)
+                    .value(id(USER, plan.member(random, workspace)))
+                    .value(id(WORKSPACE, workspace))
+                    .endRow();
+        });
+    }
+
+    private Table tasks(Plan plan) {
+        return new Table("task", List.of("id", "comment_count", "created_date", "description", "due_date", "last_activity_at",
+                "name", "overdue_date", "priority", "resolved_date", "task_status", "version", "assigneduser_id",
+                "createduser_id", "project_id"), tasks, (index, out) -> {
+            SplittableRandom random = random(TASK, index);
+            int project = plan.projectOf(index);
+            int workspace = project / projectsPerWorkspace;
+            long created = createdDate(plan, random);
+            boolean stale = plan.anchor - created > STALE_TASK_DAYS * DAY_MILLIS;
+            TaskStatus status = STATUSES[pick(random, stale ? STALE_STATUS_SHARES : STATUS_SHARES)];
+            Priority priority = PRIORITIES[pick(random, PRIORITY_SHARES)];
+            long due = created + (1 + random.nextInt(60)) * DAY_MILLIS;
+            boolean closed = status == TaskStatus.COMPLETE || status == TaskStatus.RELEASED;
+            Long resolved = closed ? Math.min(plan.anchor, created + (long) ((due - created) * (0.3 + random.nextDouble()))) : null;
+            long lastActivity = created;
+            long[] commentDates = commentDates(plan, random(COMMENT, index), created);
+            for (long commentDate : commentDates) {
+                lastActivity = Math.max(lastActivity, commentDate);
+            }
+            out.value(id(TASK, index))
+                    .value(commentDates.length)
+                    .value(plan.instant(created))
+                    .value(sentence(random, 8 + random.nextInt(30)))
+                    .value(plan.instant(due))
+                    .value(plan.instant(lastActivity))
+                    .value(pick(random, VERBS) + " " + pick(random, NOUNS) + " " + (index - plan.taskOffsets[project] + 1))
+                    // open tasks past their due date are flagged already, so the scheduler does not flag them all at startup
+                    .value(!closed && due < plan.anchor ? plan.instant(due) : null)
+                    .value(priority.getId())
+                    .value(resolved == null ? null : plan.instant(resolved))
+                    .value(status.getId())
+                    .value(0)
+                    .value(id(USER, plan.member(random, workspace)))
+                    .value(id(USER, plan.member(random, workspace)))
+                    .value(id(PROJECT, project))
+                    .endRow();
+        });
+    }
+
+    // rows are written per task, so a slice holds the comments of SLICE_ROWS tasks
+    private Table comments(Plan plan) {
+        return new Table("comments", List.of("id", "content", "created_date", "created_by", "task_id"), tasks, (task, out) -> {
+            SplittableRandom random = random(COMMENT, task);
+            int workspace = plan.projectOf(task) / projectsPerWorkspace;
+            long[] commentDates = commentDates(plan, random, createdDate(plan, random(TASK, task)));
+            for (int comment = 0; comment < commentDates.length; comment++) {
+                out.value(id(COMMENT, (task << COMMENT_ID_BITS) + comment))
+                        .value(sentence(random, 3 + random.nextInt(25)))
+                        .value(plan.instant(commentDates[comment]))
+                        .value(id(USER, plan.member(random, workspace)))
+                        .value(id(TASK, task))
+                        .endRow();
+            }
+        });
+    }
+
+    private Table notifications(Plan plan) {
+        return new Table("notification", List.of("id", "content", "created_date", "is_read", "notify_type",
+                "mentioned_by_user_id", "mentioned_to_user_id", "project_id"), notifications, (index, out) -> {
+            SplittableRandom random = random(NOTIFICATION, index);
+            long task = random.nextLong(tasks);
+            int project = plan.projectOf(task);
+            int workspace = project / projectsPerWorkspace;
+            NotificationType type = NOTIFICATION_TYPES[pick(random, NOTIFICATION_SHARES)];
+            long created = plan.anchor - (long) (square(random.nextDouble()) * 90 * DAY_MILLIS);
+            boolean older = plan.anchor - created > 7 * DAY_MILLIS;
+            out.value(id(NOTIFICATION, index))
+                    .value(type.name().replace('_', ' ').toLowerCase() + ": task " + (task - plan.taskOffsets[project] + 1))
+                    .value(plan.instant(created))
+                    .value(random.nextDouble() < (older ? 0.9 : 0.3))
+                    .value(type.ordinal())
+                    .value(id(USER, plan.member(random, workspace)))
+                    .value(id(USER, plan.member(random, workspace)))
+                    .value(id(PROJECT, project))
+                    .endRow();
+        });
+    }
+
+    // the entities are picked through a random task, so busy projects also have the most activity
+    private Table activityLogs(Plan plan) {
+        return new Table("activity_log", List.of("id", "action", "created_date", "entity_id", "entity_type", "user_id"),
+                activityLogs, (index, out) -> {
+            SplittableRandom random = random(ACTIVITY_LOG, index);
+            long task = random.nextLong(tasks);
+            int project = plan.projectOf(task);
+            int workspace = project / projectsPerWorkspace;
+            double kind = random.nextDouble();
+            EntityType entityType = kind < 0.7 ? EntityType.TASK : kind < 0.9 ? EntityType.PROJECT : EntityType.WORKSPACE;
+            UUID entityId = switch (entityType) {
+                case TASK -> id(TASK, task);
+                case PROJECT -> id(PROJECT, project);
+                default -> id(WORKSPACE, workspace);
+            };
+            out.value(id(ACTIVITY_LOG, index))
+                    .value(ACTIONS[pick(random, ACTION_SHARES)].name())
+                    .value(plan.instant(createdDate(plan, random)))
+                    .value(entityId)
+                    .value(entityType.name())
+                    .value(id(USER, plan.member(random, workspace)))
+                    .endRow();
+        });
+    }
+
+    // the same counts ProjectBoardSummaryService.reconcile writes, for every generated project at once
+    private void loadBoardSummaries(Plan plan) {
+        String statusName = Arrays.stream(TaskStatus.values())
+                .map(status -> " WHEN " + status.getId() + " THEN '" + status.name() + "'")
+                .collect(Collectors.joining("", "CASE t.task_status", " END"));
+        String priorityName = Arrays.stream(Priority.values())
+                .map(priority -> " WHEN " + priority.getId() + " THEN '" + priority.name() + "'")
+                .collect(Collectors.joining("", "CASE t.priority", " END"));
+        List<Object> companyIds = new ArrayList<>();
+        for (int company = 0; company < companies; company++) {
+            companyIds.add(id(COMPANY, company));
+        }
+        long started = System.currentTimeMillis();
+        int rows = jdbcTemplate.update("""
+                INSERT INTO project_board_summary (project_id, bucket, task_count)
+                SELECT t.project_id, b.bucket, count(*)
+                FROM task t
+                JOIN project p ON p.id = t.project_id
+                JOIN workspace w ON w.id = p.workspace_id
+                CROSS JOIN LATERAL (VALUES ('%s' || %s), ('%s' || %s),
+                    (CASE WHEN t.overdue_date IS NOT NULL AND t.task_status NOT IN (%d, %d) THEN '%s' END)) b (bucket)
+                WHERE w.company_id IN (%s) AND b.bucket IS NOT NULL
+                GROUP BY t.project_id, b.bucket
+                ON CONFLICT (project_id, bucket) DO UPDATE SET task_count = EXCLUDED.task_count
+                """.formatted(ProjectBoardSummary.STATUS_PREFIX, statusName, ProjectBoardSummary.PRIORITY_PREFIX, priorityName,
+                TaskStatus.COMPLETE.getId(), TaskStatus.RELEASED.getId(), ProjectBoardSummary.OVERDUE,
+                String.join(", ", companyIds.stream().map(id -> "?").toList())), companyIds.toArray());
+        logger.info("project_board_summary: {} rows in {} ms", rows, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * COPY the tables in parallel slices and wait for all of them; the tables must not reference each other
+     */
+    private void load(ExecutorService executor, Table... tables) throws InterruptedException {
+        long started = System.currentTimeMillis();
+        Map<String, List<Future<Long>>> slicesByTable = new HashMap<>();
+        for (Table table : tables) {
+            List<Future<Long>> slices = new ArrayList<>();
+            for (long from = 0; from < table.count(); from += SLICE_ROWS) {
+                long sliceFrom = from;
+                long sliceTo = Math.min(from + SLICE_ROWS, table.count());
+                slices.add(executor.submit(() -> copyLoader.copy(table.name(), table.columns(), out -> {
+                    for (long index = sliceFrom; index < sliceTo; index++) {
+                        table.rows().write(index, out);
+                    }
+                })));
+            }
+            slicesByTable.put(table.name(), slices);
+        }
+        for (Table table : tables) {
+            long rows = 0;
+            for (Future<Long> slice : slicesByTable.get(table.name())) {
+                try {
+                    rows += slice.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Loading " + table.name() + " failed", e.getCause());
+                }
+            }
+            long elapsed = Math.max(1, System.currentTimeMillis() - started);
+            logger.info("{}: {} rows in {} ms ({} rows/s)", table.name(), rows, elapsed, rows * 1000 / elapsed);
+        }
+    }
+
+    // recent tasks and activity are more frequent than old ones
+    private long createdDate(Plan plan, SplittableRandom random) {
+        return plan.anchor - (long) (square(random.nextDouble()) * YEAR_MILLIS);
+    }
+
+    /**
+     * Dates of the comments of a task. Most tasks get a few comments and HOT_TASK_SHARE of them many more;
+     * the random stream continues with the authors and texts, which only the comment rows draw.
+     */
+    private long[] commentDates(Plan plan, SplittableRandom random, long taskCreated) {
+        double mean = random.nextDouble() < HOT_TASK_SHARE ? commentsPerTask * HOT_TASK_FACTOR : commentsPerTask;
+        int count = (int) Math.min(MAX_COMMENTS_PER_TASK, Math.floor(-Math.log(1 - random.nextDouble()) * mean));
+        long[] dates = new long[count];
+        for (int comment = 0; comment < count; comment++) {
+            dates[comment] = taskCreated + (long) ((plan.anchor - taskCreated) * random.nextDouble());
+        }
+        return dates;
+    }
+
+    private boolean exists(String sql, Object... args) {
+        Integer rows = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return rows != null && rows > 0;
+    }
+
+    /**
+     * Id of the row with the given index: the same for the same seed, and unrelated across tables and seeds
+     */
+    private UUID id(int table, long index) {
+        long key = mix(mix(seed * 0x9E3779B97F4A7C15L + table) ^ index);
+        long mostSignificant = (mix(key) & ~0xF000L) | 0x4000L;
+        long leastSignificant = (mix(key + 0x9E3779B97F4A7C15L) & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private SplittableRandom random(int table, long index) {
+        return new SplittableRandom(mix(mix(seed + 0x632BE59BD9B4E019L * table) ^ index));
+    }
+
+    // the finalizer of SplitMix64
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int word = 0; word < words; word++) {
+            sentence.append(word == 0 ? "" : " ").append(pick(random, WORDS));
+        }
+        sentence.setCharAt(0, Character.toUpperCase(sentence.charAt(0)));
+        return sentence.append('.').toString();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int pick(SplittableRandom random, double[] shares) {
+        double value = random.nextDouble();
+        for (int index = 0; index < shares.length - 1; index++) {
+            value -= shares[index];
+            if (value < 0) {
+                return index;
+            }
+        }
+        return shares.length - 1;
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    private record Table(String name, List<String> columns, long count, Rows rows) {
+    }
+
+    @FunctionalInterface
+    private interface Rows {
+        void write(long index, CopyRowWriter out);
+    }
+
+    /**
+     * The shape of the tenant, computed up front from the seed: who is a member where, and how the tasks are
+     * spread over the projects
+     */
+    private class Plan {
+
+        private final long anchor;
+        private final int workspaces = companies * workspacesPerCompany;
+        private final int projects = workspaces * projectsPerWorkspace;
+        // user indexes of the members of each workspace; member 0 is the company's first user
+        private final int[][] members = new int[workspaces][];
+        // cumulative Zipf weights of the member ranks, so a few members do most of the work
+        private final double[] memberWeights;
+        // tasks of project p are the indexes taskOffsets[p] until taskOffsets[p + 1]
+        private final long[] taskOffsets = new long[projects + 1];
+
+        private Plan() {
+            anchor = (anchorDate.isBlank() ? LocalDate.now(ZoneOffset.UTC) : LocalDate.parse(anchorDate))
+                    .atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            int poolSize = users / companies;
+            if (poolSize < 1 || tasks < 1) {
+                throw new IllegalArgumentException("dataset.users must be at least dataset.companies, and dataset.tasks at least 1");
+            }
+            int memberCount = Math.min(membersPerWorkspace, poolSize);
+            for (int workspace = 0; workspace < workspaces; workspace++) {
+                SplittableRandom random = random(WORKSPACE_USER, -1 - workspace);
+                int company = workspace / workspacesPerCompany;
+                int offset = random.nextInt(poolSize);
+                members[workspace] = new int[memberCount];
+                members[workspace][0] = poolUser(company, 0);
+                for (int member = 1; member < memberCount; member++) {
+                    members[workspace][member] = poolUser(company, 1 + (offset + member) % Math.max(1, poolSize - 1));
+                }
+            }
+            memberWeights = cumulativeZipf(memberCount);
+            spreadTasks();
+        }
+
+        // project sizes follow a Zipf distribution over a random ranking of the projects
+        private void spreadTasks() {
+            SplittableRandom random = random(PROJECT, -1);
+            int[] rankOf = new int[projects];
+            for (int project = 0; project < projects; project++) {
+                rankOf[project] = project;
+            }
+            for (int index = projects - 1; index > 0; index--) {
+                int other = random.nextInt(index + 1);
+                int swapped = rankOf[index];
+                rankOf[index] = rankOf[other];
+                rankOf[other] = swapped;
+            }
+            double total = 0;
+            for (int rank = 0; rank < projects; rank++) {
+                total += Math.pow(rank + 1, -skew);
+            }
+            long[] counts = new long[projects];
+            long assigned = 0;
+            for (int project = 0; project < projects; project++) {
+                counts[project] = (long) (tasks * Math.pow(rankOf[project] + 1, -skew) / total);
+                assigned += counts[project];
+            }
+            // the rounding remainder goes to the largest projects
+            for (int project = 0; assigned < tasks; project = (project + 1) % projects) {
+                if (rankOf[project] < tasks - assigned || rankOf[project] == 0) {
+                    counts[project]++;
+                    assigned++;
+                }
+            }
+            for (int project = 0; project < projects; project++) {
+                taskOffsets[project + 1] = taskOffsets[project] + counts[project];
+            }
+        }
+
+        private int poolUser(int company, int position) {
+            // company c owns the users c, c + companies, c + 2 * companies, ...
+            return company + position * companies;
+        }
+
+        private int member(SplittableRandom random, int workspace) {
+            int rank = Arrays.binarySearch(memberWeights, random.nextDouble());
+            return members[workspace][rank >= 0 ? rank : Math.min(-rank - 1, memberWeights.length - 1)];
+        }
+
+        private int projectOf(long task) {
+            int project = Arrays.binarySearch(taskOffsets, task);
+            if (project < 0) {
+                return -project - 2;
+            }
+            // an exact match is the first task of a project; skip the empty projects ending there
+            while (taskOffsets[project + 1] == task) {
+                project++;
+            }
+            return project;
+        }
+
+        private Instant instant(long epochMillis) {
+            return Instant.ofEpochMilli(epochMillis);
+        }
+
+        private double[] cumulativeZipf(int size) {
+            double[] weights = new double[size];
+            double total = 0;
+            for (int rank = 0; rank < size; rank++) {
+                total += Math.pow(rank + 1, -skew);
+                weights[rank] = total;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                weights[rank] /= total;
+            }
+            return weights;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package fs19.java.backend.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Metrics shared by every endpoint. Histograms, exposure and common tags are set in application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String HANDLER = "handler";
+
+    /**
+     * Tag http.server.requests with the controller method that handled the request, such as
+     * TaskController.getTaskById, so latency histograms are kept per method
+     */
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+                String name = handler instanceof HandlerMethod method
+                        ? method.getBeanType().getSimpleName() + "." + method.getMethod().getName()
+                        : "none";
+                return super.getLowCardinalityKeyValues(context).and(KeyValue.of(HANDLER, name));
+            }
+        };
+    }
+}
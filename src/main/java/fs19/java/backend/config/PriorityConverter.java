@@ -0,0 +1,26 @@
+package fs19.java.backend.config;
+
+import fs19.java.backend.domain.entity.enums.Priority;
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Stores a priority name as its Priority id in a smallint column
+ */
+public class PriorityConverter implements AttributeConverter<String, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return (short) Priority.fromName(attribute).getId();
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return Priority.fromId(dbData).name();
+    }
+}
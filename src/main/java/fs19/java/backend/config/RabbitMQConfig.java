@@ -1,8 +1,10 @@
 package fs19.java.backend.config;
 
 import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -14,6 +16,8 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class RabbitMQConfig {
 
+    public static final String CACHE_INVALIDATION_EXCHANGE = "cacheInvalidationExchange";
+
     @Bean
     public Queue generalQueue() {
         return new Queue("generalQueue", false);
@@ -29,6 +33,23 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(generalQueue).to(generalExchange).with("generalRoutingKey");
     }
 
+    // second-level cache evictions go to every instance, each through a queue of its own
+    @Bean
+    public FanoutExchange cacheInvalidationExchange() {
+        return new FanoutExchange(CACHE_INVALIDATION_EXCHANGE);
+    }
+
+    // exclusive and auto-delete, so it goes away with the instance; declared without broker-specific arguments
+    @Bean
+    public Queue cacheInvalidationQueue() {
+        return new Queue(new Base64UrlNamingStrategy("cacheInvalidation.").generateName(), false, true, true);
+    }
+
+    @Bean
+    public Binding cacheInvalidationBinding(Queue cacheInvalidationQueue, FanoutExchange cacheInvalidationExchange) {
+        return BindingBuilder.bind(cacheInvalidationQueue).to(cacheInvalidationExchange);
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -38,6 +59,8 @@ public class RabbitMQConfig {
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         final RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(jsonMessageConverter());
+        // times every publish as spring.rabbit.template
+        rabbitTemplate.setObservationEnabled(true);
         return rabbitTemplate;
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package fs19.java.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import fs19.java.backend.infrastructure.ReplicaLagMonitor;
+import fs19.java.backend.infrastructure.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Read-only transactions go to the replica at replica.url, everything else to spring.datasource.
+ * Without replica.url the application keeps the single datasource of Spring Boot.
+ */
+@Configuration
+@ConditionalOnProperty(name = "replica.url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${replica.url}") String url,
+                                              @Value("${replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${replica.password:${spring.datasource.password}}") String password,
+                                              @Value("${replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${replica.max-lag-ms:5000}") long maxLagMillis) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, maxLagMillis);
+        monitor.refresh();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 @Value("${replica.sticky-window-ms:5000}") long stickyWindowMillis) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor::isReplicaUsable, stickyWindowMillis);
+        routingDataSource.setTargetDataSources(Map.of(ReplicaRoutingDataSource.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
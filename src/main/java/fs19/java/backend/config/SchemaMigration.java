@@ -0,0 +1,12 @@
+package fs19.java.backend.config;
+
+/**
+ * A one-off, idempotent change to the schema or its data, run by SchemaMigrationRunner
+ */
+public interface SchemaMigration {
+
+    /**
+     * Apply the change when the database still needs it, otherwise do nothing
+     */
+    void migrate();
+}
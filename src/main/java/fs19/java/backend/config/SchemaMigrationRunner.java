@@ -0,0 +1,32 @@
+package fs19.java.backend.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Runs the schema migrations once every singleton exists, before the web server starts, in the order listed here.
+ * Each migration implementing SmartInitializingSingleton itself would run in bean registration order instead,
+ * which follows class names. Migrations are listed in the order they were added, so each may rely on the schema
+ * the earlier ones leave behind.
+ */
+@Component
+public class SchemaMigrationRunner implements SmartInitializingSingleton {
+
+    private final List<SchemaMigration> migrations;
+
+    public SchemaMigrationRunner(VersionColumnMigration versionColumnMigration,
+                                 TaskAttachmentMigration taskAttachmentMigration,
+                                 TaskCodeColumnMigration taskCodeColumnMigration,
+                                 TaskCommentCountMigration taskCommentCountMigration,
+                                 TaskOverdueMigration taskOverdueMigration) {
+        this.migrations = List.of(versionColumnMigration, taskAttachmentMigration, taskCodeColumnMigration,
+                taskCommentCountMigration, taskOverdueMigration);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrations.forEach(SchemaMigration::migrate);
+    }
+}
@@ -58,6 +58,7 @@ public class SecurityConfig {
         http.cors(AbstractHttpConfigurer::disable).csrf(AbstractHttpConfigurer::disable).sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS)).authorizeHttpRequests(auth -> {
                     // Public endpoints that can be accessed without authentication
                     auth.requestMatchers("/api/v1/**").hasAnyAuthority("TEST-USER");
+                    auth.requestMatchers("/actuator/health", "/actuator/prometheus").permitAll();
                     // Block all other requests that don't match any of the above rules
                     auth.anyRequest().denyAll();  // This ensures other requests are blocked
 
@@ -92,7 +93,9 @@ public class SecurityConfig {
                             .requestMatchers(HttpMethod.POST, "/api/v1/users").permitAll()
                             .requestMatchers("/api/v1/accept-invitation/redirect").permitAll()
                             .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**")
-                            .permitAll();
+                            .permitAll()
+                            // scraped by Prometheus, which does not log in
+                            .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll();
 
                     // 2. Make sure /api/v1/workspace-users/my-workspaces is authenticated (no roles needed) /api/v1/users/me
                     auth.requestMatchers(HttpMethod.GET, "/api/v1/workspace-users/my-workspaces")
@@ -0,0 +1,47 @@
+package fs19.java.backend.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-off migration of the comma-joined task.attachments column into task_attachment rows.
+ * Runs before the web server starts, only while the old column still exists, and drops it once copied.
+ */
+@Component
+public class TaskAttachmentMigration implements SchemaMigration {
+
+    private static final Logger logger = LogManager.getLogger(TaskAttachmentMigration.class);
+
+    private static final String COLUMN_EXISTS_SQL = "SELECT count(*) FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?";
+    private static final String COPY_SQL = """
+            INSERT INTO task_attachment (id, task_id, file_name, created_date)
+            SELECT gen_random_uuid(), t.id, trim(a.file_name), coalesce(t.created_date, now())
+            FROM task t CROSS JOIN LATERAL unnest(string_to_array(t.attachments, ',')) AS a(file_name)
+            WHERE trim(a.file_name) <> ''
+            ON CONFLICT (task_id, file_name) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskAttachmentMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void migrate() {
+        if (!columnExists("task", "attachments") || !columnExists("task_attachment", "task_id")) {
+            return;
+        }
+        int copied = jdbcTemplate.update(COPY_SQL);
+        jdbcTemplate.execute("ALTER TABLE task DROP COLUMN attachments");
+        logger.info("Moved {} task attachments from task.attachments to task_attachment", copied);
+    }
+
+    private boolean columnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(COLUMN_EXISTS_SQL, Integer.class, table, column);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,53 @@
+package fs19.java.backend.config;
+
+import fs19.java.backend.domain.entity.enums.Priority;
+import fs19.java.backend.domain.entity.enums.TaskStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * One-off migration of task.task_status and task.priority from names to the smallint codes written by
+ * TaskStatusConverter and PriorityConverter. Hibernate schema update does not change column types, so
+ * databases created before the converters still hold varchar columns; they are converted in place
+ * before the web server starts. Columns which are already smallint are left untouched.
+ */
+@Component
+public class TaskCodeColumnMigration implements SchemaMigration {
+
+    private static final Logger logger = LogManager.getLogger(TaskCodeColumnMigration.class);
+
+    private static final String COLUMN_TYPE_SQL = "SELECT data_type FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = 'task' AND column_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskCodeColumnMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void migrate() {
+        migrateColumn("task_status", Arrays.stream(TaskStatus.values()).collect(Collectors.toMap(Enum::name, TaskStatus::getId)));
+        migrateColumn("priority", Arrays.stream(Priority.values()).collect(Collectors.toMap(Enum::name, Priority::getId)));
+    }
+
+    private void migrateColumn(String column, Map<String, Integer> codeByName) {
+        String dataType = jdbcTemplate.query(COLUMN_TYPE_SQL, rs -> rs.next() ? rs.getString(1) : null, column);
+        if (dataType == null || "smallint".equals(dataType)) {
+            return;
+        }
+        // names come from the enums, never from user input; an unknown stored name fails the cast and aborts the ALTER
+        StringBuilder codeExpression = new StringBuilder("CASE upper(").append(column).append(")");
+        codeByName.forEach((name, code) -> codeExpression.append(" WHEN '").append(name).append("' THEN ").append(code));
+        codeExpression.append(" ELSE ").append(column).append("::smallint END");
+        logger.info("Migrating task.{} from {} to smallint codes", column, dataType);
+        jdbcTemplate.execute("ALTER TABLE task ALTER COLUMN " + column + " TYPE smallint USING " + codeExpression);
+        logger.info("task.{} migrated to smallint codes", column);
+    }
+}
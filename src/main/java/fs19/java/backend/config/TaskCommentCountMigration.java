@@ -0,0 +1,39 @@
+package fs19.java.backend.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-off migration for the comment count of tasks.
+ * Hibernate schema update adds task.comment_count as 0 and task.last_activity_at as null, so tasks which already
+ * had comments are filled in from the comments table, with their newest comment as the last activity. Runs only
+ * while no task has a count yet and some comment exists.
+ */
+@Component
+public class TaskCommentCountMigration implements SchemaMigration {
+
+    private static final Logger logger = LogManager.getLogger(TaskCommentCountMigration.class);
+
+    private static final String NEEDS_BACKFILL_SQL = "SELECT NOT EXISTS (SELECT 1 FROM task WHERE comment_count > 0) " +
+            "AND EXISTS (SELECT 1 FROM comments)";
+    private static final String BACKFILL_SQL = "UPDATE task t SET comment_count = c.comment_count, last_activity_at = c.last_activity_at " +
+            "FROM (SELECT task_id, count(*) AS comment_count, max(created_date) AS last_activity_at FROM comments GROUP BY task_id) c " +
+            "WHERE t.id = c.task_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskCommentCountMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void migrate() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(NEEDS_BACKFILL_SQL, Boolean.class))) {
+            return;
+        }
+        int counted = jdbcTemplate.update(BACKFILL_SQL);
+        logger.info("Filled in the comment count of {} tasks", counted);
+    }
+}
@@ -0,0 +1,50 @@
+package fs19.java.backend.config;
+
+import fs19.java.backend.domain.entity.enums.NotificationType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Migration for the overdue notifications of tasks.
+ * Hibernate schema update does not widen the check constraint it created on notification.notify_type, so it is
+ * re-created to cover every NotificationType, including TASK_OVERDUE. Tasks already past their due date when
+ * task.overdue_date was added are left to TaskDueDateScheduler, which flags them on its first tick with their
+ * events and board summary deltas.
+ */
+@Component
+public class TaskOverdueMigration implements SchemaMigration {
+
+    private static final Logger logger = LogManager.getLogger(TaskOverdueMigration.class);
+
+    private static final String NOTIFY_TYPE_CHECKS_SQL = "SELECT c.conname, pg_get_constraintdef(c.oid) FROM pg_constraint c " +
+            "WHERE c.conrelid = 'notification'::regclass AND c.contype = 'c' AND pg_get_constraintdef(c.oid) LIKE '%notify_type%'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskOverdueMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void migrate() {
+        widenNotifyTypeCheck();
+    }
+
+    private void widenNotifyTypeCheck() {
+        String expected = "notify_type <= " + (NotificationType.values().length - 1);
+        List<String[]> checks = jdbcTemplate.query(NOTIFY_TYPE_CHECKS_SQL, (rs, rowNum) -> new String[]{rs.getString(1), rs.getString(2)});
+        for (String[] check : checks) {
+            if (check[1].contains(expected)) {
+                continue;
+            }
+            // constraint names come from the catalog, never from user input
+            jdbcTemplate.execute("ALTER TABLE notification DROP CONSTRAINT \"" + check[0] + "\"");
+            jdbcTemplate.execute("ALTER TABLE notification ADD CONSTRAINT \"" + check[0] + "\" CHECK (notify_type >= 0 AND " + expected + ")");
+            logger.info("Widened {} to {} notification types", check[0], NotificationType.values().length);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package fs19.java.backend.config;
+
+import fs19.java.backend.domain.entity.enums.TaskStatus;
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * Stores a task status name as its TaskStatus id in a smallint column
+ */
+public class TaskStatusConverter implements AttributeConverter<String, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return (short) TaskStatus.fromName(attribute).getId();
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return TaskStatus.fromId(dbData).name();
+    }
+}
@@ -0,0 +1,47 @@
+package fs19.java.backend.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-off backfill of the optimistic-locking version columns of task and project.
+ * Hibernate schema update adds the columns as nullable, so rows written before them hold NULL, which
+ * Hibernate cannot increment. They are set to 0 and the columns made NOT NULL DEFAULT 0 before the web
+ * server starts, which also covers JDBC inserts that do not name the column. Columns which are already
+ * NOT NULL are left untouched.
+ */
+@Component
+public class VersionColumnMigration implements SchemaMigration {
+
+    private static final Logger logger = LogManager.getLogger(VersionColumnMigration.class);
+
+    private static final List<String> VERSIONED_TABLES = List.of("task", "project");
+    private static final String COLUMN_NULLABLE_SQL = "SELECT is_nullable FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = ? AND column_name = 'version'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VersionColumnMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void migrate() {
+        VERSIONED_TABLES.forEach(this::migrateTable);
+    }
+
+    private void migrateTable(String table) {
+        String nullable = jdbcTemplate.query(COLUMN_NULLABLE_SQL, rs -> rs.next() ? rs.getString(1) : null, table);
+        if (!"YES".equals(nullable)) {
+            return;
+        }
+        // table names come from the constant list above, never from user input
+        int backfilled = jdbcTemplate.update("UPDATE " + table + " SET version = 0 WHERE version IS NULL");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN version SET DEFAULT 0, ALTER COLUMN version SET NOT NULL");
+        logger.info("Backfilled {} rows of {}.version and made the column NOT NULL", backfilled, table);
+    }
+}
@@ -0,0 +1,71 @@
+package fs19.java.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier, read from the JFR jdk.VirtualThreadPinned event.
+ * A thread blocking inside a synchronized block or a native frame holds its carrier, and with few carriers a handful
+ * of them stall every request; each pin longer than virtual-threads.pinned-threshold-ms is logged with its stack.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LogManager.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(@Value("${virtual-threads.pinned-threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        recordingStream.close();
+    }
+
+    /**
+     * @return pins longer than the threshold since startup
+     */
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        String frames = event.getStackTrace() == null ? "no stack trace" : event.getStackTrace().getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat "));
+        logger.warn("Virtual thread pinned to its carrier for {} ms\n\tat {}", event.getDuration().toMillis(), frames);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + " line " + frame.getLineNumber();
+    }
+}
@@ -23,4 +23,5 @@ public interface RolePermissionRepository {
     List<RolePermissionResponseDTO> findByRoleId(UUID roleId);
     List<RolePermissionResponseDTO> findByPermissionId(UUID permissionId);
     RolePermission existsById(@NotNull UUID roleId, @NotNull UUID permissionId);
+    List<RolePermission> saveAll(List<RolePermission> rolePermissions);
 }
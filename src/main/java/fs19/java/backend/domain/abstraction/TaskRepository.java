@@ -1,10 +1,16 @@
 package fs19.java.backend.domain.abstraction;
 
+import fs19.java.backend.application.dto.page.KeysetCursor;
 import fs19.java.backend.application.dto.task.TaskRequestDTO;
+import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.dto.task.TaskSearchCriteriaDTO;
+import fs19.java.backend.application.dto.task.TaskSnapshotDTO;
 import fs19.java.backend.domain.entity.Project;
 import fs19.java.backend.domain.entity.Task;
 import fs19.java.backend.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,12 +18,19 @@ public interface TaskRepository {
 
     Task save(Task task);
     Task update(UUID taskId, TaskRequestDTO taskRequestDTO, User assignedUser, Project project);
+    Task update(Task task);
     Task delete(UUID taskId);
     List<Task> findAll();
     Task findById(UUID taskId);
-    List<Task> findByAssignedUserId(UUID userId);
-    List<Task> findByCreatedUserId(UUID createdUserId);
+    List<TaskResponseDTO> findByAssignedUserId(UUID userId, Pageable pageable);
+    List<TaskResponseDTO> findByCreatedUserId(UUID createdUserId, Pageable pageable);
     List<Task> findTasksByProjectId(UUID projectId);
+    List<Task> search(TaskSearchCriteriaDTO criteria, KeysetCursor after, int limit);
+    List<TaskSnapshotDTO> findSnapshotsByIdsForUpdate(Collection<UUID> taskIds);
+    void insertAll(List<Task> tasks);
+    void updateAll(List<Task> tasks);
+    void moveAll(List<Task> tasks);
+    List<Task> saveAll(List<Task> tasks);
 
 
 }
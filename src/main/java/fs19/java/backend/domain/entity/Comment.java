@@ -12,7 +12,12 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // serves the keyset pages of a task thread, ordered by (created_date, id)
+        @Index(name = "idx_comments_task_created", columnList = "task_id, created_date, id"),
+        // lets the delete of a user's comments find them without a full scan
+        @Index(name = "idx_comments_created_by", columnList = "created_by")
+})
 public class Comment {
     @Id
     @GeneratedValue(generator = "UUID")
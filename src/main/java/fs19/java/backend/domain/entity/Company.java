@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.time.ZonedDateTime;
 import java.util.UUID;
 
@@ -11,8 +15,16 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+// cached entries bypass the restriction below, so the deletion request evicts the company when it tombstones it
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Company.CACHE_REGION)
+// a company waiting for its deletion job is a tombstone, hidden from every entity query
+@SQLRestriction("deleted_at IS NULL")
 @Table(name = "company")
 public class Company {
+
+    public static final String CACHE_REGION = "company";
+
     @Id
     @GeneratedValue(generator = "UUID")
     private UUID id;
@@ -26,4 +38,11 @@ public class Company {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
+
+    @Column
+    private ZonedDateTime deletedAt;
+
+    public Company(UUID id, String name, ZonedDateTime createdDate, User createdBy) {
+        this(id, name, createdDate, createdBy, null);
+    }
 }
\ No newline at end of file
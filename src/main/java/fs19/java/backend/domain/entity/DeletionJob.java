@@ -0,0 +1,56 @@
+package fs19.java.backend.domain.entity;
+
+import fs19.java.backend.domain.entity.enums.DeletionJobStatus;
+import fs19.java.backend.domain.entity.enums.EntityType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * Background deletion of a company, workspace or project and everything below it.
+ * step is the next delete of the plan to run and only moves forward once that delete found nothing left, so a job
+ * picked up again after a crash repeats at most one chunk. heartbeatDate is refreshed with every chunk; a RUNNING
+ * job whose heartbeat is older than the lease is taken over by the next runner.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "deletion_job", indexes = {
+        @Index(name = "idx_deletion_job_status_created", columnList = "status, created_date")
+})
+public class DeletionJob {
+    @Id
+    @GeneratedValue(generator = "UUID")
+    private UUID id;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 45)
+    private EntityType entityType;
+    @Column(nullable = false)
+    private UUID rootId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 45)
+    private DeletionJobStatus status;
+    @Column(nullable = false)
+    private int step;
+    @Column(nullable = false)
+    private int stepCount;
+    @Column(nullable = false)
+    private long deletedRows;
+    @Column(nullable = false)
+    private int attempts;
+    @Column
+    private UUID requestedBy;
+    @Column(nullable = false)
+    private ZonedDateTime createdDate;
+    @Column
+    private ZonedDateTime heartbeatDate;
+    @Column
+    private ZonedDateTime completedDate;
+    @Column(length = 500)
+    private String error;
+}
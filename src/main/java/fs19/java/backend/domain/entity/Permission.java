@@ -6,6 +6,10 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.UUID;
 
@@ -16,14 +20,21 @@ import java.util.UUID;
 @AllArgsConstructor
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Permission.CACHE_REGION)
+@NaturalIdCache(region = Permission.BY_NAME_REGION)
 @Table(name = "permission")
 public class Permission {
 
+    public static final String CACHE_REGION = "permission";
+    public static final String BY_NAME_REGION = "permission-by-name";
+
     @Id
     @GeneratedValue(generator = "UUID")
     @Column(updatable = false, nullable = false)
     private UUID id;
     @NotNull
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false, length = 45)
     private String name;
     @NotNull
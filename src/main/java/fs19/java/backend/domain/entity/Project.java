@@ -2,6 +2,8 @@ package fs19.java.backend.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -12,6 +14,10 @@ import java.util.UUID;
 @Data
 @Builder
 @Entity
+@DynamicUpdate
+// a project waiting for its deletion job is a tombstone, hidden from every entity query
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = Project.WITH_CREATED_BY_USER, attributeNodes = @NamedAttributeNode("createdByUser"))
 @Table(name = "project", indexes = {
     @Index(name = "idx_project_name", columnList = "name"),
     @Index(name = "idx_project_created_by_user_id", columnList = "created_by_user_id"),
@@ -20,6 +26,9 @@ import java.util.UUID;
 })
 public class Project {
 
+  // the read DTO shows the name of the creator
+  public static final String WITH_CREATED_BY_USER = "Project.withCreatedByUser";
+
   @Id
   @GeneratedValue(generator = "UUID")
   private UUID id;
@@ -50,7 +59,14 @@ public class Project {
   @Column(nullable = false)
   private Boolean status;
 
-  @OneToMany(mappedBy = "projectId", cascade = CascadeType.ALL, orphanRemoval = true)
+  @Version
+  private Long version;
+
+  // removed by DeletionJobService with set-based deletes, never through the persistence context
+  @OneToMany(mappedBy = "projectId")
   private List<Notification> notifications;
+
+  @Column
+  private ZonedDateTime deletedAt;
 }
 
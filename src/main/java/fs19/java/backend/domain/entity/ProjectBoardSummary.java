@@ -0,0 +1,44 @@
+package fs19.java.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Materialized task counter of a project board. One row per (project, bucket),
+ * where bucket is one of "STATUS:<TaskStatus>", "PRIORITY:<Priority>" or "OVERDUE".
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "project_board_summary")
+public class ProjectBoardSummary {
+
+    public static final String STATUS_PREFIX = "STATUS:";
+    public static final String PRIORITY_PREFIX = "PRIORITY:";
+    public static final String OVERDUE = "OVERDUE";
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "project_id", nullable = false)
+        private UUID projectId;
+
+        @Column(name = "bucket", nullable = false, length = 45)
+        private String bucket;
+    }
+}
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.ZonedDateTime;
 import java.util.UUID;
@@ -17,8 +19,15 @@ import java.util.UUID;
 @AllArgsConstructor
 @Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Role.CACHE_REGION)
 @Table(name = "role")
 public class Role {
+
+    public static final String CACHE_REGION = "role";
+    // results of RoleJpaRepo.findByName; a name is unique within a company only, so it is no natural id
+    public static final String BY_NAME_REGION = "role-by-name";
+
     @Id
     @GeneratedValue(generator = "UUID")
     @Column(updatable = false, nullable = false)
@@ -1,7 +1,8 @@
 package fs19.java.backend.domain.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import fs19.java.backend.config.StringListConverter;
+import fs19.java.backend.config.PriorityConverter;
+import fs19.java.backend.config.TaskStatusConverter;
 import fs19.java.backend.domain.entity.enums.ValidPriority;
 import fs19.java.backend.domain.entity.enums.ValidTaskStatus;
 import jakarta.persistence.*;
@@ -9,22 +10,31 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.ZonedDateTime;
-import java.util.List;
 import java.util.UUID;
 
 /**
- * Responsible to work as a base model for a task object
+ * Responsible to work as a base model for a task object.
+ * Updates only write the changed columns and are guarded by the version column.
+ * overdueDate is set by TaskDueDateScheduler when the due date passes and cleared when the due date moves.
+ * commentCount and lastActivityAt are kept by the comment write paths with in-place UPDATE statements, so they
+ * never bump the version.
  */
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @Entity
+@DynamicUpdate
 @Table(name = "task", indexes = {
-        @Index(name = "idx_task_project_id", columnList = "project_id"),
-        @Index(name = "idx_task_created_user", columnList = "createduser_id"),
-        @Index(name = "idx_task_assigned_user", columnList = "assigneduser_id")
+        @Index(name = "idx_task_project_status_due", columnList = "project_id, task_status, due_date"),
+        @Index(name = "idx_task_project_created", columnList = "project_id, created_date"),
+        @Index(name = "idx_task_created_user_created", columnList = "createduser_id, created_date"),
+        @Index(name = "idx_task_assigned_status", columnList = "assigneduser_id, task_status"),
+        @Index(name = "idx_task_assigned_created", columnList = "assigneduser_id, created_date"),
+        @Index(name = "idx_task_due_date", columnList = "due_date")
 })
 public class Task {
 
@@ -50,11 +60,8 @@ public class Task {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
     private ZonedDateTime dueDate;
 
-    @Column(name = "attachments")
-    @Convert(converter = StringListConverter.class)
-    private List<String> attachments;
-
     @Column(nullable = false)
+    @Convert(converter = TaskStatusConverter.class)
     @ValidTaskStatus
     private String taskStatus;
     @NotNull
@@ -70,8 +77,20 @@ public class Task {
     private User assignedUser;
     @NotNull
     @Column(nullable = false)
+    @Convert(converter = PriorityConverter.class)
     @ValidPriority
     private String priority;
+    @Version
+    private Long version;
+    @Column
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+    private ZonedDateTime overdueDate;
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int commentCount;
+    @Column
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+    private ZonedDateTime lastActivityAt;
 
 }
 
@@ -0,0 +1,40 @@
+package fs19.java.backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * A file attached to a task. One row per file, so adding or removing a file touches only its own row.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "task_attachment",
+        indexes = @Index(name = "idx_task_attachment_task", columnList = "task_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uq_task_attachment_task_file", columnNames = {"task_id", "file_name"}))
+public class TaskAttachment {
+    @Id
+    @GeneratedValue(generator = "UUID")
+    private UUID id;
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+    @Column(length = 64)
+    private String checksum;
+    @Column(name = "created_date", nullable = false)
+    private ZonedDateTime createdDate;
+}
@@ -3,6 +3,9 @@ package fs19.java.backend.domain.entity;
 import fs19.java.backend.domain.entity.enums.WorkspaceType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -12,9 +15,20 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+// cached entries bypass the restriction below, so the deletion request evicts the workspace when it tombstones it
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Workspace.CACHE_REGION)
+// a workspace waiting for its deletion job is a tombstone, hidden from every entity query
+@SQLRestriction("deleted_at IS NULL")
+@NamedEntityGraph(name = Workspace.WITH_COMPANY_AND_CREATOR,
+        attributeNodes = {@NamedAttributeNode("companyId"), @NamedAttributeNode("createdBy")})
 @Table(name = "workspace")
 public class Workspace {
 
+    public static final String CACHE_REGION = "workspace";
+    // the response DTO shows the company name and the name of the creator
+    public static final String WITH_COMPANY_AND_CREATOR = "Workspace.withCompanyAndCreator";
+
     @Id
     @GeneratedValue(generator = "UUID")
     private UUID id;
@@ -40,6 +54,10 @@ public class Workspace {
     @JoinColumn(name = "company_id", nullable = false)
     private Company companyId;
 
-    @OneToMany(mappedBy = "workspace", cascade = CascadeType.ALL, orphanRemoval = true)
+    // removed by DeletionJobService with set-based deletes, never through the persistence context
+    @OneToMany(mappedBy = "workspace")
     private List<WorkspaceUser> workspaceUsers;
+
+    @Column
+    private ZonedDateTime deletedAt;
 }
\ No newline at end of file
@@ -7,6 +7,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -20,6 +23,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = WorkspaceUser.WITH_WORKSPACE_AND_COMPANY,
+    attributeNodes = @NamedAttributeNode(value = "workspace", subgraph = "workspace"),
+    subgraphs = @NamedSubgraph(name = "workspace", attributeNodes = @NamedAttributeNode("companyId")))
 @Table(name = "workspace_user",
     indexes = {
         @Index(name = "idx_workspace_user_user_id", columnList = "user_id"),
@@ -28,6 +34,11 @@ import java.util.UUID;
     })
 public class WorkspaceUser {
 
+  /**
+   * Fetch plan of the response DTO: user and role are only read by id, the workspace and its company by name
+   */
+  public static final String WITH_WORKSPACE_AND_COMPANY = "WorkspaceUser.withWorkspaceAndCompany";
+
   @Id
   @GeneratedValue(generator = "UUID")
   private UUID id;
@@ -40,7 +51,7 @@ public class WorkspaceUser {
   @JoinColumn(name = "role_id", referencedColumnName = "id", nullable = false)
   private Role role;
 
-  @ManyToOne(fetch = FetchType.EAGER, optional = false)
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
   @JoinColumn(name = "workspace_id", referencedColumnName = "id", nullable = false)
   private Workspace workspace;
 }
@@ -0,0 +1,8 @@
+package fs19.java.backend.domain.entity.enums;
+
+public enum DeletionJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -12,4 +12,5 @@ public enum NotificationType {
     TASK_CREATED,
     TASK_UPDATED,
     TASK_DELETED,
+    TASK_OVERDUE,
 }
\ No newline at end of file
@@ -1,12 +1,25 @@
 package fs19.java.backend.domain.entity.enums;
 
 import java.awt.*;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public enum Priority {
     LOW_PRIORITY(1, new Color(10, 20, 30)),
     MEDIUM_PRIORITY(2, new Color(100, 20, 30)),
     HIGH_PRIORITY(3, new Color(200, 150, 30));
 
+    private static final Map<String, Priority> BY_NAME = new HashMap<>();
+    private static final Map<Integer, Priority> BY_ID = new HashMap<>();
+
+    static {
+        for (Priority priority : values()) {
+            BY_NAME.put(priority.name(), priority);
+            BY_ID.put(priority.getId(), priority);
+        }
+    }
+
     private final int id;
     private final Color color;
 
@@ -23,22 +36,23 @@ public enum Priority {
         return color;
     }
 
-    // You can also add a utility method to get the Priority by id or name if needed
     public static Priority fromId(int id) {
-        for (Priority priority : Priority.values()) {
-            if (priority.getId() == id) {
-                return priority;
-            }
+        Priority priority = BY_ID.get(id);
+        if (priority == null) {
+            throw new IllegalArgumentException("Invalid Priority ID: " + id);
         }
-        throw new IllegalArgumentException("Invalid Priority ID: " + id);
+        return priority;
     }
 
     public static Priority fromName(String name) {
-        for (Priority priority : Priority.values()) {
-            if (priority.name().equalsIgnoreCase(name)) {
-                return priority;
-            }
+        Priority priority = name == null ? null : BY_NAME.get(name.toUpperCase(Locale.ROOT));
+        if (priority == null) {
+            throw new IllegalArgumentException("Invalid Priority Name: " + name);
         }
-        throw new IllegalArgumentException("Invalid Priority Name: " + name);
+        return priority;
+    }
+
+    public static boolean isValidName(String name) {
+        return name != null && BY_NAME.containsKey(name.toUpperCase(Locale.ROOT));
     }
 }
@@ -1,5 +1,9 @@
 package fs19.java.backend.domain.entity.enums;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 public enum TaskStatus {
     TODO(1),
     IN_DEVELOPMENT(2),
@@ -7,6 +11,16 @@ public enum TaskStatus {
     RELEASED(4);
 
 
+    private static final Map<String, TaskStatus> BY_NAME = new HashMap<>();
+    private static final Map<Integer, TaskStatus> BY_ID = new HashMap<>();
+
+    static {
+        for (TaskStatus taskStatus : values()) {
+            BY_NAME.put(taskStatus.name(), taskStatus);
+            BY_ID.put(taskStatus.getId(), taskStatus);
+        }
+    }
+
     private final int id;
 
     TaskStatus(int id) {
@@ -19,21 +33,22 @@ public enum TaskStatus {
 
 
     public static TaskStatus fromId(int id) {
-        for (TaskStatus taskStatus : TaskStatus.values()) {
-            if (taskStatus.getId() == id) {
-                return taskStatus;
-            }
+        TaskStatus taskStatus = BY_ID.get(id);
+        if (taskStatus == null) {
+            throw new IllegalArgumentException("Invalid taskStatus ID: " + id);
         }
-        throw new IllegalArgumentException("Invalid taskStatus ID: " + id);
+        return taskStatus;
     }
 
-    public static void fromName(String name) {
-        for (TaskStatus taskStatus : TaskStatus.values()) {
-            if (taskStatus.name().equalsIgnoreCase(name)) {
-                return;
-            }
+    public static TaskStatus fromName(String name) {
+        TaskStatus taskStatus = name == null ? null : BY_NAME.get(name.toUpperCase(Locale.ROOT));
+        if (taskStatus == null) {
+            throw new IllegalArgumentException("Invalid taskStatus Name: " + name);
         }
-        throw new IllegalArgumentException("Invalid taskStatus Name: " + name);
+        return taskStatus;
     }
-}
 
+    public static boolean isValidName(String name) {
+        return name != null && BY_NAME.containsKey(name.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,80 @@
+package fs19.java.backend.infrastructure;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Bulk loads rows with PostgreSQL COPY, each call in its own transaction on its own connection, so several
+ * calls can run in parallel. Rows are streamed to the server as they are written and never held in memory.
+ */
+@Component
+public class CopyLoader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final DataSource dataSource;
+
+    public CopyLoader(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Copy the rows into the table and commit them
+     *
+     * @param table   table name
+     * @param columns columns in the order the rows list their values
+     * @param rows    writes the rows; runs before the transaction commits
+     * @return number of rows copied
+     */
+    public long copy(String table, List<String> columns, Consumer<CopyRowWriter> rows) {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN";
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    // the data can be generated again, so a crash losing the last commits is acceptable
+                    statement.execute("SET LOCAL synchronous_commit TO off");
+                }
+                long copied = copyIn(connection.unwrap(PGConnection.class), sql, rows);
+                connection.commit();
+                return copied;
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw new IllegalStateException("COPY into " + table + " failed", e);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("COPY into " + table + " failed", e);
+        }
+    }
+
+    private long copyIn(PGConnection connection, String sql, Consumer<CopyRowWriter> rows) throws SQLException, IOException {
+        PGCopyOutputStream stream = new PGCopyOutputStream(connection, sql, BUFFER_SIZE);
+        try {
+            BufferedWriter out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
+            CopyRowWriter writer = new CopyRowWriter(out);
+            rows.accept(writer);
+            out.flush();
+            stream.endCopy();
+            return writer.getRows();
+        } finally {
+            if (stream.isActive()) {
+                stream.cancelCopy();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package fs19.java.backend.infrastructure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Writes rows in the text format of PostgreSQL COPY: tab-separated values, one row per line, \N for NULL.
+ * Values are written with toString(), so Instant and UUID come out in a form PostgreSQL parses.
+ */
+public class CopyRowWriter {
+
+    private final Writer out;
+    private boolean rowStarted;
+    private long rows;
+
+    public CopyRowWriter(Writer out) {
+        this.out = out;
+    }
+
+    public CopyRowWriter value(Object value) {
+        try {
+            if (rowStarted) {
+                out.write('\t');
+            }
+            rowStarted = true;
+            if (value == null) {
+                out.write("\\N");
+            } else if (value instanceof CharSequence text) {
+                writeEscaped(text);
+            } else {
+                out.write(value.toString());
+            }
+            return this;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void endRow() {
+        try {
+            out.write('\n');
+            rowStarted = false;
+            rows++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    private void writeEscaped(CharSequence text) throws IOException {
+        for (int index = 0; index < text.length(); index++) {
+            char c = text.charAt(index);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                default -> out.write(c);
+            }
+        }
+    }
+}
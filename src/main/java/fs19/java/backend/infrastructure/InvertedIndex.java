@@ -0,0 +1,602 @@
+package fs19.java.backend.infrastructure;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Incremental in-memory inverted index with BM25 ranking.
+ * Documents get increasing internal numbers, so every posting list stays sorted and a query intersects the lists
+ * of its terms with a merge; the last query term also matches longer terms through the sorted term dictionary.
+ * Removing or replacing a document only marks the old number deleted, and the lists are compacted once a quarter
+ * of the numbers are dead. Reads share a lock, writes take it exclusively.
+ */
+public class InvertedIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x50534958;
+    private static final int SNAPSHOT_FORMAT = 1;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for", "from",
+            "in", "is", "it", "of", "on", "or", "the", "to", "was", "with");
+    private static final int MAX_TERM_LENGTH = 32;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int TITLE_WEIGHT = 3;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_COMPACT_DELETED = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    // sorted view of the same terms, only used to expand prefixes
+    private final NavigableMap<String, Postings> dictionary = new TreeMap<>();
+    private final Map<UUID, Integer> docByKey = new HashMap<>();
+
+    private UUID[] keys = new UUID[16];
+    private int[] types = new int[16];
+    private UUID[] parents = new UUID[16];
+    private UUID[] groups = new UUID[16];
+    private long[] versions = new long[16];
+    private int[] lengths = new int[16];
+    private String[][] terms = new String[16][];
+    private int[][] frequencies = new int[16][];
+    private boolean[] deleted = new boolean[16];
+    private int docCount;
+    private int deletedCount;
+    private long totalLength;
+
+    /**
+     * Split text into lower-case terms without diacritics, dropping stop words and one-letter words
+     *
+     * @param text String
+     * @return List<String>
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = isAscii(text) ? text : DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("");
+        StringBuilder token = new StringBuilder(MAX_TERM_LENGTH);
+        for (int index = 0; index <= normalized.length(); index++) {
+            char character = index < normalized.length() ? normalized.charAt(index) : ' ';
+            if (Character.isLetterOrDigit(character)) {
+                if (token.length() < MAX_TERM_LENGTH) {
+                    token.append(Character.toLowerCase(character));
+                }
+            } else if (!token.isEmpty()) {
+                if (token.length() > 1 || Character.isDigit(token.charAt(0))) {
+                    String term = token.toString();
+                    if (!STOP_WORDS.contains(term)) {
+                        tokens.add(term);
+                    }
+                }
+                token.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Add a document or replace the one with the same id. Title terms weigh more than body terms
+     *
+     * @param id       document id
+     * @param type     caller-defined document type
+     * @param parentId caller-defined owner, used by removeByParent
+     * @param groupId  caller-defined group, used by removeByGroup
+     * @param version  caller-defined version, returned by version
+     * @param title    String
+     * @param body     String
+     */
+    public void put(UUID id, int type, UUID parentId, UUID groupId, long version, String title, String body) {
+        Map<String, Integer> termFrequencies = new LinkedHashMap<>();
+        tokenize(title).forEach(term -> termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(body).forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        String[] docTerms = termFrequencies.keySet().toArray(new String[0]);
+        int[] docFrequencies = termFrequencies.values().stream().mapToInt(Integer::intValue).toArray();
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            addLocked(id, type, parentId, groupId, version, docTerms, docFrequencies);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            boolean removed = removeLocked(id);
+            compactIfNeeded();
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int removeByParent(UUID parentId) {
+        return removeIf(doc -> parentId.equals(parents[doc]));
+    }
+
+    public int removeByParents(Set<UUID> parentIds) {
+        return removeIf(doc -> parentIds.contains(parents[doc]));
+    }
+
+    public int removeByGroup(UUID groupId) {
+        return removeIf(doc -> groupId.equals(groups[doc]));
+    }
+
+    /**
+     * Return the version a document was indexed with, or null when it is not indexed
+     *
+     * @param id UUID
+     * @return Long
+     */
+    public Long version(UUID id) {
+        lock.readLock().lock();
+        try {
+            Integer doc = docByKey.get(id);
+            return doc == null ? null : versions[doc];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Return the versions of all documents of a type, keyed by document id
+     *
+     * @param type int
+     * @return Map<UUID, Long>
+     */
+    public Map<UUID, Long> versions(int type) {
+        lock.readLock().lock();
+        try {
+            Map<UUID, Long> result = new HashMap<>();
+            docByKey.values().forEach(doc -> {
+                if (types[doc] == type) {
+                    result.put(keys[doc], versions[doc]);
+                }
+            });
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank the documents containing every query term, the last term also matching longer terms
+     *
+     * @param query  String
+     * @param type   only documents of this type, or null for all
+     * @param offset number of top hits to skip
+     * @param limit  maximum number of hits returned
+     * @return Result
+     */
+    public Result search(String query, Integer type, int offset, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return new Result(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            int liveCount = docByKey.size();
+            if (liveCount == 0) {
+                return new Result(List.of(), 0);
+            }
+            float averageLength = (float) totalLength / liveCount;
+            List<Matches> perTerm = new ArrayList<>(queryTerms.size());
+            for (int index = 0; index < queryTerms.size(); index++) {
+                String term = queryTerms.get(index);
+                boolean prefix = index == queryTerms.size() - 1 && term.length() >= MIN_PREFIX_LENGTH;
+                Matches matches = prefix ? matchPrefix(term, type, liveCount, averageLength) : matchExact(term, type, liveCount, averageLength);
+                if (matches.size == 0) {
+                    return new Result(List.of(), 0);
+                }
+                perTerm.add(matches);
+            }
+            // intersect from the rarest term, so the candidate set only shrinks
+            perTerm.sort((left, right) -> Integer.compare(left.size, right.size));
+            Matches candidates = perTerm.getFirst();
+            for (int index = 1; index < perTerm.size() && candidates.size > 0; index++) {
+                candidates = candidates.intersect(perTerm.get(index));
+            }
+            return new Result(top(candidates, offset, limit), candidates.size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Write the term dictionary, then the live documents with term numbers and frequencies; postings are rebuilt
+     * when read back
+     *
+     * @param out DataOutputStream
+     * @throws IOException
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_FORMAT);
+            Map<String, Integer> termNumbers = new HashMap<>(postingsByTerm.size() * 2);
+            out.writeInt(postingsByTerm.size());
+            for (String term : postingsByTerm.keySet()) {
+                termNumbers.put(term, termNumbers.size());
+                out.writeUTF(term);
+            }
+            out.writeInt(docByKey.size());
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted[doc]) {
+                    continue;
+                }
+                writeUuid(out, keys[doc]);
+                out.writeByte(types[doc]);
+                writeUuid(out, parents[doc]);
+                writeUuid(out, groups[doc]);
+                out.writeLong(versions[doc]);
+                out.writeInt(terms[doc].length);
+                for (int index = 0; index < terms[doc].length; index++) {
+                    out.writeInt(termNumbers.get(terms[doc][index]));
+                    out.writeInt(frequencies[doc][index]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Read an index written by writeTo
+     *
+     * @param in DataInputStream
+     * @return InvertedIndex
+     * @throws IOException when the stream is not a snapshot of this format
+     */
+    public static InvertedIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_FORMAT) {
+            throw new IOException("Not a search index snapshot of format " + SNAPSHOT_FORMAT);
+        }
+        InvertedIndex index = new InvertedIndex();
+        String[] termTable = new String[in.readInt()];
+        for (int term = 0; term < termTable.length; term++) {
+            termTable[term] = in.readUTF();
+        }
+        int count = in.readInt();
+        for (int read = 0; read < count; read++) {
+            UUID id = readUuid(in);
+            int type = in.readByte();
+            UUID parentId = readUuid(in);
+            UUID groupId = readUuid(in);
+            long version = in.readLong();
+            int termCount = in.readInt();
+            String[] docTerms = new String[termCount];
+            int[] docFrequencies = new int[termCount];
+            for (int term = 0; term < termCount; term++) {
+                docTerms[term] = termTable[in.readInt()];
+                docFrequencies[term] = in.readInt();
+            }
+            index.addLocked(id, type, parentId, groupId, version, docTerms, docFrequencies);
+        }
+        return index;
+    }
+
+    private int removeIf(Predicate<Integer> matches) {
+        lock.writeLock().lock();
+        try {
+            List<UUID> removed = new ArrayList<>();
+            docByKey.values().forEach(doc -> {
+                if (matches.test(doc)) {
+                    removed.add(keys[doc]);
+                }
+            });
+            removed.forEach(this::removeLocked);
+            compactIfNeeded();
+            return removed.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(UUID id, int type, UUID parentId, UUID groupId, long version, String[] docTerms, int[] docFrequencies) {
+        if (docCount == keys.length) {
+            grow(keys.length * 2);
+        }
+        int doc = docCount++;
+        int length = 0;
+        for (int index = 0; index < docTerms.length; index++) {
+            // keep one String instance per term, shared by the dictionary and every document using it
+            Postings postings = postingsByTerm.get(docTerms[index]);
+            if (postings == null) {
+                postings = new Postings(docTerms[index]);
+                postingsByTerm.put(postings.term, postings);
+                dictionary.put(postings.term, postings);
+            } else {
+                docTerms[index] = postings.term;
+            }
+            postings.add(doc, docFrequencies[index]);
+            length += docFrequencies[index];
+        }
+        keys[doc] = id;
+        types[doc] = type;
+        parents[doc] = parentId;
+        groups[doc] = groupId;
+        versions[doc] = version;
+        lengths[doc] = length;
+        terms[doc] = docTerms;
+        frequencies[doc] = docFrequencies;
+        deleted[doc] = false;
+        docByKey.put(id, doc);
+        totalLength += length;
+    }
+
+    private boolean removeLocked(UUID id) {
+        Integer doc = docByKey.remove(id);
+        if (doc == null) {
+            return false;
+        }
+        deleted[doc] = true;
+        deletedCount++;
+        totalLength -= lengths[doc];
+        for (String term : terms[doc]) {
+            Postings postings = postingsByTerm.get(term);
+            if (--postings.live == 0) {
+                postingsByTerm.remove(term);
+                dictionary.remove(term);
+            }
+        }
+        return true;
+    }
+
+    private void compactIfNeeded() {
+        if (deletedCount < MIN_COMPACT_DELETED || deletedCount * 4 < docCount) {
+            return;
+        }
+        int previousCount = docCount;
+        int live = 0;
+        postingsByTerm.clear();
+        dictionary.clear();
+        totalLength = 0;
+        for (int doc = 0; doc < previousCount; doc++) {
+            if (deleted[doc]) {
+                continue;
+            }
+            UUID id = keys[doc];
+            int type = types[doc];
+            UUID parentId = parents[doc];
+            UUID groupId = groups[doc];
+            long version = versions[doc];
+            String[] docTerms = terms[doc];
+            int[] docFrequencies = frequencies[doc];
+            // live documents keep their order, so numbering them again from 0 only moves them down
+            docCount = live;
+            addLocked(id, type, parentId, groupId, version, docTerms, docFrequencies);
+            live++;
+        }
+        Arrays.fill(keys, live, previousCount, null);
+        Arrays.fill(parents, live, previousCount, null);
+        Arrays.fill(groups, live, previousCount, null);
+        Arrays.fill(terms, live, previousCount, null);
+        Arrays.fill(frequencies, live, previousCount, null);
+        docCount = live;
+        deletedCount = 0;
+    }
+
+    private void grow(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+        types = Arrays.copyOf(types, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        groups = Arrays.copyOf(groups, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        terms = Arrays.copyOf(terms, capacity);
+        frequencies = Arrays.copyOf(frequencies, capacity);
+        deleted = Arrays.copyOf(deleted, capacity);
+    }
+
+    private Matches matchExact(String term, Integer type, int liveCount, float averageLength) {
+        Postings postings = postingsByTerm.get(term);
+        Matches matches = new Matches(postings == null ? 0 : postings.live);
+        if (postings != null) {
+            score(postings, type, liveCount, averageLength, matches);
+        }
+        return matches;
+    }
+
+    private Matches matchPrefix(String prefix, Integer type, int liveCount, float averageLength) {
+        Collection<Postings> expansions = dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+        Matches all = new Matches(0);
+        int expanded = 0;
+        for (Postings postings : expansions) {
+            if (expanded++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            Matches matches = new Matches(postings.live);
+            score(postings, type, liveCount, averageLength, matches);
+            all = all.union(matches);
+        }
+        return all;
+    }
+
+    private void score(Postings postings, Integer type, int liveCount, float averageLength, Matches into) {
+        float idf = (float) Math.log(1 + (liveCount - postings.live + 0.5) / (postings.live + 0.5));
+        for (int index = 0; index < postings.size; index++) {
+            int doc = postings.docs[index];
+            if (deleted[doc] || (type != null && types[doc] != type)) {
+                continue;
+            }
+            int tf = postings.frequencies[index];
+            float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+            into.add(doc, idf * tf * (K1 + 1) / (tf + norm));
+        }
+    }
+
+    private List<Hit> top(Matches candidates, int offset, int limit) {
+        int wanted = (int) Math.min((long) offset + limit, candidates.size);
+        if (wanted <= offset) {
+            return List.of();
+        }
+        // min-heap of the best hits so far, ties broken by document number for a stable order between pages
+        PriorityQueue<Integer> heap = new PriorityQueue<>(wanted, (left, right) -> {
+            int byScore = Float.compare(candidates.scores[left], candidates.scores[right]);
+            return byScore != 0 ? byScore : Integer.compare(candidates.docs[right], candidates.docs[left]);
+        });
+        for (int index = 0; index < candidates.size; index++) {
+            if (heap.size() < wanted) {
+                heap.add(index);
+            } else if (heap.comparator().compare(index, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(index);
+            }
+        }
+        Hit[] ranked = new Hit[heap.size()];
+        for (int position = ranked.length - 1; position >= 0; position--) {
+            int index = heap.poll();
+            int doc = candidates.docs[index];
+            ranked[position] = new Hit(keys[doc], types[doc], parents[doc], groups[doc], candidates.scores[index]);
+        }
+        return List.of(ranked).subList(offset, ranked.length);
+    }
+
+    private static boolean isAscii(String text) {
+        for (int index = 0; index < text.length(); index++) {
+            if (text.charAt(index) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    public record Hit(UUID id, int type, UUID parentId, UUID groupId, float score) {
+    }
+
+    public record Result(List<Hit> hits, int total) {
+    }
+
+    private static final class Postings {
+        private final String term;
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private int live;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+            live++;
+        }
+    }
+
+    /**
+     * Documents matching one query term, sorted by document number, with their score
+     */
+    private static final class Matches {
+        private int[] docs;
+        private float[] scores;
+        private int size;
+
+        private Matches(int capacity) {
+            docs = new int[Math.max(capacity, 1)];
+            scores = new float[Math.max(capacity, 1)];
+        }
+
+        private void add(int doc, float score) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            docs[size] = doc;
+            scores[size] = score;
+            size++;
+        }
+
+        private Matches intersect(Matches other) {
+            Matches result = new Matches(Math.min(size, other.size));
+            int left = 0;
+            int right = 0;
+            while (left < size && right < other.size) {
+                if (docs[left] < other.docs[right]) {
+                    left++;
+                } else if (docs[left] > other.docs[right]) {
+                    right++;
+                } else {
+                    result.add(docs[left], scores[left] + other.scores[right]);
+                    left++;
+                    right++;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Merge two expansions of a prefix; a document matching both keeps its best score
+         */
+        private Matches union(Matches other) {
+            if (size == 0) {
+                return other;
+            }
+            Matches result = new Matches(size + other.size);
+            int left = 0;
+            int right = 0;
+            while (left < size || right < other.size) {
+                if (right == other.size || (left < size && docs[left] < other.docs[right])) {
+                    result.add(docs[left], scores[left]);
+                    left++;
+                } else if (left == size || docs[left] > other.docs[right]) {
+                    result.add(other.docs[right], other.scores[right]);
+                    right++;
+                } else {
+                    result.add(docs[left], Math.max(scores[left], other.scores[right]));
+                    left++;
+                    right++;
+                }
+            }
+            return result;
+        }
+    }
+}
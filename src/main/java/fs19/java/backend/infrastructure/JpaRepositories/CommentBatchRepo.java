@@ -0,0 +1,16 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.application.dto.comment.DeletedCommentDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based comment deletes, bypassing the persistence context
+ */
+public interface CommentBatchRepo {
+    List<DeletedCommentDTO> deleteByTaskIdReturning(UUID taskId);
+    List<DeletedCommentDTO> deleteByIdInReturning(Collection<UUID> ids);
+    List<DeletedCommentDTO> deleteByCreatedByReturning(UUID userId);
+}
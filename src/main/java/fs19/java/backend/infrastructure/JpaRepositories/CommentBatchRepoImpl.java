@@ -0,0 +1,54 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.application.dto.comment.DeletedCommentDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deletes comments with one DELETE statement per call instead of loading and removing them one by one.
+ * RETURNING hands back the deleted rows, so callers get the row count and can log and publish the deletion
+ * without reading the comments first. Comments loaded earlier in the same session are not detached.
+ */
+public class CommentBatchRepoImpl implements CommentBatchRepo {
+
+    private static final String RETURNING = " RETURNING id, task_id, created_by";
+    private static final String DELETE_BY_TASK_SQL = "DELETE FROM comments WHERE task_id = ?" + RETURNING;
+    private static final String DELETE_BY_IDS_SQL = "DELETE FROM comments WHERE id = ANY (?)" + RETURNING;
+    private static final String DELETE_BY_CREATED_BY_SQL = "DELETE FROM comments WHERE created_by = ?" + RETURNING;
+
+    private static final RowMapper<DeletedCommentDTO> DELETED_COMMENT_MAPPER = (rs, rowNum) -> new DeletedCommentDTO(
+            rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CommentBatchRepoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<DeletedCommentDTO> deleteByTaskIdReturning(UUID taskId) {
+        return jdbcTemplate.query(DELETE_BY_TASK_SQL, DELETED_COMMENT_MAPPER, taskId);
+    }
+
+    @Override
+    public List<DeletedCommentDTO> deleteByIdInReturning(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_BY_IDS_SQL);
+            ps.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+            return ps;
+        }, DELETED_COMMENT_MAPPER);
+    }
+
+    @Override
+    public List<DeletedCommentDTO> deleteByCreatedByReturning(UUID userId) {
+        return jdbcTemplate.query(DELETE_BY_CREATED_BY_SQL, DELETED_COMMENT_MAPPER, userId);
+    }
+}
@@ -1,41 +1,63 @@
 package fs19.java.backend.infrastructure.JpaRepositories;
 
+import fs19.java.backend.application.dto.comment.CommentResponseDTO;
+import fs19.java.backend.application.dto.search.SearchDocumentDTO;
 import fs19.java.backend.domain.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface CommentJpaRepo extends JpaRepository<Comment, UUID> {
+public interface CommentJpaRepo extends JpaRepository<Comment, UUID>, CommentBatchRepo {
+    // comments are indexed without a title; the task name is only read to display a match
+    String COMMENT_SEARCH_DOCUMENT_PROJECTION = "SELECT new fs19.java.backend.application.dto.search.SearchDocumentDTO(c.id, t.id, p.id, " +
+            "p.workspace.id, t.name, c.content, 0L) FROM Comment c JOIN c.taskId t JOIN t.project p ";
 
-    @Query("SELECT c FROM Comment c WHERE c.taskId.id = :taskId")
-    Page<Comment> findAllByTaskId(UUID taskId, Pageable pageable);
+    String COMMENT_RESPONSE_PROJECTION = "SELECT new fs19.java.backend.application.dto.comment.CommentResponseDTO(c.id, c.taskId.id, " +
+            "c.content, c.createdDate, c.createdBy.id) FROM Comment c ";
 
-    @Query("SELECT c FROM Comment c WHERE c.taskId.id = :taskId")
-    List<Comment> findAllByTaskId(UUID taskId);
+    // keyset pages of a task thread; a Slice reads one extra row instead of running a COUNT
+    @Query(COMMENT_RESPONSE_PROJECTION + "WHERE c.taskId.id = :taskId ORDER BY c.createdDate, c.id")
+    Slice<CommentResponseDTO> findSliceByTaskId(@Param("taskId") UUID taskId, Pageable pageable);
 
-    @Override
-    <S extends Comment> List<S> saveAll(Iterable<S> entities);
+    @Query(COMMENT_RESPONSE_PROJECTION + "WHERE c.taskId.id = :taskId AND (c.createdDate > :afterDate " +
+            "OR (c.createdDate = :afterDate AND c.id > :afterId)) ORDER BY c.createdDate, c.id")
+    Slice<CommentResponseDTO> findSliceByTaskIdAfter(@Param("taskId") UUID taskId, @Param("afterDate") ZonedDateTime afterDate,
+                                                     @Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query(COMMENT_RESPONSE_PROJECTION + "WHERE c.taskId.id = :taskId ORDER BY c.createdDate DESC, c.id DESC")
+    Slice<CommentResponseDTO> findSliceByTaskIdDesc(@Param("taskId") UUID taskId, Pageable pageable);
+
+    @Query(COMMENT_RESPONSE_PROJECTION + "WHERE c.taskId.id = :taskId AND (c.createdDate < :beforeDate " +
+            "OR (c.createdDate = :beforeDate AND c.id < :beforeId)) ORDER BY c.createdDate DESC, c.id DESC")
+    Slice<CommentResponseDTO> findSliceByTaskIdBefore(@Param("taskId") UUID taskId, @Param("beforeDate") ZonedDateTime beforeDate,
+                                                      @Param("beforeId") UUID beforeId, Pageable pageable);
+
+    @Query("SELECT count(c) FROM Comment c WHERE c.taskId.id = :taskId")
+    long countByTaskId(@Param("taskId") UUID taskId);
 
     @Override
-    default void deleteAll(Iterable<? extends Comment> entities) {
-        List<Comment> comments = (List<Comment>) entities;
-        comments.forEach(comment -> {
-            if (comment.getId() != null) { // NullPointerException fix
-                deleteById(comment.getId());
-            }
-        });
-    }
+    <S extends Comment> List<S> saveAll(Iterable<S> entities);
 
     @Override
     Page<Comment> findAll(Pageable pageable);
 
-    @Modifying
-    @Query("DELETE FROM Comment c WHERE c.taskId.id = :taskId")
-    void deleteAllInBatchByTaskId(@Param("taskId") UUID taskId);
+    @Query(COMMENT_SEARCH_DOCUMENT_PROJECTION + "WHERE c.id IN :ids")
+    List<SearchDocumentDTO> findSearchDocumentsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(COMMENT_SEARCH_DOCUMENT_PROJECTION + "WHERE t.id IN :taskIds")
+    List<SearchDocumentDTO> findSearchDocumentsByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Query(COMMENT_SEARCH_DOCUMENT_PROJECTION + "WHERE c.id > :afterId ORDER BY c.id")
+    List<SearchDocumentDTO> findSearchDocumentsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.id > :afterId ORDER BY c.id")
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
 }
@@ -0,0 +1,22 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.domain.entity.enums.EntityType;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC side of the deletion engine: tombstones, the ordered delete plan of each root type and job bookkeeping
+ */
+public interface DeletionJobBatchRepo {
+    int tombstone(EntityType entityType, UUID rootId, ZonedDateTime deletedAt);
+    List<UUID> findProjectIdsUnder(EntityType entityType, UUID rootId);
+    int stepCount(EntityType entityType);
+    int deleteChunk(EntityType entityType, UUID rootId, int step, int chunkSize);
+    Optional<UUID> claimNext(ZonedDateTime now, ZonedDateTime staleBefore);
+    void recordProgress(UUID jobId, int step, int deletedRows, ZonedDateTime now);
+    void recordCompleted(UUID jobId, ZonedDateTime now);
+    void recordFailure(UUID jobId, String error, int maxAttempts);
+}
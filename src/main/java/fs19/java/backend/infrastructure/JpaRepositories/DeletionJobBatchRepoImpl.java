@@ -0,0 +1,184 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.domain.entity.enums.EntityType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Deletes a company, workspace or project tree as an ordered list of steps, children before parents, so no step
+ * trips a foreign key. Each step deletes at most chunkSize rows of one table by ctid, which keeps every statement
+ * and its transaction short however large the tree is, and nothing is loaded into the persistence context.
+ * Every condition selects the rows below the root with the root id as its only parameter, so a step can be
+ * repeated after a crash and simply finds fewer rows. Statements are plain SQL and ignore the tombstone restriction
+ * of the entities.
+ */
+public class DeletionJobBatchRepoImpl implements DeletionJobBatchRepo {
+
+    private static final String CHUNK_SQL = "DELETE FROM %1$s WHERE ctid = ANY (ARRAY (SELECT ctid FROM %1$s WHERE %2$s LIMIT ?))";
+
+    private static final String PROJECT_OF_PROJECT = "id = ?";
+    private static final String PROJECT_OF_WORKSPACE = "workspace_id = ?";
+    private static final String PROJECT_OF_COMPANY = "workspace_id IN (SELECT id FROM workspace WHERE company_id = ?)";
+    private static final String WORKSPACE_OF_WORKSPACE = "id = ?";
+    private static final String WORKSPACE_OF_COMPANY = "company_id = ?";
+    private static final String ROLE_OF_COMPANY = "company_id = ?";
+
+    private static final Map<EntityType, String> PROJECT_FILTERS = Map.of(
+            EntityType.PROJECT, PROJECT_OF_PROJECT,
+            EntityType.WORKSPACE, PROJECT_OF_WORKSPACE,
+            EntityType.COMPANY, PROJECT_OF_COMPANY);
+
+    private static final Map<EntityType, List<Step>> PLANS = Map.of(
+            EntityType.PROJECT, projectSteps(PROJECT_OF_PROJECT),
+            EntityType.WORKSPACE, workspacePlan(),
+            EntityType.COMPANY, companyPlan());
+
+    private static final String CLAIM_SQL = "UPDATE deletion_job SET status = 'RUNNING', heartbeat_date = ? WHERE id = " +
+            "(SELECT id FROM deletion_job WHERE status = 'PENDING' OR (status = 'RUNNING' AND heartbeat_date < ?) " +
+            "ORDER BY created_date LIMIT 1 FOR UPDATE SKIP LOCKED) RETURNING id";
+    private static final String PROGRESS_SQL = "UPDATE deletion_job SET step = ?, deleted_rows = deleted_rows + ?, heartbeat_date = ? WHERE id = ?";
+    private static final String COMPLETED_SQL = "UPDATE deletion_job SET status = 'COMPLETED', step = step_count, completed_date = ?, " +
+            "heartbeat_date = ? WHERE id = ?";
+    private static final String FAILURE_SQL = "UPDATE deletion_job SET status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END, " +
+            "attempts = attempts + 1, error = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeletionJobBatchRepoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Mark the root and every company, workspace or project below it as deleted, parents last, so the whole tree
+     * disappears from entity queries at once
+     *
+     * @return 1 if the root was live, 0 if it is missing or already deleted
+     */
+    @Override
+    public int tombstone(EntityType entityType, UUID rootId, ZonedDateTime deletedAt) {
+        Timestamp at = Timestamp.from(deletedAt.toInstant());
+        int projects = jdbcTemplate.update("UPDATE project SET deleted_at = ? WHERE deleted_at IS NULL AND " + projectFilter(entityType), at, rootId);
+        if (entityType == EntityType.PROJECT) {
+            return projects;
+        }
+        String workspaceFilter = entityType == EntityType.COMPANY ? WORKSPACE_OF_COMPANY : WORKSPACE_OF_WORKSPACE;
+        int workspaces = jdbcTemplate.update("UPDATE workspace SET deleted_at = ? WHERE deleted_at IS NULL AND " + workspaceFilter, at, rootId);
+        if (entityType == EntityType.WORKSPACE) {
+            return workspaces;
+        }
+        return jdbcTemplate.update("UPDATE company SET deleted_at = ? WHERE deleted_at IS NULL AND id = ?", at, rootId);
+    }
+
+    @Override
+    public List<UUID> findProjectIdsUnder(EntityType entityType, UUID rootId) {
+        return jdbcTemplate.queryForList("SELECT id FROM project WHERE " + projectFilter(entityType), UUID.class, rootId);
+    }
+
+    @Override
+    public int stepCount(EntityType entityType) {
+        return plan(entityType).size();
+    }
+
+    @Override
+    public int deleteChunk(EntityType entityType, UUID rootId, int step, int chunkSize) {
+        Step planStep = plan(entityType).get(step);
+        Object[] parameters = new Object[planStep.rootParameters() + 1];
+        Arrays.fill(parameters, rootId);
+        parameters[parameters.length - 1] = chunkSize;
+        return jdbcTemplate.update(planStep.sql(), parameters);
+    }
+
+    @Override
+    public Optional<UUID> claimNext(ZonedDateTime now, ZonedDateTime staleBefore) {
+        List<UUID> claimed = jdbcTemplate.queryForList(CLAIM_SQL, UUID.class, Timestamp.from(now.toInstant()), Timestamp.from(staleBefore.toInstant()));
+        return claimed.stream().findFirst();
+    }
+
+    @Override
+    public void recordProgress(UUID jobId, int step, int deletedRows, ZonedDateTime now) {
+        jdbcTemplate.update(PROGRESS_SQL, step, deletedRows, Timestamp.from(now.toInstant()), jobId);
+    }
+
+    @Override
+    public void recordCompleted(UUID jobId, ZonedDateTime now) {
+        Timestamp at = Timestamp.from(now.toInstant());
+        jdbcTemplate.update(COMPLETED_SQL, at, at, jobId);
+    }
+
+    @Override
+    public void recordFailure(UUID jobId, String error, int maxAttempts) {
+        jdbcTemplate.update(FAILURE_SQL, maxAttempts, error, jobId);
+    }
+
+    private static String projectFilter(EntityType entityType) {
+        String filter = PROJECT_FILTERS.get(entityType);
+        if (filter == null) {
+            throw new IllegalArgumentException("Deletion is not supported for " + entityType);
+        }
+        return filter;
+    }
+
+    private static List<Step> plan(EntityType entityType) {
+        List<Step> plan = PLANS.get(entityType);
+        if (plan == null) {
+            throw new IllegalArgumentException("Deletion is not supported for " + entityType);
+        }
+        return plan;
+    }
+
+    /**
+     * Everything below the selected projects, then the projects
+     */
+    private static List<Step> projectSteps(String projectFilter) {
+        String projects = "project_id IN (SELECT id FROM project WHERE " + projectFilter + ")";
+        String tasks = "task_id IN (SELECT id FROM task WHERE " + projects + ")";
+        return List.of(
+                new Step("comments", tasks),
+                new Step("task_attachment", tasks),
+                new Step("task", projects),
+                new Step("notification", projects),
+                new Step("project_board_summary", projects),
+                new Step("project", projectFilter));
+    }
+
+    // memberships go first, so nobody keeps access to a workspace while its projects are emptied
+    private static List<Step> workspacePlan() {
+        String workspaces = "workspace_id = ?";
+        List<Step> plan = new ArrayList<>();
+        plan.add(new Step("workspace_user", workspaces));
+        plan.add(new Step("invitation", workspaces));
+        plan.addAll(projectSteps(PROJECT_OF_WORKSPACE));
+        plan.add(new Step("workspace", WORKSPACE_OF_WORKSPACE));
+        return Collections.unmodifiableList(plan);
+    }
+
+    // roles of the company can also be referenced from workspaces of other companies
+    private static List<Step> companyPlan() {
+        String workspacesOrRoles = "workspace_id IN (SELECT id FROM workspace WHERE " + WORKSPACE_OF_COMPANY + ") " +
+                "OR role_id IN (SELECT id FROM role WHERE " + ROLE_OF_COMPANY + ")";
+        List<Step> plan = new ArrayList<>();
+        plan.add(new Step("workspace_user", workspacesOrRoles));
+        plan.add(new Step("invitation", workspacesOrRoles));
+        plan.addAll(projectSteps(PROJECT_OF_COMPANY));
+        plan.add(new Step("workspace", WORKSPACE_OF_COMPANY));
+        plan.add(new Step("role_permission", "role_id IN (SELECT id FROM role WHERE " + ROLE_OF_COMPANY + ")"));
+        plan.add(new Step("role", ROLE_OF_COMPANY));
+        plan.add(new Step("company", "id = ?"));
+        return Collections.unmodifiableList(plan);
+    }
+
+    private record Step(String sql, int rootParameters) {
+        Step(String table, String condition) {
+            this(String.format(CHUNK_SQL, table, condition), (int) condition.chars().filter(c -> c == '?').count());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.domain.entity.DeletionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface DeletionJobJpaRepo extends JpaRepository<DeletionJob, UUID>, DeletionJobBatchRepo {
+}
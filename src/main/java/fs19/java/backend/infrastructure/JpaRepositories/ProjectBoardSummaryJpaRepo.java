@@ -0,0 +1,49 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.domain.entity.ProjectBoardSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectBoardSummaryJpaRepo extends JpaRepository<ProjectBoardSummary, ProjectBoardSummary.Key> {
+
+    @Query("SELECT s FROM ProjectBoardSummary s WHERE s.id.projectId = :projectId")
+    List<ProjectBoardSummary> findAllByProjectId(@Param("projectId") UUID projectId);
+
+    /**
+     * Take the project's board lock in shared mode until the transaction ends. Deltas share it with each other;
+     * a reconcile takes it exclusively, so no delta commits between its count and its rewrite
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock_shared(hashtextextended(CAST(:projectId AS text), 0))", nativeQuery = true)
+    int lockShared(@Param("projectId") UUID projectId);
+
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtextextended(CAST(:projectId AS text), 0))", nativeQuery = true)
+    int lockExclusive(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO project_board_summary (project_id, bucket, task_count)
+        VALUES (:projectId, :bucket, :delta)
+        ON CONFLICT (project_id, bucket)
+        DO UPDATE SET task_count = project_board_summary.task_count + EXCLUDED.task_count
+    """, nativeQuery = true)
+    void increment(@Param("projectId") UUID projectId, @Param("bucket") String bucket, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM ProjectBoardSummary s WHERE s.id.projectId = :projectId")
+    void deleteAllByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT t.taskStatus, count(t) FROM Task t WHERE t.project.id = :projectId GROUP BY t.taskStatus")
+    List<Object[]> countTasksByStatus(@Param("projectId") UUID projectId);
+
+    @Query("SELECT t.priority, count(t) FROM Task t WHERE t.project.id = :projectId GROUP BY t.priority")
+    List<Object[]> countTasksByPriority(@Param("projectId") UUID projectId);
+
+    @Query("SELECT count(t) FROM Task t WHERE t.project.id = :projectId AND t.overdueDate IS NOT NULL AND t.taskStatus NOT IN :closedStatuses")
+    long countOverdueTasks(@Param("projectId") UUID projectId, @Param("closedStatuses") Collection<String> closedStatuses);
+}
@@ -1,12 +1,23 @@
 package fs19.java.backend.infrastructure.JpaRepositories;
 
+import fs19.java.backend.application.dto.notification.NotificationNamesDTO;
 import fs19.java.backend.domain.entity.Project;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectJpaRepo extends JpaRepository<Project, UUID> {
     List<Project> findByWorkspaceId(UUID workspaceId);
-}
 
+    @Query("SELECT p.id FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query("SELECT new fs19.java.backend.application.dto.notification.NotificationNamesDTO(p.name, u.firstName, u.lastName) " +
+            "FROM Project p, User u WHERE p.id = :projectId AND u.id = :userId")
+    Optional<NotificationNamesDTO> findNotificationNames(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+}
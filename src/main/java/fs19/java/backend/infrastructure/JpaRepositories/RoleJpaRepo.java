@@ -1,8 +1,11 @@
 package fs19.java.backend.infrastructure.JpaRepositories;
 
 import fs19.java.backend.domain.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +13,11 @@ import java.util.UUID;
 
 @Repository
 public interface RoleJpaRepo extends JpaRepository<Role, UUID> {
+    // the cached result holds the role id only; the role itself is then read from its own region
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Role.BY_NAME_REGION)
+    })
     @Query("SELECT r FROM Role r WHERE r.name = :name")
     Role findByName(@Param("name") String name);
 }
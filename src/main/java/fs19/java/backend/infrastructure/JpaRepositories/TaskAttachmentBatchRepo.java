@@ -0,0 +1,12 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.domain.entity.TaskAttachment;
+
+import java.util.List;
+
+/**
+ * JDBC batch upsert of task attachments, keyed by (task_id, file_name)
+ */
+public interface TaskAttachmentBatchRepo {
+    void batchUpsert(List<TaskAttachment> attachments);
+}
@@ -0,0 +1,45 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.domain.entity.TaskAttachment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Upserts attachments with JdbcTemplate.batchUpdate. Metadata left null by the caller keeps the stored value,
+ * so re-sending a bare file name does not erase its size, content type or checksum.
+ */
+public class TaskAttachmentBatchRepoImpl implements TaskAttachmentBatchRepo {
+
+    public static final int BATCH_SIZE = 1000;
+
+    private static final String UPSERT_SQL = "INSERT INTO task_attachment (id, task_id, file_name, size_bytes, content_type, checksum, created_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (task_id, file_name) DO UPDATE SET size_bytes = COALESCE(EXCLUDED.size_bytes, task_attachment.size_bytes), " +
+            "content_type = COALESCE(EXCLUDED.content_type, task_attachment.content_type), " +
+            "checksum = COALESCE(EXCLUDED.checksum, task_attachment.checksum)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskAttachmentBatchRepoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void batchUpsert(List<TaskAttachment> attachments) {
+        if (attachments.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, attachments, BATCH_SIZE, (ps, attachment) -> {
+            ps.setObject(1, attachment.getId());
+            ps.setObject(2, attachment.getTask().getId());
+            ps.setString(3, attachment.getFileName());
+            ps.setObject(4, attachment.getSizeBytes(), Types.BIGINT);
+            ps.setString(5, attachment.getContentType());
+            ps.setString(6, attachment.getChecksum());
+            ps.setTimestamp(7, Timestamp.from(attachment.getCreatedDate().toInstant()));
+        });
+    }
+}
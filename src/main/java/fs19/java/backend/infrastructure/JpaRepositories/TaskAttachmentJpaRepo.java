@@ -0,0 +1,16 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.domain.entity.TaskAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskAttachmentJpaRepo extends JpaRepository<TaskAttachment, UUID>, TaskAttachmentBatchRepo {
+
+    @Query("SELECT a FROM TaskAttachment a WHERE a.task.id IN :taskIds ORDER BY a.createdDate, a.fileName")
+    List<TaskAttachment> findAllByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+}
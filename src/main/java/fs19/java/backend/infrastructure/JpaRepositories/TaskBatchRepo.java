@@ -0,0 +1,20 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.domain.entity.Task;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC batch writes for tasks, bypassing the persistence context
+ */
+public interface TaskBatchRepo {
+    void batchInsert(List<Task> tasks);
+    void batchUpdate(List<Task> tasks);
+    void batchMove(List<Task> tasks);
+    List<UUID> markOverdue(Collection<UUID> taskIds, ZonedDateTime now, Collection<String> closedStatuses);
+    void addCommentActivities(Map<UUID, Integer> deltaByTaskId, ZonedDateTime at);
+}
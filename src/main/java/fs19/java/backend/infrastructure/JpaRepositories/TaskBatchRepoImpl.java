@@ -0,0 +1,144 @@
+package fs19.java.backend.infrastructure.JpaRepositories;
+
+import fs19.java.backend.config.PriorityConverter;
+import fs19.java.backend.config.TaskStatusConverter;
+import fs19.java.backend.domain.entity.Task;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes tasks with JdbcTemplate.batchUpdate, so a whole chunk travels to the database in one round trip.
+ * Like TaskRepoImpl.update, a null resolved or due date keeps the stored value. Attachments are written separately.
+ * Updates and moves bump the version column the same way Hibernate does, so ETags handed out earlier stop matching.
+ * They are guarded by the version each task was read with, and a row left unchanged fails the whole batch with an
+ * ObjectOptimisticLockingFailureException, like a stale entity update.
+ * An update which moves the due date clears the overdue flag, like the entity update paths.
+ */
+public class TaskBatchRepoImpl implements TaskBatchRepo {
+
+    public static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO task (id, name, description, created_date, resolved_date, due_date, " +
+            "task_status, project_id, createduser_id, assigneduser_id, priority, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String UPDATE_SQL = "UPDATE task SET name = ?, description = ?, resolved_date = COALESCE(?, resolved_date), due_date = COALESCE(?, due_date), " +
+            "overdue_date = CASE WHEN COALESCE(?, due_date) IS NOT DISTINCT FROM due_date THEN overdue_date END, " +
+            "task_status = ?, project_id = ?, assigneduser_id = ?, priority = ?, version = version + 1 WHERE id = ? AND version = ?";
+    private static final String MOVE_SQL = "UPDATE task SET task_status = ?, project_id = ?, version = version + 1 WHERE id = ? AND version = ?";
+    // the flag is derived state, so it does not bump the version and cannot fail a client's If-Match
+    private static final String MARK_OVERDUE_SQL = "UPDATE task SET overdue_date = ? WHERE id = ANY (?) AND overdue_date IS NULL " +
+            "AND due_date <= ? AND task_status <> ALL (?) RETURNING id";
+    // same in-place update as TaskJpaRepo.addCommentActivity, batched for set-based comment deletes
+    private static final String COMMENT_ACTIVITY_SQL = "UPDATE task SET comment_count = comment_count + ?, last_activity_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskStatusConverter taskStatusConverter = new TaskStatusConverter();
+    private final PriorityConverter priorityConverter = new PriorityConverter();
+
+    public TaskBatchRepoImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void batchInsert(List<Task> tasks) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, tasks, BATCH_SIZE, (ps, task) -> {
+            ps.setObject(1, task.getId());
+            ps.setString(2, task.getName());
+            ps.setString(3, task.getDescription());
+            ps.setTimestamp(4, toTimestamp(task.getCreatedDate()));
+            ps.setTimestamp(5, toTimestamp(task.getResolvedDate()));
+            ps.setTimestamp(6, toTimestamp(task.getDueDate()));
+            ps.setObject(7, taskStatusConverter.convertToDatabaseColumn(task.getTaskStatus()), Types.SMALLINT);
+            ps.setObject(8, task.getProject().getId());
+            ps.setObject(9, task.getCreatedUser().getId());
+            ps.setObject(10, task.getAssignedUser() == null ? null : task.getAssignedUser().getId());
+            ps.setObject(11, priorityConverter.convertToDatabaseColumn(task.getPriority()), Types.SMALLINT);
+        });
+    }
+
+    @Override
+    public void batchUpdate(List<Task> tasks) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, tasks, BATCH_SIZE, (ps, task) -> {
+            ps.setString(1, task.getName());
+            ps.setString(2, task.getDescription());
+            ps.setTimestamp(3, toTimestamp(task.getResolvedDate()));
+            ps.setTimestamp(4, toTimestamp(task.getDueDate()));
+            ps.setTimestamp(5, toTimestamp(task.getDueDate()));
+            ps.setObject(6, taskStatusConverter.convertToDatabaseColumn(task.getTaskStatus()), Types.SMALLINT);
+            ps.setObject(7, task.getProject().getId());
+            ps.setObject(8, task.getAssignedUser() == null ? null : task.getAssignedUser().getId());
+            ps.setObject(9, priorityConverter.convertToDatabaseColumn(task.getPriority()), Types.SMALLINT);
+            ps.setObject(10, task.getId());
+            ps.setObject(11, task.getVersion());
+        });
+        checkWritten(tasks, counts);
+    }
+
+    @Override
+    public void batchMove(List<Task> tasks) {
+        int[][] counts = jdbcTemplate.batchUpdate(MOVE_SQL, tasks, BATCH_SIZE, (ps, task) -> {
+            ps.setObject(1, taskStatusConverter.convertToDatabaseColumn(task.getTaskStatus()), Types.SMALLINT);
+            ps.setObject(2, task.getProject().getId());
+            ps.setObject(3, task.getId());
+            ps.setObject(4, task.getVersion());
+        });
+        checkWritten(tasks, counts);
+    }
+
+    /**
+     * Flag the given tasks overdue when they are still open, unflagged and past their due date, in one statement.
+     * Entries the scheduler holds for tasks changed since are filtered out here.
+     *
+     * @return ids of the tasks flagged by this call
+     */
+    @Override
+    public List<UUID> markOverdue(Collection<UUID> taskIds, ZonedDateTime now, Collection<String> closedStatuses) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(MARK_OVERDUE_SQL);
+            ps.setTimestamp(1, toTimestamp(now));
+            ps.setArray(2, connection.createArrayOf("uuid", taskIds.toArray()));
+            ps.setTimestamp(3, toTimestamp(now));
+            ps.setArray(4, connection.createArrayOf("int2", closedStatuses.stream().map(taskStatusConverter::convertToDatabaseColumn).toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+    }
+
+    @Override
+    public void addCommentActivities(Map<UUID, Integer> deltaByTaskId, ZonedDateTime at) {
+        // a fixed row order keeps two concurrent batches from locking the same tasks in opposite order
+        List<Map.Entry<UUID, Integer>> deltas = deltaByTaskId.entrySet().stream().sorted(Map.Entry.comparingByKey()).toList();
+        jdbcTemplate.batchUpdate(COMMENT_ACTIVITY_SQL, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setInt(1, delta.getValue());
+            ps.setTimestamp(2, toTimestamp(at));
+            ps.setObject(3, delta.getKey());
+        });
+    }
+
+    private static void checkWritten(List<Task> tasks, int[][] counts) {
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    throw new ObjectOptimisticLockingFailureException(Task.class, tasks.get(index).getId());
+                }
+                index++;
+            }
+        }
+    }
+
+    private static Timestamp toTimestamp(ZonedDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.from(dateTime.toInstant());
+    }
+}
@@ -1,13 +1,81 @@
 package fs19.java.backend.infrastructure.JpaRepositories;
 
+import fs19.java.backend.application.dto.search.SearchDocumentDTO;
+import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.dto.task.TaskSnapshotDTO;
 import fs19.java.backend.domain.entity.Task;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskJpaRepo extends JpaRepository<Task, UUID> {
+public interface TaskJpaRepo extends JpaRepository<Task, UUID>, TaskBatchRepo {
+    String TASK_RESPONSE_PROJECTION = "SELECT new fs19.java.backend.application.dto.task.TaskResponseDTO(t.id, t.name, " +
+            "t.description, t.createdDate, t.resolvedDate, t.dueDate, t.taskStatus, t.project.id, " +
+            "t.createdUser.id, t.assignedUser.id, t.priority, t.version, t.overdueDate, t.commentCount, t.lastActivityAt) FROM Task t ";
+
     List<Task> findByProjectId(UUID projectId);
+
+    @Query(TASK_RESPONSE_PROJECTION + "WHERE t.assignedUser.id = :userId ORDER BY t.createdDate DESC, t.id DESC")
+    List<TaskResponseDTO> findResponsesByAssignedUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(TASK_RESPONSE_PROJECTION + "WHERE t.createdUser.id = :userId ORDER BY t.createdDate DESC, t.id DESC")
+    List<TaskResponseDTO> findResponsesByCreatedUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    String TASK_SNAPSHOT_PROJECTION = "SELECT new fs19.java.backend.application.dto.task.TaskSnapshotDTO(t.id, t.project.id, " +
+            "t.createdUser.id, t.taskStatus, t.priority, t.dueDate, t.overdueDate, t.version) FROM Task t ";
+
+    /**
+     * Read the given tasks and lock their rows until the transaction ends. Rows are locked in id order, so two
+     * requests over the same tasks cannot deadlock
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(TASK_SNAPSHOT_PROJECTION + "WHERE t.id IN :ids ORDER BY t.id")
+    List<TaskSnapshotDTO> findSnapshotsByIdInForUpdate(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Page through open tasks not yet flagged overdue whose due date is before the given bound, in (dueDate, id) order
+     */
+    @Query(TASK_SNAPSHOT_PROJECTION + "WHERE t.overdueDate IS NULL AND t.taskStatus NOT IN :closedStatuses AND t.dueDate < :until " +
+            "AND (t.dueDate > :afterDue OR (t.dueDate = :afterDue AND t.id > :afterId)) ORDER BY t.dueDate, t.id")
+    List<TaskSnapshotDTO> findUpcomingDueDates(@Param("afterDue") ZonedDateTime afterDue, @Param("afterId") UUID afterId,
+                                               @Param("until") ZonedDateTime until,
+                                               @Param("closedStatuses") Collection<String> closedStatuses, Pageable pageable);
+
+    String TASK_SEARCH_DOCUMENT_PROJECTION = "SELECT new fs19.java.backend.application.dto.search.SearchDocumentDTO(t.id, t.id, p.id, " +
+            "p.workspace.id, t.name, t.description, t.version) FROM Task t JOIN t.project p ";
+
+    @Query(TASK_SEARCH_DOCUMENT_PROJECTION + "WHERE t.id IN :ids")
+    List<SearchDocumentDTO> findSearchDocumentsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(TASK_SEARCH_DOCUMENT_PROJECTION + "WHERE t.id > :afterId ORDER BY t.id")
+    List<SearchDocumentDTO> findSearchDocumentsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Page through (id, version) of all tasks in id order
+     */
+    @Query("SELECT t.id, t.version FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<Object[]> findVersionsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * Add to the comment count of a task and stamp its last activity in one statement. The row lock of the UPDATE
+     * serialises concurrent comments, and like the overdue flag the change does not bump the version
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.commentCount = t.commentCount + :delta, t.lastActivityAt = :at WHERE t.id = :taskId")
+    int addCommentActivity(@Param("taskId") UUID taskId, @Param("delta") int delta, @Param("at") ZonedDateTime at);
+
+    @Query("SELECT t.commentCount FROM Task t WHERE t.id = :taskId")
+    Optional<Integer> findCommentCountById(@Param("taskId") UUID taskId);
 }
@@ -2,7 +2,9 @@ package fs19.java.backend.infrastructure.JpaRepositories;
 
 import fs19.java.backend.domain.entity.User;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,4 +14,7 @@ import org.springframework.data.repository.query.Param;
 public interface UserJpaRepo extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u WHERE u.email = :email")
     Optional<User> findByEmail(@Param("email") String email);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
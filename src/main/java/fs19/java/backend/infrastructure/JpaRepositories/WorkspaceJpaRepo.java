@@ -2,8 +2,14 @@ package fs19.java.backend.infrastructure.JpaRepositories;
 
 import fs19.java.backend.domain.entity.Workspace;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface WorkspaceJpaRepo extends JpaRepository<Workspace, UUID> {
-}
\ No newline at end of file
+
+    @Query("SELECT w FROM Workspace w JOIN FETCH w.companyId WHERE w.id = :id")
+    Optional<Workspace> findByIdWithCompany(@Param("id") UUID id);
+}
@@ -4,16 +4,28 @@ import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.domain.entity.WorkspaceUser;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface WorkspaceUserJpaRepo extends JpaRepository<WorkspaceUser, UUID> {
+
+    @Override
+    @EntityGraph(WorkspaceUser.WITH_WORKSPACE_AND_COMPANY)
+    Optional<WorkspaceUser> findById(UUID id);
+
+    @EntityGraph(WorkspaceUser.WITH_WORKSPACE_AND_COMPANY)
     List<WorkspaceUser> findByUser(User user);
+
+    // memberships of a workspace waiting for its deletion job are left out
     @Query("SELECT wu FROM WorkspaceUser wu " +
             "JOIN FETCH wu.workspace w " +
             "JOIN FETCH w.companyId c " +
-            "WHERE wu.user.id = :userId")
+            "WHERE wu.user.id = :userId AND w.deletedAt IS NULL")
     List<WorkspaceUser> findAllByUserIdWithCompany(@Param("userId") UUID userId);
+
+    boolean existsByUserEmailAndWorkspaceId(String email, UUID workspaceId);
 }
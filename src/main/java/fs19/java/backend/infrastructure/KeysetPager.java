@@ -0,0 +1,128 @@
+package fs19.java.backend.infrastructure;
+
+import fs19.java.backend.application.dto.page.CursorPageDTO;
+import fs19.java.backend.application.dto.page.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Shared reader of the list endpoints.
+ * Every listing is ordered by id and continued after the id of the last row, so a page is an index seek on the
+ * primary key whatever its depth, and no COUNT is run. Exports stream the same ordering through a server-side
+ * cursor and clear the persistence context as they go, so heap use does not grow with the table.
+ * A component rather than a repository, so an invalid cursor reaches the handler as IllegalArgumentException.
+ */
+@Component
+public class KeysetPager {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    // rows per round trip of an export, and rows kept in the persistence context before it is cleared
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Read the page after the given cursor and map its rows
+     *
+     * @param listing what to list
+     * @param cursor  nextCursor of the previous page, or null for the first page
+     * @param size    requested page size, capped at MAX_PAGE_SIZE
+     * @param mapper  entity to DTO
+     * @return CursorPageDTO
+     */
+    public <E, D> CursorPageDTO<D> page(Listing<E> listing, String cursor, int size, Function<E, D> mapper) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        UUID after = KeysetCursor.decodeId(cursor);
+        // one extra row tells whether another page follows
+        List<E> rows = query(listing, after).setMaxResults(pageSize + 1).getResultList();
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? KeysetCursor.encode(idOf(rows.getLast())) : null;
+        List<D> items = rows.stream().map(mapper).toList();
+        return new CursorPageDTO<>(items, nextCursor, hasNext, items.size());
+    }
+
+    /**
+     * Map every row of a listing, in id order, to the sink. Must run inside a transaction.
+     *
+     * @param listing what to list
+     * @param mapper  entity to DTO
+     * @param sink    receives the DTOs one by one
+     */
+    public <E, D> void export(Listing<E> listing, Function<E, D> mapper, Consumer<D> sink) {
+        TypedQuery<E> query = query(listing, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                // a full scan would push the hot entries out of the second-level cache
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE);
+        try (Stream<E> rows = query.getResultStream()) {
+            int[] inContext = {0};
+            rows.forEach(row -> {
+                sink.accept(mapper.apply(row));
+                if (++inContext[0] == EXPORT_FETCH_SIZE) {
+                    entityManager.clear();
+                    inContext[0] = 0;
+                }
+            });
+        }
+    }
+
+    private <E> TypedQuery<E> query(Listing<E> listing, UUID after) {
+        List<String> conditions = new ArrayList<>();
+        if (listing.restriction() != null) {
+            conditions.add("(" + listing.restriction() + ")");
+        }
+        if (after != null) {
+            conditions.add("e.id > :after");
+        }
+        String hql = "SELECT e FROM " + entityManager.getMetamodel().entity(listing.type()).getName() + " e"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions)) + " ORDER BY e.id";
+        TypedQuery<E> query = entityManager.createQuery(hql, listing.type());
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        if (listing.fetchGraph() != null) {
+            query.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(listing.fetchGraph()));
+        }
+        return query;
+    }
+
+    private UUID idOf(Object entity) {
+        return (UUID) entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(entity);
+    }
+
+    /**
+     * An entity type to list, with an optional HQL condition on the alias e and an optional named entity graph
+     * covering the associations its DTO reads. Conditions are constants of the calling service, never user input.
+     */
+    public record Listing<E>(Class<E> type, String restriction, String fetchGraph) {
+
+        public static <E> Listing<E> of(Class<E> type) {
+            return new Listing<>(type, null, null);
+        }
+
+        public Listing<E> where(String condition) {
+            return new Listing<>(type, condition, fetchGraph);
+        }
+
+        public Listing<E> fetching(String graphName) {
+            return new Listing<>(type, restriction, graphName);
+        }
+    }
+}
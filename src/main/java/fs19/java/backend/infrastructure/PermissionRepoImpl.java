@@ -5,7 +5,10 @@ import fs19.java.backend.domain.abstraction.PermissionRepository;
 import fs19.java.backend.domain.entity.Permission;
 import fs19.java.backend.infrastructure.JpaRepositories.PermissionJpaRepo;
 import fs19.java.backend.presentation.shared.exception.PermissionLevelException;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,6 +22,9 @@ public class PermissionRepoImpl implements PermissionRepository {
 
     private final PermissionJpaRepo permissionJpaRepo;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public PermissionRepoImpl(PermissionJpaRepo permissionJpaRepo) {
         this.permissionJpaRepo = permissionJpaRepo;
     }
@@ -89,14 +95,15 @@ public class PermissionRepoImpl implements PermissionRepository {
     }
 
     /**
-     * Load permission by permission Name
+     * Load permission by permission Name.
+     * The name is the natural id, so a repeated lookup is answered from the permission-by-name cache region
      *
      * @param name
      * @return
      */
     @Override
     public Permission findByName(String name) {
-        return permissionJpaRepo.findByName(name);
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Permission.class).load(name);
     }
 
     /**
@@ -0,0 +1,155 @@
+package fs19.java.backend.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Resolves the ids a write only needs as foreign keys.
+ * Existence of all requested ids, across entity types, is checked with one UNION ALL query of primary keys,
+ * and the associations are then set to getReference proxies, so no referenced entity is loaded.
+ * Ids already loaded in the persistence context, or confirmed earlier in the same transaction, are not checked again.
+ * The confirmed ids are bound to the transaction and dropped when it ends, so a row deleted by a later transaction
+ * is checked again; within the transaction, the foreign key still rejects a row deleted after it was confirmed.
+ */
+@Repository
+public class ReferenceResolver {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Check which of the given ids exist. Null ids are ignored and reported as missing.
+     *
+     * @param idsByType ids to check per entity class
+     * @return References
+     */
+    public References resolve(Map<Class<?>, ? extends Collection<UUID>> idsByType) {
+        Set<String> confirmed = confirmedInTransaction();
+        Map<Class<?>, Set<UUID>> existing = new HashMap<>();
+        Map<Class<?>, Set<UUID>> unchecked = new LinkedHashMap<>();
+        idsByType.forEach((type, ids) -> {
+            for (UUID id : ids) {
+                if (id == null) {
+                    continue;
+                }
+                if (confirmed.contains(key(type, id)) || Hibernate.isInitialized(entityManager.getReference(type, id))) {
+                    existing.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(id);
+                } else {
+                    unchecked.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(id);
+                }
+            }
+        });
+        if (!unchecked.isEmpty()) {
+            List<Class<?>> types = new ArrayList<>(unchecked.keySet());
+            StringBuilder hql = new StringBuilder();
+            for (int index = 0; index < types.size(); index++) {
+                if (index > 0) {
+                    hql.append(" UNION ALL ");
+                }
+                // entity names come from the metamodel, never from user input
+                hql.append("SELECT ").append(index).append(", e.id FROM ")
+                        .append(entityManager.getMetamodel().entity(types.get(index)).getName())
+                        .append(" e WHERE e.id IN :ids").append(index);
+            }
+            TypedQuery<Object[]> query = entityManager.createQuery(hql.toString(), Object[].class);
+            for (int index = 0; index < types.size(); index++) {
+                query.setParameter("ids" + index, unchecked.get(types.get(index)));
+            }
+            for (Object[] row : query.getResultList()) {
+                Class<?> type = types.get(((Number) row[0]).intValue());
+                UUID id = (UUID) row[1];
+                existing.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(id);
+                confirmed.add(key(type, id));
+            }
+        }
+        return new References(existing);
+    }
+
+    /**
+     * Return an uninitialized proxy which can be set as an association without loading the row
+     *
+     * @param type entity class
+     * @param id   UUID
+     * @return T
+     */
+    public <T> T getReference(Class<T> type, UUID id) {
+        return id == null ? null : entityManager.getReference(type, id);
+    }
+
+    /**
+     * Return the ids confirmed so far in the current transaction, bound to it on first use.
+     * Outside a transaction nothing is kept between calls.
+     *
+     * @return Set<String>
+     */
+    @SuppressWarnings("unchecked")
+    private Set<String> confirmedInTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashSet<>();
+        }
+        Set<String> confirmed = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (confirmed == null) {
+            Set<String> bound = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, bound);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // an inner REQUIRES_NEW transaction starts with its own set
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(ReferenceResolver.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(ReferenceResolver.this, bound);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReferenceResolver.this);
+                }
+            });
+            confirmed = bound;
+        }
+        return confirmed;
+    }
+
+    private static String key(Class<?> type, UUID id) {
+        return type.getName() + ':' + id;
+    }
+
+    /**
+     * Outcome of a resolve call
+     */
+    public static final class References {
+
+        private final Map<Class<?>, Set<UUID>> existingIdsByType;
+
+        private References(Map<Class<?>, Set<UUID>> existingIdsByType) {
+            this.existingIdsByType = existingIdsByType;
+        }
+
+        public boolean exists(Class<?> type, UUID id) {
+            return id != null && existingIdsByType.getOrDefault(type, Set.of()).contains(id);
+        }
+
+        public Set<UUID> existingIds(Class<?> type) {
+            return existingIdsByType.getOrDefault(type, Set.of());
+        }
+    }
+}
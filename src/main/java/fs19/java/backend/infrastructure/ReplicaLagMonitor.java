@@ -0,0 +1,59 @@
+package fs19.java.backend.infrastructure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Polls how far the replica is behind the primary. The replica is not used while the lag is above the limit or
+ * the last poll failed. A replica that has replayed everything it received counts as current, however long ago
+ * the primary last wrote.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LogManager.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS bigint) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+    // unknown until the first poll, so reads start on the primary
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMillis) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${replica.lag-check-interval-ms:1000}")
+    public void refresh() {
+        boolean wasUsable = isReplicaUsable();
+        try {
+            Long lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Long.class);
+            lagMillis = lag == null ? -1 : lag;
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            logger.debug("Replica lag check failed", e);
+        }
+        if (isReplicaUsable() && !wasUsable) {
+            logger.info("Replica is {} ms behind, read-only transactions go to the replica", lagMillis);
+        } else if (!isReplicaUsable() && wasUsable) {
+            logger.warn("Replica is {}, read-only transactions go to the primary",
+                    lagMillis < 0 ? "not reachable" : lagMillis + " ms behind");
+        }
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public boolean isReplicaUsable() {
+        long lag = lagMillis;
+        return lag >= 0 && lag <= maxLagMillis;
+    }
+}
@@ -0,0 +1,134 @@
+package fs19.java.backend.infrastructure;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sends connections of read-only transactions to the replica and every other connection to the primary.
+ * A read stays on the primary while the replica lags too far behind, and for a short window after the same user
+ * committed a write, so users always read their own writes. Must be wrapped in a LazyConnectionDataSourceProxy:
+ * the transaction is only marked read-only once it has begun, after the connection would otherwise be taken.
+ * A read-write transaction only counts as a write when the database assigned it a transaction id, which it does
+ * on the first row written by any means; the primary connection asks just before it commits.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final BooleanSupplier replicaUsable;
+    private final long stickyWindowNanos;
+    // user name to the time of the last commit that wrote, swept of expired entries once per window
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private volatile long nextSweepNanos;
+
+    public ReplicaRoutingDataSource(BooleanSupplier replicaUsable, long stickyWindowMillis) {
+        this.replicaUsable = replicaUsable;
+        this.stickyWindowNanos = stickyWindowMillis * 1_000_000;
+        this.nextSweepNanos = System.nanoTime() + stickyWindowNanos;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return trackWrites(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return trackWrites(super.getConnection(username, password));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (!replicaUsable.getAsBoolean() || wroteRecently(currentUser())) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+
+    /**
+     * Wrap the primary connection of a user's read-write transaction, so its commit records the write
+     *
+     * @param connection Connection
+     * @return Connection
+     */
+    private Connection trackWrites(Connection connection) {
+        String user = currentUser();
+        if (user == null || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    boolean wrote = "commit".equals(method.getName()) && wroteInTransaction(connection);
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                    if (wrote) {
+                        recordWrite(user);
+                    }
+                    return result;
+                });
+    }
+
+    private static boolean wroteInTransaction(Connection connection) throws SQLException {
+        if (connection.getAutoCommit()) {
+            return false;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT txid_current_if_assigned() IS NOT NULL")) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    private void recordWrite(String user) {
+        long now = System.nanoTime();
+        lastWriteByUser.put(user, now);
+        if (now - nextSweepNanos >= 0) {
+            nextSweepNanos = now + stickyWindowNanos;
+            lastWriteByUser.values().removeIf(lastWrite -> now - lastWrite >= stickyWindowNanos);
+        }
+    }
+
+    private boolean wroteRecently(String user) {
+        if (user == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteByUser.get(user);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite < stickyWindowNanos) {
+            return true;
+        }
+        lastWriteByUser.remove(user, lastWrite);
+        return false;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
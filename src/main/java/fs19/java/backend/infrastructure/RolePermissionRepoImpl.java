@@ -13,12 +13,12 @@ import fs19.java.backend.infrastructure.JpaRepositories.RolePermissionJpaRepo;
 import fs19.java.backend.presentation.shared.exception.RolePermissionLevelException;
 import fs19.java.backend.presentation.shared.status.ResponseStatus;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,35 +32,40 @@ public class RolePermissionRepoImpl implements RolePermissionRepository {
     private final RolePermissionJpaRepo rolePermissionJpaRepo;
     private final RoleJpaRepo roleJpaRepo;
     private final PermissionJpaRepo permissionJpaRepo;
+    private final ReferenceResolver referenceResolver;
 
-    public RolePermissionRepoImpl(RolePermissionJpaRepo rolePermissionJpaRepo, RoleJpaRepo roleJpaRepo, PermissionJpaRepo permissionJpaRepo) {
+    public RolePermissionRepoImpl(RolePermissionJpaRepo rolePermissionJpaRepo, RoleJpaRepo roleJpaRepo, PermissionJpaRepo permissionJpaRepo,
+                                  ReferenceResolver referenceResolver) {
         this.rolePermissionJpaRepo = rolePermissionJpaRepo;
         this.roleJpaRepo = roleJpaRepo;
         this.permissionJpaRepo = permissionJpaRepo;
+        this.referenceResolver = referenceResolver;
     }
 
 
     /**
-     * create role permission by using user info
+     * create role permission by using user info. Role and permission are checked with one query and attached as references
      *
      * @param rolePermissionRequestDTO
      * @return
      */
     @Override
     public RolePermissionResponseDTO save(RolePermissionRequestDTO rolePermissionRequestDTO) {
-        Optional<Role> roleById = roleJpaRepo.findById(rolePermissionRequestDTO.getRoleId());
-        if (roleById.isEmpty()) {
+        ReferenceResolver.References references = referenceResolver.resolve(Map.of(
+                Role.class, Collections.singletonList(rolePermissionRequestDTO.getRoleId()),
+                Permission.class, Collections.singletonList(rolePermissionRequestDTO.getPermissionId())));
+        if (!references.exists(Role.class, rolePermissionRequestDTO.getRoleId())) {
             RolePermissionResponseDTO responseDTO = new RolePermissionResponseDTO();
             responseDTO.setStatus(ResponseStatus.ROLE_RESULT_NOT_FOUND);
             return responseDTO;
         }
-        Optional<Permission> permissionById = permissionJpaRepo.findById(rolePermissionRequestDTO.getPermissionId());
-        if (permissionById.isEmpty()) {
+        if (!references.exists(Permission.class, rolePermissionRequestDTO.getPermissionId())) {
             RolePermissionResponseDTO responseDTO = new RolePermissionResponseDTO();
             responseDTO.setStatus(ResponseStatus.PERMISSION_RESULT_NOT_FOUND);
             return responseDTO;
         }
-        return getCreatedRolePermission(roleById.get(), permissionById.get());
+        return getCreatedRolePermission(referenceResolver.getReference(Role.class, rolePermissionRequestDTO.getRoleId()),
+                referenceResolver.getReference(Permission.class, rolePermissionRequestDTO.getPermissionId()));
     }
 
     /**
@@ -204,22 +209,28 @@ public class RolePermissionRepoImpl implements RolePermissionRepository {
      */
     @Override
     public RolePermission existsById(UUID roleId, UUID permissionId) {
-        RolePermission rolePermission = new RolePermission();
-        rolePermission.setRole(roleJpaRepo.findById(roleId).orElse(null));
-        rolePermission.setPermission(permissionJpaRepo.findById(permissionId).orElse(null));
-
-        if (rolePermission.getRole() == null || rolePermission.getPermission() == null) {
-            return null; // Return null if either role or permission is not found
+        if (roleId == null || permissionId == null) {
+            return null;
         }
-        Example<RolePermission> example = Example.of(rolePermission,
-                ExampleMatcher.matchingAll()
-                        .withIgnoreNullValues()
-                        .withMatcher("permission", ExampleMatcher.GenericPropertyMatchers.exact())
-                        .withMatcher("role", ExampleMatcher.GenericPropertyMatchers.exact()));
-
-        return rolePermissionJpaRepo.findOne(example).orElse(null);
+        // a pair whose role or permission does not exist has no row either, so one lookup on the pair is enough
+        return rolePermissionJpaRepo.findByPermissionIdAndRoleId(permissionId, roleId);
     }
 
+    /**
+     * Create many role-permissions at once, such as the CRUD permissions of a new role. The INSERTs go to the
+     * database in JDBC batches when the transaction flushes, instead of one statement per pair
+     *
+     * @param rolePermissions new role-permission pairs, not yet persisted
+     * @return the saved role-permissions, with their generated ids
+     */
+    @Override
+    public List<RolePermission> saveAll(List<RolePermission> rolePermissions) {
+        try {
+            return rolePermissionJpaRepo.saveAll(rolePermissions);
+        } catch (Exception e) {
+            throw new RolePermissionLevelException(e.getLocalizedMessage() + " : " + RolePermissionLevelException.ROLE_PERMISSION_CREATE);
+        }
+    }
 
     /**
      * Create and return newly created role-permission object
@@ -1,22 +1,35 @@
 package fs19.java.backend.infrastructure;
 
+import fs19.java.backend.application.dto.page.KeysetCursor;
 import fs19.java.backend.application.dto.task.TaskRequestDTO;
+import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.dto.task.TaskSearchCriteriaDTO;
+import fs19.java.backend.application.dto.task.TaskSnapshotDTO;
 import fs19.java.backend.domain.abstraction.TaskRepository;
 import fs19.java.backend.domain.entity.Project;
 import fs19.java.backend.domain.entity.Task;
 import fs19.java.backend.domain.entity.User;
-import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.TaskJpaRepo;
-import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
 import fs19.java.backend.presentation.shared.exception.PermissionLevelException;
 import fs19.java.backend.presentation.shared.exception.TaskLevelException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.springframework.data.domain.Example;
-import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,15 +38,16 @@ import java.util.UUID;
 public class TaskRepoImpl implements TaskRepository {
 
     private static final Logger logger = LogManager.getLogger(TaskRepoImpl.class);
+    // tasks flushed per round of saveAll, a multiple of hibernate.jdbc.batch_size
+    private static final int SAVE_ALL_CHUNK = 1000;
 
     private final TaskJpaRepo taskJpaRepo;
-    private final UserJpaRepo userJpaRepo;
-    private final ProjectJpaRepo projectJpaRepo;
 
-    public TaskRepoImpl(TaskJpaRepo taskJpaRepo, UserJpaRepo userJpaRepo, ProjectJpaRepo projectJpaRepo) {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TaskRepoImpl(TaskJpaRepo taskJpaRepo) {
         this.taskJpaRepo = taskJpaRepo;
-        this.userJpaRepo = userJpaRepo;
-        this.projectJpaRepo = projectJpaRepo;
     }
 
     @Override
@@ -57,10 +71,14 @@ public class TaskRepoImpl implements TaskRepository {
                 task.setResolvedDate(taskRequestDTO.getResolvedDate().atStartOfDay(ZoneId.systemDefault()));
             }
             if (taskRequestDTO.getDueDate() != null) {
-                task.setDueDate(taskRequestDTO.getDueDate().atTime(23, 59, 59).atZone(ZoneId.systemDefault()));
+                ZonedDateTime dueDate = taskRequestDTO.getDueDate().atTime(23, 59, 59).atZone(ZoneId.systemDefault());
+                // a new due date is a new deadline, the task is flagged again if it passes
+                if (!DateAndTime.isSameInstant(dueDate, task.getDueDate())) {
+                    task.setOverdueDate(null);
+                }
+                task.setDueDate(dueDate);
             }
 
-            task.setAttachments(taskRequestDTO.getAttachments());
             task.setPriority(taskRequestDTO.getPriority());
             task.setProject(project);
             task.setAssignedUser(assignedUser);
@@ -83,6 +101,18 @@ public class TaskRepoImpl implements TaskRepository {
 
 
 
+    /**
+     * Write the changed columns of a loaded task. The UPDATE is guarded by the version column, so a
+     * concurrent write surfaces as an OptimisticLockingFailureException instead of being overwritten
+     *
+     * @param task Task
+     * @return Task
+     */
+    @Override
+    public Task update(Task task) {
+        return taskJpaRepo.save(task);
+    }
+
     @Override
     public Task delete(UUID taskId) {
         Task task = findById(taskId);
@@ -105,56 +135,173 @@ public class TaskRepoImpl implements TaskRepository {
         return byId.orElse(null);
     }
 
+    /**
+     * Return a page of tasks assigned to the user, projected into response rows.
+     * Reads idx_task_assigned_created only; neither the user nor the task entities are loaded.
+     *
+     * @param userId   UUID
+     * @param pageable Pageable
+     * @return List<TaskResponseDTO>
+     */
     @Override
-    public List<Task> findByAssignedUserId(UUID userId) {
-
+    public List<TaskResponseDTO> findByAssignedUserId(UUID userId, Pageable pageable) {
         if (userId == null) {
-            return null;
+            return List.of();
         }
-        Task task = new Task();
-        task.setAssignedUser(userJpaRepo.findById(userId).orElse(null));
-
-        Example<Task> example = Example.of(task,
-                ExampleMatcher.matchingAll()
-                        .withIgnoreNullValues()
-                        .withMatcher("assigneduser_id", ExampleMatcher.GenericPropertyMatchers.exact()));
+        return taskJpaRepo.findResponsesByAssignedUserId(userId, pageable);
+    }
 
-        return taskJpaRepo.findAll(example);
+    /**
+     * Return a page of tasks created by the user, projected into response rows through idx_task_created_user_created
+     *
+     * @param userId   UUID
+     * @param pageable Pageable
+     * @return List<TaskResponseDTO>
+     */
+    @Override
+    public List<TaskResponseDTO> findByCreatedUserId(UUID userId, Pageable pageable) {
+        if (userId == null) {
+            return List.of();
+        }
+        return taskJpaRepo.findResponsesByCreatedUserId(userId, pageable);
     }
 
+    /**
+     * Return the current column values of the given tasks, with one IN query, and lock their rows until the
+     * transaction ends, so no other write changes them before they are written back
+     *
+     * @param taskIds Collection<UUID>, may be empty
+     * @return List<TaskSnapshotDTO>, without the ids that do not exist
+     */
     @Override
-    public List<Task> findByCreatedUserId(UUID userId) {
+    public List<TaskSnapshotDTO> findSnapshotsByIdsForUpdate(Collection<UUID> taskIds) {
+        return taskIds.isEmpty() ? List.of() : taskJpaRepo.findSnapshotsByIdInForUpdate(taskIds);
+    }
 
-        if (userId == null) {
-            return null;
+    @Override
+    public void insertAll(List<Task> tasks) {
+        try {
+            taskJpaRepo.batchInsert(tasks);
+        } catch (Exception e) {
+            throw new PermissionLevelException(e.getLocalizedMessage() + " : " + TaskLevelException.TASK_CREATE);
         }
-        Task task = new Task();
-        task.setCreatedUser(userJpaRepo.findById(userId).orElse(null));
+    }
 
-        Example<Task> example = Example.of(task,
-                ExampleMatcher.matchingAll()
-                        .withIgnoreNullValues()
-                        .withMatcher("createduser_id", ExampleMatcher.GenericPropertyMatchers.exact()));
+    @Override
+    public void updateAll(List<Task> tasks) {
+        try {
+            taskJpaRepo.batchUpdate(tasks);
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new PermissionLevelException(e.getLocalizedMessage() + " : " + TaskLevelException.TASK_UPDATE);
+        }
+    }
 
-        return taskJpaRepo.findAll(example);
+    @Override
+    public void moveAll(List<Task> tasks) {
+        try {
+            taskJpaRepo.batchMove(tasks);
+        } catch (OptimisticLockingFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new PermissionLevelException(e.getLocalizedMessage() + " : " + TaskLevelException.TASK_UPDATE);
+        }
     }
 
     /**
-     * Responsible to return user according to user Id
-     * @param userId
-     * @return
+     * Persist new tasks and write changes of loaded ones through the entity manager. Hibernate sends the INSERTs in
+     * JDBC batches of hibernate.jdbc.batch_size at each flush. UPDATEs still go one by one, as Hibernate does not batch
+     * the statements of a @DynamicUpdate entity; updateAll and moveAll batch them. Every SAVE_ALL_CHUNK tasks are
+     * flushed and detached, so the persistence context stays small however long the list is; the returned tasks are
+     * detached, with the ids and versions they were written with.
+     *
+     * @param tasks new tasks with a null version, or tasks loaded in this transaction
+     * @return List<Task>
      */
-    public Optional<User> findTaskUserByUserId(UUID userId) {
-        return userJpaRepo.findById(userId);
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = new ArrayList<>(tasks.size());
+        try {
+            for (int from = 0; from < tasks.size(); from += SAVE_ALL_CHUNK) {
+                List<Task> chunk = taskJpaRepo.saveAll(tasks.subList(from, Math.min(from + SAVE_ALL_CHUNK, tasks.size())));
+                taskJpaRepo.flush();
+                chunk.forEach(entityManager::detach);
+                saved.addAll(chunk);
+            }
+        } catch (Exception e) {
+            throw new PermissionLevelException(e.getLocalizedMessage() + " : " + TaskLevelException.TASK_CREATE);
+        }
+        return saved;
     }
 
-    public Optional<Project> findProjectById(UUID companyId) {
-        return projectJpaRepo.findById(companyId);
-
-    }
     @Override
     public List<Task> findTasksByProjectId(UUID projectId) {
         return taskJpaRepo.findByProjectId(projectId);
     }
 
+
+    /**
+     * Filter tasks and return the page which starts after the given cursor.
+     * Rows are ordered by (sort field, id) so the cursor predicate can seek through
+     * idx_task_project_status_due / idx_task_assigned_status instead of using OFFSET.
+     *
+     * @param criteria TaskSearchCriteriaDTO
+     * @param after    KeysetCursor, null for the first page
+     * @param limit    maximum number of rows
+     * @return List<Task>
+     */
+    @Override
+    public List<Task> search(TaskSearchCriteriaDTO criteria, KeysetCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+        Path<ZonedDateTime> sortPath = task.get(criteria.isSortByDueDate() ? "dueDate" : "createdDate");
+        Path<UUID> idPath = task.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getProjectId() != null) {
+            predicates.add(cb.equal(task.get("project").get("id"), criteria.getProjectId()));
+        }
+        if (criteria.getWorkspaceId() != null) {
+            predicates.add(cb.equal(task.get("project").get("workspace").get("id"), criteria.getWorkspaceId()));
+        }
+        if (criteria.getTaskStatus() != null) {
+            predicates.add(cb.equal(task.get("taskStatus"), criteria.getTaskStatus()));
+        }
+        if (criteria.getPriority() != null) {
+            predicates.add(cb.equal(task.get("priority"), criteria.getPriority()));
+        }
+        if (criteria.getAssignedUserId() != null) {
+            predicates.add(cb.equal(task.get("assignedUser").get("id"), criteria.getAssignedUserId()));
+        }
+        Path<ZonedDateTime> dueDatePath = task.get("dueDate");
+        if (criteria.getDueFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dueDatePath, criteria.getDueFrom().atStartOfDay(ZoneId.systemDefault())));
+        }
+        if (criteria.getDueTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(dueDatePath, criteria.getDueTo().atTime(23, 59, 59).atZone(ZoneId.systemDefault())));
+        }
+        if (criteria.isSortByDueDate()) {
+            // keyset comparison cannot seek over NULLs, so a due-date ordering only covers tasks with a due date
+            predicates.add(cb.isNotNull(dueDatePath));
+        }
+        if (after != null) {
+            ZonedDateTime afterValue = after.getValueAsDateTime();
+            predicates.add(criteria.isAscending()
+                    ? cb.or(cb.greaterThan(sortPath, afterValue),
+                    cb.and(cb.equal(sortPath, afterValue), cb.greaterThan(idPath, after.getId())))
+                    : cb.or(cb.lessThan(sortPath, afterValue),
+                    cb.and(cb.equal(sortPath, afterValue), cb.lessThan(idPath, after.getId()))));
+        }
+
+        query.select(task)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(criteria.isAscending()
+                        ? List.of(cb.asc(sortPath), cb.asc(idPath))
+                        : List.of(cb.desc(sortPath), cb.desc(idPath)));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
 }
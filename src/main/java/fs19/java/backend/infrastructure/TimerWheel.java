@@ -0,0 +1,160 @@
+package fs19.java.backend.infrastructure;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timer wheel of keys with a deadline, in the style of the Linux kernel timer lists.
+ * Four levels of 64 slots cover 64^4 ticks; a key lives in the coarsest level its remaining time needs and is
+ * cascaded one level down each time the finer level wraps, so scheduling, cancelling and expiring a key are O(1)
+ * and advancing costs one slot per elapsed tick plus the keys that actually expire.
+ * Deadlines further away than the wheel covers are parked in the last level and re-placed when cascaded.
+ *
+ * @param <K> key type, one deadline per key
+ */
+public class TimerWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final List<List<Set<K>>> levels = new ArrayList<>(LEVELS);
+    private final Map<K, Timer> timers = new HashMap<>();
+    private final Set<K> due = new LinkedHashSet<>();
+    private long currentTick;
+
+    public TimerWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<K>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * Schedule a key, replacing its previous deadline. A deadline in the past expires on the next advance
+     *
+     * @param key            K
+     * @param deadlineMillis epoch millis
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        // round up, so a key never expires before its deadline
+        Timer timer = new Timer(key, Math.ceilDiv(deadlineMillis, tickMillis));
+        timers.put(key, timer);
+        place(timer);
+    }
+
+    /**
+     * Remove a key, return false when it was not scheduled
+     *
+     * @param key K
+     * @return boolean
+     */
+    public synchronized boolean cancel(K key) {
+        Timer timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        if (timer.level < 0) {
+            due.remove(key);
+        } else {
+            levels.get(timer.level).get(timer.slot).remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * Move the wheel to the given time and return the keys whose deadline has passed, in deadline order per tick
+     *
+     * @param nowMillis epoch millis
+     * @return List<K>
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<K> expired = new ArrayList<>(due);
+        due.clear();
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = 1; level < LEVELS && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++) {
+                cascade(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+            Set<K> slot = levels.getFirst().get((int) (currentTick & SLOT_MASK));
+            expired.addAll(slot);
+            slot.clear();
+            expired.addAll(due);
+            due.clear();
+        }
+        expired.forEach(timers::remove);
+        return expired;
+    }
+
+    public synchronized boolean contains(K key) {
+        return timers.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    /**
+     * Level the key is currently held in, -1 when it is due on the next advance and -2 when it is not scheduled
+     *
+     * @param key K
+     * @return int
+     */
+    synchronized int levelOf(K key) {
+        Timer timer = timers.get(key);
+        return timer == null ? -2 : timer.level;
+    }
+
+    private void cascade(int level, int slotIndex) {
+        Set<K> slot = levels.get(level).get(slotIndex);
+        List<K> keys = new ArrayList<>(slot);
+        slot.clear();
+        keys.forEach(key -> place(timers.get(key)));
+    }
+
+    private void place(Timer timer) {
+        long delta = timer.deadlineTick - currentTick;
+        if (delta <= 0) {
+            timer.level = -1;
+            due.add(timer.key);
+            return;
+        }
+        delta = Math.min(delta, MAX_DELTA);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        timer.level = level;
+        timer.slot = (int) (((currentTick + delta) >>> (SLOT_BITS * level)) & SLOT_MASK);
+        levels.get(level).get(timer.slot).add(timer.key);
+    }
+
+    private final class Timer {
+        private final K key;
+        private final long deadlineTick;
+        private int level;
+        private int slot;
+
+        private Timer(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
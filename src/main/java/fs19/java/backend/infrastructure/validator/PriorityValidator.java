@@ -18,12 +18,6 @@ public class PriorityValidator implements ConstraintValidator<ValidPriority, Str
             return false; // Or true if you want to allow null or empty values
         }
 
-        try {
-            // Check if the value exists in the Priority enum
-            Priority.fromName(value); // Or use fromId(int id) if working with numeric values
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false; // Invalid priority name or id
-        }
+        return Priority.isValidName(value);
     }
 }
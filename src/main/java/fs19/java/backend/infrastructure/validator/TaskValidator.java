@@ -18,11 +18,6 @@ public class TaskValidator implements ConstraintValidator<ValidTaskStatus, Strin
             return false;
         }
 
-        try {
-            TaskStatus.fromName(value);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false; // Invalid priority name or id
-        }
+        return TaskStatus.isValidName(value);
     }
 }
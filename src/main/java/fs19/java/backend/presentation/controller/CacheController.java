@@ -0,0 +1,38 @@
+package fs19.java.backend.presentation.controller;
+
+import fs19.java.backend.application.dto.cache.CacheRegionStatsDTO;
+import fs19.java.backend.application.service.CacheService;
+import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Cache", description = "Second-level cache of the reference data")
+@RestController
+@RequestMapping("/api/v1/cache")
+public class CacheController {
+
+    private static final Logger logger = LogManager.getLogger(CacheController.class);
+    private final CacheService cacheService;
+
+    public CacheController(CacheService cacheService) {
+        this.cacheService = cacheService;
+    }
+
+    @Operation(summary = "Get cache region statistics",
+            description = "Hits, misses and puts of every second-level cache region of this instance since startup")
+    @GetMapping("/regions")
+    public ResponseEntity<GlobalResponse<List<CacheRegionStatsDTO>>> getRegionStatistics() {
+        logger.info("Received request for cache region statistics");
+        List<CacheRegionStatsDTO> regions = cacheService.getRegionStatistics();
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), regions), HttpStatus.OK);
+    }
+}
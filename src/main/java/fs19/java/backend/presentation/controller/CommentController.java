@@ -1,10 +1,15 @@
 package fs19.java.backend.presentation.controller;
 
+import fs19.java.backend.application.CommentServiceImpl;
+import fs19.java.backend.application.dto.comment.CommentDeleteResponseDTO;
 import fs19.java.backend.application.dto.comment.CommentRequestDTO;
 import fs19.java.backend.application.dto.comment.CommentResponseDTO;
 import fs19.java.backend.application.dto.comment.CommentUpdateDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.service.CommentService;
+import fs19.java.backend.infrastructure.KeysetPager;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.response.JsonArrayStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,11 +17,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,9 +32,11 @@ public class CommentController {
 
     private static final Logger logger = LogManager.getLogger(CommentController.class);
     private final CommentService commentService;
+    private final JsonArrayStream jsonArrayStream;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, JsonArrayStream jsonArrayStream) {
         this.commentService = commentService;
+        this.jsonArrayStream = jsonArrayStream;
     }
 
     @Operation(summary = "Create a new comment", description = "Creates a new comment with the provided details")
@@ -61,15 +67,24 @@ public class CommentController {
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), comment), HttpStatus.OK);
     }
 
-    @Operation(summary = "Get all comments", description = "Fetches all comments")
+    @Operation(summary = "Get all comments", description = "Comments are read page by page, ordered by id. Pass nextCursor of the response as cursor to read the next page; size is capped at " + KeysetPager.MAX_PAGE_SIZE + ".")
     @GetMapping
-    public ResponseEntity<GlobalResponse<List<CommentResponseDTO>>> getAllComments() {
-        logger.info("Received request to get all comments");
-        List<CommentResponseDTO> comments = commentService.getAllComments();
-        logger.info("All comments retrieved successfully");
+    public ResponseEntity<GlobalResponse<CursorPageDTO<CommentResponseDTO>>> getAllComments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + KeysetPager.DEFAULT_PAGE_SIZE) int size) {
+        logger.info("Received request to get a page of comments");
+        CursorPageDTO<CommentResponseDTO> comments = commentService.getAllComments(cursor, size);
+        logger.info("Returning {} comments, more available: {}", comments.getSize(), comments.isHasNext());
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), comments), HttpStatus.OK);
     }
 
+    @Operation(summary = "Export all comments", description = "Streams every comment in one response, ordered by id, without holding them in memory.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportComments() {
+        logger.info("Received request to export all comments");
+        return jsonArrayStream.ok(commentService::exportComments);
+    }
+
     @Operation(summary = "Delete a comment", description = "Deletes a comment by its ID")
     @DeleteMapping("/{commentId}")
     public ResponseEntity<GlobalResponse<Void>> deleteComment(@PathVariable UUID commentId) {
@@ -79,30 +94,45 @@ public class CommentController {
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.NO_CONTENT.value(), null), HttpStatus.NO_CONTENT);
     }
 
-    // New endpoint for fetching all comments for a task with sort parameter
-    @Operation(summary = "Get all comments for a task", description = "Fetches all comments for a specific task with pagination and sorting")
+    @Operation(summary = "Get comments of a task", description = "Reads a task thread page by page, ordered by created date. Pass nextCursor of the response as cursor to read the next page; withCount adds the total number of comments.")
     @GetMapping("/tasks/{taskId}/comments")
-    public ResponseEntity<GlobalResponse<Page<CommentResponseDTO>>> getAllCommentsForTask(
+    public ResponseEntity<GlobalResponse<CursorPageDTO<CommentResponseDTO>>> getCommentsForTask(
             @PathVariable UUID taskId,
-            Pageable pageable,
-            @Parameter(
-                    description = "Sorting field and direction, e.g., 'createdDate,DESC'",
-                    schema = @Schema(type = "string", example = "createdDate,DESC")
-            )
-            @RequestParam(name = "sort", required = false) String sort) {
-        logger.info("Received request to get all comments for task with ID: {}", taskId);
-        logger.info("Sorting by: {}", sort);
-        Page<CommentResponseDTO> comments = commentService.getAllCommentsForTask(taskId, pageable);
-        logger.info("All comments for task retrieved successfully with pagination");
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + CommentServiceImpl.DEFAULT_PAGE_SIZE) int size,
+            @Parameter(description = "Order by created date", schema = @Schema(type = "string", allowableValues = {"ASC", "DESC"}))
+            @RequestParam(required = false, defaultValue = "ASC") String direction,
+            @RequestParam(required = false, defaultValue = "false") boolean withCount) {
+        logger.info("Received request to get comments for task with ID: {}", taskId);
+        CursorPageDTO<CommentResponseDTO> comments = commentService.getCommentsForTask(taskId, cursor, size, !"DESC".equalsIgnoreCase(direction), withCount);
+        logger.info("Returning {} comments for task, more available: {}", comments.getSize(), comments.isHasNext());
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), comments), HttpStatus.OK);
     }
 
-    @Operation(summary = "Bulk delete comments by task ID", description = "Deletes all comments for a specific task")
+    @Operation(summary = "Bulk delete comments by task ID", description = "Deletes all comments for a specific task and returns how many were deleted")
     @DeleteMapping("/tasks/{taskId}/comments")
-    public ResponseEntity<GlobalResponse<Void>> deleteCommentsByTaskId(@PathVariable UUID taskId) {
+    public ResponseEntity<GlobalResponse<CommentDeleteResponseDTO>> deleteCommentsByTaskId(@PathVariable UUID taskId) {
         logger.info("Received request to delete all comments for task with ID: {}", taskId);
-        commentService.deleteCommentsByTaskId(taskId);
-        logger.info("All comments for task deleted successfully");
-        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.NO_CONTENT.value(), null), HttpStatus.NO_CONTENT);
+        int deletedCount = commentService.deleteCommentsByTaskId(taskId);
+        logger.info("{} comments for task deleted successfully", deletedCount);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), new CommentDeleteResponseDTO(deletedCount)), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Bulk delete comments by ID", description = "Deletes the given comments and returns how many were deleted; unknown IDs are skipped")
+    @DeleteMapping
+    public ResponseEntity<GlobalResponse<CommentDeleteResponseDTO>> deleteComments(@RequestParam List<UUID> ids) {
+        logger.info("Received request to delete {} comments", ids.size());
+        int deletedCount = commentService.deleteComments(ids);
+        logger.info("{} comments deleted successfully", deletedCount);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), new CommentDeleteResponseDTO(deletedCount)), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Bulk delete comments by user ID", description = "Deletes all comments written by a user and returns how many were deleted")
+    @DeleteMapping("/users/{userId}/comments")
+    public ResponseEntity<GlobalResponse<CommentDeleteResponseDTO>> deleteCommentsByUserId(@PathVariable UUID userId) {
+        logger.info("Received request to delete all comments of user with ID: {}", userId);
+        int deletedCount = commentService.deleteCommentsByUserId(userId);
+        logger.info("{} comments of user deleted successfully", deletedCount);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), new CommentDeleteResponseDTO(deletedCount)), HttpStatus.OK);
     }
 }
@@ -3,10 +3,14 @@ package fs19.java.backend.presentation.controller;
 import fs19.java.backend.application.dto.company.CompanyRequestDTO;
 import fs19.java.backend.application.dto.company.CompanyResponseDTO;
 import fs19.java.backend.application.dto.company.CompanyUpdateDTO;
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.service.CompanyService;
 import fs19.java.backend.config.SecurityConfig;
 import fs19.java.backend.domain.entity.User;
+import fs19.java.backend.infrastructure.KeysetPager;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.response.JsonArrayStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.apache.logging.log4j.LogManager;
@@ -14,6 +18,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -26,9 +31,11 @@ public class CompanyController {
 
     private static final Logger logger = LogManager.getLogger(CompanyController.class);
     private final CompanyService companyService;
+    private final JsonArrayStream jsonArrayStream;
 
-    public CompanyController(CompanyService companyService) {
+    public CompanyController(CompanyService companyService, JsonArrayStream jsonArrayStream) {
         this.companyService = companyService;
+        this.jsonArrayStream = jsonArrayStream;
     }
 
     @Operation(summary = "Create a company", description = "Creates a new company with the provided details.")
@@ -58,22 +65,31 @@ public class CompanyController {
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), company), HttpStatus.OK);
     }
 
-    @Operation(summary = "Get all companies", description = "Retrieves the details of all companies.")
+    @Operation(summary = "Get all companies", description = "Companies are read page by page, ordered by id. Pass nextCursor of the response as cursor to read the next page; size is capped at " + KeysetPager.MAX_PAGE_SIZE + ".")
     @GetMapping
-    public ResponseEntity<GlobalResponse<List<CompanyResponseDTO>>> getAllCompanies() {
-        logger.info("Received request to get all companies");
-        List<CompanyResponseDTO> companies = companyService.getAllCompanies();
-        logger.info("All companies retrieved successfully");
+    public ResponseEntity<GlobalResponse<CursorPageDTO<CompanyResponseDTO>>> getAllCompanies(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + KeysetPager.DEFAULT_PAGE_SIZE) int size) {
+        logger.info("Received request to get a page of companies");
+        CursorPageDTO<CompanyResponseDTO> companies = companyService.getAllCompanies(cursor, size);
+        logger.info("Returning {} companies, more available: {}", companies.getSize(), companies.isHasNext());
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), companies), HttpStatus.OK);
     }
 
-    @Operation(summary = "Delete a company", description = "Deletes a company by its ID.")
+    @Operation(summary = "Export all companies", description = "Streams every company in one response, ordered by id, without holding them in memory.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCompanies() {
+        logger.info("Received request to export all companies");
+        return jsonArrayStream.ok(companyService::exportCompanies);
+    }
+
+    @Operation(summary = "Delete a company", description = "Hides a company with its workspaces and projects at once and deletes them in the background. Follow the returned job at /api/v1/deletion-jobs/{jobId}.")
     @DeleteMapping("/{companyId}")
-    public ResponseEntity<GlobalResponse<Void>> deleteCompany(@PathVariable UUID companyId) {
+    public ResponseEntity<GlobalResponse<DeletionJobDTO>> deleteCompany(@PathVariable UUID companyId) {
         logger.info("Received request to delete company with ID: {}", companyId);
-        companyService.deleteCompany(companyId);
-        logger.info("Company deleted successfully with ID: {}", companyId);
-        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.NO_CONTENT.value(), null), HttpStatus.NO_CONTENT);
+        DeletionJobDTO deletionJob = companyService.deleteCompany(companyId);
+        logger.info("Company with ID: {} queued for deletion", companyId);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.ACCEPTED.value(), deletionJob), HttpStatus.ACCEPTED);
     }
 
     @Operation(summary = "Get companies owned by logged-in user", description = "Retrieves companies owned by the currently logged-in user.")
@@ -0,0 +1,38 @@
+package fs19.java.backend.presentation.controller;
+
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.service.DeletionJobService;
+import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@Tag(name = "Deletion Job", description = "Follow background deletions of companies, workspaces and projects")
+@RestController
+@RequestMapping("/api/v1/deletion-jobs")
+public class DeletionJobController {
+
+    private static final Logger logger = LogManager.getLogger(DeletionJobController.class);
+    private final DeletionJobService deletionJobService;
+
+    public DeletionJobController(DeletionJobService deletionJobService) {
+        this.deletionJobService = deletionJobService;
+    }
+
+    @Operation(summary = "Get a deletion job", description = "Returns the status, finished steps and deleted rows of a deletion job")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<GlobalResponse<DeletionJobDTO>> getJob(@PathVariable UUID jobId) {
+        logger.info("Received request to get deletion job with ID: {}", jobId);
+        DeletionJobDTO deletionJob = deletionJobService.getJob(jobId);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), deletionJob), HttpStatus.OK);
+    }
+}
@@ -1,8 +1,11 @@
 package fs19.java.backend.presentation.controller;
 
 import fs19.java.backend.application.dto.notification.NotificationDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.service.NotificationService;
+import fs19.java.backend.infrastructure.KeysetPager;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.response.JsonArrayStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.apache.logging.log4j.LogManager;
@@ -10,6 +13,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -22,9 +26,11 @@ public class NotificationController {
 
     private static final Logger logger = LogManager.getLogger(NotificationController.class);
     private final NotificationService notificationService;
+    private final JsonArrayStream jsonArrayStream;
 
-    public NotificationController(NotificationService notificationService) {
+    public NotificationController(NotificationService notificationService, JsonArrayStream jsonArrayStream) {
         this.notificationService = notificationService;
+        this.jsonArrayStream = jsonArrayStream;
     }
 
     @Operation(summary = "Create a notification", description = "Creates a new notification with the provided details.")
@@ -54,15 +60,24 @@ public class NotificationController {
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), notification), HttpStatus.OK);
     }
 
-    @Operation(summary = "Get all notifications", description = "Retrieves the details of all notifications.")
+    @Operation(summary = "Get all notifications", description = "Notifications are read page by page, ordered by id. Pass nextCursor of the response as cursor to read the next page; size is capped at " + KeysetPager.MAX_PAGE_SIZE + ".")
     @GetMapping
-    public ResponseEntity<GlobalResponse<List<NotificationDTO>>> getAllNotifications() {
-        logger.info("Received request to get all notifications");
-        List<NotificationDTO> notifications = notificationService.getAllNotifications();
-        logger.info("All notifications retrieved successfully");
+    public ResponseEntity<GlobalResponse<CursorPageDTO<NotificationDTO>>> getAllNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + KeysetPager.DEFAULT_PAGE_SIZE) int size) {
+        logger.info("Received request to get a page of notifications");
+        CursorPageDTO<NotificationDTO> notifications = notificationService.getAllNotifications(cursor, size);
+        logger.info("Returning {} notifications, more available: {}", notifications.getSize(), notifications.isHasNext());
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), notifications), HttpStatus.OK);
     }
 
+    @Operation(summary = "Export all notifications", description = "Streams every notification in one response, ordered by id, without holding them in memory.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportNotifications() {
+        logger.info("Received request to export all notifications");
+        return jsonArrayStream.ok(notificationService::exportNotifications);
+    }
+
     @Operation(summary = "Delete a notification", description = "Deletes a notification by its ID.")
     @DeleteMapping("/{notificationId}")
     public ResponseEntity<GlobalResponse<Void>> deleteNotification(@PathVariable UUID notificationId) {
@@ -1,9 +1,12 @@
 package fs19.java.backend.presentation.controller;
 
 import fs19.java.backend.application.PermissionServiceImpl;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.permission.PermissionRequestDTO;
 import fs19.java.backend.application.dto.permission.PermissionResponseDTO;
+import fs19.java.backend.infrastructure.KeysetPager;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.response.JsonArrayStream;
 import fs19.java.backend.presentation.shared.response.ResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,6 +32,9 @@ public class PermissionController {
     @Autowired
     private PermissionServiceImpl permissionService;
 
+    @Autowired
+    private JsonArrayStream jsonArrayStream;
+
     /**
      * Create a permission object using the permission-name
      *
@@ -74,10 +81,19 @@ public class PermissionController {
      * Return the Permission
      * @return
      */
-    @Operation(summary = "Get all permissions", description = "Retrieves the details of all permissions.")
+    @Operation(summary = "Get all permissions", description = "Permissions are read page by page, ordered by id. Pass nextCursor of the response as cursor to read the next page; size is capped at " + KeysetPager.MAX_PAGE_SIZE + ".")
     @GetMapping
-    public ResponseEntity<GlobalResponse<List<PermissionResponseDTO>>> getPermissions() {
-        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), permissionService.getAll()), HttpStatus.OK);
+    public ResponseEntity<GlobalResponse<CursorPageDTO<PermissionResponseDTO>>> getPermissions(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + KeysetPager.DEFAULT_PAGE_SIZE) int size) {
+        CursorPageDTO<PermissionResponseDTO> permissions = permissionService.getAll(cursor, size);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), permissions), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Export all permissions", description = "Streams every permission in one response, ordered by id, without holding them in memory.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPermissions() {
+        return jsonArrayStream.ok(permissionService::exportPermissions);
     }
 
     /**
@@ -1,20 +1,28 @@
 package fs19.java.backend.presentation.controller;
 
 import fs19.java.backend.application.ProjectServiceImpl;
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.project.ProjectCreateDTO;
+import fs19.java.backend.application.dto.project.ProjectPatchDTO;
 import fs19.java.backend.application.dto.project.ProjectReadDTO;
 import fs19.java.backend.application.dto.project.ProjectUpdateDTO;
+import fs19.java.backend.infrastructure.KeysetPager;
+import fs19.java.backend.presentation.shared.Utilities.EntityTag;
 import fs19.java.backend.presentation.shared.exception.ProjectValidationException;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.response.JsonArrayStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,9 +34,11 @@ public class ProjectController {
 
   private static final Logger logger = LogManager.getLogger(ProjectController.class);
   private final ProjectServiceImpl projectService;
+  private final JsonArrayStream jsonArrayStream;
 
-  public ProjectController(ProjectServiceImpl projectService) {
+  public ProjectController(ProjectServiceImpl projectService, JsonArrayStream jsonArrayStream) {
     this.projectService = projectService;
+    this.jsonArrayStream = jsonArrayStream;
   }
 
   @Operation(summary = "Create a project", description = "Creates a new project with the provided details.")
@@ -45,44 +55,68 @@ public class ProjectController {
         HttpStatus.CREATED);
   }
 
-  @Operation(summary = "Update a project", description = "Updates the details of an existing project.")
+  @Operation(summary = "Update a project", description = "Updates the details of an existing project. Send the ETag as If-Match to reject the write with 412 when the project changed in between.")
   @PutMapping("/{projectId}")
-  public ResponseEntity<GlobalResponse<ProjectReadDTO>> updateProject(@PathVariable UUID projectId, @Valid @RequestBody ProjectUpdateDTO projectDTO) {
+  public ResponseEntity<GlobalResponse<ProjectReadDTO>> updateProject(@PathVariable UUID projectId, @Valid @RequestBody ProjectUpdateDTO projectDTO,
+                                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
     logger.info("Received request to update project with ID: {} and DTO: {}", projectId, projectDTO);
-    ProjectReadDTO updatedProject = projectService.updateProject(projectId, projectDTO);
+    ProjectReadDTO updatedProject = projectService.updateProject(projectId, projectDTO, EntityTag.expectedVersion(ifMatch));
     logger.info("Project updated successfully: {}", updatedProject);
-    return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), updatedProject),
-        HttpStatus.OK);
+    return ResponseEntity.status(HttpStatus.OK).eTag(EntityTag.of(updatedProject.getVersion()))
+        .body(new GlobalResponse<>(HttpStatus.OK.value(), updatedProject));
   }
 
-  @Operation(summary = "Get a project by ID", description = "Retrieves the details of a project by its ID.")
+  @Operation(summary = "Patch a project", description = "Updates only the given fields of a project, without reading it first. Send the ETag as If-Match to reject the write with 412 when the project changed in between.")
+  @PatchMapping("/{projectId}")
+  public ResponseEntity<GlobalResponse<ProjectReadDTO>> patchProject(@PathVariable UUID projectId, @Valid @RequestBody ProjectPatchDTO projectDTO,
+                                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    logger.info("Received request to patch project with ID: {} and DTO: {}", projectId, projectDTO);
+    ProjectReadDTO patchedProject = projectService.patchProject(projectId, projectDTO, EntityTag.expectedVersion(ifMatch));
+    logger.info("Project patched successfully: {}", patchedProject);
+    return ResponseEntity.status(HttpStatus.OK).eTag(EntityTag.of(patchedProject.getVersion()))
+        .body(new GlobalResponse<>(HttpStatus.OK.value(), patchedProject));
+  }
+
+  @Operation(summary = "Get a project by ID", description = "Retrieves the details of a project by its ID. Returns 304 when If-None-Match names the current ETag.")
   @GetMapping("/{projectId}")
-  public ResponseEntity<GlobalResponse<ProjectReadDTO>> getProjectById(@PathVariable UUID projectId) {
+  public ResponseEntity<GlobalResponse<ProjectReadDTO>> getProjectById(@PathVariable UUID projectId,
+                                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
     logger.info("Received request to get project with ID: {}", projectId);
     ProjectReadDTO project = projectService.findProjectById(projectId);
     logger.info("Project retrieved successfully: {}", project);
-    return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), project),
-        HttpStatus.OK);
+    if (EntityTag.matches(ifNoneMatch, project.getVersion())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(EntityTag.of(project.getVersion())).build();
+    }
+    return ResponseEntity.status(HttpStatus.OK).eTag(EntityTag.of(project.getVersion()))
+        .body(new GlobalResponse<>(HttpStatus.OK.value(), project));
   }
 
-  @Operation(summary = "Get all projects", description = "Retrieves the details of all projects.")
+  @Operation(summary = "Get all projects", description = "Projects are read page by page, ordered by id. Pass nextCursor of the response as cursor to read the next page; size is capped at " + KeysetPager.MAX_PAGE_SIZE + ".")
   @GetMapping
-  public ResponseEntity<GlobalResponse<List<ProjectReadDTO>>> getAllProjects() {
-    logger.info("Received request to get all projects");
-    List<ProjectReadDTO> projects = projectService.findAllProjects();
-    logger.info("All projects retrieved successfully");
-    return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), projects),
-        HttpStatus.OK);
+  public ResponseEntity<GlobalResponse<CursorPageDTO<ProjectReadDTO>>> getAllProjects(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "" + KeysetPager.DEFAULT_PAGE_SIZE) int size) {
+    logger.info("Received request to get a page of projects");
+    CursorPageDTO<ProjectReadDTO> projects = projectService.findAllProjects(cursor, size);
+    logger.info("Returning {} projects, more available: {}", projects.getSize(), projects.isHasNext());
+    return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), projects), HttpStatus.OK);
+  }
+
+  @Operation(summary = "Export all projects", description = "Streams every project in one response, ordered by id, without holding them in memory.")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportProjects() {
+    logger.info("Received request to export all projects");
+    return jsonArrayStream.ok(projectService::exportProjects);
   }
 
-  @Operation(summary = "Delete a project", description = "Deletes a project by its ID.")
+  @Operation(summary = "Delete a project", description = "Hides a project at once and deletes it with its tasks in the background. Follow the returned job at /api/v1/deletion-jobs/{jobId}.")
   @DeleteMapping("/{projectId}")
-  public ResponseEntity<GlobalResponse<Void>> deleteProject(@PathVariable UUID projectId) {
+  public ResponseEntity<GlobalResponse<DeletionJobDTO>> deleteProject(@PathVariable UUID projectId) {
     logger.info("Received request to delete project with ID: {}", projectId);
-    projectService.deleteProject(projectId);
-    logger.info("Project deleted successfully with ID: {}", projectId);
-    return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.NO_CONTENT.value(), null),
-        HttpStatus.NO_CONTENT);
+    DeletionJobDTO deletionJob = projectService.deleteProject(projectId);
+    logger.info("Project with ID: {} queued for deletion", projectId);
+    return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.ACCEPTED.value(), deletionJob),
+        HttpStatus.ACCEPTED);
   }
 
   @Operation(summary = "Get projects by workspace ID", description = "Retrieves the details of projects by workspace ID.")
@@ -1,9 +1,12 @@
 package fs19.java.backend.presentation.controller;
 
 import fs19.java.backend.application.RoleServiceImpl;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.role.RoleRequestDTO;
 import fs19.java.backend.application.dto.role.RoleResponseDTO;
+import fs19.java.backend.infrastructure.KeysetPager;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.response.JsonArrayStream;
 import fs19.java.backend.presentation.shared.response.ResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -29,6 +33,9 @@ public class RoleController {
     @Autowired
     private RoleServiceImpl roleService;
 
+    @Autowired
+    private JsonArrayStream jsonArrayStream;
+
     /**
      * Create a role object using the name
      *
@@ -76,10 +83,19 @@ public class RoleController {
      *
      * @return
      */
-    @Operation(summary = "Get all roles", description = "Retrieves the details of all roles.")
+    @Operation(summary = "Get all roles", description = "Roles are read page by page, ordered by id. Pass nextCursor of the response as cursor to read the next page; size is capped at " + KeysetPager.MAX_PAGE_SIZE + ".")
     @GetMapping
-    public ResponseEntity<GlobalResponse<List<RoleResponseDTO>>> getRoles() {
-        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), roleService.findAll()), HttpStatus.OK);
+    public ResponseEntity<GlobalResponse<CursorPageDTO<RoleResponseDTO>>> getRoles(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + KeysetPager.DEFAULT_PAGE_SIZE) int size) {
+        CursorPageDTO<RoleResponseDTO> roles = roleService.findAll(cursor, size);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), roles), HttpStatus.OK);
+    }
+
+    @Operation(summary = "Export all roles", description = "Streams every role in one response, ordered by id, without holding them in memory.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRoles() {
+        return jsonArrayStream.ok(roleService::exportRoles);
     }
 
     /**
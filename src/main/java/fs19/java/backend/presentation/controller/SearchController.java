@@ -0,0 +1,50 @@
+package fs19.java.backend.presentation.controller;
+
+import fs19.java.backend.application.SearchServiceImpl;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
+import fs19.java.backend.application.dto.search.SearchHitDTO;
+import fs19.java.backend.application.service.SearchService;
+import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@Tag(name = "Search", description = "Full-text search of tasks and comments")
+@RestController
+@RequestMapping("/api/v1/workspaces/{workspaceId}/search")
+public class SearchController {
+
+    private static final Logger logger = LogManager.getLogger(SearchController.class);
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @Operation(summary = "Search tasks and comments of a workspace",
+            description = "Ranks task names, task descriptions and comments containing every word of the query; the last word also matches longer words. Pass nextCursor of the response as cursor to read the next page; size is capped at " + SearchServiceImpl.MAX_PAGE_SIZE + ".")
+    @GetMapping
+    public ResponseEntity<GlobalResponse<CursorPageDTO<SearchHitDTO>>> search(
+            @PathVariable UUID workspaceId,
+            @RequestParam String q,
+            @Parameter(description = "Restrict the results to one type", schema = @Schema(type = "string", allowableValues = {"TASK", "COMMENT"}))
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + SearchServiceImpl.DEFAULT_PAGE_SIZE) int size) {
+        logger.info("Received search request in workspace {}: '{}'", workspaceId, q);
+        CursorPageDTO<SearchHitDTO> hits = searchService.search(workspaceId, q, type, cursor, size);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), hits), HttpStatus.OK);
+    }
+}
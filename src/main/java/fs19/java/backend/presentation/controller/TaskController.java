@@ -1,8 +1,15 @@
 package fs19.java.backend.presentation.controller;
 
 import fs19.java.backend.application.TaskServiceImpl;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
+import fs19.java.backend.application.dto.task.ProjectBoardSummaryDTO;
+import fs19.java.backend.application.dto.task.TaskBulkRequestDTO;
+import fs19.java.backend.application.dto.task.TaskBulkResponseDTO;
+import fs19.java.backend.application.dto.task.TaskPatchDTO;
 import fs19.java.backend.application.dto.task.TaskRequestDTO;
 import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.dto.task.TaskSearchCriteriaDTO;
+import fs19.java.backend.presentation.shared.Utilities.EntityTag;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
 import fs19.java.backend.presentation.shared.response.ResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,6 +19,7 @@ import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +28,7 @@ import org.springframework.web.util.ContentCachingRequestWrapper;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -41,14 +50,26 @@ public class TaskController {
         return new ResponseEntity<>(new GlobalResponse<>(responseCode.value(), theTaskResponse, ResponseHandler.convertResponseStatusToError(theTaskResponse.getStatus())), responseCode);
     }
 
+    /**
+     * Create, update or move many tasks in one request
+     *
+     * @param bulkRequestDTO
+     * @return
+     */
+    @Operation(summary = "Create, update or move tasks in bulk", description = "Applies up to 10000 task operations in one transaction and returns the result of every item.")
+    @PostMapping("/bulk")
+    public ResponseEntity<GlobalResponse<TaskBulkResponseDTO>> bulkTasks(@RequestBody @Valid TaskBulkRequestDTO bulkRequestDTO) {
+        TaskBulkResponseDTO bulkResponse = taskService.bulk(bulkRequestDTO);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), bulkResponse), HttpStatus.OK);
+    }
 
     /**
-     * Update a task by id
+     * Update a task by id. An If-Match header rejects the write with 412 when the task changed in between
      *
      * @param taskId
      * @return
      */
-    @Operation(summary = "Update a task", description = "Updates the details of an existing task.")
+    @Operation(summary = "Update a task", description = "Updates the details of an existing task. Send the ETag as If-Match to reject the write with 412 when the task changed in between.")
     @PutMapping("/{taskId}")
     public ResponseEntity<GlobalResponse<TaskResponseDTO>> updateTask(@PathVariable UUID taskId, @RequestBody @Valid TaskRequestDTO taskRequestDTO, @RequestHeader HttpHeaders headers, HttpServletRequest request) throws IOException {
 
@@ -59,9 +80,28 @@ public class TaskController {
         String requestBody = new String(requestWrapper.getContentAsByteArray(), request.getCharacterEncoding());
         logger.info("Request Body: {}", requestBody);
 
-        TaskResponseDTO theTaskResponse = taskService.update(taskId, taskRequestDTO);
+        TaskResponseDTO theTaskResponse = taskService.update(taskId, taskRequestDTO, EntityTag.expectedVersion(headers.getFirst(HttpHeaders.IF_MATCH)));
         HttpStatus responseCode = ResponseHandler.getResponseCode(HttpStatus.OK, theTaskResponse.getStatus());
-        return new ResponseEntity<>(new GlobalResponse<>(responseCode.value(), theTaskResponse, ResponseHandler.convertResponseStatusToError(theTaskResponse.getStatus())), responseCode);
+        return ResponseEntity.status(responseCode).eTag(EntityTag.of(theTaskResponse.getVersion()))
+                .body(new GlobalResponse<>(responseCode.value(), theTaskResponse, ResponseHandler.convertResponseStatusToError(theTaskResponse.getStatus())));
+    }
+
+    /**
+     * Update only the given fields of a task, without reading it first
+     *
+     * @param taskId
+     * @param taskPatchDTO
+     * @param ifMatch
+     * @return
+     */
+    @Operation(summary = "Patch a task", description = "Updates only the given fields of a task and writes only the changed columns. Send the ETag as If-Match to reject the write with 412 when the task changed in between.")
+    @PatchMapping("/{taskId}")
+    public ResponseEntity<GlobalResponse<TaskResponseDTO>> patchTask(@PathVariable UUID taskId, @RequestBody @Valid TaskPatchDTO taskPatchDTO,
+                                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDTO theTaskResponse = taskService.patch(taskId, taskPatchDTO, EntityTag.expectedVersion(ifMatch));
+        HttpStatus responseCode = ResponseHandler.getResponseCode(HttpStatus.OK, theTaskResponse.getStatus());
+        return ResponseEntity.status(responseCode).eTag(EntityTag.of(theTaskResponse.getVersion()))
+                .body(new GlobalResponse<>(responseCode.value(), theTaskResponse, ResponseHandler.convertResponseStatusToError(theTaskResponse.getStatus())));
     }
 
     /**
@@ -91,38 +131,53 @@ public class TaskController {
 
 
     /**
-     * Return the task according to given Id
+     * Return the task according to given Id, or 304 when If-None-Match names the current ETag
      *
      * @return
      */
-    @Operation(summary = "Get a task by ID", description = "Retrieves the details of a task by its ID.")
+    @Operation(summary = "Get a task by ID", description = "Retrieves the details of a task by its ID. Returns 304 when If-None-Match names the current ETag.")
     @GetMapping("/{taskId}")
-    public ResponseEntity<GlobalResponse<TaskResponseDTO>> getTaskById(@PathVariable UUID taskId) {
+    public ResponseEntity<GlobalResponse<TaskResponseDTO>> getTaskById(@PathVariable UUID taskId,
+                                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         TaskResponseDTO theTaskResponse = taskService.getById(taskId);
         HttpStatus responseCode = ResponseHandler.getResponseCode(HttpStatus.OK, theTaskResponse.getStatus());
-        return new ResponseEntity<>(new GlobalResponse<>(responseCode.value(), theTaskResponse, ResponseHandler.convertResponseStatusToError(theTaskResponse.getStatus())), responseCode);
+        if (responseCode == HttpStatus.OK && EntityTag.matches(ifNoneMatch, theTaskResponse.getVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(EntityTag.of(theTaskResponse.getVersion())).build();
+        }
+        return ResponseEntity.status(responseCode).eTag(EntityTag.of(theTaskResponse.getVersion()))
+                .body(new GlobalResponse<>(responseCode.value(), theTaskResponse, ResponseHandler.convertResponseStatusToError(theTaskResponse.getStatus())));
     }
 
     /**
-     * return tasks according to assigned userId
+     * return a page of tasks according to assigned userId, newest first
      * @param assignedUserId
+     * @param page
+     * @param size
      * @return
      */
-    @Operation(summary = "Get a tasks by assigned-user-Id", description = "Retrieves the details of a tasks by assigned user.")
+    @Operation(summary = "Get a tasks by assigned-user-Id", description = "Retrieves a page of tasks assigned to the user, newest first.")
     @GetMapping("findByAssigned/{assignedUserId}")
-    public ResponseEntity<GlobalResponse<List<TaskResponseDTO>>> getTasksByAssignedUserId(@PathVariable UUID assignedUserId) {
-        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), taskService.getByAssignedId(assignedUserId)), HttpStatus.OK);
+    public ResponseEntity<GlobalResponse<List<TaskResponseDTO>>> getTasksByAssignedUserId(
+            @PathVariable UUID assignedUserId,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "" + TaskServiceImpl.DEFAULT_SEARCH_PAGE_SIZE) int size) {
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), taskService.getByAssignedId(assignedUserId, page, size)), HttpStatus.OK);
     }
 
     /**
-     * return tasks according to created userId
+     * return a page of tasks according to created userId, newest first
      * @param createdUserId
+     * @param page
+     * @param size
      * @return
      */
-    @Operation(summary = "Get a tasks by created-user-Id", description = "Retrieves the details of a tasks by created user.")
+    @Operation(summary = "Get a tasks by created-user-Id", description = "Retrieves a page of tasks created by the user, newest first.")
     @GetMapping("findByCreated/{createdUserId}")
-    public ResponseEntity<GlobalResponse<List<TaskResponseDTO>>> getTasksByCreatedUserId(@PathVariable UUID createdUserId) {
-        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), taskService.getByCreatedUserId(createdUserId)), HttpStatus.OK);
+    public ResponseEntity<GlobalResponse<List<TaskResponseDTO>>> getTasksByCreatedUserId(
+            @PathVariable UUID createdUserId,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "" + TaskServiceImpl.DEFAULT_SEARCH_PAGE_SIZE) int size) {
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), taskService.getByCreatedUserId(createdUserId, page, size)), HttpStatus.OK);
     }
 
     @Operation(summary = "Get tasks by project ID", description = "Retrieves the tasks by project ID.")
@@ -134,5 +189,52 @@ public class TaskController {
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), tasks), HttpStatus.OK);
     }
 
+    /**
+     * Return the task counts of a project board per status and priority
+     *
+     * @param projectId
+     * @return
+     */
+    @Operation(summary = "Get board summary by project ID", description = "Retrieves task counts per status and priority, plus the overdue count, of a project.")
+    @GetMapping("/project/{projectId}/board-summary")
+    public ResponseEntity<GlobalResponse<ProjectBoardSummaryDTO>> getBoardSummary(@PathVariable UUID projectId) {
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), taskService.getBoardSummary(projectId)), HttpStatus.OK);
+    }
+
+    /**
+     * Search tasks by filters with keyset pagination
+     *
+     * @return
+     */
+    @Operation(summary = "Search tasks", description = "Filters tasks by project, workspace, status, priority, assignee and due-date range. Use nextCursor of the response to read the next page.")
+    @GetMapping("/search")
+    public ResponseEntity<GlobalResponse<CursorPageDTO<TaskResponseDTO>>> searchTasks(
+            @RequestParam(required = false) UUID projectId,
+            @RequestParam(required = false) UUID workspaceId,
+            @RequestParam(required = false) String taskStatus,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) UUID assignedUserId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @RequestParam(required = false, defaultValue = TaskSearchCriteriaDTO.SORT_CREATED_DATE) String sortBy,
+            @RequestParam(required = false, defaultValue = "DESC") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + TaskServiceImpl.DEFAULT_SEARCH_PAGE_SIZE) int size) {
+        TaskSearchCriteriaDTO criteria = TaskSearchCriteriaDTO.builder()
+                .projectId(projectId)
+                .workspaceId(workspaceId)
+                .taskStatus(taskStatus)
+                .priority(priority)
+                .assignedUserId(assignedUserId)
+                .dueFrom(dueFrom)
+                .dueTo(dueTo)
+                .sortBy(sortBy)
+                .ascending("ASC".equalsIgnoreCase(direction))
+                .cursor(cursor)
+                .size(size)
+                .build();
+        logger.info("Received task search request: {}", criteria);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), taskService.search(criteria)), HttpStatus.OK);
+    }
 
 }
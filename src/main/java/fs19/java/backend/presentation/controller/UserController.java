@@ -1,12 +1,15 @@
 package fs19.java.backend.presentation.controller;
 
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.user.UserCreateDTO;
 import fs19.java.backend.application.UserServiceImpl;
 import fs19.java.backend.application.dto.user.UserReadDTO;
 import fs19.java.backend.application.mapper.UserMapper;
 import fs19.java.backend.config.SecurityConfig;
 import fs19.java.backend.domain.entity.User;
+import fs19.java.backend.infrastructure.KeysetPager;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.response.JsonArrayStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -23,7 +26,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 @Tag(name = "User", description = "Manage User Actions")
@@ -33,9 +38,11 @@ public class UserController {
 
   private static final Logger logger = LogManager.getLogger(UserController.class);
   private final UserServiceImpl userService;
+  private final JsonArrayStream jsonArrayStream;
 
-  public UserController(UserServiceImpl userService) {
+  public UserController(UserServiceImpl userService, JsonArrayStream jsonArrayStream) {
     this.userService = userService;
+    this.jsonArrayStream = jsonArrayStream;
   }
 
   @Operation(summary = "Create a user")
@@ -65,15 +72,24 @@ public class UserController {
     return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), user), HttpStatus.OK);
   }
 
-  @Operation(summary = "Get all users")
+  @Operation(summary = "Get all users", description = "Users are read page by page, ordered by id. Pass nextCursor of the response as cursor to read the next page; size is capped at " + KeysetPager.MAX_PAGE_SIZE + ".")
   @GetMapping
-  public ResponseEntity<GlobalResponse<List<UserReadDTO>>> getAllUsers() {
-    logger.info("Received request to get all users");
-    List<UserReadDTO> users = userService.findAllUsers();
-    logger.info("Users retrieved successfully: {}", users);
+  public ResponseEntity<GlobalResponse<CursorPageDTO<UserReadDTO>>> getAllUsers(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "" + KeysetPager.DEFAULT_PAGE_SIZE) int size) {
+    logger.info("Received request to get a page of users");
+    CursorPageDTO<UserReadDTO> users = userService.findAllUsers(cursor, size);
+    logger.info("Returning {} users, more available: {}", users.getSize(), users.isHasNext());
     return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), users), HttpStatus.OK);
   }
 
+  @Operation(summary = "Export all users", description = "Streams every user in one response, ordered by id, without holding them in memory.")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportUsers() {
+    logger.info("Received request to export all users");
+    return jsonArrayStream.ok(userService::exportUsers);
+  }
+
   @Operation(summary = "Delete user by ID")
   @DeleteMapping("/{userId}")
   public ResponseEntity<GlobalResponse<Void>> deleteUser(@PathVariable  UUID userId) {
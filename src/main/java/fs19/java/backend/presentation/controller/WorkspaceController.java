@@ -1,10 +1,14 @@
 package fs19.java.backend.presentation.controller;
 
+import fs19.java.backend.application.dto.deletion.DeletionJobDTO;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.workspace.WorkspaceRequestDTO;
 import fs19.java.backend.application.dto.workspace.WorkspaceResponseDTO;
 import fs19.java.backend.application.dto.workspace.WorkspaceUpdateDTO;
 import fs19.java.backend.application.service.WorkspaceService;
+import fs19.java.backend.infrastructure.KeysetPager;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.response.JsonArrayStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.apache.logging.log4j.LogManager;
@@ -12,6 +16,7 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -24,9 +29,11 @@ public class WorkspaceController {
 
     private static final Logger logger = LogManager.getLogger(WorkspaceController.class);
     private final WorkspaceService workspaceService;
+    private final JsonArrayStream jsonArrayStream;
 
-    public WorkspaceController(WorkspaceService workspaceService) {
+    public WorkspaceController(WorkspaceService workspaceService, JsonArrayStream jsonArrayStream) {
         this.workspaceService = workspaceService;
+        this.jsonArrayStream = jsonArrayStream;
     }
 
     @Operation(summary = "Create a workspace", description = "Creates a new workspace with the provided details.")
@@ -56,21 +63,30 @@ public class WorkspaceController {
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), workspace), HttpStatus.OK);
     }
 
-    @Operation(summary = "Get all workspaces", description = "Retrieves the details of all workspaces.")
+    @Operation(summary = "Get all workspaces", description = "Workspaces are read page by page, ordered by id. Pass nextCursor of the response as cursor to read the next page; size is capped at " + KeysetPager.MAX_PAGE_SIZE + ".")
     @GetMapping
-    public ResponseEntity<GlobalResponse<List<WorkspaceResponseDTO>>> getAllWorkspaces() {
-        logger.info("Received request to get all workspaces");
-        List<WorkspaceResponseDTO> workspaces = workspaceService.getAllWorkspaces();
-        logger.info("All workspaces retrieved successfully");
+    public ResponseEntity<GlobalResponse<CursorPageDTO<WorkspaceResponseDTO>>> getAllWorkspaces(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "" + KeysetPager.DEFAULT_PAGE_SIZE) int size) {
+        logger.info("Received request to get a page of workspaces");
+        CursorPageDTO<WorkspaceResponseDTO> workspaces = workspaceService.getAllWorkspaces(cursor, size);
+        logger.info("Returning {} workspaces, more available: {}", workspaces.getSize(), workspaces.isHasNext());
         return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), workspaces), HttpStatus.OK);
     }
 
-    @Operation(summary = "Delete a workspace", description = "Deletes a workspace by its ID.")
+    @Operation(summary = "Export all workspaces", description = "Streams every workspace in one response, ordered by id, without holding them in memory.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWorkspaces() {
+        logger.info("Received request to export all workspaces");
+        return jsonArrayStream.ok(workspaceService::exportWorkspaces);
+    }
+
+    @Operation(summary = "Delete a workspace", description = "Hides a workspace with its projects at once and deletes them in the background. Follow the returned job at /api/v1/deletion-jobs/{jobId}.")
     @DeleteMapping("/{workspaceId}")
-    public ResponseEntity<GlobalResponse<Void>> deleteWorkspace(@PathVariable UUID workspaceId) {
+    public ResponseEntity<GlobalResponse<DeletionJobDTO>> deleteWorkspace(@PathVariable UUID workspaceId) {
         logger.info("Received request to delete workspace with ID: {}", workspaceId);
-        workspaceService.deleteWorkspace(workspaceId);
-        logger.info("Workspace deleted successfully with ID: {}", workspaceId);
-        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.NO_CONTENT.value(), null), HttpStatus.NO_CONTENT);
+        DeletionJobDTO deletionJob = workspaceService.deleteWorkspace(workspaceId);
+        logger.info("Workspace with ID: {} queued for deletion", workspaceId);
+        return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.ACCEPTED.value(), deletionJob), HttpStatus.ACCEPTED);
     }
 }
\ No newline at end of file
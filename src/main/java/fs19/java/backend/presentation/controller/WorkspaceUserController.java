@@ -1,11 +1,14 @@
 package fs19.java.backend.presentation.controller;
 
 import fs19.java.backend.application.WorkspaceUserServiceImpl;
+import fs19.java.backend.application.dto.page.CursorPageDTO;
 import fs19.java.backend.application.dto.workspace_user.WorkspaceUserRequestDTO;
 import fs19.java.backend.application.dto.workspace_user.WorkspaceUserResponseDTO;
 import fs19.java.backend.config.SecurityConfig;
 import fs19.java.backend.domain.entity.User;
+import fs19.java.backend.infrastructure.KeysetPager;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.response.JsonArrayStream;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -14,6 +17,7 @@ import org.apache.logging.log4j.LogManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,9 +30,11 @@ public class WorkspaceUserController {
 
   private static final Logger logger = LogManager.getLogger(WorkspaceUserController.class);
   private final WorkspaceUserServiceImpl workspaceUsersService;
+  private final JsonArrayStream jsonArrayStream;
 
-  public WorkspaceUserController(WorkspaceUserServiceImpl workspaceUsersService) {
+  public WorkspaceUserController(WorkspaceUserServiceImpl workspaceUsersService, JsonArrayStream jsonArrayStream) {
     this.workspaceUsersService = workspaceUsersService;
+    this.jsonArrayStream = jsonArrayStream;
   }
 
   @Operation(summary = "Create a workspace user")
@@ -75,14 +81,22 @@ public class WorkspaceUserController {
         HttpStatus.OK);
   }
 
-  @Operation(summary = "Get all workspace users")
+  @Operation(summary = "Get all workspace users", description = "Workspace users are read page by page, ordered by id. Pass nextCursor of the response as cursor to read the next page; size is capped at " + KeysetPager.MAX_PAGE_SIZE + ".")
   @GetMapping
-  public ResponseEntity<GlobalResponse<List<WorkspaceUserResponseDTO>>> getAllWorkspaceUsers() {
-    logger.info("Received request to get all workspace users");
-    List<WorkspaceUserResponseDTO> workspaceUsers = workspaceUsersService.getAllWorkspacesUsers();
-    logger.info("Workspace users retrieved successfully: {}", workspaceUsers);
-    return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), workspaceUsers),
-        HttpStatus.OK);
+  public ResponseEntity<GlobalResponse<CursorPageDTO<WorkspaceUserResponseDTO>>> getAllWorkspaceUsers(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "" + KeysetPager.DEFAULT_PAGE_SIZE) int size) {
+    logger.info("Received request to get a page of workspace users");
+    CursorPageDTO<WorkspaceUserResponseDTO> workspaceUsers = workspaceUsersService.getAllWorkspacesUsers(cursor, size);
+    logger.info("Returning {} workspace users, more available: {}", workspaceUsers.getSize(), workspaceUsers.isHasNext());
+    return new ResponseEntity<>(new GlobalResponse<>(HttpStatus.OK.value(), workspaceUsers), HttpStatus.OK);
+  }
+
+  @Operation(summary = "Export all workspace users", description = "Streams every workspace user in one response, ordered by id, without holding them in memory.")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportWorkspaceUsers() {
+    logger.info("Received request to export all workspace users");
+    return jsonArrayStream.ok(workspaceUsersService::exportWorkspaceUsers);
   }
 
   @Operation(summary = "Get all workspaces by user ID")
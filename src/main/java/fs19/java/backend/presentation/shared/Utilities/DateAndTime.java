@@ -28,4 +28,14 @@ public class DateAndTime {
     public static ZonedDateTime getExpiredDateAndTime() {
         return getDateAndTime().plusDays(EXPIRED_DATE);
     }
+
+    /**
+     * Return true when both are null or denote the same instant, whatever their zones
+     */
+    public static boolean isSameInstant(ZonedDateTime first, ZonedDateTime second) {
+        if (first == null || second == null) {
+            return first == second;
+        }
+        return first.isEqual(second);
+    }
 }
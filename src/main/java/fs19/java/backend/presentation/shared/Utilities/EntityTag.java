@@ -0,0 +1,74 @@
+package fs19.java.backend.presentation.shared.Utilities;
+
+/**
+ * Converts between entity version columns and the ETag, If-Match and If-None-Match headers.
+ * A version is sent as a strong tag such as "3"; weak tags are accepted on input.
+ */
+public class EntityTag {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTag() {
+    }
+
+    /**
+     * Return the ETag header value of a version, or null when the entity has no version yet
+     *
+     * @param version Long
+     * @return String
+     */
+    public static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Return the version an If-Match header expects, or null when the header is absent or "*"
+     *
+     * @param ifMatch String
+     * @return Long
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        return parse(ifMatch);
+    }
+
+    /**
+     * Return true when an If-None-Match header already names the current version
+     *
+     * @param ifNoneMatch String
+     * @param version     Long
+     * @return boolean
+     */
+    public static boolean matches(String ifNoneMatch, Long version) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || version == null) {
+            return false;
+        }
+        if (ANY.equals(ifNoneMatch.trim())) {
+            return true;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            if (version.equals(parse(tag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Long parse(String tag) {
+        String value = tag.trim();
+        if (value.startsWith(WEAK_PREFIX)) {
+            value = value.substring(WEAK_PREFIX.length());
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed entity tag: " + tag.trim());
+        }
+    }
+}
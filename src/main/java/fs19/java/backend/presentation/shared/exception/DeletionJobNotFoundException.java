@@ -0,0 +1,7 @@
+package fs19.java.backend.presentation.shared.exception;
+
+public class DeletionJobNotFoundException extends RuntimeException {
+    public DeletionJobNotFoundException(String message) {
+        super(message);
+    }
+}
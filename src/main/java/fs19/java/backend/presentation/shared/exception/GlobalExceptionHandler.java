@@ -4,6 +4,7 @@ import fs19.java.backend.presentation.shared.response.ErrorItem;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -76,6 +77,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(DeletionJobNotFoundException.class)
+    public ResponseEntity<GlobalResponse<Void>> handleDeletionJobNotFoundException(DeletionJobNotFoundException ex) {
+        logger.error("DeletionJobNotFoundException: {}", ex.getMessage(), ex);
+        ErrorItem error = new ErrorItem(ex.getMessage());
+        GlobalResponse<Void> response = new GlobalResponse<>(HttpStatus.NOT_FOUND.value(), List.of(error));
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(ProjectValidationException.class)
     public ResponseEntity<GlobalResponse<Void>> handleProjectValidationException(ProjectValidationException ex) {
         logger.error("ProjectValidationException: {}", ex.getMessage(), ex);
@@ -165,6 +174,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<GlobalResponse<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.error("OptimisticLockingFailureException: {}", ex.getMessage());
+        ErrorItem error = new ErrorItem("The record was changed by another request, reload it and retry.");
+        GlobalResponse<Void> response = new GlobalResponse<>(HttpStatus.PRECONDITION_FAILED.value(), List.of(error));
+        return new ResponseEntity<>(response, HttpStatus.PRECONDITION_FAILED);
+    }
+
     @ExceptionHandler(InvalidInvitationFoundException.class)
     public ResponseEntity<GlobalResponse<Void>> handleIlleInvalidInvitationException(InvalidInvitationFoundException ex) {
         ErrorItem error = new ErrorItem(ex.getMessage());
@@ -0,0 +1,54 @@
+package fs19.java.backend.presentation.shared.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes an export as a GlobalResponse whose data array is streamed record by record,
+ * so the response is never built in memory whatever the number of records
+ */
+@Component
+public class JsonArrayStream {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonArrayStream(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Build the streamed response
+     *
+     * @param export fills the data array by passing each record to the given sink; runs after the handler returned
+     * @return ResponseEntity
+     */
+    public <T> ResponseEntity<StreamingResponseBody> ok(Consumer<Consumer<T>> export) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartObject();
+                generator.writeStringField("status", GlobalResponse.SUCCESS);
+                generator.writeNumberField("code", HttpStatus.OK.value());
+                generator.writeArrayFieldStart("data");
+                export.accept(record -> {
+                    try {
+                        objectMapper.writeValue(generator, record);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
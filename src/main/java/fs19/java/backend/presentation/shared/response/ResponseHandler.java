@@ -78,6 +78,15 @@ public class ResponseHandler {
             case PROJECT_ID_NOT_FOUND -> errors.add(new ErrorItem("Project Id is invalid", "" + status.getStatus()));
             case INVITATION_ALREADY_ACCEPTED ->
                     errors.add(new ErrorItem("Invitation Already Accepted", "" + status.getStatus()));
+            case TASK_STATUS_NOT_VALID -> errors.add(new ErrorItem(" Task Status is invalid", "" + status.getStatus()));
+            case TASK_PRIORITY_NOT_VALID ->
+                    errors.add(new ErrorItem(" Task Priority is invalid", "" + status.getStatus()));
+            case TASK_BULK_OPERATION_NOT_FOUND ->
+                    errors.add(new ErrorItem(" Bulk operation Not Found", "" + status.getStatus()));
+            case TASK_BULK_DUPLICATE_TASK_ID ->
+                    errors.add(new ErrorItem(" Task Id appears more than once in the bulk request", "" + status.getStatus()));
+            case TASK_VERSION_MISMATCH ->
+                    errors.add(new ErrorItem(" Task was changed by another request, reload it and retry", "" + status.getStatus()));
 
 
         }
@@ -104,10 +113,16 @@ public class ResponseHandler {
                  INVALID_INFORMATION_INVITATION_DETAILS_NOT_CREATED, INVITATION_WORKSPACE_ID_NOT_FOUND,
                  INVITATION_ID_NOT_FOUND, INVALID_INFORMATION_INVITATION_DETAILS_NOT_DELETED,
                  INVALID_INFORMATION_INVITATION_DETAILS_NOT_FOUND, COMPANY_ID_NOT_FOUND,
-                 COMPANY_NAME_NOT_FOUND, USER_ID_NOT_FOUND, PROJECT_ID_NOT_FOUND -> {
+                 COMPANY_NAME_NOT_FOUND, USER_ID_NOT_FOUND, PROJECT_ID_NOT_FOUND, TASK_BULK_OPERATION_NOT_FOUND -> {
 
                 return HttpStatus.NOT_FOUND;
             }
+            case TASK_STATUS_NOT_VALID, TASK_PRIORITY_NOT_VALID, TASK_BULK_DUPLICATE_TASK_ID -> {
+                return HttpStatus.BAD_REQUEST;
+            }
+            case TASK_VERSION_MISMATCH -> {
+                return HttpStatus.PRECONDITION_FAILED;
+            }
             case RECORD_ALREADY_CREATED, ROLE_PERMISSION_ID_RECORD_ALREADY_EXIST, INVITATION_ALREADY_ACCEPTED -> {
                 return HttpStatus.NOT_ACCEPTABLE;
             }
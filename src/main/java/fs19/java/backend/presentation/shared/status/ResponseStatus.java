@@ -49,7 +49,12 @@ public enum ResponseStatus {
     COMPANY_NAME_NOT_FOUND(-1028),
     USER_ID_NOT_FOUND(-1029),
     PROJECT_ID_NOT_FOUND(-1030),
-    INVITATION_ALREADY_ACCEPTED(-1031);
+    INVITATION_ALREADY_ACCEPTED(-1031),
+    TASK_STATUS_NOT_VALID(-1032),
+    TASK_PRIORITY_NOT_VALID(-1033),
+    TASK_BULK_OPERATION_NOT_FOUND(-1034),
+    TASK_BULK_DUPLICATE_TASK_ID(-1035),
+    TASK_VERSION_MISMATCH(-1036);
 
     final private int status;
 
@@ -3,11 +3,16 @@ package fs19.java.backend.activitylog;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import fs19.java.backend.application.dto.activitylog.ActivityLogDTO;
+import fs19.java.backend.application.service.ActivityLogService;
+import fs19.java.backend.domain.entity.ActivityLog;
 import fs19.java.backend.domain.entity.enums.ActionType;
 import fs19.java.backend.domain.entity.enums.EntityType;
 import fs19.java.backend.infrastructure.JpaRepositories.ActivityLogJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -19,7 +24,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -46,6 +53,12 @@ class ActivityLogControllerTest {
     @Autowired
     private UserJpaRepo userJpaRepo;
 
+    @Autowired
+    private ActivityLogService activityLogService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private static UUID testActivityLogId;
     private static UUID testUserId;
 
@@ -129,6 +142,37 @@ class ActivityLogControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @Order(6)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Create Activity Logs - Inserts Sent in JDBC Batches")
+    void testCreateActivityLogsStatementCount() {
+        int count = 120;
+        UUID entityId = UUID.randomUUID();
+        List<ActivityLogDTO> activityLogDTOs = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            ActivityLogDTO activityLogDTO = new ActivityLogDTO();
+            activityLogDTO.setEntityType(EntityType.TASK);
+            activityLogDTO.setEntityId(entityId);
+            activityLogDTO.setAction(ActionType.UPDATED);
+            activityLogDTO.setUserId(testUserId);
+            activityLogDTOs.add(activityLogDTO);
+        }
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManager.flush();
+        statistics.clear();
+
+        Assertions.assertEquals(count, activityLogService.createActivityLogs(activityLogDTOs));
+        entityManager.flush();
+
+        // the user check, then at most one prepared INSERT per batch of 50
+        Assertions.assertEquals(count, statistics.getEntityStatistics(ActivityLog.class.getName()).getInsertCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 1 + (count + 49) / 50);
+        Assertions.assertEquals(count, entityManager.createQuery("DELETE FROM ActivityLog a WHERE a.entityId = :entityId")
+                .setParameter("entityId", entityId).executeUpdate());
+    }
+
     private void saveIdForExecuteTest(String responseContent) throws JsonProcessingException {
         GlobalResponse<ActivityLogDTO> response = objectMapper.readValue(responseContent, GlobalResponse.class);
         Object data = response.getData();
@@ -0,0 +1,137 @@
+package fs19.java.backend.cache;
+
+import fs19.java.backend.application.CacheInvalidationReceiver;
+import fs19.java.backend.application.CacheInvalidationSender;
+import fs19.java.backend.application.dto.cache.CacheInvalidationDTO;
+import fs19.java.backend.config.DataLoader;
+import fs19.java.backend.domain.entity.Permission;
+import fs19.java.backend.domain.entity.Role;
+import fs19.java.backend.infrastructure.JpaRepositories.PermissionJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.RoleJpaRepo;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Reference data read twice is answered by the second-level cache the second time, and dropped again when another
+ * instance reports a change. The class is not transactional: every request runs in its own session, as in production.
+ * A read-write region only serves entries put before the reading session started, so reads inside one long test
+ * transaction would never hit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private RoleJpaRepo roleJpaRepo;
+
+    @Autowired
+    private PermissionJpaRepo permissionJpaRepo;
+
+    @Autowired
+    private CacheInvalidationSender cacheInvalidationSender;
+
+    @Autowired
+    private CacheInvalidationReceiver cacheInvalidationReceiver;
+
+    private static UUID roleId;
+
+    @Test
+    @Order(1)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Role by Id - Second Read Is a Cache Hit")
+    void testRoleServedFromCache() throws Exception {
+        roleId = roleJpaRepo.findAll().getFirst().getId();
+        Statistics statistics = statistics();
+        mockMvc.perform(get("/api/v1/roles/" + roleId))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/roles/" + roleId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(roleId.toString()));
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Role.class.getName()).getLoadCount());
+        Assertions.assertTrue(statistics.getDomainDataRegionStatistics(Role.CACHE_REGION).getHitCount() >= 1);
+    }
+
+    @Test
+    @Order(2)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Role and Permission by Name - Second Lookup Runs No Query")
+    void testLookupsByNameServedFromCache() throws Exception {
+        String permissionName = permissionJpaRepo.findAll().getFirst().getName();
+        Statistics statistics = statistics();
+        mockMvc.perform(get("/api/v1/roles/search/" + DataLoader.ADMIN_USER_NAME))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/permissions/search/" + permissionName))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/roles/search/" + DataLoader.ADMIN_USER_NAME))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value(DataLoader.ADMIN_USER_NAME));
+        mockMvc.perform(get("/api/v1/permissions/search/" + permissionName))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value(permissionName));
+        Assertions.assertEquals(1, statistics.getQueryRegionStatistics(Role.BY_NAME_REGION).getHitCount());
+        Assertions.assertEquals(1, statistics.getDomainDataRegionStatistics(Permission.BY_NAME_REGION).getHitCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Permission.class.getName()).getLoadCount());
+    }
+
+    @Test
+    @Order(3)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Cache Regions - Hit Ratio per Region")
+    void testGetRegionStatistics() throws Exception {
+        mockMvc.perform(get("/api/v1/cache/regions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[?(@.region == 'role')].hitRatio").isNotEmpty())
+                .andExpect(jsonPath("$.data[?(@.region == 'permission-by-name')]").isNotEmpty())
+                .andExpect(jsonPath("$.data[?(@.region == 'workspace')]").isNotEmpty());
+    }
+
+    @Test
+    @Order(4)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Invalidation - Only Messages of Other Instances Evict")
+    void testReceiveInvalidation() throws Exception {
+        mockMvc.perform(get("/api/v1/roles/" + roleId))
+                .andExpect(status().isOk());
+        org.hibernate.Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        Assertions.assertTrue(cache.containsEntity(Role.class, roleId));
+
+        cacheInvalidationReceiver.receiveInvalidation(
+                new CacheInvalidationDTO(cacheInvalidationSender.getOrigin(), Role.class.getName(), roleId));
+        Assertions.assertTrue(cache.containsEntity(Role.class, roleId));
+
+        cacheInvalidationReceiver.receiveInvalidation(new CacheInvalidationDTO(UUID.randomUUID(), Role.class.getName(), roleId));
+        Assertions.assertFalse(cache.containsEntity(Role.class, roleId));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        return statistics;
+    }
+}
@@ -1,28 +1,42 @@
 package fs19.java.backend.comment;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import fs19.java.backend.application.dto.comment.CommentRequestDTO;
 import fs19.java.backend.application.dto.comment.CommentResponseDTO;
 import fs19.java.backend.application.dto.comment.CommentUpdateDTO;
+import fs19.java.backend.application.dto.task.TaskRequestDTO;
 import fs19.java.backend.infrastructure.JpaRepositories.CommentJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.TaskJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.Commit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -50,6 +64,11 @@ class CommentControllerTest {
     @Autowired
     private TaskJpaRepo taskJpaRepo;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final Logger logger = LogManager.getLogger(CommentControllerTest.class);
+
     private static UUID testCommentId;
     private static UUID testUserId;
     private static UUID testTaskId;
@@ -113,10 +132,10 @@ class CommentControllerTest {
     @WithMockUser(username = "admin", authorities = {"TEST-USER"})
     @DisplayName("Test Get All Comments")
     public void testGetAllComments() throws Exception {
-        mockMvc.perform(get(BASE_URL))
+        mockMvc.perform(get(BASE_URL).param("size", "500"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].content").value("This is a comment on the task."));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[*].content", hasItem("This is a comment on the task.")));
     }
 
     @Test
@@ -128,6 +147,122 @@ class CommentControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @Order(6)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Get Comments for Task - Cursor Pages Cover the Thread Once")
+    public void testGetCommentsForTaskByCursor() throws Exception {
+        for (int index = 0; index < 5; index++) {
+            CommentRequestDTO request = new CommentRequestDTO();
+            request.setTaskId(testTaskId);
+            request.setContent("Thread comment " + index);
+            request.setCreatedBy(testUserId);
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        Set<String> seen = new HashSet<>();
+        String cursor = null;
+        long totalCount = -1;
+        do {
+            var request = get(BASE_URL + "/tasks/" + testTaskId + "/comments").param("size", "2").param("withCount", "true");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString()).get("data");
+            totalCount = page.get("totalCount").asLong();
+            page.get("items").forEach(item -> Assertions.assertTrue(seen.add(item.get("id").asText()), "comment returned twice"));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        Assertions.assertEquals(totalCount, seen.size());
+        Assertions.assertTrue(seen.size() >= 5);
+    }
+
+    @Test
+    @Order(7)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Bulk Delete Comments - By IDs, Counted on the Task and Together with It")
+    public void testBulkDeleteComments() throws Exception {
+        UUID taskId = createTask("Bulk delete thread");
+        List<String> commentIds = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            CommentRequestDTO request = new CommentRequestDTO();
+            request.setTaskId(taskId);
+            request.setContent("Bulk delete comment " + index);
+            request.setCreatedBy(testUserId);
+            commentIds.add(objectMapper.readTree(mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString()).get("data").get("id").asText());
+        }
+
+        mockMvc.perform(delete(BASE_URL).param("ids", commentIds.get(0), commentIds.get(1), UUID.randomUUID().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deletedCount").value(2));
+        // the counter is written in place, so it is read from the row rather than the task cached in this transaction
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("SELECT comment_count FROM task WHERE id = ?", Integer.class, taskId));
+        Assertions.assertNotNull(jdbcTemplate.queryForObject("SELECT last_activity_at FROM task WHERE id = ?", Timestamp.class, taskId));
+        mockMvc.perform(delete(BASE_URL + "/users/" + UUID.randomUUID() + "/comments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deletedCount").value(0));
+
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId))
+                .andExpect(status().isOk());
+        Assertions.assertEquals(0, commentJpaRepo.countByTaskId(taskId));
+    }
+
+    /**
+     * Delete a task holding 50k comments, which takes one DELETE for the comments and one batch of activity logs.
+     */
+    @Test
+    @Order(8)
+    @Tag("benchmark")
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Benchmark Delete Task - 50k Comments")
+    public void benchmarkDeleteTaskWithComments() throws Exception {
+        int comments = 50_000;
+        UUID taskId = createTask("Benchmark thread");
+        taskJpaRepo.flush();
+        List<Integer> rows = IntStream.range(0, comments).boxed().toList();
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, task_id, content, created_date, created_by) VALUES (?, ?, ?, ?, ?)",
+                rows, 1000, (ps, row) -> {
+                    ps.setObject(1, UUID.randomUUID());
+                    ps.setObject(2, taskId);
+                    ps.setString(3, "Benchmark comment " + row);
+                    ps.setTimestamp(4, now);
+                    ps.setObject(5, testUserId);
+                });
+
+        long started = System.nanoTime();
+        mockMvc.perform(delete("/api/v1/tasks/" + taskId))
+                .andExpect(status().isOk());
+        logger.info("Deleted a task with {} comments in {} ms", comments, (System.nanoTime() - started) / 1_000_000);
+        Assertions.assertEquals(0, commentJpaRepo.countByTaskId(taskId));
+    }
+
+    private UUID createTask(String name) throws Exception {
+        TaskRequestDTO task = new TaskRequestDTO();
+        task.setName(name);
+        task.setDescription("Task holding a comment thread");
+        task.setDueDate(LocalDate.now().plusDays(2));
+        task.setTaskStatus("TODO");
+        task.setPriority("LOW_PRIORITY");
+        task.setProjectId(taskJpaRepo.findById(testTaskId).orElseThrow().getProject().getId());
+        task.setCreatedUserId(testUserId);
+        task.setAssignedUserId(testUserId);
+        return UUID.fromString(objectMapper.readTree(mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("data").get("id").asText());
+    }
+
     private void saveIdForExecuteTest(String responseContent) throws JsonProcessingException {
         GlobalResponse<CommentResponseDTO> response = objectMapper.readValue(responseContent, GlobalResponse.class);
         Object data = response.getData();
@@ -21,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.LinkedHashMap;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -105,10 +106,10 @@ class CompanyControllerTest {
     @WithMockUser(username = "admin", authorities = {"TEST-USER"})
     @DisplayName("Test Get All Companies")
     void testGetAllCompanies() throws Exception {
-        mockMvc.perform(get(BASE_URL))
+        mockMvc.perform(get(BASE_URL).param("size", "500"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].name").value("Company-A"));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[*].name", hasItem("Company-A")));
     }
 
     @Test
@@ -117,7 +118,7 @@ class CompanyControllerTest {
     @DisplayName("Test Delete Company by ID")
     void testDeleteCompanyById() throws Exception {
         mockMvc.perform(delete(BASE_URL + "/" + testCompanyId))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
     }
 
     @Test
@@ -0,0 +1,82 @@
+package fs19.java.backend.config;
+
+import fs19.java.backend.domain.entity.enums.Priority;
+import fs19.java.backend.domain.entity.enums.TaskStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Runs the migration against a varchar task table in a scratch schema, first on the search path, inside a
+ * transaction which is rolled back, so the real task table is never touched.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskCodeColumnMigrationTest {
+
+    private static final String COLUMN_TYPE_SQL = "SELECT data_type FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = 'task' AND column_name = ?";
+
+    @Autowired
+    private TaskCodeColumnMigration taskCodeColumnMigration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Test Migration - Varchar Names Converted in Place to Smallint Codes")
+    void testConvertsVarcharColumns() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.execute("CREATE SCHEMA task_code_migration_test");
+            jdbcTemplate.execute("SET LOCAL search_path TO task_code_migration_test");
+            jdbcTemplate.execute("CREATE TABLE task (id int PRIMARY KEY, task_status varchar(255), priority varchar(255))");
+            jdbcTemplate.update("INSERT INTO task VALUES (1, 'TODO', 'LOW_PRIORITY'), (2, 'in_development', 'High_Priority'), " +
+                    "(3, 'RELEASED', NULL)");
+
+            taskCodeColumnMigration.migrate();
+
+            Assertions.assertEquals("smallint", jdbcTemplate.queryForObject(COLUMN_TYPE_SQL, String.class, "task_status"));
+            Assertions.assertEquals("smallint", jdbcTemplate.queryForObject(COLUMN_TYPE_SQL, String.class, "priority"));
+            List<Integer> statuses = jdbcTemplate.queryForList("SELECT task_status FROM task ORDER BY id", Integer.class);
+            List<Integer> priorities = jdbcTemplate.queryForList("SELECT priority FROM task ORDER BY id", Integer.class);
+            Assertions.assertEquals(List.of(TaskStatus.TODO.getId(), TaskStatus.IN_DEVELOPMENT.getId(), TaskStatus.RELEASED.getId()), statuses);
+            Assertions.assertEquals(Priority.LOW_PRIORITY.getId(), priorities.get(0));
+            Assertions.assertEquals(Priority.HIGH_PRIORITY.getId(), priorities.get(1));
+            Assertions.assertNull(priorities.get(2));
+
+            // a second run finds smallint columns and leaves them alone
+            taskCodeColumnMigration.migrate();
+            Assertions.assertEquals(statuses, jdbcTemplate.queryForList("SELECT task_status FROM task ORDER BY id", Integer.class));
+        });
+        Assertions.assertEquals("smallint", jdbcTemplate.queryForObject(COLUMN_TYPE_SQL, String.class, "task_status"));
+    }
+
+    @Test
+    @DisplayName("Test Migration - Unknown Name Aborts the Conversion")
+    void testUnknownNameAborts() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.execute("CREATE SCHEMA task_code_migration_test");
+            jdbcTemplate.execute("SET LOCAL search_path TO task_code_migration_test");
+            jdbcTemplate.execute("CREATE TABLE task (id int PRIMARY KEY, task_status varchar(255), priority varchar(255))");
+            jdbcTemplate.update("INSERT INTO task VALUES (1, 'BLOCKED', 'LOW_PRIORITY')");
+
+            Assertions.assertThrows(DataAccessException.class, () -> taskCodeColumnMigration.migrate());
+        });
+    }
+}
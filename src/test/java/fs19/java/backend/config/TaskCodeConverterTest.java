@@ -0,0 +1,57 @@
+package fs19.java.backend.config;
+
+import fs19.java.backend.domain.entity.enums.Priority;
+import fs19.java.backend.domain.entity.enums.TaskStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TaskCodeConverterTest {
+
+    private final TaskStatusConverter taskStatusConverter = new TaskStatusConverter();
+    private final PriorityConverter priorityConverter = new PriorityConverter();
+
+    @Test
+    @DisplayName("Test Task Status Converter - Every Status Round-Trips through Its Code")
+    void testTaskStatusRoundTrip() {
+        for (TaskStatus taskStatus : TaskStatus.values()) {
+            Short code = taskStatusConverter.convertToDatabaseColumn(taskStatus.name());
+            Assertions.assertEquals(taskStatus.getId(), code.intValue());
+            Assertions.assertEquals(taskStatus.name(), taskStatusConverter.convertToEntityAttribute(code));
+        }
+        // names are matched case-insensitively and read back in upper case
+        Assertions.assertEquals("IN_DEVELOPMENT", taskStatusConverter.convertToEntityAttribute(taskStatusConverter.convertToDatabaseColumn("in_development")));
+        Assertions.assertNull(taskStatusConverter.convertToDatabaseColumn(null));
+        Assertions.assertNull(taskStatusConverter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    @DisplayName("Test Task Status Converter - Unknown Names and Codes Are Rejected")
+    void testTaskStatusUnknown() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> taskStatusConverter.convertToDatabaseColumn("BLOCKED"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> taskStatusConverter.convertToDatabaseColumn(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> taskStatusConverter.convertToEntityAttribute((short) 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> taskStatusConverter.convertToEntityAttribute((short) (TaskStatus.values().length + 1)));
+    }
+
+    @Test
+    @DisplayName("Test Priority Converter - Every Priority Round-Trips through Its Code")
+    void testPriorityRoundTrip() {
+        for (Priority priority : Priority.values()) {
+            Short code = priorityConverter.convertToDatabaseColumn(priority.name());
+            Assertions.assertEquals(priority.getId(), code.intValue());
+            Assertions.assertEquals(priority.name(), priorityConverter.convertToEntityAttribute(code));
+        }
+        Assertions.assertEquals("HIGH_PRIORITY", priorityConverter.convertToEntityAttribute(priorityConverter.convertToDatabaseColumn("High_Priority")));
+        Assertions.assertNull(priorityConverter.convertToDatabaseColumn(null));
+        Assertions.assertNull(priorityConverter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    @DisplayName("Test Priority Converter - Unknown Names and Codes Are Rejected")
+    void testPriorityUnknown() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> priorityConverter.convertToDatabaseColumn("URGENT"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> priorityConverter.convertToEntityAttribute((short) 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> priorityConverter.convertToEntityAttribute((short) (Priority.values().length + 1)));
+    }
+}
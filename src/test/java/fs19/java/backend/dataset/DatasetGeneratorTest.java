@@ -0,0 +1,162 @@
+package fs19.java.backend.dataset;
+
+import fs19.java.backend.config.DatasetGenerator;
+import fs19.java.backend.domain.entity.ProjectBoardSummary;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A tiny tenant is generated at startup, checked, and generated again on one thread after being removed.
+ * Not transactional: the generator copies on its own connections, which would wait on rows this test deletes.
+ * The history ends in the future, so no generated task falls due while the test runs and the overdue scheduler
+ * leaves the rows alone.
+ */
+@SpringBootTest(properties = {
+        "dataset.seed=7",
+        "dataset.companies=2",
+        "dataset.workspaces-per-company=2",
+        "dataset.users=40",
+        "dataset.members-per-workspace=5",
+        "dataset.projects-per-workspace=3",
+        "dataset.tasks=3000",
+        "dataset.comments-per-task=2",
+        "dataset.notifications=500",
+        "dataset.activity-logs=800",
+        "dataset.threads=4",
+        "dataset.anchor=2100-01-01",
+        "dataset.exit-when-done=false",
+        "search.index-dir=${java.io.tmpdir}/project-management-search-dataset-test"
+})
+@ActiveProfiles({"test", "dataset"})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DatasetGeneratorTest {
+
+    private static final String USERS = "(SELECT id FROM users WHERE email LIKE 'dataset7.user%')";
+    private static final String COMPANIES = "(SELECT id FROM company WHERE created_by IN " + USERS + ")";
+    private static final String ROLES = "(SELECT id FROM role WHERE company_id IN " + COMPANIES + ")";
+    private static final String WORKSPACES = "(SELECT id FROM workspace WHERE company_id IN " + COMPANIES + ")";
+    private static final String PROJECTS = "(SELECT id FROM project WHERE workspace_id IN " + WORKSPACES + ")";
+    private static final String TASKS = "(SELECT id FROM task WHERE project_id IN " + PROJECTS + ")";
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static Map<String, String> firstDigests;
+
+    @Test
+    @Order(1)
+    @DisplayName("Test Dataset - Tables Are Loaded and Consistent")
+    void testDatasetLoaded() {
+        Assertions.assertEquals(40, count("SELECT count(*) FROM users WHERE id IN " + USERS));
+        Assertions.assertEquals(2, count("SELECT count(*) FROM company WHERE id IN " + COMPANIES));
+        Assertions.assertEquals(4, count("SELECT count(*) FROM role WHERE id IN " + ROLES));
+        Assertions.assertEquals(4, count("SELECT count(*) FROM workspace WHERE id IN " + WORKSPACES));
+        Assertions.assertEquals(20, count("SELECT count(*) FROM workspace_user WHERE workspace_id IN " + WORKSPACES));
+        Assertions.assertEquals(12, count("SELECT count(*) FROM project WHERE id IN " + PROJECTS));
+        Assertions.assertEquals(3000, count("SELECT count(*) FROM task WHERE id IN " + TASKS));
+        Assertions.assertEquals(500, count("SELECT count(*) FROM notification WHERE project_id IN " + PROJECTS));
+        Assertions.assertEquals(800, count("SELECT count(*) FROM activity_log WHERE user_id IN " + USERS));
+        Assertions.assertTrue(count("SELECT count(*) FROM comments WHERE task_id IN " + TASKS) > 3000);
+
+        // the MEMBER role only reads, the ADMIN role has every permission
+        Assertions.assertEquals(count("SELECT 2 * count(*) FROM permission"),
+                count("SELECT count(*) FROM role_permission rp JOIN role r ON r.id = rp.role_id WHERE r.name = 'ADMIN' AND r.id IN " + ROLES));
+        // the denormalised comment counts match the comments
+        Assertions.assertEquals(0, count("SELECT count(*) FROM task t WHERE t.id IN " + TASKS
+                + " AND t.comment_count <> (SELECT count(*) FROM comments c WHERE c.task_id = t.id)"));
+        // the largest project holds far more than its even share of the tasks
+        Assertions.assertTrue(count("SELECT max(n) FROM (SELECT count(*) n FROM task WHERE id IN " + TASKS + " GROUP BY project_id) p") > 3 * 3000 / 12);
+        // every task is counted once in the status and once in the priority buckets of its project
+        Assertions.assertEquals(3000, count("SELECT sum(task_count) FROM project_board_summary WHERE bucket LIKE '"
+                + ProjectBoardSummary.STATUS_PREFIX + "%' AND project_id IN " + PROJECTS));
+        Assertions.assertEquals(3000, count("SELECT sum(task_count) FROM project_board_summary WHERE bucket LIKE '"
+                + ProjectBoardSummary.PRIORITY_PREFIX + "%' AND project_id IN " + PROJECTS));
+        Assertions.assertEquals(count("SELECT count(*) FROM task WHERE overdue_date IS NOT NULL AND id IN " + TASKS),
+                count("SELECT coalesce(sum(task_count), 0) FROM project_board_summary WHERE bucket = '"
+                        + ProjectBoardSummary.OVERDUE + "' AND project_id IN " + PROJECTS));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test Dataset - The Same Seed Gives the Same Rows Whatever the Thread Count")
+    void testDatasetIsDeterministic() throws Exception {
+        firstDigests = digests();
+        removeDataset();
+        Assertions.assertEquals(0, count("SELECT count(*) FROM users WHERE id IN " + USERS));
+
+        ReflectionTestUtils.setField(datasetGenerator, "threads", 1);
+        datasetGenerator.generate();
+        Assertions.assertEquals(firstDigests, digests());
+
+        // a second run finds the dataset and leaves it alone
+        datasetGenerator.generate();
+        Assertions.assertEquals(40, count("SELECT count(*) FROM users WHERE id IN " + USERS));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Test Dataset - Remove the Dataset")
+    void testRemoveDataset() {
+        removeDataset();
+        Assertions.assertEquals(0, count("SELECT count(*) FROM users WHERE id IN " + USERS));
+        Assertions.assertEquals(0, count("SELECT count(*) FROM company WHERE name LIKE 'Dataset 7 %'"));
+    }
+
+    // password hashes are salted, so users are compared without them
+    private Map<String, String> digests() {
+        Map<String, String> digests = new LinkedHashMap<>();
+        digests.put("users", digest("SELECT md5(string_agg(concat_ws('|', id, created_date, email, first_name, last_name, phone), ',' ORDER BY id))"
+                + " FROM users WHERE id IN " + USERS));
+        digests.put("company", digest(rows("company", "id IN " + COMPANIES)));
+        digests.put("role", digest(rows("role", "id IN " + ROLES)));
+        digests.put("role_permission", digest(rows("role_permission", "role_id IN " + ROLES)));
+        digests.put("workspace", digest(rows("workspace", "id IN " + WORKSPACES)));
+        digests.put("workspace_user", digest(rows("workspace_user", "workspace_id IN " + WORKSPACES)));
+        digests.put("project", digest(rows("project", "id IN " + PROJECTS)));
+        digests.put("task", digest(rows("task", "id IN " + TASKS)));
+        digests.put("comments", digest(rows("comments", "task_id IN " + TASKS)));
+        digests.put("notification", digest(rows("notification", "project_id IN " + PROJECTS)));
+        digests.put("activity_log", digest(rows("activity_log", "user_id IN " + USERS)));
+        digests.put("project_board_summary", digest("SELECT md5(string_agg(r::text, ',' ORDER BY r.project_id, r.bucket))"
+                + " FROM project_board_summary r WHERE project_id IN " + PROJECTS));
+        return digests;
+    }
+
+    private String rows(String table, String condition) {
+        return "SELECT md5(string_agg(r::text, ',' ORDER BY r.id)) FROM " + table + " r WHERE " + condition;
+    }
+
+    private String digest(String sql) {
+        return jdbcTemplate.queryForObject(sql, String.class);
+    }
+
+    private void removeDataset() {
+        jdbcTemplate.update("DELETE FROM comments WHERE task_id IN " + TASKS);
+        jdbcTemplate.update("DELETE FROM notification WHERE project_id IN " + PROJECTS);
+        jdbcTemplate.update("DELETE FROM project_board_summary WHERE project_id IN " + PROJECTS);
+        jdbcTemplate.update("DELETE FROM activity_log WHERE user_id IN " + USERS);
+        jdbcTemplate.update("DELETE FROM task WHERE project_id IN " + PROJECTS);
+        jdbcTemplate.update("DELETE FROM project WHERE workspace_id IN " + WORKSPACES);
+        jdbcTemplate.update("DELETE FROM workspace_user WHERE workspace_id IN " + WORKSPACES);
+        jdbcTemplate.update("DELETE FROM workspace WHERE company_id IN " + COMPANIES);
+        jdbcTemplate.update("DELETE FROM role_permission WHERE role_id IN " + ROLES);
+        jdbcTemplate.update("DELETE FROM role WHERE company_id IN " + COMPANIES);
+        jdbcTemplate.update("DELETE FROM company WHERE created_by IN " + USERS);
+        jdbcTemplate.update("DELETE FROM users WHERE id IN " + USERS);
+    }
+
+    private long count(String sql) {
+        Long rows = jdbcTemplate.queryForObject(sql, Long.class);
+        return rows == null ? 0 : rows;
+    }
+}
@@ -0,0 +1,91 @@
+package fs19.java.backend.datasource;
+
+import fs19.java.backend.infrastructure.ReplicaLagMonitor;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two datasources on the local database, told apart by the application name of their connections.
+ * The class is not transactional, as a surrounding read-write test transaction would keep every read on the primary.
+ */
+@SpringBootTest(properties = {
+        "replica.url=${spring.datasource.url}?ApplicationName=" + ReplicaRoutingDataSourceTest.REPLICA_NAME,
+        "replica.sticky-window-ms=60000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReplicaRoutingDataSourceTest {
+
+    static final String REPLICA_NAME = "replica-test";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Test
+    @Order(1)
+    @WithMockUser(username = "replica-reader", authorities = {"TEST-USER"})
+    @DisplayName("Test Routing - Read-Only Transactions Use the Replica")
+    void testReadOnlyGoesToReplica() throws Exception {
+        replicaLagMonitor.refresh();
+        Assertions.assertEquals(0, replicaLagMonitor.getLagMillis());
+        Assertions.assertEquals(REPLICA_NAME, applicationName(true));
+        Assertions.assertNotEquals(REPLICA_NAME, applicationName(false));
+        Assertions.assertNotEquals(REPLICA_NAME, jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class));
+
+        mockMvc.perform(get("/api/v1/workspaces"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(2)
+    @WithMockUser(username = "replica-writer", authorities = {"TEST-USER"})
+    @DisplayName("Test Routing - Reads Stay on the Primary after the User's Own Write")
+    void testReadYourWrites() {
+        Assertions.assertEquals(REPLICA_NAME, applicationName(true));
+        // a read-write transaction that only reads leaves the user on the replica
+        applicationName(false);
+        Assertions.assertEquals(REPLICA_NAME, applicationName(true));
+        applicationName(false, "CREATE TEMP TABLE replica_test_write (id int) ON COMMIT DROP");
+        Assertions.assertNotEquals(REPLICA_NAME, applicationName(true));
+    }
+
+    @Test
+    @Order(3)
+    @WithMockUser(username = "replica-bystander", authorities = {"TEST-USER"})
+    @DisplayName("Test Routing - Other Users Keep Reading from the Replica")
+    void testOtherUsersUnaffected() {
+        Assertions.assertEquals(REPLICA_NAME, applicationName(true));
+    }
+
+    private String applicationName(boolean readOnly, String... writes) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> {
+            for (String write : writes) {
+                jdbcTemplate.execute(write);
+            }
+            return jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class);
+        });
+    }
+}
@@ -0,0 +1,189 @@
+package fs19.java.backend.deletion;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fs19.java.backend.application.DeletionJobRunner;
+import fs19.java.backend.application.dto.comment.CommentRequestDTO;
+import fs19.java.backend.application.dto.task.TaskRequestDTO;
+import fs19.java.backend.domain.entity.Company;
+import fs19.java.backend.domain.entity.Project;
+import fs19.java.backend.domain.entity.User;
+import fs19.java.backend.domain.entity.Workspace;
+import fs19.java.backend.domain.entity.enums.WorkspaceType;
+import fs19.java.backend.infrastructure.JpaRepositories.CompanyJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceJpaRepo;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.Commit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A workspace with a project, a task and a comment is deleted; the tree is hidden as soon as the request returns
+ * and removed once the job has run
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@Commit
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class DeletionJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserJpaRepo userJpaRepo;
+
+    @Autowired
+    private CompanyJpaRepo companyJpaRepo;
+
+    @Autowired
+    private WorkspaceJpaRepo workspaceJpaRepo;
+
+    @Autowired
+    private ProjectJpaRepo projectJpaRepo;
+
+    @Autowired
+    private DeletionJobRunner deletionJobRunner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private static UUID workspaceId;
+    private static UUID projectId;
+    private static UUID taskId;
+    private static UUID jobId;
+
+    @Test
+    @Order(1)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Delete Workspace - Tree Is Hidden and a Job Is Queued")
+    void testRequestWorkspaceDeletion() throws Exception {
+        User user = userJpaRepo.findAll().getFirst();
+        Company company = companyJpaRepo.save(new Company(UUID.randomUUID(), "Deletion Company", ZonedDateTime.now(), user));
+        Workspace workspace = new Workspace();
+        workspace.setId(UUID.randomUUID());
+        workspace.setName("Deletion Workspace");
+        workspace.setDescription("Description");
+        workspace.setType(WorkspaceType.PUBLIC);
+        workspace.setCreatedBy(user);
+        workspace.setCompanyId(company);
+        workspaceId = workspaceJpaRepo.save(workspace).getId();
+
+        // saved directly, as project creation takes its creator from the authenticated user
+        projectId = projectJpaRepo.save(Project.builder()
+                .name("Deletion Project")
+                .description("Description")
+                .createdDate(ZonedDateTime.now())
+                .startDate(ZonedDateTime.now().plusDays(1))
+                .endDate(ZonedDateTime.now().plusDays(30))
+                .createdByUser(user)
+                .workspace(workspaceJpaRepo.findById(workspaceId).orElseThrow())
+                .status(false)
+                .build()).getId();
+
+        TaskRequestDTO task = new TaskRequestDTO();
+        task.setName("Deletion Task");
+        task.setDescription("Description");
+        task.setDueDate(LocalDate.now().plusDays(2));
+        task.setTaskStatus("TODO");
+        task.setPriority("LOW_PRIORITY");
+        task.setProjectId(projectId);
+        task.setCreatedUserId(user.getId());
+        task.setAssignedUserId(user.getId());
+        taskId = readId(mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+
+        CommentRequestDTO comment = new CommentRequestDTO();
+        comment.setTaskId(taskId);
+        comment.setContent("Deletion Comment");
+        comment.setCreatedBy(user.getId());
+        mockMvc.perform(post("/api/v1/comments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(comment)))
+                .andExpect(status().isCreated());
+
+        jobId = readId(mockMvc.perform(delete("/api/v1/workspaces/" + workspaceId))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.entityType").value("WORKSPACE"))
+                .andExpect(jsonPath("$.data.rootId").value(workspaceId.toString()))
+                .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andReturn().getResponse().getContentAsString());
+
+        // the tombstone is plain SQL; drop what this test transaction holds, as a new request would start empty
+        entityManager.flush();
+        entityManager.clear();
+        mockMvc.perform(get("/api/v1/projects/" + projectId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/v1/workspaces/" + workspaceId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(2)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Deletion Job - Runs to Completion")
+    void testDeletionJobCompletes() throws Exception {
+        String jobStatus = null;
+        for (int attempt = 0; attempt < 50 && !"COMPLETED".equals(jobStatus); attempt++) {
+            deletionJobRunner.runPendingJobs();
+            String responseContent = mockMvc.perform(get("/api/v1/deletion-jobs/" + jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            jobStatus = objectMapper.readTree(responseContent).get("data").get("status").asText();
+            if (!"COMPLETED".equals(jobStatus)) {
+                Thread.sleep(200);
+            }
+        }
+        Assertions.assertEquals("COMPLETED", jobStatus);
+
+        mockMvc.perform(get("/api/v1/deletion-jobs/" + jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.completedDate").isNotEmpty());
+        Assertions.assertEquals(0, count("SELECT count(*) FROM comments WHERE task_id = ?", taskId));
+        Assertions.assertEquals(0, count("SELECT count(*) FROM task WHERE id = ?", taskId));
+        Assertions.assertEquals(0, count("SELECT count(*) FROM project WHERE id = ?", projectId));
+        Assertions.assertEquals(0, count("SELECT count(*) FROM workspace WHERE id = ?", workspaceId));
+
+        mockMvc.perform(get("/api/v1/deletion-jobs/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private int count(String sql, UUID id) {
+        Integer rows = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        return rows == null ? 0 : rows;
+    }
+
+    private UUID readId(String responseContent) throws Exception {
+        JsonNode data = objectMapper.readTree(responseContent).get("data");
+        return UUID.fromString(data.get("id").asText());
+    }
+}
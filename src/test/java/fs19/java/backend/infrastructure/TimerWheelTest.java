@@ -0,0 +1,166 @@
+package fs19.java.backend.infrastructure;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The wheel only sees the time it is given, so a plain counter serves as the clock; one tick is one milli.
+ */
+class TimerWheelTest {
+
+    private static final long LEVEL_1 = 64;
+    private static final long LEVEL_2 = 64 * 64;
+    private static final long LEVEL_3 = 64 * 64 * 64;
+    private static final long MAX_DELTA = 64L * 64 * 64 * 64 - 1;
+
+    private long clock;
+
+    @Test
+    @DisplayName("Test Placement - Keys Live in the Coarsest Level Their Remaining Time Needs")
+    void testLevelPlacement() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, clock);
+        wheel.schedule("past", clock - 5);
+        wheel.schedule("level0-low", clock + 1);
+        wheel.schedule("level0-high", clock + LEVEL_1 - 1);
+        wheel.schedule("level1-low", clock + LEVEL_1);
+        wheel.schedule("level1-high", clock + LEVEL_2 - 1);
+        wheel.schedule("level2", clock + LEVEL_2);
+        wheel.schedule("level3", clock + LEVEL_3);
+
+        Assertions.assertEquals(-1, wheel.levelOf("past"));
+        Assertions.assertEquals(0, wheel.levelOf("level0-low"));
+        Assertions.assertEquals(0, wheel.levelOf("level0-high"));
+        Assertions.assertEquals(1, wheel.levelOf("level1-low"));
+        Assertions.assertEquals(1, wheel.levelOf("level1-high"));
+        Assertions.assertEquals(2, wheel.levelOf("level2"));
+        Assertions.assertEquals(3, wheel.levelOf("level3"));
+        Assertions.assertEquals(-2, wheel.levelOf("missing"));
+        Assertions.assertEquals(7, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Test Expiry - A Due Key Expires on the Next Advance, Others Exactly at Their Deadline")
+    void testExpiresAtDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, clock);
+        wheel.schedule("past", clock - 5);
+        wheel.schedule("soon", clock + 10);
+
+        Assertions.assertEquals(List.of("past"), wheel.advance(clock));
+        Assertions.assertEquals(List.of(), wheel.advance(clock + 9));
+        Assertions.assertEquals(List.of("soon"), wheel.advance(clock + 10));
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Test Cascade - Keys Move Down a Level When the 64 and 4096 Tick Boundaries Wrap")
+    void testCascadesAcrossBoundaries() {
+        // start off the boundary, so the first cascade comes before a full level has passed
+        clock = 10;
+        TimerWheel<String> wheel = new TimerWheel<>(1, clock);
+        wheel.schedule("at-128", 128);
+        wheel.schedule("after-128", 130);
+        wheel.schedule("at-4096", 4096);
+        wheel.schedule("after-4096", 4096 + 70);
+        Assertions.assertEquals(1, wheel.levelOf("at-128"));
+        Assertions.assertEquals(1, wheel.levelOf("after-128"));
+        Assertions.assertEquals(1, wheel.levelOf("at-4096"));
+        Assertions.assertEquals(2, wheel.levelOf("after-4096"));
+
+        Assertions.assertEquals(List.of(), wheel.advance(127));
+        Assertions.assertEquals(List.of("at-128"), wheel.advance(128));
+        Assertions.assertEquals(0, wheel.levelOf("after-128"));
+        Assertions.assertEquals(List.of(), wheel.advance(129));
+        Assertions.assertEquals(List.of("after-128"), wheel.advance(130));
+
+        Assertions.assertEquals(List.of(), wheel.advance(4095));
+        Assertions.assertEquals(1, wheel.levelOf("at-4096"));
+        Assertions.assertEquals(2, wheel.levelOf("after-4096"));
+        Assertions.assertEquals(List.of("at-4096"), wheel.advance(4096));
+        Assertions.assertEquals(1, wheel.levelOf("after-4096"));
+        Assertions.assertEquals(List.of(), wheel.advance(4096 + 69));
+        Assertions.assertEquals(List.of("after-4096"), wheel.advance(4096 + 70));
+    }
+
+    @Test
+    @DisplayName("Test Cascade - Every Deadline Across the Levels Expires on Its Own Tick")
+    void testEveryDeadlineExpiresOnTime() {
+        clock = 1_000;
+        TimerWheel<Long> wheel = new TimerWheel<>(1, clock);
+        List<Long> deadlines = new ArrayList<>();
+        for (long delta = 1; delta < 3 * LEVEL_2; delta += 37) {
+            deadlines.add(clock + delta);
+            wheel.schedule(clock + delta, clock + delta);
+        }
+
+        List<Long> expired = new ArrayList<>();
+        while (wheel.size() > 0) {
+            clock++;
+            List<Long> keys = wheel.advance(clock);
+            keys.forEach(key -> Assertions.assertEquals(clock, key));
+            expired.addAll(keys);
+        }
+        Assertions.assertEquals(deadlines, expired);
+    }
+
+    @Test
+    @DisplayName("Test Schedule - Re-Scheduling a Key Replaces Its Deadline")
+    void testRescheduleReplacesDeadline() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, clock);
+        wheel.schedule("task", clock + 100);
+        wheel.schedule("task", clock + 5000);
+        Assertions.assertEquals(1, wheel.size());
+        Assertions.assertEquals(2, wheel.levelOf("task"));
+        Assertions.assertEquals(List.of(), wheel.advance(clock + 100));
+
+        wheel.schedule("task", clock + 150);
+        Assertions.assertEquals(0, wheel.levelOf("task"));
+        Assertions.assertEquals(List.of("task"), wheel.advance(clock + 150));
+        Assertions.assertEquals(List.of(), wheel.advance(clock + 5000));
+        Assertions.assertFalse(wheel.contains("task"));
+    }
+
+    @Test
+    @DisplayName("Test Cancel - A Cancelled Key Never Expires")
+    void testCancel() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, clock);
+        wheel.schedule("due", clock - 1);
+        wheel.schedule("near", clock + 3);
+        wheel.schedule("far", clock + LEVEL_2 + 3);
+
+        Assertions.assertTrue(wheel.cancel("due"));
+        Assertions.assertTrue(wheel.cancel("far"));
+        Assertions.assertFalse(wheel.cancel("far"));
+        Assertions.assertFalse(wheel.cancel("missing"));
+        Assertions.assertEquals(List.of("near"), wheel.advance(clock + 2 * LEVEL_2));
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Test Clamp - Deadlines Beyond the Wheel Are Parked in the Last Level and Expire on Time")
+    void testClampAtMaxDelta() {
+        TimerWheel<String> wheel = new TimerWheel<>(1, clock);
+        wheel.schedule("edge", clock + MAX_DELTA);
+        wheel.schedule("beyond", clock + MAX_DELTA + 1000);
+        Assertions.assertEquals(3, wheel.levelOf("edge"));
+        Assertions.assertEquals(3, wheel.levelOf("beyond"));
+
+        Assertions.assertEquals(List.of(), wheel.advance(clock + MAX_DELTA - 1));
+        Assertions.assertEquals(List.of("edge"), wheel.advance(clock + MAX_DELTA));
+        Assertions.assertEquals(List.of(), wheel.advance(clock + MAX_DELTA + 999));
+        Assertions.assertEquals(List.of("beyond"), wheel.advance(clock + MAX_DELTA + 1000));
+    }
+
+    @Test
+    @DisplayName("Test Ticks - Deadlines Round Up to the Next Tick")
+    void testDeadlineRoundsUp() {
+        TimerWheel<String> wheel = new TimerWheel<>(1000, 0);
+        wheel.schedule("task", 1500);
+        Assertions.assertEquals(List.of(), wheel.advance(1999));
+        Assertions.assertEquals(List.of("task"), wheel.advance(2000));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TimerWheel<String>(0, 0));
+    }
+}
@@ -0,0 +1,160 @@
+package fs19.java.backend.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.NestedTestConfiguration;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput of GET /api/v1/workspace-users/my-workspaces at 200, 2k and 20k concurrent clients, once on Tomcat's
+ * platform threads and once on virtual threads with the connection-pool limiter. Every client sends its next request
+ * as soon as the previous one is answered. Clients and server share the JVM, so 20k clients need about 40k open files.
+ * Tagged benchmark, so only run with -Pbenchmark; -Dthreads.benchmark.clients=200,2000 and
+ * -Dthreads.benchmark.seconds=10 narrow the run.
+ */
+@Tag("benchmark")
+class ThreadModelLoadTest {
+
+    private static final Logger logger = LogManager.getLogger(ThreadModelLoadTest.class);
+
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=false", "server.tomcat.max-connections=30000", "server.tomcat.accept-count=1000"})
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Test
+        @DisplayName("Benchmark Platform Threads - 200, 2k and 20k Clients")
+        void benchmarkPlatformThreads() throws Exception {
+            runLevels("platform", port, objectMapper);
+        }
+    }
+
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=true", "server.tomcat.max-connections=30000", "server.tomcat.accept-count=1000"})
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Test
+        @DisplayName("Benchmark Virtual Threads - 200, 2k and 20k Clients")
+        void benchmarkVirtualThreads() throws Exception {
+            runLevels("virtual", port, objectMapper);
+        }
+    }
+
+    private static void runLevels(String mode, int port, ObjectMapper objectMapper) throws Exception {
+        int[] levels = Arrays.stream(System.getProperty("threads.benchmark.clients", "200,2000,20000").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim())).toArray();
+        Duration duration = Duration.ofSeconds(Long.getLong("threads.benchmark.seconds", 10));
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientThreads)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            String token = login(client, port, objectMapper);
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/workspace-users/my-workspaces"))
+                    .header("Authorization", token)
+                    .timeout(Duration.ofSeconds(60))
+                    .GET().build();
+            run(client, request, levels[0], Duration.ofSeconds(3));
+            for (int clients : levels) {
+                Result result = run(client, request, clients, duration);
+                logger.info("{} {} clients: {} req/s, {} ok, {} rejected (503), {} failed, p50 {} ms, p99 {} ms",
+                        mode, clients, String.format("%.1f", result.ok / (result.elapsedNanos / 1e9)), result.ok, result.rejected, result.failed,
+                        result.percentile(50), result.percentile(99));
+                Assertions.assertTrue(result.ok > 0);
+            }
+        }
+    }
+
+    private static String login(HttpClient client, int port, ObjectMapper objectMapper) throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"admin@gmail.com\",\"password\":\"123456789\"}"))
+                .build();
+        HttpResponse<String> response = client.send(login, HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body()).get("data").get("accessToken").asText();
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int clients, Duration duration) throws InterruptedException {
+        LongAdder ok = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder failed = new LongAdder();
+        List<long[]> latencies = new ArrayList<>();
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        List<Thread> threads = new ArrayList<>(clients);
+        for (int index = 0; index < clients; index++) {
+            long[] clientLatencies = new long[4096];
+            latencies.add(clientLatencies);
+            threads.add(Thread.ofVirtual().start(() -> {
+                int sent = 0;
+                while (System.nanoTime() < deadline) {
+                    long sentAt = System.nanoTime();
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 200) {
+                            ok.increment();
+                            clientLatencies[sent++ % clientLatencies.length] = System.nanoTime() - sentAt;
+                        } else if (status == 503) {
+                            rejected.increment();
+                        } else {
+                            failed.increment();
+                        }
+                    } catch (Exception e) {
+                        failed.increment();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // requests in flight at the deadline still count, so the rate is taken over the time until the last answer
+        long elapsedNanos = System.nanoTime() - started;
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).filter(latency -> latency > 0).sorted().toArray();
+        return new Result(ok.sum(), rejected.sum(), failed.sum(), elapsedNanos, all);
+    }
+
+    private record Result(long ok, long rejected, long failed, long elapsedNanos, long[] sortedLatencies) {
+
+        long percentile(int percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = Math.min(sortedLatencies.length - 1, sortedLatencies.length * percentile / 100);
+            return sortedLatencies[index] / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package fs19.java.backend.load;
+
+import fs19.java.backend.config.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Virtual-thread mode with a limiter that admits no request at all, so every request is turned away
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "concurrency.requests-per-connection=0",
+        "concurrency.acquire-timeout-ms=0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class VirtualThreadModeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Test
+    @Order(1)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Limiter - Request over the Limit Is Rejected with 503")
+    void testRequestOverLimitRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.status").value("ERROR"))
+                .andExpect(jsonPath("$.errors[0].message").isNotEmpty());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test Pinning Monitor - Sleep inside synchronized Is Reported")
+    void testPinnedThreadReported() throws Exception {
+        long pinnedBefore = pinningMonitor.getPinnedCount();
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+        // the JFR stream delivers its events about once a second
+        for (int attempt = 0; attempt < 50 && pinningMonitor.getPinnedCount() == pinnedBefore; attempt++) {
+            Thread.sleep(100);
+        }
+        Assertions.assertTrue(pinningMonitor.getPinnedCount() > pinnedBefore);
+    }
+}
@@ -0,0 +1,98 @@
+package fs19.java.backend.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fs19.java.backend.application.dto.task.TaskRequestDTO;
+import fs19.java.backend.domain.entity.Project;
+import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.Commit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A read and a write through the API show up in the Prometheus scrape, next to the pool, Hibernate and
+ * WebSocket meters
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Transactional
+@Commit
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectJpaRepo projectJpaRepo;
+
+    @Autowired
+    private UserJpaRepo userJpaRepo;
+
+    @Test
+    @Order(1)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Metrics - Read and Write Through the API")
+    void testRecordRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces"))
+                .andExpect(status().isOk());
+
+        Project project = projectJpaRepo.findAll().getFirst();
+        UUID userId = userJpaRepo.findAll().getFirst().getId();
+        TaskRequestDTO task = new TaskRequestDTO();
+        task.setName("Metrics Task");
+        task.setDescription("Description");
+        task.setDueDate(LocalDate.now().plusDays(2));
+        task.setTaskStatus("TODO");
+        task.setPriority("LOW_PRIORITY");
+        task.setProjectId(project.getId());
+        task.setCreatedUserId(userId);
+        task.setAssignedUserId(userId);
+        mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Test Prometheus - Scrape Without Logging In")
+    void testScrape() throws Exception {
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Assertions.assertTrue(scrape.contains("http_server_requests_seconds_bucket{"));
+        Assertions.assertTrue(scrape.contains("handler=\"WorkspaceController.getAllWorkspaces\""), "per-method tag");
+        Assertions.assertTrue(scrape.contains("spring_data_repository_invocations_seconds_bucket{"));
+        Assertions.assertTrue(scrape.contains("hikaricp_connections_active{"));
+        Assertions.assertTrue(scrape.contains("hibernate_"));
+        Assertions.assertTrue(scrape.contains("generic_event_processing_seconds_bucket{"));
+        Assertions.assertTrue(scrape.contains("entity=\"TASK\""));
+        Assertions.assertTrue(scrape.contains("websocket_sessions{"));
+        Assertions.assertTrue(scrape.contains("application=\"backend\""));
+
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
@@ -1,5 +1,6 @@
 package fs19.java.backend.notification;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -8,31 +9,48 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import fs19.java.backend.application.dto.notification.NotificationDTO;
+import fs19.java.backend.application.dto.page.KeysetCursor;
+import fs19.java.backend.application.service.NotificationService;
 import fs19.java.backend.domain.entity.Project;
 import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.domain.entity.enums.NotificationType;
 import fs19.java.backend.infrastructure.JpaRepositories.NotificationJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import fs19.java.backend.infrastructure.KeysetPager;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import jakarta.persistence.EntityManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.Commit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.UUID;
 
 @SpringBootTest
@@ -58,6 +76,17 @@ public class NotificationControllerTest {
     @Autowired
     private UserJpaRepo userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    private static final Logger logger = LogManager.getLogger(NotificationControllerTest.class);
+
     private static UUID testNotificationId;
     private static UUID testProjectId;
     private static UUID testMentionedById;
@@ -138,11 +167,11 @@ public class NotificationControllerTest {
     @WithMockUser(username = "admin", authorities = {"TEST-USER"})
     @DisplayName("Test Get All Notifications")
     public void testGetAllNotifications() throws Exception {
-        mockMvc.perform(get(BASE_URL))
+        mockMvc.perform(get(BASE_URL).param("size", "500"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code", is(200)))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].content").value("You have a new task assigned."));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[*].content", hasItem("You have a new task assigned.")));
     }
 
     @Test
@@ -154,6 +183,95 @@ public class NotificationControllerTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    @Order(6)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Create Notification - One Existence Query and One Insert")
+    public void testCreateNotificationQueryCount() throws Exception {
+        NotificationDTO request = new NotificationDTO();
+        request.setContent("Counted Notification");
+        request.setNotifyType(NotificationType.PROJECT_INVITATION);
+        request.setProjectId(testProjectId);
+        request.setMentionedBy(testMentionedById);
+        request.setMentionedTo(testMentionedToId);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.content", is("Counted Notification")));
+        entityManager.flush();
+
+        // one existence query for the project and both users, then the insert
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(1, referenceQueryCount(statistics));
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Count the existence queries run by ReferenceResolver, which all select the type index and id of each entity type.
+     */
+    private static long referenceQueryCount(Statistics statistics) {
+        return Arrays.stream(statistics.getQueries())
+                .filter(query -> query.startsWith("SELECT 0, e.id FROM "))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+    }
+
+    /**
+     * Read the first and a deep page of 1M notifications and export all of them, logging time and peak heap.
+     */
+    @Test
+    @Order(7)
+    @Tag("benchmark")
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Benchmark List and Export Notifications - 1M Rows")
+    public void benchmarkListAndExportNotifications() throws Exception {
+        int rows = 1_000_000;
+        jdbcTemplate.update("INSERT INTO notification (id, content, notify_type, created_date, is_read, project_id, mentioned_by_user_id, mentioned_to_user_id) " +
+                "SELECT gen_random_uuid(), 'Benchmark notification ' || n, 0, now(), false, ?, ?, ? FROM generate_series(1, ?) n",
+                testProjectId, testMentionedById, testMentionedToId, rows);
+        UUID deepId = jdbcTemplate.queryForObject("SELECT id FROM notification ORDER BY id OFFSET ? LIMIT 1", UUID.class, rows * 9 / 10);
+
+        for (String cursor : new String[]{null, KeysetCursor.encode(deepId)}) {
+            long started = System.nanoTime();
+            int runs = 20;
+            for (int run = 0; run < runs; run++) {
+                MockHttpServletRequestBuilder request = get(BASE_URL).param("size", String.valueOf(KeysetPager.MAX_PAGE_SIZE));
+                if (cursor != null) {
+                    request.param("cursor", cursor);
+                }
+                mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.size", is(KeysetPager.MAX_PAGE_SIZE)));
+            }
+            double averageMillis = (System.nanoTime() - started) / 1e6 / runs;
+            logger.info("{} page of {} notifications: {} ms", cursor == null ? "First" : "Deep", KeysetPager.MAX_PAGE_SIZE,
+                    String.format("%.1f", averageMillis));
+            Assertions.assertTrue(averageMillis < 500);
+        }
+
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP).toList();
+        System.gc();
+        long heapBefore = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long[] exported = {0};
+        long started = System.nanoTime();
+        notificationService.exportNotifications(notification -> exported[0]++);
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        logger.info("Exported {} notifications in {} ms, peak heap {} MB ({} MB before)", exported[0],
+                (System.nanoTime() - started) / 1_000_000, peakHeap >> 20, heapBefore >> 20);
+        Assertions.assertTrue(exported[0] >= rows);
+
+        jdbcTemplate.update("DELETE FROM notification WHERE content LIKE 'Benchmark notification %'");
+    }
+
     private void saveIdForExecuteTest(String responseContent) throws JsonProcessingException {
         GlobalResponse<NotificationDTO> response = objectMapper.readValue(responseContent, GlobalResponse.class);
         Object data = response.getData();
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -115,11 +116,11 @@ class PermissionControllerTest {
     @WithMockUser(username = "admin", authorities = {"TEST-USER"})
     @DisplayName("Test Get All Permissions")
     void testGetAllPermissions() throws Exception {
-        Permission first = permissionJpaRepo.findAll().getFirst();
+        Permission first = permissionJpaRepo.findAll(Sort.by("id")).getFirst();
         mockMvc.perform(get(BASE_URL))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].name").value(first.getName()));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[0].name").value(first.getName()));
     }
 
     @Test
@@ -2,6 +2,7 @@ package fs19.java.backend.project;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import fs19.java.backend.application.dto.project.ProjectCreateDTO;
+import fs19.java.backend.application.dto.project.ProjectPatchDTO;
 import fs19.java.backend.application.dto.project.ProjectUpdateDTO;
 import fs19.java.backend.domain.entity.Company;
 import fs19.java.backend.domain.entity.User;
@@ -11,6 +12,7 @@ import fs19.java.backend.infrastructure.JpaRepositories.CompanyJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceJpaRepo;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import jakarta.persistence.EntityManager;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,6 +20,7 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -35,6 +38,7 @@ import java.util.LinkedHashMap;
 import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -65,6 +69,9 @@ class ProjectControllerTest {
   @Autowired
   private CompanyJpaRepo companyJpaRepo;
 
+  @Autowired
+  private EntityManager entityManager;
+
   private User user;
   private Workspace workspace;
 
@@ -158,7 +165,7 @@ class ProjectControllerTest {
   void testGetAllProjects() throws Exception {
     mockMvc.perform(get(BASE_URL))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.data").isArray());
+        .andExpect(jsonPath("$.data.items").isArray());
   }
 
   @Test
@@ -167,7 +174,51 @@ class ProjectControllerTest {
   @DisplayName("Test Delete Project by ID")
   void testDeleteProjectById() throws Exception {
     mockMvc.perform(delete(BASE_URL + "/" + testProjectId))
-        .andExpect(status().isNoContent());
+        .andExpect(status().isAccepted());
+  }
+
+  @Test
+  @Order(6)
+  @WithMockUser(username = "admin@gmail.com", authorities = {"TEST-USER"})
+  @DisplayName("Test Patch Project with If-Match and Stale ETag")
+  void testPatchProjectConditionally() throws Exception {
+    ProjectCreateDTO request = ProjectCreateDTO.builder()
+            .name("Project 2")
+            .description("Description")
+            .startDate(LocalDate.now().plusDays(1))
+            .endDate(LocalDate.now().plusDays(30))
+            .createdByUserId(user.getId())
+            .workspaceId(workspace.getId())
+            .status(false)
+            .build();
+    String responseContent = mockMvc.perform(post(BASE_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    saveIdForExecuteTest(responseContent);
+
+    mockMvc.perform(patch(BASE_URL + "/" + testProjectId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(ProjectPatchDTO.builder().description("Patched Description").build())))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.description").value("Patched Description"))
+        .andExpect(jsonPath("$.data.name").value("Project 2"));
+    entityManager.flush();
+
+    mockMvc.perform(patch(BASE_URL + "/" + testProjectId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(ProjectPatchDTO.builder().status(true).build())))
+        .andExpect(status().isPreconditionFailed());
+
+    mockMvc.perform(get(BASE_URL + "/" + testProjectId))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+        .andExpect(jsonPath("$.data.status").value(false));
   }
 
   private void saveIdForExecuteTest(String responseContent) throws Exception {
@@ -4,14 +4,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import fs19.java.backend.application.dto.role.RolePermissionRequestDTO;
 import fs19.java.backend.application.dto.role.RolePermissionResponseDTO;
+import fs19.java.backend.domain.abstraction.RolePermissionRepository;
 import fs19.java.backend.domain.entity.Permission;
 import fs19.java.backend.domain.entity.Role;
+import fs19.java.backend.domain.entity.RolePermission;
 import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.domain.entity.enums.PermissionType;
 import fs19.java.backend.infrastructure.JpaRepositories.PermissionJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.RoleJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.RolePermissionJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -21,7 +27,9 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,6 +65,15 @@ class RolePermissionControllerTest {
     @Autowired
     private PermissionJpaRepo permissionJpaRepo;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+
+    @Autowired
+    private RolePermissionJpaRepo rolePermissionJpaRepo;
+
     @BeforeAll
     static void setup(@Autowired PermissionJpaRepo permissionJpaRepo,
                       @Autowired RoleJpaRepo roleJpaRepo,
@@ -192,6 +209,74 @@ class RolePermissionControllerTest {
                 .andExpect(jsonPath("$.data").isArray());
     }
 
+    @Test
+    @Order(9)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Create Role-Permission - Role and Permission Attached as References")
+    void testCreateRolePermissionQueryCount() throws Exception {
+        RolePermissionRequestDTO request = new RolePermissionRequestDTO();
+        request.setRoleId(roleId);
+        request.setPermissionId(savedPermission.getId());
+        request.setCreated_user(userId);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        String responseContent = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        saveIdForExecuteTest(responseContent);
+
+        // duplicate check, one existence query for role and permission, the insert, then the activity log user check
+        // and insert; the user is a separate existence query, as the first one did not confirm it
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Role.class.getName()).getLoadCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Permission.class.getName()).getLoadCount());
+        Assertions.assertEquals(2, referenceQueryCount(statistics));
+        Assertions.assertEquals(5, statistics.getPrepareStatementCount());
+
+        mockMvc.perform(delete(BASE_URL + "/" + testRolePermissionId))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(10)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Save All Role-Permissions - Inserts Sent in One JDBC Batch")
+    void testSaveAllStatementCount() {
+        Role role = roleJpaRepo.findById(roleId).orElseThrow();
+        List<RolePermission> rolePermissions = List.of(new RolePermission(), new RolePermission());
+        rolePermissions.get(0).setRole(role);
+        rolePermissions.get(0).setPermission(savedPermission);
+        rolePermissions.get(1).setRole(role);
+        rolePermissions.get(1).setPermission(savedPermission2);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<RolePermission> saved = rolePermissionRepository.saveAll(rolePermissions);
+
+        // both rows go in one prepared INSERT, executed as a batch when saveAll commits
+        Assertions.assertEquals(2, statistics.getEntityStatistics(RolePermission.class.getName()).getInsertCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 1);
+        Assertions.assertEquals(2, rolePermissionJpaRepo.findAllById(saved.stream().map(RolePermission::getId).toList()).size());
+
+        rolePermissionJpaRepo.deleteAll(saved);
+    }
+
+    /**
+     * Count the existence queries run by ReferenceResolver, which all select the type index and id of each entity type.
+     */
+    private static long referenceQueryCount(Statistics statistics) {
+        return Arrays.stream(statistics.getQueries())
+                .filter(query -> query.startsWith("SELECT 0, e.id FROM "))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+    }
+
     @AfterAll
     static void cleanData(@Autowired PermissionJpaRepo permissionJpaRepo) {
         permissionJpaRepo.deleteById(savedPermission.getId());
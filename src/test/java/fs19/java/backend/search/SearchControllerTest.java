@@ -0,0 +1,262 @@
+package fs19.java.backend.search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fs19.java.backend.application.dto.comment.CommentRequestDTO;
+import fs19.java.backend.application.dto.task.TaskRequestDTO;
+import fs19.java.backend.domain.entity.Project;
+import fs19.java.backend.domain.entity.WorkspaceUser;
+import fs19.java.backend.infrastructure.InvertedIndex;
+import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.RoleJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceUserJpaRepo;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.Commit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The index is updated once a write commits, so every write below is checked by the next ordered test
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@Commit
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SearchControllerTest {
+
+    private static final Logger logger = LogManager.getLogger(SearchControllerTest.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectJpaRepo projectJpaRepo;
+
+    @Autowired
+    private UserJpaRepo userJpaRepo;
+
+    @Autowired
+    private WorkspaceJpaRepo workspaceJpaRepo;
+
+    @Autowired
+    private WorkspaceUserJpaRepo workspaceUserJpaRepo;
+
+    @Autowired
+    private RoleJpaRepo roleJpaRepo;
+
+    private static UUID workspaceId;
+    private static UUID testTaskId;
+    private static UUID testCommentId;
+
+    @Test
+    @Order(1)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Index - Create a Task and a Comment")
+    void testCreateSearchableTaskAndComment() throws Exception {
+        Project project = projectJpaRepo.findAll().getFirst();
+        workspaceId = project.getWorkspace().getId();
+        UUID userId = userJpaRepo.findAll().getFirst().getId();
+
+        TaskRequestDTO task = new TaskRequestDTO();
+        task.setName("Quokkaline migration");
+        task.setDescription("Move the billing tables to the new cluster");
+        task.setDueDate(LocalDate.now().plusDays(2));
+        task.setTaskStatus("TODO");
+        task.setPriority("LOW_PRIORITY");
+        task.setProjectId(project.getId());
+        task.setCreatedUserId(userId);
+        task.setAssignedUserId(userId);
+        testTaskId = readId(mockMvc.perform(post("/api/v1/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+
+        CommentRequestDTO comment = new CommentRequestDTO();
+        comment.setTaskId(testTaskId);
+        comment.setContent("Wombatrix replicas lag behind during the cluster copy");
+        comment.setCreatedBy(userId);
+        testCommentId = readId(mockMvc.perform(post("/api/v1/comments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(comment)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    @Test
+    @Order(2)
+    @WithMockUser(username = "admin@gmail.com", authorities = {"TEST-USER"})
+    @DisplayName("Test Search - Prefix of the Task Name and a Word of the Comment")
+    void testSearch() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/" + workspaceId + "/search").param("q", "billing quokka"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalCount").value(1))
+                .andExpect(jsonPath("$.data.items[0].type").value("TASK"))
+                .andExpect(jsonPath("$.data.items[0].id").value(testTaskId.toString()))
+                .andExpect(jsonPath("$.data.items[0].title").value("Quokkaline migration"));
+
+        mockMvc.perform(get("/api/v1/workspaces/" + workspaceId + "/search").param("q", "wombatrix").param("type", "COMMENT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalCount").value(1))
+                .andExpect(jsonPath("$.data.items[0].id").value(testCommentId.toString()))
+                .andExpect(jsonPath("$.data.items[0].taskId").value(testTaskId.toString()))
+                .andExpect(jsonPath("$.data.items[0].title").value("Quokkaline migration"));
+
+        // the task description and the comment both mention the cluster, one per page
+        JsonNode firstPage = objectMapper.readTree(mockMvc.perform(get("/api/v1/workspaces/" + workspaceId + "/search")
+                        .param("q", "cluster").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalCount").value(2))
+                .andExpect(jsonPath("$.data.size").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString()).get("data");
+        JsonNode secondPage = objectMapper.readTree(mockMvc.perform(get("/api/v1/workspaces/" + workspaceId + "/search")
+                        .param("q", "cluster").param("size", "1").param("cursor", firstPage.get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+                .andReturn().getResponse().getContentAsString()).get("data");
+        Assertions.assertEquals(Set.of(testTaskId.toString(), testCommentId.toString()),
+                Set.of(firstPage.get("items").get(0).get("id").asText(), secondPage.get("items").get(0).get("id").asText()));
+
+        mockMvc.perform(get("/api/v1/workspaces/" + workspaceId + "/search").param("q", "cluster").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/workspaces/" + UUID.randomUUID() + "/search").param("q", "quokkaline"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @Order(3)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Index - Delete the Comment")
+    void testDeleteComment() throws Exception {
+        mockMvc.perform(delete("/api/v1/comments/" + testCommentId))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @Order(4)
+    @WithMockUser(username = "admin@gmail.com", authorities = {"TEST-USER"})
+    @DisplayName("Test Search - Deleted Comment Is No Longer Found")
+    void testSearchAfterDelete() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces/" + workspaceId + "/search").param("q", "wombatrix"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalCount").value(0));
+    }
+
+    @Test
+    @Order(5)
+    @WithMockUser(username = "test@gmail.com", authorities = {"TEST-USER"})
+    @DisplayName("Test Search - Member of Another Workspace Is Forbidden")
+    void testSearchOtherWorkspaceForbidden() throws Exception {
+        WorkspaceUser membership = new WorkspaceUser();
+        membership.setUser(userJpaRepo.findByEmail("test@gmail.com").orElseThrow());
+        membership.setRole(roleJpaRepo.findAll().getFirst());
+        membership.setWorkspace(workspaceJpaRepo.findAll().stream()
+                .filter(workspace -> !workspace.getId().equals(workspaceId))
+                .findFirst()
+                .orElseThrow());
+        workspaceUserJpaRepo.save(membership);
+
+        mockMvc.perform(get("/api/v1/workspaces/" + workspaceId + "/search").param("q", "quokkaline"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/workspaces/" + membership.getWorkspace().getId() + "/search").param("q", "quokkaline"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalCount").value(0));
+
+        workspaceUserJpaRepo.delete(membership);
+    }
+
+    /**
+     * Index, query and snapshot 1M synthetic documents with a Zipf-like vocabulary.
+     * Needs a heap of at least 2 GB.
+     */
+    @Test
+    @Order(6)
+    @Tag("benchmark")
+    @DisplayName("Benchmark Search Index - 1M Documents")
+    void benchmarkSearchIndex() throws Exception {
+        int documents = 1_000_000;
+        Random random = new Random(42);
+        String[] vocabulary = new String[50_000];
+        for (int word = 0; word < vocabulary.length; word++) {
+            vocabulary[word] = Long.toString(word * 2654435761L % 1_000_000_007L, 36);
+        }
+        UUID projectId = UUID.randomUUID();
+        InvertedIndex index = new InvertedIndex();
+        long started = System.nanoTime();
+        StringBuilder body = new StringBuilder();
+        for (int document = 0; document < documents; document++) {
+            body.setLength(0);
+            int words = 5 + random.nextInt(20);
+            for (int word = 0; word < words; word++) {
+                int rank = (int) Math.pow(vocabulary.length, random.nextDouble()) - 1;
+                body.append(vocabulary[rank]).append(' ');
+            }
+            UUID id = UUID.randomUUID();
+            index.put(id, document % 5 == 0 ? 1 : 0, id, projectId, 0, vocabulary[random.nextInt(vocabulary.length)], body.toString());
+        }
+        logger.info("Indexed {} documents in {} ms", documents, (System.nanoTime() - started) / 1_000_000);
+
+        String[] queries = {vocabulary[3], vocabulary[3] + " " + vocabulary[50], vocabulary[2000], vocabulary[7].substring(0, 2),
+                vocabulary[1] + " " + vocabulary[400].substring(0, 3)};
+        for (String query : queries) {
+            for (int warmup = 0; warmup < 20; warmup++) {
+                index.search(query, null, 0, 20);
+            }
+            int runs = 200;
+            int total = 0;
+            started = System.nanoTime();
+            for (int run = 0; run < runs; run++) {
+                total = index.search(query, null, 0, 20).total();
+            }
+            double averageMillis = (System.nanoTime() - started) / 1e6 / runs;
+            logger.info("Query '{}': {} matches, {} ms per top-20 page", query, total, String.format("%.3f", averageMillis));
+            Assertions.assertTrue(averageMillis < 100);
+        }
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        started = System.nanoTime();
+        index.writeTo(new DataOutputStream(snapshot));
+        logger.info("Snapshot of {} MB written in {} ms", snapshot.size() >> 20, (System.nanoTime() - started) / 1_000_000);
+        started = System.nanoTime();
+        InvertedIndex restored = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(snapshot.toByteArray())));
+        logger.info("Snapshot read back in {} ms", (System.nanoTime() - started) / 1_000_000);
+        Assertions.assertEquals(index.size(), restored.size());
+        Assertions.assertEquals(index.search(queries[1], null, 0, 20), restored.search(queries[1], null, 0, 20));
+    }
+
+    private UUID readId(String responseContent) throws Exception {
+        JsonNode data = objectMapper.readTree(responseContent).get("data");
+        return UUID.fromString(data.get("id").asText());
+    }
+}
@@ -1,31 +1,73 @@
 package fs19.java.backend.task;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+import fs19.java.backend.application.TaskDueDateScheduler;
+import fs19.java.backend.application.TaskServiceImpl;
+import fs19.java.backend.application.dto.task.TaskAttachmentDTO;
+import fs19.java.backend.application.dto.task.TaskBulkItemDTO;
+import fs19.java.backend.application.dto.task.TaskBulkOperation;
+import fs19.java.backend.application.dto.task.TaskBulkRequestDTO;
+import fs19.java.backend.application.dto.task.TaskPatchDTO;
 import fs19.java.backend.application.dto.task.TaskRequestDTO;
 import fs19.java.backend.application.dto.task.TaskResponseDTO;
+import fs19.java.backend.application.mapper.TaskMapper;
+import fs19.java.backend.application.service.ProjectBoardSummaryService;
+import fs19.java.backend.domain.abstraction.TaskRepository;
+import fs19.java.backend.domain.entity.Project;
+import fs19.java.backend.domain.entity.Task;
+import fs19.java.backend.domain.entity.User;
 import fs19.java.backend.infrastructure.JpaRepositories.ProjectJpaRepo;
+import fs19.java.backend.infrastructure.JpaRepositories.TaskJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
 import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
 import fs19.java.backend.presentation.shared.response.GlobalResponse;
+import fs19.java.backend.presentation.shared.status.ResponseStatus;
+import jakarta.persistence.EntityManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.Commit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.lang.management.ManagementFactory;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,8 +89,23 @@ class TaskControllerTest {
     private UserJpaRepo userJpaRepo;
     @Autowired
     private ProjectJpaRepo projectJpaRepo;
+    @Autowired
+    private TaskJpaRepo taskJpaRepo;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TaskDueDateScheduler dueDateScheduler;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ProjectBoardSummaryService boardSummaryService;
+
+    private static final Logger logger = LogManager.getLogger(TaskControllerTest.class);
 
     private static UUID testTaskId;
+    private static UUID attachmentTaskId;
     private static final String BASE_URL = "/api/v1/tasks";
 
     @BeforeEach
@@ -183,6 +240,719 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.data").isArray());
     }
 
+    @Test
+    @Order(10)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Search Tasks")
+    void testSearchTasks() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/search")
+                        .param("projectId", projectJpaRepo.findAll().getFirst().getId().toString())
+                        .param("taskStatus", "TODO")
+                        .param("sortBy", "createdDate")
+                        .param("direction", "ASC")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.size").value(lessThanOrEqualTo(1)));
+    }
+
+    @Test
+    @Order(11)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Search Tasks - Unsupported Sort Field")
+    void testSearchTasksWithInvalidSort() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/search").param("sortBy", "name"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(12)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Board Summary Counters Follow Task Create, Update, Move and Delete")
+    void testGetBoardSummary() throws Exception {
+        UUID projectId = projectJpaRepo.findAll().getFirst().getId();
+        UUID userId = userJpaRepo.findAll().getFirst().getId();
+        JsonNode before = getBoardSummary(projectId);
+        Assertions.assertTrue(before.get("overdueCount").asLong() >= 0);
+
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setName("Board Summary Task");
+        request.setDescription("Task created to move the board summary counters.");
+        request.setDueDate(LocalDate.now().plusDays(2));
+        request.setTaskStatus("TODO");
+        request.setPriority("LOW_PRIORITY");
+        request.setProjectId(projectId);
+        request.setCreatedUserId(userId);
+        request.setAssignedUserId(userId);
+        String responseContent = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID taskId = UUID.fromString(objectMapper.readTree(responseContent).get("data").get("id").asText());
+        assertBoardSummaryDelta(before, getBoardSummary(projectId), 1, Map.of("TODO", 1L), Map.of("LOW_PRIORITY", 1L));
+
+        request.setPriority("HIGH_PRIORITY");
+        mockMvc.perform(put(BASE_URL + "/" + taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        assertBoardSummaryDelta(before, getBoardSummary(projectId), 1, Map.of("TODO", 1L), Map.of("HIGH_PRIORITY", 1L));
+
+        request.setTaskStatus("IN_DEVELOPMENT");
+        mockMvc.perform(put(BASE_URL + "/" + taskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        assertBoardSummaryDelta(before, getBoardSummary(projectId), 1, Map.of("IN_DEVELOPMENT", 1L), Map.of("HIGH_PRIORITY", 1L));
+
+        mockMvc.perform(delete(BASE_URL + "/" + taskId))
+                .andExpect(status().isOk());
+        assertBoardSummaryDelta(before, getBoardSummary(projectId), 0, Map.of(), Map.of());
+    }
+
+    /**
+     * Read the board summary of a project. The test transaction is flushed and cleared first,
+     * so the counter rows are read again after the upserts instead of from the persistence context.
+     */
+    private JsonNode getBoardSummary(UUID projectId) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        String responseContent = mockMvc.perform(get(BASE_URL + "/project/" + projectId + "/board-summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.projectId").value(projectId.toString()))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(responseContent).get("data");
+    }
+
+    /**
+     * Assert that every counter moved by exactly the expected delta, and all the other counters did not move.
+     */
+    private void assertBoardSummaryDelta(JsonNode before, JsonNode after, long totalDelta,
+                                         Map<String, Long> statusDeltas, Map<String, Long> priorityDeltas) {
+        Assertions.assertEquals(before.get("totalCount").asLong() + totalDelta, after.get("totalCount").asLong());
+        before.get("statusCounts").fields().forEachRemaining(count -> Assertions.assertEquals(
+                count.getValue().asLong() + statusDeltas.getOrDefault(count.getKey(), 0L),
+                after.get("statusCounts").get(count.getKey()).asLong(), count.getKey()));
+        before.get("priorityCounts").fields().forEachRemaining(count -> Assertions.assertEquals(
+                count.getValue().asLong() + priorityDeltas.getOrDefault(count.getKey(), 0L),
+                after.get("priorityCounts").get(count.getKey()).asLong(), count.getKey()));
+    }
+
+    @Test
+    @Order(13)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Bulk Create and Move Tasks")
+    void testBulkTasks() throws Exception {
+        UUID projectId = projectJpaRepo.findAll().getFirst().getId();
+        TaskRequestDTO task = new TaskRequestDTO();
+        task.setName("Bulk Task");
+        task.setDescription("Task created by the bulk endpoint.");
+        task.setDueDate(LocalDate.now().plusDays(2));
+        task.setTaskStatus("TODO");
+        task.setPriority("LOW_PRIORITY");
+        task.setProjectId(projectId);
+        task.setCreatedUserId(userJpaRepo.findAll().getFirst().getId());
+        task.setAssignedUserId(userJpaRepo.findAll().getFirst().getId());
+        TaskRequestDTO move = new TaskRequestDTO();
+        move.setTaskStatus("COMPLETE");
+        JsonNode before = getBoardSummary(projectId);
+        long notificationsBefore = countNotifications(projectId);
+
+        TaskBulkRequestDTO request = new TaskBulkRequestDTO(List.of(
+                new TaskBulkItemDTO(TaskBulkOperation.CREATE, null, task),
+                new TaskBulkItemDTO(TaskBulkOperation.CREATE, null, task),
+                new TaskBulkItemDTO(TaskBulkOperation.MOVE, UUID.randomUUID(), move)));
+
+        String responseContent = mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.succeeded").value(2))
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.results[0].status").value("SUCCESSFULLY_CREATED"))
+                .andExpect(jsonPath("$.data.results[0].taskId").isNotEmpty())
+                .andExpect(jsonPath("$.data.results[1].status").value("SUCCESSFULLY_CREATED"))
+                .andExpect(jsonPath("$.data.results[2].status").value("INVALID_INFORMATION_TASK_DETAILS_NOT_FOUND"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        JsonNode results = objectMapper.readTree(responseContent).get("data").get("results");
+        List<UUID> taskIds = List.of(UUID.fromString(results.get(0).get("taskId").asText()), UUID.fromString(results.get(1).get("taskId").asText()));
+
+        // one activity log row per task, one board summary upsert per bucket and one notification for the project
+        JsonNode afterCreate = getBoardSummary(projectId);
+        Assertions.assertEquals(2, countActivityLogs(taskIds, "CREATED"));
+        assertBoardSummaryDelta(before, afterCreate, 2, Map.of("TODO", 2L), Map.of("LOW_PRIORITY", 2L));
+        Assertions.assertEquals(notificationsBefore + 1, countNotifications(projectId));
+
+        mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(List.of(
+                                new TaskBulkItemDTO(TaskBulkOperation.MOVE, taskIds.get(0), move, 0L),
+                                new TaskBulkItemDTO(TaskBulkOperation.MOVE, taskIds.get(1), move))))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.succeeded").value(2));
+
+        Assertions.assertEquals(2, countActivityLogs(taskIds, "UPDATED"));
+        JsonNode afterMove = getBoardSummary(projectId);
+        assertBoardSummaryDelta(afterCreate, afterMove, 0, Map.of("TODO", -2L, "COMPLETE", 2L), Map.of());
+        Assertions.assertEquals(notificationsBefore + 2, countNotifications(projectId));
+
+        // the move bumped both tasks to version 1, so an item still holding version 0 is rejected and nothing changes
+        TaskRequestDTO moveBack = new TaskRequestDTO();
+        moveBack.setTaskStatus("TODO");
+        mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(List.of(
+                                new TaskBulkItemDTO(TaskBulkOperation.MOVE, taskIds.get(0), moveBack, 0L))))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.succeeded").value(0))
+                .andExpect(jsonPath("$.data.results[0].status").value("TASK_VERSION_MISMATCH"));
+
+        Assertions.assertEquals(2, countActivityLogs(taskIds, "UPDATED"));
+        assertBoardSummaryDelta(afterMove, getBoardSummary(projectId), 0, Map.of(), Map.of());
+    }
+
+    private long countActivityLogs(List<UUID> entityIds, String action) {
+        entityManager.flush();
+        return entityIds.stream()
+                .mapToLong(entityId -> jdbcTemplate.queryForObject("SELECT count(*) FROM activity_log WHERE entity_id = ? AND action = ?",
+                        Long.class, entityId, action))
+                .sum();
+    }
+
+    private long countNotifications(UUID projectId) {
+        entityManager.flush();
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM notification WHERE project_id = ?", Long.class, projectId);
+    }
+
+    @Test
+    @Order(14)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Tasks by Assigned User - Projection Avoids User Lookup and Entity Hydration")
+    void testTasksByAssignedUserProjection() {
+        UUID assignedUserId = userJpaRepo.findAll().getFirst().getId();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // previous implementation: load the user, query by example, then map the hydrated Task entities
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        Task probe = new Task();
+        probe.setAssignedUser(userJpaRepo.findById(assignedUserId).orElse(null));
+        List<TaskResponseDTO> hydrated = TaskMapper.toTaskResponseDTOs(
+                taskJpaRepo.findAll(Example.of(probe, ExampleMatcher.matchingAll().withIgnoreNullValues().withIgnorePaths("commentCount"))), ResponseStatus.SUCCESSFULLY_FOUND);
+        long hydratedBytes = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        long hydratedStatements = statistics.getPrepareStatementCount();
+        long hydratedEntities = statistics.getEntityLoadCount();
+
+        entityManager.clear();
+        statistics.clear();
+        allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        List<TaskResponseDTO> projected = taskJpaRepo.findResponsesByAssignedUserId(assignedUserId, Pageable.unpaged());
+        long projectedBytes = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        long projectedStatements = statistics.getPrepareStatementCount();
+        long projectedEntities = statistics.getEntityLoadCount();
+
+        logger.info("Tasks by assignee ({} rows): hydrated {} statements, {} entities, {} bytes; projected {} statements, {} entities, {} bytes",
+                projected.size(), hydratedStatements, hydratedEntities, hydratedBytes, projectedStatements, projectedEntities, projectedBytes);
+        Assertions.assertEquals(hydrated.size(), projected.size());
+        Assertions.assertEquals(1, projectedStatements);
+        Assertions.assertEquals(0, projectedEntities);
+        Assertions.assertTrue(hydratedStatements >= 2);
+        Assertions.assertTrue(hydratedEntities > projectedEntities);
+    }
+
+    @Test
+    @Order(15)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Task Attachments - Create with Metadata, then Add and Remove as Deltas")
+    void testTaskAttachments() throws Exception {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setName("Attachment Task");
+        request.setTaskStatus("TODO");
+        request.setPriority("LOW_PRIORITY");
+        request.setProjectId(projectJpaRepo.findAll().getFirst().getId());
+        request.setCreatedUserId(userJpaRepo.findAll().getFirst().getId());
+        request.setAssignedUserId(userJpaRepo.findAll().getFirst().getId());
+        request.setAttachments(List.of(
+                new TaskAttachmentDTO("spec, v2.pdf", 1024L, "application/pdf", "9f86d081884c7d659a2feaa0c55ad015"),
+                TaskAttachmentDTO.ofFileName("notes.txt")));
+
+        String responseContent = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.attachments.length()").value(2))
+                .andExpect(jsonPath("$.data.attachments[?(@.fileName == 'spec, v2.pdf')].sizeBytes").value(1024))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        attachmentTaskId = readTaskId(responseContent);
+
+        request.setAttachments(null);
+        request.setAddedAttachments(List.of(new TaskAttachmentDTO("diagram.png", 2048L, "image/png", null)));
+        request.setRemovedAttachments(List.of("notes.txt"));
+        mockMvc.perform(put(BASE_URL + "/" + attachmentTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.attachments.length()").value(2))
+                .andExpect(jsonPath("$.data.attachments[?(@.fileName == 'notes.txt')]").isEmpty())
+                .andExpect(jsonPath("$.data.attachments[?(@.fileName == 'diagram.png')].contentType").value("image/png"));
+    }
+
+    @Test
+    @Order(16)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Task Conditional Update - ETag, Patch with If-Match and Stale Write")
+    void testTaskConditionalUpdate() throws Exception {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setName("Conditional Task");
+        request.setTaskStatus("TODO");
+        request.setPriority("LOW_PRIORITY");
+        request.setProjectId(projectJpaRepo.findAll().getFirst().getId());
+        request.setCreatedUserId(userJpaRepo.findAll().getFirst().getId());
+        request.setAssignedUserId(userJpaRepo.findAll().getFirst().getId());
+        String responseContent = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        saveIdForExecuteTest(responseContent);
+
+        mockMvc.perform(get(BASE_URL + "/" + testTaskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        // the patch carries only the changed field, so the client does not need to read the task first
+        TaskPatchDTO patchDTO = TaskPatchDTO.builder().taskStatus("IN_DEVELOPMENT").build();
+        mockMvc.perform(patch(BASE_URL + "/" + testTaskId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.taskStatus").value("IN_DEVELOPMENT"))
+                .andExpect(jsonPath("$.data.name").value("Conditional Task"));
+        entityManager.flush();
+
+        // a second client still holding the first ETag must not overwrite the change
+        mockMvc.perform(patch(BASE_URL + "/" + testTaskId)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TaskPatchDTO.builder().taskStatus("COMPLETE").build())))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get(BASE_URL + "/" + testTaskId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isNotModified());
+
+        // a tag that is not a version is a bad request, not a failed precondition or a server error
+        mockMvc.perform(patch(BASE_URL + "/" + testTaskId)
+                        .header(HttpHeaders.IF_MATCH, "\"v1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(patchDTO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].message").value("Invalid request: Malformed entity tag: \"v1\""));
+        request.setName("Malformed Tag Task");
+        mockMvc.perform(put(BASE_URL + "/" + testTaskId)
+                        .header(HttpHeaders.IF_MATCH, "W/abc")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Order(17)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Create Task - Users and Project Attached as References, Checked with One Query")
+    void testCreateTaskQueryCount() throws Exception {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setName("Reference Task");
+        request.setTaskStatus("TODO");
+        request.setPriority("LOW_PRIORITY");
+        request.setProjectId(projectJpaRepo.findAll().getFirst().getId());
+        request.setCreatedUserId(userJpaRepo.findAll().getFirst().getId());
+        request.setAssignedUserId(userJpaRepo.findAll().getFirst().getId());
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        String responseContent = mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        entityManager.flush();
+        saveIdForExecuteTest(responseContent);
+
+        // one existence query, the task insert, the board lock and two board summary upserts, the attachments read for the response,
+        // one names query for the notification, then the log and notification inserts
+        logger.info("Create task: {} statements, {} reference queries, {} entities loaded", statistics.getPrepareStatementCount(),
+                referenceQueryCount(statistics), statistics.getEntityLoadCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Project.class.getName()).getLoadCount());
+        Assertions.assertEquals(1, referenceQueryCount(statistics));
+        Assertions.assertEquals(9, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Order(24)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Update Task - Users and Project Attached as References, Checked with One Query")
+    void testUpdateTaskQueryCount() throws Exception {
+        TaskRequestDTO request = new TaskRequestDTO();
+        request.setName("Updated Reference Task");
+        request.setTaskStatus("IN_DEVELOPMENT");
+        request.setPriority("LOW_PRIORITY");
+        request.setProjectId(projectJpaRepo.findAll().getFirst().getId());
+        request.setCreatedUserId(userJpaRepo.findAll().getFirst().getId());
+        request.setAssignedUserId(userJpaRepo.findAll().getFirst().getId());
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        mockMvc.perform(put(BASE_URL + "/" + testTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("Updated Reference Task"));
+        entityManager.flush();
+
+        // one existence query, the task load, the task update, the board lock and two board summary upserts for the status move, one names
+        // query for the notification, the attachments read for the response, then the log and notification inserts
+        logger.info("Update task: {} statements, {} reference queries, {} entities loaded", statistics.getPrepareStatementCount(),
+                referenceQueryCount(statistics), statistics.getEntityLoadCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Project.class.getName()).getLoadCount());
+        Assertions.assertEquals(1, referenceQueryCount(statistics));
+        Assertions.assertEquals(10, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Count the existence queries run by ReferenceResolver, which all select the type index and id of each entity type.
+     */
+    private static long referenceQueryCount(Statistics statistics) {
+        return Arrays.stream(statistics.getQueries())
+                .filter(query -> query.startsWith("SELECT 0, e.id FROM "))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+    }
+
+    @Test
+    @Order(18)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Overdue Flag - Set When the Due Date Passes, Cleared When It Moves")
+    void testOverdueFlag() throws Exception {
+        Task task = taskJpaRepo.findById(testTaskId).orElseThrow();
+        task.setDueDate(DateAndTime.getDateAndTime().minusDays(1));
+        task.setOverdueDate(null);
+        taskJpaRepo.saveAndFlush(task);
+
+        dueDateScheduler.track(task);
+        dueDateScheduler.tick();
+        entityManager.clear();
+        Assertions.assertNotNull(taskJpaRepo.findById(testTaskId).orElseThrow().getOverdueDate());
+
+        mockMvc.perform(patch(BASE_URL + "/" + testTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TaskPatchDTO.builder().dueDate(LocalDate.now().plusDays(2)).build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.overdueDate").value(nullValue()));
+    }
+
+    @Test
+    @Order(19)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Save All Tasks - Inserts Sent in JDBC Batches")
+    void testSaveAllStatementCount() {
+        int count = 120;
+        int batches = (count + 49) / 50;
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        Session session = entityManager.unwrap(Session.class);
+        List<Task> first = newTasks(count, "Batch Task");
+        List<Task> second = newTasks(count, "Batch Task");
+        entityManager.flush();
+        entityManager.clear();
+
+        // without batching every INSERT is prepared and executed on its own
+        session.setJdbcBatchSize(1);
+        statistics.clear();
+        List<Task> unbatched = taskRepository.saveAll(first);
+        long unbatchedStatements = statistics.getPrepareStatementCount();
+        session.setJdbcBatchSize(null);
+
+        // batched, the INSERT is prepared at most once per batch and the rows are added to it
+        statistics.clear();
+        List<Task> saved = taskRepository.saveAll(second);
+        long batchedStatements = statistics.getPrepareStatementCount();
+        logger.info("Save all {} new tasks: {} statements unbatched, {} batched", count, unbatchedStatements, batchedStatements);
+        Assertions.assertEquals(count, statistics.getEntityStatistics(Task.class.getName()).getInsertCount());
+        Assertions.assertEquals(count, unbatchedStatements);
+        Assertions.assertTrue(batchedStatements <= batches);
+        List<UUID> ids = saved.stream().map(Task::getId).toList();
+        entityManager.clear();
+        List<Task> stored = taskJpaRepo.findAllById(ids);
+        Assertions.assertEquals(count, stored.size());
+        Assertions.assertTrue(stored.stream().allMatch(task -> task.getVersion() == 0));
+
+        taskJpaRepo.deleteAllByIdInBatch(ids);
+        taskJpaRepo.deleteAllByIdInBatch(unbatched.stream().map(Task::getId).toList());
+    }
+
+    /**
+     * Insert 100k tasks through saveAll, once one statement per task as before and once in JDBC batches.
+     */
+    @Test
+    @Order(20)
+    @Tag("benchmark")
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Benchmark Save All - 100k Tasks")
+    void benchmarkSaveAll() {
+        int count = 100_000;
+        Session session = entityManager.unwrap(Session.class);
+        for (Integer batchSize : new Integer[]{1, null}) {
+            List<Task> tasks = newTasks(count, "Benchmark Task");
+            entityManager.flush();
+            entityManager.clear();
+            // a batch size of 1 sends every INSERT on its own; null falls back to hibernate.jdbc.batch_size
+            session.setJdbcBatchSize(batchSize);
+            long started = System.nanoTime();
+            List<Task> saved = taskRepository.saveAll(tasks);
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            logger.info("Save all {} tasks, batch size {}: {} ms, {} rows/s", count, batchSize == null ? "50" : batchSize,
+                    millis, count * 1000L / millis);
+            Assertions.assertEquals(count, saved.size());
+            entityManager.createQuery("DELETE FROM Task t WHERE t.name LIKE 'Benchmark Task %'").executeUpdate();
+        }
+        session.setJdbcBatchSize(null);
+    }
+
+    @Test
+    @Order(21)
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Test Search Tasks - Following nextCursor Returns Every Match Once")
+    void testSearchTasksFollowsCursor() throws Exception {
+        // seven tasks on two created dates and two due dates, far enough ahead that no other task is in the range
+        ZonedDateTime firstCreated = ZonedDateTime.of(2099, 3, 1, 10, 0, 0, 123_456_000, ZoneId.systemDefault());
+        List<Task> tasks = newTasks(7, "Cursor Task");
+        for (int index = 0; index < tasks.size(); index++) {
+            tasks.get(index).setCreatedDate(index < 4 ? firstCreated : firstCreated.plusSeconds(1));
+            tasks.get(index).setDueDate(firstCreated.plusDays(index % 2));
+        }
+        Set<UUID> expected = taskJpaRepo.saveAllAndFlush(tasks).stream().map(Task::getId).collect(Collectors.toSet());
+
+        for (String sortBy : new String[]{"createdDate", "dueDate"}) {
+            for (String direction : new String[]{"ASC", "DESC"}) {
+                List<UUID> found = new ArrayList<>();
+                String cursor = null;
+                int pages = 0;
+                do {
+                    MockHttpServletRequestBuilder request = get(BASE_URL + "/search")
+                            .param("projectId", tasks.getFirst().getProject().getId().toString())
+                            .param("dueFrom", "2099-03-01")
+                            .param("dueTo", "2099-03-02")
+                            .param("sortBy", sortBy)
+                            .param("direction", direction)
+                            .param("size", "3");
+                    if (cursor != null) {
+                        request.param("cursor", cursor);
+                    }
+                    JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                            .andExpect(status().isOk())
+                            .andReturn()
+                            .getResponse()
+                            .getContentAsString()).get("data");
+                    page.get("items").forEach(item -> found.add(UUID.fromString(item.get("id").asText())));
+                    cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+                    pages++;
+                } while (cursor != null);
+                Assertions.assertEquals(3, pages, sortBy + " " + direction);
+                Assertions.assertEquals(expected.size(), found.size(), sortBy + " " + direction);
+                Assertions.assertEquals(expected, new HashSet<>(found), sortBy + " " + direction);
+            }
+        }
+
+        // a cursor only continues the order it was issued for
+        String projectId = tasks.getFirst().getProject().getId().toString();
+        String createdAscCursor = objectMapper.readTree(mockMvc.perform(get(BASE_URL + "/search")
+                        .param("projectId", projectId).param("dueFrom", "2099-03-01").param("dueTo", "2099-03-02")
+                        .param("sortBy", "createdDate").param("direction", "ASC").param("size", "3"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("data").get("nextCursor").asText();
+        mockMvc.perform(get(BASE_URL + "/search").param("projectId", projectId)
+                        .param("sortBy", "dueDate").param("direction", "ASC").param("cursor", createdAscCursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].message").value("Invalid request: Cursor was issued for order createdDate:ASC, not dueDate:ASC"));
+        mockMvc.perform(get(BASE_URL + "/search").param("projectId", projectId)
+                        .param("sortBy", "createdDate").param("direction", "DESC").param("cursor", createdAscCursor))
+                .andExpect(status().isBadRequest());
+
+        taskJpaRepo.deleteAllByIdInBatch(expected);
+    }
+
+    /**
+     * Search 5M tasks of one project by status, assignee and workspace, on the first page and on a page deep
+     * into the result, logging the average time of each query.
+     */
+    @Test
+    @Order(22)
+    @Tag("benchmark")
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Benchmark Search Tasks - 5M Tasks")
+    void benchmarkSearchTasks() throws Exception {
+        int rows = 5_000_000;
+        Project project = projectJpaRepo.findAll().getFirst();
+        User user = userJpaRepo.findAll().getFirst();
+        long started = System.nanoTime();
+        jdbcTemplate.update("INSERT INTO task (id, name, created_date, due_date, task_status, priority, project_id, createduser_id, " +
+                        "assigneduser_id, version, comment_count) " +
+                        "SELECT gen_random_uuid(), 'Benchmark search task ' || n, now() - n * interval '10 seconds', " +
+                        "now() + interval '2 days' + (n % 700) * interval '1 day', 1 + n % 4, 1 + n % 3, ?, ?, ?, 0, 0 " +
+                        "FROM generate_series(1, ?) n",
+                project.getId(), user.getId(), user.getId(), rows);
+        jdbcTemplate.execute("ANALYZE task");
+        logger.info("Inserted {} tasks in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+
+        Map<String, Map<String, String>> queries = new LinkedHashMap<>();
+        queries.put("project and status by created date", Map.of("projectId", project.getId().toString(), "taskStatus", "TODO",
+                "sortBy", "createdDate"));
+        queries.put("assignee and status by due date", Map.of("assignedUserId", user.getId().toString(), "taskStatus", "IN_DEVELOPMENT",
+                "sortBy", "dueDate", "direction", "ASC"));
+        queries.put("workspace, priority and due range by due date", Map.of("workspaceId", project.getWorkspace().getId().toString(),
+                "priority", "HIGH_PRIORITY", "dueFrom", LocalDate.now().plusDays(100).toString(),
+                "dueTo", LocalDate.now().plusDays(400).toString(), "sortBy", "dueDate", "direction", "ASC"));
+        for (Map.Entry<String, Map<String, String>> query : queries.entrySet()) {
+            String deepCursor = null;
+            for (int page = 0; page < 200; page++) {
+                deepCursor = searchPage(query.getValue(), deepCursor).get("nextCursor").asText();
+            }
+            for (String cursor : new String[]{null, deepCursor}) {
+                int runs = 20;
+                started = System.nanoTime();
+                for (int run = 0; run < runs; run++) {
+                    searchPage(query.getValue(), cursor);
+                }
+                double averageMillis = (System.nanoTime() - started) / 1e6 / runs;
+                logger.info("Search {}, {} page of {}: {} ms", query.getKey(), cursor == null ? "first" : "201st",
+                        TaskServiceImpl.DEFAULT_SEARCH_PAGE_SIZE, String.format("%.1f", averageMillis));
+                Assertions.assertTrue(averageMillis < 500);
+            }
+        }
+
+        jdbcTemplate.update("DELETE FROM task WHERE name LIKE 'Benchmark search task %'");
+    }
+
+    private JsonNode searchPage(Map<String, String> parameters, String cursor) throws Exception {
+        MockHttpServletRequestBuilder request = get(BASE_URL + "/search");
+        parameters.forEach(request::param);
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        String responseContent = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(responseContent).get("data");
+    }
+
+    private List<Task> newTasks(int count, String name) {
+        Project project = projectJpaRepo.findAll().getFirst();
+        User user = userJpaRepo.findAll().getFirst();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            Task task = new Task();
+            task.setName(name + " " + index);
+            task.setCreatedDate(DateAndTime.getDateAndTime());
+            task.setDueDate(DateAndTime.getDateAndTime().plusDays(1 + index % 30));
+            task.setTaskStatus("TODO");
+            task.setPriority("LOW_PRIORITY");
+            task.setProject(project);
+            task.setCreatedUser(user);
+            task.setAssignedUser(user);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Create 10k tasks with one bulk request, then move all of them with a second one, logging the time of each.
+     */
+    @Test
+    @Order(23)
+    @Tag("benchmark")
+    @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+    @DisplayName("Benchmark Bulk Create and Move - 10k Tasks")
+    void benchmarkBulkTasks() throws Exception {
+        int count = TaskServiceImpl.MAX_BULK_ITEMS;
+        UUID projectId = projectJpaRepo.findAll().getFirst().getId();
+        UUID userId = userJpaRepo.findAll().getFirst().getId();
+        List<TaskBulkItemDTO> creates = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            TaskRequestDTO task = new TaskRequestDTO();
+            task.setName("Benchmark bulk task " + index);
+            task.setDueDate(LocalDate.now().plusDays(2 + index % 30));
+            task.setTaskStatus("TODO");
+            task.setPriority("LOW_PRIORITY");
+            task.setProjectId(projectId);
+            task.setCreatedUserId(userId);
+            task.setAssignedUserId(userId);
+            creates.add(new TaskBulkItemDTO(TaskBulkOperation.CREATE, null, task));
+        }
+
+        long started = System.nanoTime();
+        String responseContent = mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(creates))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.succeeded").value(count))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        entityManager.flush();
+        long createMillis = (System.nanoTime() - started) / 1_000_000;
+
+        TaskRequestDTO move = new TaskRequestDTO();
+        move.setTaskStatus("IN_DEVELOPMENT");
+        List<TaskBulkItemDTO> moves = new ArrayList<>(count);
+        objectMapper.readTree(responseContent).get("data").get("results").forEach(result ->
+                moves.add(new TaskBulkItemDTO(TaskBulkOperation.MOVE, UUID.fromString(result.get("taskId").asText()), move)));
+        started = System.nanoTime();
+        mockMvc.perform(post(BASE_URL + "/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(moves))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.succeeded").value(count));
+        entityManager.flush();
+        long moveMillis = (System.nanoTime() - started) / 1_000_000;
+
+        logger.info("Bulk create of {} tasks: {} ms, bulk move: {} ms", count, createMillis, moveMillis);
+        Assertions.assertTrue(createMillis < 10_000);
+        Assertions.assertTrue(moveMillis < 10_000);
+
+        jdbcTemplate.update("DELETE FROM task WHERE name LIKE 'Benchmark bulk task %'");
+        boardSummaryService.reconcile(projectId);
+    }
+
     /**
      * Saves the ID from the response for subsequent tests.
      *
@@ -190,13 +960,27 @@ class TaskControllerTest {
      * @throws JsonProcessingException
      */
     private void saveIdForExecuteTest(String responseContent) throws JsonProcessingException {
+        UUID id = readTaskId(responseContent);
+        if (id != null) {
+            testTaskId = id;
+        }
+    }
+
+    /**
+     * Read the id of the task in a create or update response, or null when the response has no task.
+     *
+     * @param responseContent The response content from the task endpoint.
+     * @return UUID
+     * @throws JsonProcessingException
+     */
+    private UUID readTaskId(String responseContent) throws JsonProcessingException {
         GlobalResponse<TaskResponseDTO> response = objectMapper.readValue(responseContent, GlobalResponse.class);
         Object data = response.getData();
         if (data instanceof LinkedHashMap) {
             LinkedHashMap<String, Object> map = (LinkedHashMap<String, Object>) data;
-            Object id = map.get("id");
-            testTaskId = UUID.fromString((String) id);
+            return UUID.fromString((String) map.get("id"));
         }
+        return null;
     }
 
 
@@ -1,15 +1,20 @@
 package fs19.java.backend.user;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 import fs19.java.backend.application.dto.user.UserCreateDTO;
 import fs19.java.backend.application.dto.user.UserReadDTO;
+import fs19.java.backend.infrastructure.KeysetPager;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,7 +24,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 
@@ -63,13 +70,7 @@ class UserControllerTest {
   @WithMockUser(username = "admin", authorities = {"TEST-USER"})
   void shouldCreateUserOnPost() throws Exception {
 
-    String jsonResponse = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users"))
-        .andExpect(status().isOk())
-        .andReturn()
-        .getResponse()
-        .getContentAsString();
-
-    int arrayLength = JsonPath.parse(jsonResponse).read("$.data.length()");
+    int userCount = countUsers();
 
     userCreateDto.setEmail("post.request" + emailCounter++ + "@example.com");
     performPostUser(userCreateDto)
@@ -77,9 +78,7 @@ class UserControllerTest {
         .andExpect(jsonPath("$.code", is(201)))
         .andExpect(jsonPath("$.data.firstName", is("Rony")));
 
-    mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users"))
-        .andExpect(status().isOk())
-        .andExpect(jsonPath("$.data.length()", is(arrayLength + 1)));
+    Assertions.assertEquals(userCount + 1, countUsers());
 
   }
 
@@ -89,7 +88,71 @@ class UserControllerTest {
     mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users"))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.code", is(200)))
-        .andExpect(jsonPath("$.data").isArray());
+        .andExpect(jsonPath("$.data.items").isArray());
+  }
+
+  @Test
+  @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+  void shouldPageUsersByCursor() throws Exception {
+    for (int user = 0; user < 3; user++) {
+      userCreateDto.setEmail("page.request" + emailCounter++ + "@example.com");
+      performPostUser(userCreateDto).andExpect(status().isCreated());
+    }
+
+    String firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users").param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.size", is(2)))
+        .andExpect(jsonPath("$.data.hasNext", is(true)))
+        .andReturn().getResponse().getContentAsString();
+    String secondId = JsonPath.parse(firstPage).read("$.data.items[1].id");
+    String nextCursor = JsonPath.parse(firstPage).read("$.data.nextCursor");
+
+    String secondPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users").param("cursor", nextCursor).param("size", "2"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    String thirdId = JsonPath.parse(secondPage).read("$.data.items[0].id");
+    // pages continue in id order
+    Assertions.assertTrue(thirdId.compareTo(secondId) > 0);
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users").param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users").param("size", "100000"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.items.length()", lessThanOrEqualTo(KeysetPager.MAX_PAGE_SIZE)));
+  }
+
+  @Test
+  @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+  void shouldExportUsersAsOneStream() throws Exception {
+    // the export runs after the handler returned, in its own read-only transaction
+    MvcResult started = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/users/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    mockMvc.perform(asyncDispatch(started))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.code", is(200)))
+        .andExpect(jsonPath("$.data").isArray())
+        .andExpect(jsonPath("$.data[0].email").exists());
+  }
+
+  /**
+   * Count every user by following the cursors of the list endpoint
+   */
+  private int countUsers() throws Exception {
+    int count = 0;
+    String cursor = null;
+    do {
+      MockHttpServletRequestBuilder request = MockMvcRequestBuilders.get("/api/v1/users").param("size", String.valueOf(KeysetPager.MAX_PAGE_SIZE));
+      if (cursor != null) {
+        request.param("cursor", cursor);
+      }
+      String page = mockMvc.perform(request)
+          .andExpect(status().isOk())
+          .andReturn().getResponse().getContentAsString();
+      count += JsonPath.parse(page).<Integer>read("$.data.size");
+      cursor = JsonPath.parse(page).read("$.data.nextCursor");
+    } while (cursor != null);
+    return count;
   }
 
   @Test
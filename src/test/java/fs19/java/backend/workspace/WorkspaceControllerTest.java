@@ -1,6 +1,7 @@
 package fs19.java.backend.workspace;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -136,10 +137,10 @@ public class WorkspaceControllerTest {
     @WithMockUser(username = "admin", authorities = {"TEST-USER"})
     @DisplayName("Test Get All Workspaces")
     void testGetAllWorkspaces() throws Exception {
-        mockMvc.perform(get(BASE_URL))
+        mockMvc.perform(get(BASE_URL).param("size", "500"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].name").value("Workspace1"));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[*].name", hasItem("Workspace1")));
     }
 
     @Test
@@ -148,7 +149,7 @@ public class WorkspaceControllerTest {
     @DisplayName("Test Delete Workspace by ID")
     void testDeleteWorkspaceById() throws Exception {
         mockMvc.perform(delete(BASE_URL + "/" + testWorkspaceId))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted());
     }
 
     @Test
@@ -25,10 +25,15 @@ import fs19.java.backend.infrastructure.JpaRepositories.RoleJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.UserJpaRepo;
 import fs19.java.backend.infrastructure.JpaRepositories.WorkspaceJpaRepo;
 import fs19.java.backend.presentation.shared.Utilities.DateAndTime;
+import jakarta.persistence.EntityManager;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -67,6 +72,9 @@ class WorkspaceUserControllerTest {
   @Autowired
   private CompanyJpaRepo companyJpaRepo;
 
+  @Autowired
+  private EntityManager entityManager;
+
   private User user;
   private Workspace workspace;
   private Role role;
@@ -145,6 +153,37 @@ class WorkspaceUserControllerTest {
         .andExpect(jsonPath("$.code", is(201)));
   }
 
+  @Test
+  @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+  void shouldCreateWorkspaceUserWithoutLoadingUserAndRole() throws Exception {
+    Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+
+    performPostWorkspaceUser(workspaceUserRequestDTO)
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.data.companyName", is("Test Company")));
+    entityManager.flush();
+
+    // user and role in one existence query, the workspace with its company for the response, then the insert
+    Assertions.assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+    Assertions.assertEquals(0, statistics.getEntityStatistics(Role.class.getName()).getLoadCount());
+    Assertions.assertEquals(1, referenceQueryCount(statistics));
+    Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  /**
+   * Count the existence queries run by ReferenceResolver, which all select the type index and id of each entity type.
+   */
+  private static long referenceQueryCount(Statistics statistics) {
+    return Arrays.stream(statistics.getQueries())
+        .filter(query -> query.startsWith("SELECT 0, e.id FROM "))
+        .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+        .sum();
+  }
+
   @Test
   @WithMockUser(username = "admin", authorities = {"TEST-USER"})
   void shouldGetAllWorkspaceUsers() throws Exception {
@@ -250,6 +289,74 @@ class WorkspaceUserControllerTest {
         .andExpect(jsonPath("$.code", is(204)));
   }
 
+  @Test
+  @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+  void shouldReadWorkspaceUsersWithFixedStatementCounts() throws Exception {
+    UUID workspaceUserId = UUID.fromString(JsonPath.parse(performPostWorkspaceUser(workspaceUserRequestDTO)
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString()).read("$.data.id"));
+    Statistics statistics = resetStatistics();
+
+    // the membership with its workspace and company
+    mockMvc.perform(get("/api/v1/workspace-users/{id}", workspaceUserId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.companyName", is("Test Company")));
+    Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+
+    // the admin listing and the workspaces of a user are one query whatever the number of rows
+    statistics = resetStatistics();
+    mockMvc.perform(get("/api/v1/workspace-users"))
+        .andExpect(status().isOk());
+    Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+
+    statistics = resetStatistics();
+    mockMvc.perform(get("/api/v1/workspace-users/user/{userId}", user.getId()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data[0].companyName").exists());
+    Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    Assertions.assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+    Assertions.assertEquals(0, statistics.getEntityStatistics(Role.class.getName()).getLoadCount());
+  }
+
+  @Test
+  @WithMockUser(username = "admin", authorities = {"TEST-USER"})
+  void shouldWriteWorkspaceUsersWithFixedStatementCounts() throws Exception {
+    UUID workspaceUserId = UUID.fromString(JsonPath.parse(performPostWorkspaceUser(workspaceUserRequestDTO)
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString()).read("$.data.id"));
+    WorkspaceUserRequestDTO updatedWorkspaceUserRequestDTO = WorkspaceUserRequestDTO.builder()
+        .roleId(role2.getId())
+        .userId(user.getId())
+        .workspaceId(workspace.getId())
+        .build();
+    Statistics statistics = resetStatistics();
+
+    // the membership, the role, the workspace with its company, the user, then the update
+    mockMvc.perform(put("/api/v1/workspace-users/{id}", workspaceUserId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(updatedWorkspaceUserRequestDTO)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.roleId", is(role2.getId().toString())));
+    entityManager.flush();
+    Assertions.assertEquals(5, statistics.getPrepareStatementCount());
+
+    // the existence check, the membership, then the delete
+    statistics = resetStatistics();
+    mockMvc.perform(delete("/api/v1/workspace-users/{id}", workspaceUserId))
+        .andExpect(jsonPath("$.code", is(204)));
+    entityManager.flush();
+    Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  private Statistics resetStatistics() {
+    Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+    return statistics;
+  }
+
   private ResultActions performPostWorkspaceUser(WorkspaceUserRequestDTO workspaceUserRequestDTO) throws Exception {
     return mockMvc.perform(post("/api/v1/workspace-users")
         .contentType(MediaType.APPLICATION_JSON)